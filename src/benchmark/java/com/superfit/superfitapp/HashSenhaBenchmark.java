@@ -0,0 +1,61 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.security.CodificadorSenhas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de hash e verificação de senha para cada configuração de app.seguranca.senha.*.
+ * Serve para escolher o custo: o tempo de "verificar" é o que cada login consome
+ * de uma thread do ExecutorHashSenhas.
+ *
+ * Execução: mvn -P benchmark test-compile exec:exec -Djmh.args="HashSenha -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class HashSenhaBenchmark {
+
+    /**
+     * Formato "algoritmo:custo" (custo do BCrypt ou iterações do PBKDF2).
+     */
+    @Param({"bcrypt:10", "bcrypt:12", "pbkdf2:310000"})
+    public String configuracao;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void preparar() {
+        String[] partes = configuracao.split(":");
+        String algoritmo = partes[0];
+        int custo = Integer.parseInt(partes[1]);
+        encoder = CodificadorSenhas.BCRYPT.equals(algoritmo)
+                ? CodificadorSenhas.criar(algoritmo, custo, 310_000)
+                : CodificadorSenhas.criar(algoritmo, 10, custo);
+        hash = encoder.encode("senha-benchmark");
+    }
+
+    @Benchmark
+    public String codificar() {
+        return encoder.encode("senha-benchmark");
+    }
+
+    @Benchmark
+    public boolean verificar() {
+        return encoder.matches("senha-benchmark", hash);
+    }
+}
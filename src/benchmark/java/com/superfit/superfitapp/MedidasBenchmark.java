@@ -0,0 +1,45 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.model.Aluno;
+import com.superfit.superfitapp.model.Medidas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculo do IMC (Medidas.calcularImc), executado a cada registro de medidas.
+ * Serve de referência do menor custo medível por chamada nos demais benchmarks.
+ *
+ * Execução: mvn -P benchmark test-compile exec:exec -Djmh.args="Medidas -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class MedidasBenchmark {
+
+    private Medidas medidas;
+
+    @Setup
+    public void preparar() {
+        Aluno aluno = new Aluno("Aluno Benchmark", "aluno.benchmark@superfit.com", "11988880000");
+        aluno.setAltura(1.75);
+        medidas = new Medidas(LocalDate.of(2026, 3, 1), 78.4, 100.0, 82.0, 98.0, aluno);
+    }
+
+    @Benchmark
+    public Double calcularImc() {
+        medidas.calcularImc();
+        return medidas.getImc();
+    }
+}
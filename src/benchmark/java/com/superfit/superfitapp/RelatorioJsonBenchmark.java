@@ -0,0 +1,135 @@
+package com.superfit.superfitapp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização JSON dos relatórios (Map<String, Object> devolvidos pelo RelatorioController),
+ * com o ObjectMapper configurado como o do Spring MVC (datas ISO via JavaTimeModule).
+ *
+ * Os mapas têm o mesmo formato dos montados por RelatorioServiceImpl:
+ * - inadimplencia: totais + lista de alunos em atraso (tamanho pelo parâmetro alunos)
+ * - comparativo: série de 12 meses com variações mensal e anual
+ *
+ * Com os relatórios em cache, a serialização passa a ser o principal custo dessas requisições.
+ *
+ * Execução: mvn -P benchmark test-compile exec:exec -Djmh.args="RelatorioJson -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class RelatorioJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> comparativo;
+
+    /**
+     * Relatório de inadimplência por quantidade de alunos (estado separado para que o
+     * parâmetro não multiplique as execuções do comparativo).
+     */
+    @State(Scope.Benchmark)
+    public static class Inadimplencia {
+
+        @Param({"100", "1000"})
+        public int alunos;
+
+        private Map<String, Object> relatorio;
+
+        @Setup
+        public void preparar() {
+            relatorio = inadimplencia(alunos);
+        }
+    }
+
+    @Setup
+    public void preparar() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        comparativo = comparativo(YearMonth.of(2026, 3), 12);
+    }
+
+    @Benchmark
+    public byte[] inadimplencia(Inadimplencia estado) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(estado.relatorio);
+    }
+
+    @Benchmark
+    public byte[] comparativo() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(comparativo);
+    }
+
+    private static Map<String, Object> inadimplencia(int quantidade) {
+        LocalDate hoje = LocalDate.of(2026, 3, 20);
+        List<Map<String, Object>> lista = new ArrayList<>(quantidade);
+        double total = 0;
+        for (int i = 0; i < quantidade; i++) {
+            LocalDate vencimento = hoje.minusDays(10 + i % 90);
+            double devido = 120.0 * (1 + i % 3);
+            total += devido;
+
+            Map<String, Object> aluno = new HashMap<>();
+            aluno.put("alunoId", (long) i);
+            aluno.put("alunoNome", "Aluno " + i);
+            aluno.put("alunoEmail", "aluno" + i + "@superfit.com");
+            aluno.put("alunoCelular", "1198888" + String.format("%04d", i % 10_000));
+            aluno.put("quantidadeMensalidades", (long) (1 + i % 3));
+            aluno.put("totalDevido", devido);
+            aluno.put("vencimentoMaisAntigo", vencimento);
+            aluno.put("diasAtraso", (long) (10 + i % 90));
+            lista.add(aluno);
+        }
+
+        Map<String, Object> relatorio = new HashMap<>();
+        relatorio.put("quantidadeMensalidades", (long) quantidade * 2);
+        relatorio.put("quantidadeAlunos", (long) quantidade);
+        relatorio.put("totalInadimplencia", total);
+        relatorio.put("alunos", lista);
+        return relatorio;
+    }
+
+    private static Map<String, Object> comparativo(YearMonth mes, int meses) {
+        List<Map<String, Object>> serie = new ArrayList<>(meses);
+        for (YearMonth atual = mes.minusMonths(meses - 1); !atual.isAfter(mes); atual = atual.plusMonths(1)) {
+            double receitas = 15_000 + atual.getMonthValue() * 250;
+            double despesasPagas = 9_000 + atual.getMonthValue() * 100;
+
+            Map<String, Object> ponto = new HashMap<>();
+            ponto.put("mes", atual.toString());
+            ponto.put("receitas", receitas);
+            ponto.put("despesasTotal", despesasPagas + 500);
+            ponto.put("despesasPagas", despesasPagas);
+            ponto.put("despesasPendentes", 500.0);
+            ponto.put("lucro", receitas - despesasPagas);
+            ponto.put("margem", (receitas - despesasPagas) / receitas * 100);
+            ponto.put("variacaoReceitasMensal", 1.7);
+            ponto.put("receitasAnoAnterior", receitas * 0.9);
+            ponto.put("variacaoReceitasAnual", 11.1);
+            serie.add(ponto);
+        }
+
+        Map<String, Object> relatorio = new HashMap<>(serie.get(serie.size() - 1));
+        relatorio.put("meses", meses);
+        relatorio.put("serie", serie);
+        return relatorio;
+    }
+}
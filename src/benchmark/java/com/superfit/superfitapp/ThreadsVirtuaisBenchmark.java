@@ -0,0 +1,138 @@
+package com.superfit.superfitapp;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de requisições que bloqueiam no banco, com threads de plataforma (pool fixo do tamanho
+ * padrão do Tomcat) e com uma thread virtual por requisição (spring.threads.virtual.enabled=true).
+ *
+ * Cada requisição obtém uma conexão do Hikari, executa uma consulta que leva CONSULTA_MS no H2
+ * (função ESPERAR) e, com foraDoBancoMs, bloqueia mais um tempo sem conexão (ex: envio da resposta).
+ * O resultado é em requisições por segundo.
+ *
+ * Leitura: enquanto o pool do Hikari for o gargalo (conexoes=10), os dois modos têm a mesma vazão;
+ * threads virtuais só ganham quando as requisições em andamento passam do número de threads do Tomcat.
+ * -Djdk.tracePinnedThreads imprime a pilha se uma thread virtual ficar presa à thread portadora.
+ *
+ * Execução: mvn -P benchmark test-compile exec:exec -Djmh.args="ThreadsVirtuais -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+public class ThreadsVirtuaisBenchmark {
+
+    /**
+     * Requisições simultâneas em cada invocação.
+     */
+    private static final int REQUISICOES = 1000;
+
+    /**
+     * server.tomcat.threads.max padrão.
+     */
+    private static final int THREADS_TOMCAT = 200;
+
+    private static final long CONSULTA_MS = 5;
+
+    @Param({"plataforma", "virtual"})
+    public String modo;
+
+    /**
+     * spring.datasource.hikari.maximum-pool-size
+     */
+    @Param({"10", "100"})
+    public int conexoes;
+
+    @Param({"0", "20"})
+    public long foraDoBancoMs;
+
+    private HikariDataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup
+    public void preparar() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:threads-virtuais;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(conexoes);
+        config.setMinimumIdle(conexoes);
+        dataSource = new HikariDataSource(config);
+
+        try (Connection conexao = dataSource.getConnection(); Statement statement = conexao.createStatement()) {
+            statement.execute("CREATE ALIAS IF NOT EXISTS ESPERAR FOR '"
+                    + ThreadsVirtuaisBenchmark.class.getName() + ".esperar'");
+        }
+
+        executor = "virtual".equals(modo)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(THREADS_TOMCAT);
+    }
+
+    @TearDown
+    public void encerrar() {
+        executor.shutdownNow();
+        dataSource.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUISICOES)
+    public int requisicoes() throws Exception {
+        List<Future<Integer>> futuros = new ArrayList<>(REQUISICOES);
+        for (int i = 0; i < REQUISICOES; i++) {
+            futuros.add(executor.submit(this::requisicao));
+        }
+
+        int concluidas = 0;
+        for (Future<Integer> futuro : futuros) {
+            concluidas += futuro.get();
+        }
+        return concluidas;
+    }
+
+    private int requisicao() throws SQLException, InterruptedException {
+        try (Connection conexao = dataSource.getConnection();
+             PreparedStatement consulta = conexao.prepareStatement("CALL ESPERAR(?)")) {
+            consulta.setLong(1, CONSULTA_MS);
+            consulta.execute();
+        }
+        if (foraDoBancoMs > 0) {
+            Thread.sleep(foraDoBancoMs);
+        }
+        return 1;
+    }
+
+    /**
+     * Função ESPERAR do H2: a consulta bloqueia a thread que a executa, como a espera pela resposta
+     * de um banco remoto.
+     */
+    public static void esperar(long ms) throws InterruptedException {
+        Thread.sleep(ms);
+    }
+}
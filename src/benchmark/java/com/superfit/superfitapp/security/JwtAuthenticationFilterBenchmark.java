@@ -0,0 +1,86 @@
+package com.superfit.superfitapp.security;
+
+import com.superfit.superfitapp.model.Role;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do JwtAuthenticationFilter por requisição autenticada, fora do container:
+ * extração do token (header ou cookie), validação (em cache) e montagem da autenticação.
+ *
+ * A cadeia seguinte não faz nada; o SecurityContext e o MDC são limpos a cada chamada,
+ * como ao fim de uma requisição real.
+ *
+ * Execução: mvn -P benchmark test-compile exec:exec -Djmh.args="JwtAuthenticationFilter -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain CADEIA_VAZIA = (request, response) -> { };
+
+    /**
+     * Origem do token: header Authorization, cookie jwtToken ou nenhum (requisição anônima).
+     */
+    @Param({"header", "cookie", "nenhum"})
+    public String origem;
+
+    private JwtAuthenticationFilter filtro;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void preparar() {
+        JwtService jwtService = new JwtService();
+        String token = jwtService.generateToken("aluno.benchmark@superfit.com", Role.ROLE_ALUNO);
+
+        filtro = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filtro, "jwtService", jwtService);
+        ReflectionTestUtils.setField(filtro, "amostragemLogs", 1.0);
+
+        request = new MockHttpServletRequest("GET", "/api/treinos");
+        request.setServletPath("/api/treinos");
+        if ("header".equals(origem)) {
+            request.addHeader("Authorization", "Bearer " + token);
+        } else if ("cookie".equals(origem)) {
+            request.setCookies(new Cookie("jwtToken", token));
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object filtrar() throws ServletException, IOException {
+        filtro.doFilterInternal(request, response, CADEIA_VAZIA);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @TearDown(Level.Invocation)
+    public void limpar() {
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+    }
+}
@@ -0,0 +1,65 @@
+package com.superfit.superfitapp.security;
+
+import com.superfit.superfitapp.model.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de emissão e validação de tokens JWT.
+ *
+ * - gerar: emissão no login (/auth/login)
+ * - validarEmCache: validação de um token já visto (caminho comum de cada requisição)
+ * - verificarAssinatura: primeira validação de um token (parse + HMAC), sem o cache
+ * - validarInvalido: token com assinatura adulterada (nunca entra no cache)
+ *
+ * Execução: mvn -P benchmark test-compile exec:exec -Djmh.args="Jwt -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class JwtBenchmark {
+
+    private JwtService jwtService;
+    private String token;
+    private String tokenAdulterado;
+
+    @Setup
+    public void preparar() {
+        jwtService = new JwtService();
+        token = jwtService.generateToken("aluno.benchmark@superfit.com", Role.ROLE_ALUNO);
+        tokenAdulterado = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        jwtService.validar(token);
+    }
+
+    @Benchmark
+    public String gerar() {
+        return jwtService.generateToken("aluno.benchmark@superfit.com", Role.ROLE_ALUNO);
+    }
+
+    @Benchmark
+    public Optional<JwtService.DadosToken> validarEmCache() {
+        return jwtService.validar(token);
+    }
+
+    @Benchmark
+    public Optional<JwtService.DadosToken> verificarAssinatura() {
+        return jwtService.verificar(token);
+    }
+
+    @Benchmark
+    public Optional<JwtService.DadosToken> validarInvalido() {
+        return jwtService.validar(tokenAdulterado);
+    }
+}
@@ -0,0 +1,85 @@
+package com.superfit.superfitapp.service;
+
+import com.superfit.superfitapp.dto.mensalidade.MensalidadeResponseDTO;
+import com.superfit.superfitapp.dto.treino.TreinoResponseDTO;
+import com.superfit.superfitapp.model.Aluno;
+import com.superfit.superfitapp.model.Exercicio;
+import com.superfit.superfitapp.model.Mensalidade;
+import com.superfit.superfitapp.model.Professor;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.model.Treino;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão de entidades em DTOs de resposta (MensalidadeServiceImpl.toDTO e
+ * TreinoServiceImpl.toResponseDTO), com as entidades já carregadas: mede só o mapeamento,
+ * sem banco nem lazy loading.
+ *
+ * Execução: mvn -P benchmark test-compile exec:exec -Djmh.args="MapeamentoDTO -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class MapeamentoDTOBenchmark {
+
+    /**
+     * Quantidade de exercícios do treino convertido.
+     */
+    @Param({"5", "20"})
+    public int exercicios;
+
+    private Mensalidade mensalidade;
+    private Treino treino;
+
+    @Setup
+    public void preparar() {
+        Professor professor = new Professor("Professor Benchmark", "professor.benchmark@superfit.com", "11999990000");
+        professor.setId(1L);
+        Aluno aluno = new Aluno("Aluno Benchmark", "aluno.benchmark@superfit.com", "11988880000");
+        aluno.setId(2L);
+        aluno.setProfessor(professor);
+
+        mensalidade = new Mensalidade(aluno, 120.0, StatusMensalidade.PAGA, LocalDate.of(2026, 3, 10), "Março", 2026);
+        mensalidade.setId(3L);
+        mensalidade.setDataPagamento(LocalDate.of(2026, 3, 8));
+        mensalidade.setObservacoes("Pago no balcão");
+
+        treino = new Treino("Treino A", professor, aluno);
+        treino.setId(4L);
+        treino.setTipo("Hipertrofia");
+        treino.setDataInicio(LocalDate.of(2026, 3, 1));
+        List<Exercicio> lista = new ArrayList<>(exercicios);
+        for (int i = 0; i < exercicios; i++) {
+            Exercicio exercicio = new Exercicio("Exercício " + i, "4x12", (20 + i) + "kg", "Peito", "60s");
+            exercicio.setId((long) i);
+            lista.add(exercicio);
+        }
+        treino.setExercicios(lista);
+    }
+
+    @Benchmark
+    public MensalidadeResponseDTO mensalidade() {
+        return MensalidadeServiceImpl.toDTO(mensalidade);
+    }
+
+    @Benchmark
+    public TreinoResponseDTO treino() {
+        return TreinoServiceImpl.toResponseDTO(treino);
+    }
+}
@@ -0,0 +1,218 @@
+package com.superfit.superfitapp.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.superfit.superfitapp.model.Role;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Teste de carga HTTP contra a aplicação embarcada (porta aleatória), com a base gerada pelo
+ * perfil dados-sinteticos em H2 em memória e o cache dos relatórios ligado, como em produção.
+ *
+ * Lógica:
+ * 1. Autentica usuários de cada Role por /auth/login (admin padrão e usuários gerados)
+ * 2. carga.usuarios usuários virtuais repetem, sem pausa, operações sorteadas pelo peso do mix
+ *    (Operacao.mixPadrao), cada um com um gerador aleatório de semente fixa
+ * 3. Descarta o aquecimento (carga.aquecimento-segundos) e mede por carga.duracao-segundos
+ * 4. Grava vazão e p50/p95/p99 por operação em carga.relatorio (JSON) e imprime a tabela no log
+ * 5. Falha se alguma operação passar do orçamento de orcamento-latencia.properties ou, com
+ *    carga.linha-base, se o p95 piorar mais que carga.tolerancia em relação a um relatório anterior
+ *
+ * Execução: mvn -P carga test
+ * Ex: mvn -P carga test -Dcarga.usuarios=32 -Dcarga.linha-base=carga/linha-base.json
+ * Threads virtuais na aplicação (spring.threads.virtual.enabled): mvn -P carga test -Dcarga.threads-virtuais=true
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:superfitdb-carga;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.dados-sinteticos.alunos=${carga.alunos:2000}",
+        "app.dados-sinteticos.professores=${carga.professores:20}",
+        "spring.cache.type=caffeine",
+        "spring.cache.caffeine.spec=maximumSize=500,expireAfterWrite=5m,recordStats",
+        "spring.jpa.properties.hibernate.generate_statistics=false",
+        "spring.threads.virtual.enabled=${carga.threads-virtuais:false}"
+})
+@ActiveProfiles("dados-sinteticos")
+class CargaHttpTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CargaHttpTest.class);
+
+    private static final int USUARIOS = Integer.getInteger("carga.usuarios", 8);
+    private static final boolean THREADS_VIRTUAIS = Boolean.getBoolean("carga.threads-virtuais");
+    private static final int ALUNOS = Integer.getInteger("carga.alunos", 2000);
+    private static final int AQUECIMENTO_SEGUNDOS = Integer.getInteger("carga.aquecimento-segundos", 10);
+    private static final int DURACAO_SEGUNDOS = Integer.getInteger("carga.duracao-segundos", 30);
+    private static final long SEMENTE = Long.getLong("carga.semente", 42L);
+    private static final String RELATORIO = System.getProperty("carga.relatorio", "target/carga/relatorio-carga.json");
+    private static final String LINHA_BASE = System.getProperty("carga.linha-base", "");
+    private static final double TOLERANCIA = Double.parseDouble(System.getProperty("carga.tolerancia", "0.25"));
+
+    /**
+     * Sessões por Role: alunos e professores são divididos entre vários usuários para que o
+     * tráfego não se concentre nos dados de um só.
+     */
+    private static final int SESSOES_ALUNO = 20;
+    private static final int SESSOES_PROFESSOR = 5;
+    private static final String SENHA = "12345";
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final HttpClient cliente = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @LocalServerPort
+    private int porta;
+
+    @Test
+    void latenciasDevemFicarDentroDoOrcamento() throws Exception {
+        Map<Role, List<Sessao>> sessoes = autenticar();
+        List<Operacao> mix = Operacao.mixPadrao(YearMonth.now());
+
+        log.info("Carga | aquecimento={}s usuarios={} threadsVirtuais={}", AQUECIMENTO_SEGUNDOS, USUARIOS, THREADS_VIRTUAIS);
+        executar(mix, sessoes, AQUECIMENTO_SEGUNDOS, SEMENTE - 1);
+        log.info("Carga | medicao={}s usuarios={}", DURACAO_SEGUNDOS, USUARIOS);
+        Map<String, Latencias> medidas = executar(mix, sessoes, DURACAO_SEGUNDOS, SEMENTE);
+
+        RelatorioCarga relatorio = RelatorioCarga.de(medidas, USUARIOS, THREADS_VIRTUAIS, ALUNOS, DURACAO_SEGUNDOS);
+        Path arquivo = Path.of(RELATORIO);
+        relatorio.gravar(arquivo);
+        log.info("Carga concluída | relatorio={}{}", arquivo.toAbsolutePath(), relatorio.tabela());
+
+        OrcamentoLatencia orcamento = OrcamentoLatencia.carregar("orcamento-latencia.properties",
+                LINHA_BASE.isBlank() ? null : Path.of(LINHA_BASE), TOLERANCIA);
+        List<String> violacoes = orcamento.verificar(relatorio);
+        assertTrue(violacoes.isEmpty(), "Orçamento de latência excedido:\n" + String.join("\n", violacoes));
+    }
+
+    /**
+     * Usuários virtuais por duracaoSegundos; retorna as latências somadas por operação.
+     */
+    private Map<String, Latencias> executar(
+            List<Operacao> mix, Map<Role, List<Sessao>> sessoes, int duracaoSegundos, long semente
+    ) throws Exception {
+        int pesoTotal = mix.stream().mapToInt(Operacao::peso).sum();
+        long fim = System.nanoTime() + Duration.ofSeconds(duracaoSegundos).toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(USUARIOS);
+        try {
+            List<Future<Map<String, Latencias>>> usuarios = new ArrayList<>();
+            for (int i = 0; i < USUARIOS; i++) {
+                SplittableRandom random = new SplittableRandom(semente * 31 + i);
+                usuarios.add(executor.submit(() -> usuarioVirtual(mix, pesoTotal, sessoes, random, fim)));
+            }
+
+            Map<String, Latencias> total = new HashMap<>();
+            for (Future<Map<String, Latencias>> usuario : usuarios) {
+                usuario.get().forEach((nome, latencias) -> total.computeIfAbsent(nome, n -> new Latencias()).somar(latencias));
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, Latencias> usuarioVirtual(
+            List<Operacao> mix, int pesoTotal, Map<Role, List<Sessao>> sessoes, SplittableRandom random, long fim
+    ) throws InterruptedException {
+        Map<String, Latencias> latencias = new HashMap<>();
+        while (System.nanoTime() < fim) {
+            Operacao operacao = sortear(mix, pesoTotal, random);
+            List<Sessao> candidatas = sessoes.get(operacao.role());
+            Sessao sessao = candidatas.get(random.nextInt(candidatas.size()));
+            HttpRequest request = HttpRequest.newBuilder(uri(operacao.caminho().apply(sessao, random)))
+                    .header("Authorization", "Bearer " + sessao.token())
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+
+            long inicio = System.nanoTime();
+            boolean erro;
+            try {
+                erro = cliente.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 400;
+            } catch (IOException e) {
+                erro = true;
+            }
+            latencias.computeIfAbsent(operacao.nome(), n -> new Latencias()).registrar(System.nanoTime() - inicio, erro);
+        }
+        return latencias;
+    }
+
+    private static Operacao sortear(List<Operacao> mix, int pesoTotal, SplittableRandom random) {
+        int sorteio = random.nextInt(pesoTotal);
+        for (Operacao operacao : mix) {
+            sorteio -= operacao.peso();
+            if (sorteio < 0) {
+                return operacao;
+            }
+        }
+        throw new IllegalStateException("Mix de tráfego vazio");
+    }
+
+    private Map<Role, List<Sessao>> autenticar() throws Exception {
+        Map<Role, List<Sessao>> sessoes = new EnumMap<>(Role.class);
+        sessoes.put(Role.ROLE_ADMIN, List.of(new Sessao(Role.ROLE_ADMIN, login("admin@superfit.com"), null)));
+        sessoes.put(Role.ROLE_GESTOR, List.of(new Sessao(Role.ROLE_GESTOR, login("gestor@seed.superfit.com"), null)));
+
+        List<Sessao> professores = new ArrayList<>();
+        for (int n = 1; n <= SESSOES_PROFESSOR; n++) {
+            professores.add(new Sessao(Role.ROLE_PROFESSOR, login("professor" + n + "@seed.superfit.com"), null));
+        }
+        sessoes.put(Role.ROLE_PROFESSOR, professores);
+
+        List<Sessao> alunos = new ArrayList<>();
+        for (int n = 1; n <= Math.min(SESSOES_ALUNO, ALUNOS); n++) {
+            String token = login("aluno" + n + "@seed.superfit.com");
+            alunos.add(new Sessao(Role.ROLE_ALUNO, token, get("/api/alunos/meu-perfil", token).get("id").asLong()));
+        }
+        sessoes.put(Role.ROLE_ALUNO, alunos);
+        return sessoes;
+    }
+
+    private String login(String email) throws Exception {
+        String corpo = json.writeValueAsString(Map.of("email", email, "password", SENHA));
+        HttpResponse<String> resposta = cliente.send(HttpRequest.newBuilder(uri("/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, resposta.statusCode(), "Login de " + email);
+        return json.readTree(resposta.body()).get("token").asText();
+    }
+
+    private JsonNode get(String caminho, String token) throws Exception {
+        HttpResponse<String> resposta = cliente.send(HttpRequest.newBuilder(uri(caminho))
+                .header("Authorization", "Bearer " + token)
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, resposta.statusCode(), caminho);
+        return json.readTree(resposta.body());
+    }
+
+    private URI uri(String caminho) {
+        return URI.create("http://localhost:" + porta + caminho);
+    }
+}
@@ -0,0 +1,55 @@
+package com.superfit.superfitapp.carga;
+
+import java.util.Arrays;
+
+/**
+ * Latências (em nanossegundos) e erros de uma operação. Cada usuário virtual tem as suas;
+ * são somadas ao final da medição, sem sincronização durante a carga.
+ */
+final class Latencias {
+
+    private long[] valores = new long[1024];
+    private int quantidade;
+    private long erros;
+
+    void registrar(long nanos, boolean erro) {
+        if (quantidade == valores.length) {
+            valores = Arrays.copyOf(valores, valores.length * 2);
+        }
+        valores[quantidade++] = nanos;
+        if (erro) {
+            erros++;
+        }
+    }
+
+    void somar(Latencias outras) {
+        for (int i = 0; i < outras.quantidade; i++) {
+            registrar(outras.valores[i], false);
+        }
+        erros += outras.erros;
+    }
+
+    int quantidade() {
+        return quantidade;
+    }
+
+    long erros() {
+        return erros;
+    }
+
+    /**
+     * Percentis em milissegundos (método do posto mais próximo), na ordem pedida.
+     */
+    double[] percentisMs(double... percentis) {
+        long[] ordenados = Arrays.copyOf(valores, quantidade);
+        Arrays.sort(ordenados);
+        double[] resultado = new double[percentis.length];
+        for (int i = 0; i < percentis.length; i++) {
+            if (quantidade > 0) {
+                int posicao = (int) Math.ceil(percentis[i] / 100.0 * quantidade) - 1;
+                resultado[i] = ordenados[Math.max(0, posicao)] / 1_000_000.0;
+            }
+        }
+        return resultado;
+    }
+}
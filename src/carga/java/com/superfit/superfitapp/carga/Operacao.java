@@ -0,0 +1,86 @@
+package com.superfit.superfitapp.carga;
+
+import com.superfit.superfitapp.model.Role;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+
+/**
+ * Requisição GET do mix de tráfego do teste de carga.
+ *
+ * @param nome Nome da operação no relatório e no orçamento de latência (ex: gestor.alunos)
+ * @param role Role do usuário que faz a requisição
+ * @param peso Frequência relativa no mix
+ * @param caminho Caminho (com query string) a partir da sessão e do gerador aleatório do usuário virtual
+ */
+record Operacao(String nome, Role role, int peso, BiFunction<Sessao, SplittableRandom, String> caminho) {
+
+    /**
+     * Mix padrão, aproximando o uso das telas: gestores abrem o painel e consultam listas paginadas e relatórios;
+     * professores, treinos e medidas recentes; alunos, os próprios treinos, medidas e mensalidades.
+     * Os relatórios por mês sorteiam um dos doze meses até a referência dos dados gerados.
+     */
+    static List<Operacao> mixPadrao(YearMonth referencia) {
+        return List.of(
+                new Operacao("gestor.dashboard", Role.ROLE_GESTOR, 4,
+                        (s, r) -> "/api/gestor/dashboard"),
+                new Operacao("gestor.alunos", Role.ROLE_GESTOR, 10,
+                        (s, r) -> "/api/alunos?pagina=" + r.nextInt(20) + "&tamanho=20"),
+                new Operacao("gestor.mensalidades", Role.ROLE_GESTOR, 10,
+                        (s, r) -> "/api/mensalidades?pagina=" + r.nextInt(50) + "&tamanho=20"),
+                new Operacao("gestor.mensalidades-pendentes", Role.ROLE_GESTOR, 2,
+                        (s, r) -> "/api/mensalidades/pendentes"),
+                new Operacao("gestor.relatorio-financeiro", Role.ROLE_GESTOR, 4,
+                        (s, r) -> {
+                            YearMonth mes = mes(referencia, r);
+                            return "/api/relatorios/financeiro/" + mes.getYear() + "/" + mes.getMonthValue();
+                        }),
+                new Operacao("gestor.relatorio-comparativo", Role.ROLE_GESTOR, 2,
+                        (s, r) -> "/api/relatorios/comparativo/" + referencia.getYear() + "/" + referencia.getMonthValue()),
+                new Operacao("gestor.relatorio-receitas", Role.ROLE_GESTOR, 1,
+                        (s, r) -> {
+                            YearMonth mes = mes(referencia, r);
+                            return "/api/relatorios/receitas?inicio=" + mes.atDay(1) + "&fim=" + mes.atEndOfMonth();
+                        }),
+                new Operacao("gestor.relatorio-inadimplencia", Role.ROLE_GESTOR, 3,
+                        (s, r) -> "/api/relatorios/inadimplencia"),
+                new Operacao("gestor.relatorio-alunos-ativos", Role.ROLE_GESTOR, 2,
+                        (s, r) -> "/api/relatorios/alunos-ativos?pagina=" + r.nextInt(10) + "&tamanho=50"),
+                new Operacao("gestor.relatorio-professores", Role.ROLE_GESTOR, 1,
+                        (s, r) -> "/api/relatorios/professores"),
+                new Operacao("gestor.relatorio-receita-mensal", Role.ROLE_GESTOR, 2,
+                        (s, r) -> "/api/relatorios/receita-mensal"),
+                new Operacao("gestor.relatorio-despesas-mensais", Role.ROLE_GESTOR, 2,
+                        (s, r) -> "/api/relatorios/despesas-mensais"),
+
+                new Operacao("admin.alunos", Role.ROLE_ADMIN, 2,
+                        (s, r) -> "/api/alunos?pagina=" + r.nextInt(20) + "&tamanho=50"),
+                new Operacao("admin.relatorio-financeiro", Role.ROLE_ADMIN, 1,
+                        (s, r) -> "/api/relatorios/financeiro/" + referencia.getYear() + "/" + referencia.getMonthValue()),
+
+                new Operacao("professor.treinos", Role.ROLE_PROFESSOR, 8,
+                        (s, r) -> "/api/treinos"),
+                new Operacao("professor.treinos-recentes", Role.ROLE_PROFESSOR, 4,
+                        (s, r) -> "/api/treinos/professor/recentes"),
+                new Operacao("professor.medidas-recentes", Role.ROLE_PROFESSOR, 4,
+                        (s, r) -> "/api/medidas/professor/recentes?tamanho=20"),
+                new Operacao("professor.alunos", Role.ROLE_PROFESSOR, 4,
+                        (s, r) -> "/api/alunos?pagina=0&tamanho=20"),
+
+                new Operacao("aluno.treinos", Role.ROLE_ALUNO, 8,
+                        (s, r) -> "/api/treinos"),
+                new Operacao("aluno.medidas", Role.ROLE_ALUNO, 6,
+                        (s, r) -> "/api/medidas/meu-historico?tamanho=20"),
+                new Operacao("aluno.mensalidades", Role.ROLE_ALUNO, 6,
+                        (s, r) -> "/api/mensalidades/aluno/" + s.alunoId()),
+                new Operacao("aluno.perfil", Role.ROLE_ALUNO, 3,
+                        (s, r) -> "/api/alunos/meu-perfil")
+        );
+    }
+
+    private static YearMonth mes(YearMonth referencia, SplittableRandom r) {
+        return referencia.minusMonths(r.nextInt(12));
+    }
+}
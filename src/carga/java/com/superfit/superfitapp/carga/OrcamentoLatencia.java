@@ -0,0 +1,87 @@
+package com.superfit.superfitapp.carga;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Critérios de aprovação do teste de carga.
+ *
+ * - Orçamento absoluto (orcamento-latencia.properties): p95/p99 máximos em ms por operação
+ *   ({operacao}.p95, {operacao}.p99), com padrao.p95/padrao.p99 para as demais, e o percentual
+ *   máximo de erros (erros.percentual-maximo)
+ * - Linha de base (opcional): um relatório anterior; falha se o p95 de uma operação piorar mais
+ *   que a tolerância (ex: 0.25 = 25%). Operações muito rápidas (p95 de base abaixo de 1 ms)
+ *   são ignoradas nessa comparação, pois variam mais que a própria medida
+ */
+final class OrcamentoLatencia {
+
+    private static final double P95_MINIMO_LINHA_BASE_MS = 1.0;
+
+    private final Properties limites;
+    private final Map<String, RelatorioCarga.ResultadoOperacao> linhaBase;
+    private final double tolerancia;
+
+    private OrcamentoLatencia(Properties limites, Map<String, RelatorioCarga.ResultadoOperacao> linhaBase, double tolerancia) {
+        this.limites = limites;
+        this.linhaBase = linhaBase;
+        this.tolerancia = tolerancia;
+    }
+
+    /**
+     * @param recurso Arquivo de orçamento no classpath
+     * @param linhaBase Relatório anterior, ou null para não comparar
+     * @param tolerancia Piora admitida do p95 em relação à linha de base
+     */
+    static OrcamentoLatencia carregar(String recurso, Path linhaBase, double tolerancia) throws IOException {
+        Properties limites = new Properties();
+        try (InputStream entrada = OrcamentoLatencia.class.getClassLoader().getResourceAsStream(recurso)) {
+            if (entrada == null) {
+                throw new IllegalStateException("Orçamento de latência não encontrado: " + recurso);
+            }
+            limites.load(entrada);
+        }
+
+        Map<String, RelatorioCarga.ResultadoOperacao> base = linhaBase == null ? Map.of()
+                : RelatorioCarga.ler(linhaBase).operacoes().stream()
+                        .collect(Collectors.toMap(RelatorioCarga.ResultadoOperacao::operacao, Function.identity()));
+        return new OrcamentoLatencia(limites, base, tolerancia);
+    }
+
+    /**
+     * Lista as violações do relatório; vazia se aprovado.
+     */
+    List<String> verificar(RelatorioCarga relatorio) {
+        List<String> violacoes = new ArrayList<>();
+        double errosMaximo = Double.parseDouble(limites.getProperty("erros.percentual-maximo", "0"));
+
+        for (RelatorioCarga.ResultadoOperacao o : relatorio.operacoes()) {
+            double errosPercentual = o.requisicoes() > 0 ? o.erros() * 100.0 / o.requisicoes() : 0;
+            if (errosPercentual > errosMaximo) {
+                violacoes.add(String.format("%s: %.2f%% de erros (máximo %.2f%%)", o.operacao(), errosPercentual, errosMaximo));
+            }
+            verificarLimite(violacoes, o.operacao(), "p95", o.p95Ms());
+            verificarLimite(violacoes, o.operacao(), "p99", o.p99Ms());
+
+            RelatorioCarga.ResultadoOperacao base = linhaBase.get(o.operacao());
+            if (base != null && base.p95Ms() >= P95_MINIMO_LINHA_BASE_MS && o.p95Ms() > base.p95Ms() * (1 + tolerancia)) {
+                violacoes.add(String.format("%s: p95 de %.2f ms piorou mais de %.0f%% em relação à linha de base (%.2f ms)",
+                        o.operacao(), o.p95Ms(), tolerancia * 100, base.p95Ms()));
+            }
+        }
+        return violacoes;
+    }
+
+    private void verificarLimite(List<String> violacoes, String operacao, String percentil, double valorMs) {
+        String limite = limites.getProperty(operacao + "." + percentil, limites.getProperty("padrao." + percentil));
+        if (limite != null && valorMs > Double.parseDouble(limite)) {
+            violacoes.add(String.format("%s: %s de %.2f ms acima do orçamento de %s ms", operacao, percentil, valorMs, limite));
+        }
+    }
+}
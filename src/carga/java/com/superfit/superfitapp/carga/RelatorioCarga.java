@@ -0,0 +1,104 @@
+package com.superfit.superfitapp.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resultado de uma execução do teste de carga, gravado em JSON (carga.relatorio).
+ * Um relatório anterior pode servir de linha de base para a execução seguinte (carga.linha-base).
+ *
+ * @param data Data/hora da execução (ISO)
+ * @param usuarios Usuários virtuais simultâneos
+ * @param threadsVirtuais Aplicação com spring.threads.virtual.enabled (carga.threads-virtuais)
+ * @param alunos Alunos na base gerada
+ * @param duracaoSegundos Duração da medição (sem o aquecimento)
+ * @param vazao Requisições por segundo, somando todas as operações
+ * @param operacoes Resultado por operação, em ordem alfabética
+ */
+record RelatorioCarga(
+        String data,
+        int usuarios,
+        boolean threadsVirtuais,
+        int alunos,
+        long duracaoSegundos,
+        double vazao,
+        List<ResultadoOperacao> operacoes
+) {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * @param operacao Nome da operação (ver Operacao)
+     * @param requisicoes Requisições concluídas na medição
+     * @param erros Respostas com status >= 400 ou falhas de conexão
+     * @param vazao Requisições por segundo
+     * @param p50Ms Percentil 50 da latência, em ms
+     * @param p95Ms Percentil 95 da latência, em ms
+     * @param p99Ms Percentil 99 da latência, em ms
+     * @param maximoMs Maior latência, em ms
+     */
+    record ResultadoOperacao(
+            String operacao,
+            long requisicoes,
+            long erros,
+            double vazao,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maximoMs
+    ) {
+    }
+
+    static RelatorioCarga de(
+            Map<String, Latencias> medidas, int usuarios, boolean threadsVirtuais, int alunos, long duracaoSegundos
+    ) {
+        List<ResultadoOperacao> operacoes = new ArrayList<>();
+        long total = 0;
+        for (Map.Entry<String, Latencias> entrada : new TreeMap<>(medidas).entrySet()) {
+            Latencias latencias = entrada.getValue();
+            double[] p = latencias.percentisMs(50, 95, 99, 100);
+            operacoes.add(new ResultadoOperacao(entrada.getKey(), latencias.quantidade(), latencias.erros(),
+                    arredondar((double) latencias.quantidade() / duracaoSegundos),
+                    arredondar(p[0]), arredondar(p[1]), arredondar(p[2]), arredondar(p[3])));
+            total += latencias.quantidade();
+        }
+        return new RelatorioCarga(LocalDateTime.now().withNano(0).toString(), usuarios, threadsVirtuais, alunos, duracaoSegundos,
+                arredondar((double) total / duracaoSegundos), operacoes);
+    }
+
+    static RelatorioCarga ler(Path arquivo) throws IOException {
+        return JSON.readValue(arquivo.toFile(), RelatorioCarga.class);
+    }
+
+    void gravar(Path arquivo) throws IOException {
+        Files.createDirectories(arquivo.toAbsolutePath().getParent());
+        JSON.writeValue(arquivo.toFile(), this);
+    }
+
+    /**
+     * Tabela para o log: uma linha por operação.
+     */
+    String tabela() {
+        StringBuilder texto = new StringBuilder(String.format("%n%-36s %8s %6s %8s %9s %9s %9s%n",
+                "operacao", "req", "erros", "req/s", "p50(ms)", "p95(ms)", "p99(ms)"));
+        for (ResultadoOperacao o : operacoes) {
+            texto.append(String.format("%-36s %8d %6d %8.1f %9.2f %9.2f %9.2f%n",
+                    o.operacao(), o.requisicoes(), o.erros(), o.vazao(), o.p50Ms(), o.p95Ms(), o.p99Ms()));
+        }
+        return texto.append(String.format("total: %.1f req/s com %d usuários (threads %s)",
+                vazao, usuarios, threadsVirtuais ? "virtuais" : "de plataforma")).toString();
+    }
+
+    private static double arredondar(double valor) {
+        return Math.round(valor * 100) / 100.0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.superfit.superfitapp.carga;
+
+import com.superfit.superfitapp.model.Role;
+
+/**
+ * Usuário autenticado usado pelo teste de carga.
+ *
+ * @param role Role do usuário
+ * @param token Token JWT obtido em /auth/login
+ * @param alunoId ID do aluno (somente para ROLE_ALUNO)
+ */
+record Sessao(Role role, String token, Long alunoId) {
+}
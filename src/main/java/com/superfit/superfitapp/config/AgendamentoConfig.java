@@ -0,0 +1,24 @@
+package com.superfit.superfitapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas (@Scheduled) e assíncronas (@Async).
+ *
+ * Tarefas:
+ * - CobrancaMensalServiceImpl.gerarCobrancaDoMes (app.cobranca.cron, desabilitada com "-")
+ * - InadimplenciaServiceImpl.atualizarAtrasosDoDia (app.inadimplencia.cron, diária por padrão)
+ *
+ * Executores (auto-configuração do Spring Boot):
+ * - @Scheduled: taskScheduler (spring.task.scheduling.*)
+ * - @Async e downloads em streaming (/api/exportacoes/*): applicationTaskExecutor (spring.task.execution.*)
+ * - Com spring.threads.virtual.enabled=true, os dois executores e as requisições do Tomcat
+ *   passam a usar threads virtuais; as propriedades de pool deixam de valer
+ */
+@Configuration
+@EnableScheduling
+@EnableAsync
+public class AgendamentoConfig {
+}
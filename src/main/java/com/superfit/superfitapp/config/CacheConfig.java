@@ -0,0 +1,54 @@
+package com.superfit.superfitapp.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Habilita o cache dos relatórios gerenciais (@Cacheable em RelatorioServiceImpl).
+ *
+ * Os caches são Caffeine, criados na inicialização a partir de spring.cache.cache-names e limitados
+ * por tamanho e tempo de vida (spring.cache.caffeine.spec). A invalidação é feita por eventos de
+ * domínio após o commit (ver RelatorioCacheInvalidador); o TTL apenas limita o tempo de uma entrada
+ * que dependa da data corrente (ex: dias de atraso).
+ *
+ * O painel do gestor (DASHBOARD_GESTOR) tem um cache próprio, com TTL curto (app.gestor.dashboard.ttl):
+ * junta contagens que mudam a todo momento e é lido a cada acesso à página inicial do gestor.
+ *
+ * Acertos, falhas e remoções são publicados como métricas (cache.gets, cache.evictions) em /actuator/metrics.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String RELATORIO_FINANCEIRO = "relatorios.financeiro";
+    public static final String RELATORIO_COMPARATIVO = "relatorios.comparativo";
+    public static final String RELATORIO_RECEITAS = "relatorios.receitas";
+    public static final String RELATORIO_INADIMPLENCIA = "relatorios.inadimplencia";
+    public static final String RELATORIO_INADIMPLENCIA_ALUNO = "relatorios.inadimplencia-aluno";
+    public static final String RELATORIO_ALUNOS_ATIVOS = "relatorios.alunos-ativos";
+    public static final String RELATORIO_PROFESSORES = "relatorios.professores";
+    public static final String RELATORIO_RECEITA_MENSAL = "relatorios.receita-mensal";
+    public static final String RELATORIO_DESPESAS_MENSAIS = "relatorios.despesas-mensais";
+    public static final String DASHBOARD_GESTOR = "gestor.dashboard";
+
+    /**
+     * Registra o cache do painel do gestor com TTL próprio; aplicado apenas quando o provedor é o Caffeine.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> cacheDashboardGestor(
+            @Value("${app.gestor.dashboard.ttl:30s}") Duration ttl
+    ) {
+        return cacheManager -> cacheManager.registerCustomCache(DASHBOARD_GESTOR, Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(1)
+                .recordStats()
+                .build());
+    }
+}
@@ -1,5 +1,7 @@
 package com.superfit.superfitapp.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -8,6 +10,7 @@ import org.springframework.stereotype.Component;
 import com.superfit.superfitapp.model.Role;
 import com.superfit.superfitapp.model.User;
 import com.superfit.superfitapp.repository.UserRepository;
+import com.superfit.superfitapp.service.ResumoFinanceiroService;
 
 /**
  * Inicializador de dados padrão do sistema.
@@ -17,6 +20,7 @@ import com.superfit.superfitapp.repository.UserRepository;
  * - Criar usuário ADMIN padrão (email: admin, senha: 12345)
  * - Criar usuário GESTOR padrão (email: gestor, senha: 12345)
  * - Verificar existência antes de criar para evitar duplicação
+ * - Preencher o resumo financeiro mensal quando ainda estiver vazio (bancos já existentes)
  * - Logar informações de criação no console
  * 
  * Nota: Em produção, considere remover ou alterar senhas padrão.
@@ -24,12 +28,17 @@ import com.superfit.superfitapp.repository.UserRepository;
 @Component
 public class DataInitializer implements CommandLineRunner {
 
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ResumoFinanceiroService resumoFinanceiroService;
+
     /**
      * Método executado automaticamente após a inicialização da aplicação.
      * Cria usuários padrão se não existirem no banco de dados.
@@ -39,13 +48,14 @@ public class DataInitializer implements CommandLineRunner {
      */
     @Override
     public void run(String... args) throws Exception {
-        System.out.println("\n========================================");
-        System.out.println("Iniciando DataInitializer...");
-        System.out.println("========================================");
+        log.info("Iniciando DataInitializer...");
         
         // Cria usuário ADMIN
         criarAdminSeNaoExistir();
         
+        // Backfill do livro-razão financeiro mensal
+        resumoFinanceiroService.reconstruirSeVazio();
+        
         // Cria GESTOR padrão
         //criarGestorSeNaoExistir();
         
@@ -55,9 +65,7 @@ public class DataInitializer implements CommandLineRunner {
         // Cria ALUNO padrão
        //criarAlunoSeNaoExistir();
         
-        System.out.println("========================================");
-        System.out.println("DataInitializer finalizado!");
-        System.out.println("========================================\n");
+        log.info("DataInitializer finalizado");
     }
     
     /**
@@ -73,10 +81,9 @@ public class DataInitializer implements CommandLineRunner {
                 Role.ROLE_ADMIN
             );
             userRepository.save(adminUser);
-            System.out.println("✅ Usuário ADMIN criado com sucesso!");
-            System.out.println("   Email: admin | Senha: 12345");
+            log.info("Usuário ADMIN criado | email=admin senha=12345");
         } else {
-            System.out.println("ℹ️ Usuário ADMIN já existe");
+            log.info("Usuário ADMIN já existe");
         }
     }
  
@@ -0,0 +1,458 @@
+package com.superfit.superfitapp.config;
+
+import com.superfit.superfitapp.model.CategoriaDespesa;
+import com.superfit.superfitapp.model.Mensalidade;
+import com.superfit.superfitapp.model.Role;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.service.InadimplenciaService;
+import com.superfit.superfitapp.service.ResumoFinanceiroService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Gerador de dados sintéticos para testes de desempenho (perfil dados-sinteticos).
+ *
+ * Cria, a partir de uma semente fixa (mesma semente e referência = mesmos dados, exceto o status
+ * PENDENTE/ATRASADA das mensalidades em aberto, que depende da data atual):
+ * - um gestor e app.dados-sinteticos.professores professores, com usuários
+ * - app.dados-sinteticos.alunos alunos (com usuários), distribuídos entre os professores, ~10% inativos
+ * - mensalidades dos últimos app.dados-sinteticos.meses meses até a referência (inativos param antes)
+ * - medidas, treinos e exercícios por aluno
+ * - despesas por mês, passando por todas as categorias de CategoriaDespesa
+ *
+ * Lógica:
+ * 1. Só executa com o banco sem alunos nem professores
+ * 2. Os INSERTs vão por JdbcTemplate.batchUpdate com IDs atribuídos aqui (as colunas aceitam o ID
+ *    informado), em uma transação por lote de app.dados-sinteticos.tamanho-lote alunos
+ * 3. Ao final, as identidades e sequências são reposicionadas após o maior ID gravado
+ * 4. Mensalidades não pagas vencidas antes de hoje já são gravadas como ATRASADA (o mesmo critério da
+ *    varredura de atrasos) e a inadimplência dos alunos de cada lote é recalculada na mesma transação
+ * 5. O resumo financeiro mensal é reconstruído ao final
+ *
+ * Todos os usuários gerados usam a senha app.dados-sinteticos.senha (hash calculado uma vez).
+ * Emails: gestor@seed.superfit.com, professor{n}@seed.superfit.com, aluno{n}@seed.superfit.com.
+ *
+ * Execução (ver application-dados-sinteticos.properties):
+ * mvn spring-boot:run -Dspring-boot.run.profiles=dados-sinteticos -Dspring-boot.run.optimizedLaunch=false
+ *     -Dspring-boot.run.arguments=--app.dados-sinteticos.alunos=40000
+ *
+ * Executa antes do DataInitializer (@Order), para que as sequências já estejam reposicionadas
+ * quando o Hibernate reservar o primeiro bloco de IDs.
+ */
+@Component
+@Profile("dados-sinteticos")
+@Order(0)
+public class GeradorDadosSinteticos implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(GeradorDadosSinteticos.class);
+
+    static final String DOMINIO_EMAIL = "@seed.superfit.com";
+
+    private static final double[] PLANOS = {89.9, 119.9, 149.9};
+    private static final String[] OBJETIVOS_TREINO = {"Hipertrofia", "Emagrecimento", "Força", "Resistência", "Funcional"};
+    private static final String[] REPETICOES = {"3x10", "3x12", "4x8", "4x12", "3x15"};
+    private static final String[] DESCANSOS = {"45s", "60s", "90s"};
+    private static final String[][] EXERCICIOS = {
+            {"Supino reto", "Peito"}, {"Supino inclinado", "Peito"}, {"Crucifixo", "Peito"},
+            {"Puxada frontal", "Costas"}, {"Remada curvada", "Costas"}, {"Remada baixa", "Costas"},
+            {"Agachamento livre", "Pernas"}, {"Leg press", "Pernas"}, {"Cadeira extensora", "Pernas"},
+            {"Mesa flexora", "Pernas"}, {"Desenvolvimento", "Ombros"}, {"Elevação lateral", "Ombros"},
+            {"Rosca direta", "Bíceps"}, {"Rosca martelo", "Bíceps"}, {"Tríceps corda", "Tríceps"},
+            {"Tríceps testa", "Tríceps"}, {"Abdominal supra", "Abdômen"}, {"Prancha", "Abdômen"},
+            {"Panturrilha em pé", "Panturrilha"}, {"Stiff", "Pernas"}
+    };
+
+    private static final String SQL_USER =
+            "INSERT INTO users (id, email, password, role) VALUES (?, ?, ?, ?)";
+    private static final int[] TIPOS_USER = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR};
+
+    private static final String SQL_GESTOR =
+            "INSERT INTO gestores (id, nome, email, telefone, departamento, ativo, user_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] TIPOS_GESTOR = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.BOOLEAN, Types.BIGINT};
+
+    private static final String SQL_PROFESSOR =
+            "INSERT INTO professores (id, nome, email, telefone, crefi, user_id) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final int[] TIPOS_PROFESSOR = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.BIGINT};
+
+    private static final String SQL_ALUNO =
+            "INSERT INTO alunos (id, nome, email, telefone, data_nascimento, endereco, altura, sexo, ativo, user_id, professor_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] TIPOS_ALUNO = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.DOUBLE, Types.VARCHAR, Types.BOOLEAN, Types.BIGINT, Types.BIGINT};
+
+    private static final String SQL_MENSALIDADE =
+            "INSERT INTO mensalidades (id, aluno_id, valor, status, data_vencimento, data_pagamento, mes_referencia, " +
+            "ano_referencia, data_criacao) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] TIPOS_MENSALIDADE = {Types.BIGINT, Types.BIGINT, Types.DOUBLE, Types.VARCHAR, Types.DATE,
+            Types.DATE, Types.VARCHAR, Types.INTEGER, Types.DATE};
+
+    private static final String SQL_MEDIDA =
+            "INSERT INTO medidas (id, data, peso, imc, peito, cintura, quadril, aluno_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] TIPOS_MEDIDA = {Types.BIGINT, Types.DATE, Types.DOUBLE, Types.DOUBLE, Types.DOUBLE,
+            Types.DOUBLE, Types.DOUBLE, Types.BIGINT};
+
+    private static final String SQL_TREINO =
+            "INSERT INTO treinos (id, nome, tipo, data_inicio, professor_id, aluno_id) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final int[] TIPOS_TREINO = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.DATE,
+            Types.BIGINT, Types.BIGINT};
+
+    private static final String SQL_EXERCICIO =
+            "INSERT INTO exercicios (id, nome, repeticoes, carga, grupo_muscular, descanso_indicado, treino_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] TIPOS_EXERCICIO = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.BIGINT};
+
+    private static final String SQL_DESPESA =
+            "INSERT INTO despesas (id, descricao, valor, categoria, data_despesa, data_pagamento, paga, data_criacao) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] TIPOS_DESPESA = {Types.BIGINT, Types.VARCHAR, Types.DOUBLE, Types.VARCHAR, Types.DATE,
+            Types.DATE, Types.BOOLEAN, Types.DATE};
+
+    /**
+     * Tabelas com ID por sequência (allocationSize 50) e o nome da sequência; as demais usam IDENTITY.
+     */
+    private static final Map<String, String> SEQUENCIAS = Map.of(
+            "users", "users_seq",
+            "alunos", "alunos_seq",
+            "mensalidades", "mensalidades_seq"
+    );
+
+    private static final List<String> TABELAS = List.of(
+            "users", "gestores", "professores", "alunos", "mensalidades", "medidas", "treinos", "exercicios", "despesas"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final InadimplenciaService inadimplenciaService;
+    private final ResumoFinanceiroService resumoFinanceiroService;
+
+    @Value("${app.dados-sinteticos.professores:50}")
+    private int professores;
+
+    @Value("${app.dados-sinteticos.alunos:20000}")
+    private int alunos;
+
+    @Value("${app.dados-sinteticos.meses:12}")
+    private int meses;
+
+    @Value("${app.dados-sinteticos.medidas-por-aluno:4}")
+    private int medidasPorAluno;
+
+    @Value("${app.dados-sinteticos.treinos-por-aluno:2}")
+    private int treinosPorAluno;
+
+    @Value("${app.dados-sinteticos.exercicios-por-treino:6}")
+    private int exerciciosPorTreino;
+
+    @Value("${app.dados-sinteticos.despesas-por-mes:40}")
+    private int despesasPorMes;
+
+    @Value("${app.dados-sinteticos.semente:42}")
+    private long semente;
+
+    @Value("${app.dados-sinteticos.referencia:}")
+    private String referencia;
+
+    @Value("${app.dados-sinteticos.tamanho-lote:1000}")
+    private int tamanhoLote;
+
+    @Value("${app.dados-sinteticos.senha:12345}")
+    private String senha;
+
+    public GeradorDadosSinteticos(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            PasswordEncoder passwordEncoder,
+            InadimplenciaService inadimplenciaService,
+            ResumoFinanceiroService resumoFinanceiroService
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.inadimplenciaService = inadimplenciaService;
+        this.resumoFinanceiroService = resumoFinanceiroService;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (professores < 1 || alunos < 0 || meses < 1 || tamanhoLote < 1 || medidasPorAluno < 0
+                || treinosPorAluno < 0 || exerciciosPorTreino < 0 || despesasPorMes < 0) {
+            throw new IllegalArgumentException("Parâmetros app.dados-sinteticos.* inválidos");
+        }
+        Long existentes = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM alunos) + (SELECT COUNT(*) FROM professores)", Long.class);
+        if (existentes != null && existentes > 0) {
+            log.warn("Dados sintéticos não gerados: o banco já possui alunos ou professores");
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        YearMonth fim = referencia.isBlank() ? YearMonth.now() : YearMonth.parse(referencia);
+        Geracao geracao = new Geracao(new SplittableRandom(semente), fim.minusMonths(meses - 1L), fim,
+                passwordEncoder.encode(senha), proximosIds());
+
+        log.info("Geração de dados sintéticos iniciada | professores={} alunos={} meses={} ({} a {}) semente={}",
+                professores, alunos, meses, geracao.primeiroMes, fim, semente);
+
+        List<Long> professorIds = transactionTemplate.execute(status -> inserirEquipe(geracao));
+        for (int primeiro = 1; primeiro <= alunos; primeiro += tamanhoLote) {
+            int de = primeiro;
+            int ate = Math.min(alunos, primeiro + tamanhoLote - 1);
+            transactionTemplate.executeWithoutResult(status -> inserirAlunos(geracao, professorIds, de, ate));
+            log.info("Dados sintéticos | alunos={}/{} linhas={}", ate, alunos, geracao.linhas);
+        }
+        transactionTemplate.executeWithoutResult(status -> inserirDespesas(geracao));
+        reposicionarIds(geracao.ids);
+
+        resumoFinanceiroService.reconstruir();
+
+        log.info("Geração de dados sintéticos concluída | linhas={} tempoMs={}",
+                geracao.linhas, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Gestor e professores, com seus usuários. Retorna os IDs dos professores.
+     */
+    private List<Long> inserirEquipe(Geracao g) {
+        List<Object[]> users = new ArrayList<>(professores + 1);
+        List<Object[]> professoresLinhas = new ArrayList<>(professores);
+        List<Long> professorIds = new ArrayList<>(professores);
+
+        long gestorUserId = g.ids.proximo("users");
+        String gestorEmail = "gestor" + DOMINIO_EMAIL;
+        users.add(new Object[]{gestorUserId, gestorEmail, g.hashSenha, Role.ROLE_GESTOR.name()});
+
+        for (int n = 1; n <= professores; n++) {
+            long userId = g.ids.proximo("users");
+            long professorId = g.ids.proximo("professores");
+            String email = "professor" + n + DOMINIO_EMAIL;
+            users.add(new Object[]{userId, email, g.hashSenha, Role.ROLE_PROFESSOR.name()});
+            professoresLinhas.add(new Object[]{professorId, "Professor " + n, email, telefone(g.random),
+                    String.format("%06d-G/SP", g.random.nextInt(1_000_000)), userId});
+            professorIds.add(professorId);
+        }
+
+        inserir(g, SQL_USER, users, TIPOS_USER);
+        inserir(g, SQL_GESTOR, List.<Object[]>of(new Object[]{g.ids.proximo("gestores"), "Gestor Sintético", gestorEmail,
+                telefone(g.random), "Administrativo", true, gestorUserId}), TIPOS_GESTOR);
+        inserir(g, SQL_PROFESSOR, professoresLinhas, TIPOS_PROFESSOR);
+        return professorIds;
+    }
+
+    /**
+     * Alunos de..ate (numeração 1..N), com usuários, mensalidades, medidas, treinos e exercícios.
+     */
+    private void inserirAlunos(Geracao g, List<Long> professorIds, int de, int ate) {
+        int quantidade = ate - de + 1;
+        List<Object[]> users = new ArrayList<>(quantidade);
+        List<Object[]> alunosLinhas = new ArrayList<>(quantidade);
+        List<Object[]> mensalidades = new ArrayList<>(quantidade * meses);
+        List<Object[]> medidas = new ArrayList<>(quantidade * medidasPorAluno);
+        List<Object[]> treinos = new ArrayList<>(quantidade * treinosPorAluno);
+        List<Object[]> exercicios = new ArrayList<>(quantidade * treinosPorAluno * exerciciosPorTreino);
+        List<Long> alunoIds = new ArrayList<>(quantidade);
+        SplittableRandom r = g.random;
+
+        for (int n = de; n <= ate; n++) {
+            long userId = g.ids.proximo("users");
+            long alunoId = g.ids.proximo("alunos");
+            long professorId = professorIds.get(r.nextInt(professorIds.size()));
+            String email = "aluno" + n + DOMINIO_EMAIL;
+            boolean ativo = r.nextInt(10) > 0;
+            double altura = arredondar(1.50 + r.nextDouble() * 0.45, 100);
+            boolean feminino = r.nextBoolean();
+            LocalDate nascimento = LocalDate.of(1960, 1, 1).plusDays(r.nextInt(365 * 48));
+
+            alunoIds.add(alunoId);
+            users.add(new Object[]{userId, email, g.hashSenha, Role.ROLE_ALUNO.name()});
+            alunosLinhas.add(new Object[]{alunoId, "Aluno " + n, email, telefone(r), nascimento.toString(),
+                    "Rua " + (1 + r.nextInt(500)) + ", " + (1 + r.nextInt(2000)), altura, feminino ? "F" : "M",
+                    ativo, userId, professorId});
+
+            // Inativos deixam de ser cobrados em um mês anterior à referência
+            YearMonth ultimoMes = ativo || meses == 1 ? g.ultimoMes : g.primeiroMes.plusMonths(r.nextInt(meses - 1));
+            double plano = PLANOS[r.nextInt(PLANOS.length)];
+            for (YearMonth mes = g.primeiroMes; !mes.isAfter(ultimoMes); mes = mes.plusMonths(1)) {
+                LocalDate vencimento = mes.atDay(10);
+                boolean paga = r.nextInt(100) < (mes.equals(g.ultimoMes) ? 50 : 88);
+                StatusMensalidade status = paga ? StatusMensalidade.PAGA
+                        : vencimento.isBefore(g.hoje) ? StatusMensalidade.ATRASADA : StatusMensalidade.PENDENTE;
+                mensalidades.add(new Object[]{g.ids.proximo("mensalidades"), alunoId, plano, status.name(), vencimento,
+                        paga ? vencimento.plusDays(r.nextInt(13) - 7L) : null,
+                        Mensalidade.nomeDoMes(mes.getMonthValue()), mes.getYear(), mes.atDay(1)});
+            }
+
+            double peso = arredondar(50 + r.nextDouble() * 60, 10);
+            for (int k = 0; k < medidasPorAluno; k++) {
+                LocalDate data = g.dataNoPeriodo(k, medidasPorAluno, r);
+                peso = arredondar(peso + r.nextDouble() * 2.5 - 1.5, 10);
+                medidas.add(new Object[]{g.ids.proximo("medidas"), data, peso, arredondar(peso / (altura * altura), 10),
+                        arredondar(peso * 1.15 + r.nextDouble() * 8, 10), arredondar(peso * 0.95 + r.nextDouble() * 8, 10),
+                        arredondar(peso * 1.25 + r.nextDouble() * 8, 10), alunoId});
+            }
+
+            for (int t = 0; t < treinosPorAluno; t++) {
+                long treinoId = g.ids.proximo("treinos");
+                treinos.add(new Object[]{treinoId, "Treino " + (char) ('A' + t % 26),
+                        OBJETIVOS_TREINO[r.nextInt(OBJETIVOS_TREINO.length)], g.dataNoPeriodo(t, treinosPorAluno, r),
+                        professorId, alunoId});
+                for (int e = 0; e < exerciciosPorTreino; e++) {
+                    String[] exercicio = EXERCICIOS[r.nextInt(EXERCICIOS.length)];
+                    exercicios.add(new Object[]{g.ids.proximo("exercicios"), exercicio[0],
+                            REPETICOES[r.nextInt(REPETICOES.length)], (5 + 5 * r.nextInt(16)) + "kg", exercicio[1],
+                            DESCANSOS[r.nextInt(DESCANSOS.length)], treinoId});
+                }
+            }
+        }
+
+        inserir(g, SQL_USER, users, TIPOS_USER);
+        inserir(g, SQL_ALUNO, alunosLinhas, TIPOS_ALUNO);
+        inserir(g, SQL_MENSALIDADE, mensalidades, TIPOS_MENSALIDADE);
+        inserir(g, SQL_MEDIDA, medidas, TIPOS_MEDIDA);
+        inserir(g, SQL_TREINO, treinos, TIPOS_TREINO);
+        inserir(g, SQL_EXERCICIO, exercicios, TIPOS_EXERCICIO);
+        inadimplenciaService.recalcularAlunos(alunoIds);
+    }
+
+    /**
+     * Despesas de cada mês do período; as categorias se alternam para cobrir todas.
+     * Meses anteriores à referência ficam quase todos pagos; o último, metade.
+     */
+    private void inserirDespesas(Geracao g) {
+        CategoriaDespesa[] categorias = CategoriaDespesa.values();
+        List<Object[]> despesas = new ArrayList<>(meses * despesasPorMes);
+        SplittableRandom r = g.random;
+        int sequencia = 0;
+
+        for (YearMonth mes = g.primeiroMes; !mes.isAfter(g.ultimoMes); mes = mes.plusMonths(1)) {
+            for (int i = 0; i < despesasPorMes; i++) {
+                CategoriaDespesa categoria = categorias[sequencia++ % categorias.length];
+                LocalDate data = mes.atDay(1 + r.nextInt(mes.lengthOfMonth()));
+                boolean paga = r.nextInt(100) < (mes.equals(g.ultimoMes) ? 50 : 95);
+                despesas.add(new Object[]{g.ids.proximo("despesas"),
+                        categoria.getDescricao() + " " + Mensalidade.nomeDoMes(mes.getMonthValue()) + "/" + mes.getYear(),
+                        valorDespesa(categoria, r), categoria.name(), data, paga ? data.plusDays(r.nextInt(10)) : null,
+                        paga, mes.atDay(1)});
+            }
+        }
+        inserir(g, SQL_DESPESA, despesas, TIPOS_DESPESA);
+    }
+
+    private void inserir(Geracao g, String sql, List<Object[]> linhas, int[] tipos) {
+        if (!linhas.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, linhas, tipos);
+            g.linhas += linhas.size();
+        }
+    }
+
+    /**
+     * Próximo ID livre de cada tabela (MAX(id) + 1).
+     */
+    private ProximosIds proximosIds() {
+        Map<String, Long> proximos = new LinkedHashMap<>();
+        for (String tabela : TABELAS) {
+            Long maior = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + tabela, Long.class);
+            proximos.put(tabela, (maior != null ? maior : 0L) + 1);
+        }
+        return new ProximosIds(proximos);
+    }
+
+    /**
+     * Posiciona identidades e sequências após os IDs gravados. Nas sequências o otimizador pooled do
+     * Hibernate trata o valor lido como o fim do bloco de 50, então elas recomeçam em maior ID + 50
+     * (mesma regra de db.migration.Sequencias).
+     */
+    private void reposicionarIds(ProximosIds ids) {
+        for (Map.Entry<String, Long> proximo : ids.proximos.entrySet()) {
+            String sequencia = SEQUENCIAS.get(proximo.getKey());
+            if (sequencia != null) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequencia + " RESTART WITH " + (proximo.getValue() - 1 + 50));
+            } else {
+                jdbcTemplate.execute("ALTER TABLE " + proximo.getKey() + " ALTER COLUMN id RESTART WITH " + proximo.getValue());
+            }
+        }
+    }
+
+    private static double valorDespesa(CategoriaDespesa categoria, SplittableRandom r) {
+        return switch (categoria) {
+            case SALARIO -> arredondar(2_500 + r.nextDouble() * 4_000, 100);
+            case ALUGUEL -> arredondar(8_000 + r.nextDouble() * 4_000, 100);
+            case ENERGIA, AGUA -> arredondar(400 + r.nextDouble() * 1_600, 100);
+            default -> arredondar(50 + r.nextDouble() * 1_450, 100);
+        };
+    }
+
+    private static String telefone(SplittableRandom r) {
+        return String.format("119%08d", r.nextInt(100_000_000));
+    }
+
+    private static double arredondar(double valor, int escala) {
+        return Math.round(valor * escala) / (double) escala;
+    }
+
+    /**
+     * Estado de uma geração: gerador aleatório (único, consumido em ordem fixa), período e contadores.
+     */
+    private static final class Geracao {
+
+        private final SplittableRandom random;
+        private final YearMonth primeiroMes;
+        private final YearMonth ultimoMes;
+        private final String hashSenha;
+        private final ProximosIds ids;
+        private final LocalDate hoje = LocalDate.now();
+        private long linhas;
+
+        private Geracao(SplittableRandom random, YearMonth primeiroMes, YearMonth ultimoMes, String hashSenha, ProximosIds ids) {
+            this.random = random;
+            this.primeiroMes = primeiroMes;
+            this.ultimoMes = ultimoMes;
+            this.hashSenha = hashSenha;
+            this.ids = ids;
+        }
+
+        /**
+         * Data da k-ésima de n ocorrências espaçadas no período, com até uma semana de variação.
+         */
+        private LocalDate dataNoPeriodo(int k, int n, SplittableRandom r) {
+            LocalDate inicio = primeiroMes.atDay(1);
+            long dias = ultimoMes.atEndOfMonth().toEpochDay() - inicio.toEpochDay() + 1;
+            long deslocamento = Math.min(dias - 1, dias * k / n + r.nextInt(7));
+            return inicio.plusDays(deslocamento);
+        }
+    }
+
+    private static final class ProximosIds {
+
+        private final Map<String, Long> proximos;
+
+        private ProximosIds(Map<String, Long> proximos) {
+            this.proximos = proximos;
+        }
+
+        private long proximo(String tabela) {
+            return proximos.merge(tabela, 1L, Long::sum) - 1;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.superfit.superfitapp.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Métricas dos serviços e repositórios.
+ *
+ * - superfit.servico: timer de cada método público dos *ServiceImpl, com tags classe, metodo e excecao.
+ *   Ordem 0: envolve os advisors de transação e cache (ordem padrão LOWEST_PRECEDENCE), de modo que
+ *   o tempo inclui o commit e os acertos de cache
+ * - superfit.repositorio.linhas: linhas devolvidas por consulta dos repositórios (listas, páginas e Optional),
+ *   com tags repositorio e metodo. O tempo das consultas vem do Spring Boot (spring.data.repository.invocations).
+ *   O DistributionSummary é resolvido uma vez por proxy e método e guardado em cache
+ *
+ * Histogramas e percentis são configurados por nome em management.metrics.distribution.*.
+ */
+@Aspect
+@Component
+@Order(0)
+public class MetricasAspect {
+
+    static final String TIMER_SERVICO = "superfit.servico";
+    static final String LINHAS_REPOSITORIO = "superfit.repositorio.linhas";
+
+    private static final String PACOTE_REPOSITORIOS = "com.superfit.superfitapp.repository";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Chave pelo proxy e pelo método: métodos herdados (ex: findAll) são o mesmo Method em todos os repositórios.
+     * Optional vazio para repositórios de fora da aplicação.
+     */
+    private final Map<ChaveRepositorio, Optional<DistributionSummary>> linhasPorMetodo = new ConcurrentHashMap<>();
+
+    public MetricasAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.superfit.superfitapp.service.*ServiceImpl.*(..))")
+    public Object medirServico(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample amostra = Timer.start(registry);
+        String excecao = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            excecao = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            amostra.stop(Timer.builder(TIMER_SERVICO)
+                    .description("Tempo dos métodos dos serviços")
+                    .tag("classe", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("metodo", joinPoint.getSignature().getName())
+                    .tag("excecao", excecao)
+                    .register(registry));
+        }
+    }
+
+    @AfterReturning(pointcut = "target(org.springframework.data.repository.Repository)", returning = "resultado")
+    public void contarLinhas(JoinPoint joinPoint, Object resultado) {
+        long linhas;
+        if (resultado instanceof Collection<?> colecao) {
+            linhas = colecao.size();
+        } else if (resultado instanceof Slice<?> pagina) {
+            linhas = pagina.getNumberOfElements();
+        } else if (resultado instanceof Optional<?> opcional) {
+            linhas = opcional.isPresent() ? 1 : 0;
+        } else {
+            return;
+        }
+
+        Method metodo = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        linhasPorMetodo
+                .computeIfAbsent(new ChaveRepositorio(joinPoint.getTarget().getClass(), metodo), this::registrarLinhas)
+                .ifPresent(resumo -> resumo.record(linhas));
+    }
+
+    private Optional<DistributionSummary> registrarLinhas(ChaveRepositorio chave) {
+        return Optional.ofNullable(repositorio(chave.proxy()))
+                .map(repositorio -> DistributionSummary.builder(LINHAS_REPOSITORIO)
+                        .description("Linhas devolvidas pelas consultas dos repositórios")
+                        .baseUnit("linhas")
+                        .tag("repositorio", repositorio)
+                        .tag("metodo", chave.metodo().getName())
+                        .register(registry));
+    }
+
+    /**
+     * Nome da interface do repositório (ex: AlunoRepository) implementada pelo proxy do Spring Data;
+     * null para repositórios de fora da aplicação.
+     */
+    private static String repositorio(Class<?> proxy) {
+        for (Class<?> interfaceImplementada : proxy.getInterfaces()) {
+            if (interfaceImplementada.getPackageName().equals(PACOTE_REPOSITORIOS)) {
+                return interfaceImplementada.getSimpleName();
+            }
+        }
+        return null;
+    }
+
+    private record ChaveRepositorio(Class<?> proxy, Method metodo) {}
+}
@@ -8,11 +8,14 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.superfit.superfitapp.security.CodificadorSenhas;
 import com.superfit.superfitapp.security.JwtAuthenticationFilter;
+import com.superfit.superfitapp.security.RotasPublicas;
+import com.superfit.superfitapp.security.TokenColetaMetricas;
 
 
 /**
@@ -22,7 +25,7 @@ import com.superfit.superfitapp.security.JwtAuthenticationFilter;
  * Recursos configurados:
  * - Autenticação baseada em JWT (sem sessões)
  * - Autorização em nível de método (@PreAuthorize)
- * - PasswordEncoder com BCrypt
+ * - PasswordEncoder delegante (BCrypt ou PBKDF2, custo configurável)
  * - Rotas públicas e protegidas
  * - Desabilitação de CSRF (API REST stateless)
  */
@@ -50,13 +53,21 @@ public class SecurityConfig {
 
     /**
      * Define o encoder de senhas usado no sistema.
-     * BCrypt é um algoritmo de hash adaptativo resistente a ataques de força bruta.
+     * Novos hashes usam o algoritmo e o custo configurados em app.seguranca.senha.*;
+     * hashes em outro algoritmo ou custo menor são regravados no próximo login (ver CodificadorSenhas).
      * 
-     * @return BCryptPasswordEncoder para hash de senhas
+     * @param algoritmo Algoritmo dos novos hashes (bcrypt ou pbkdf2)
+     * @param bcryptForca Custo do BCrypt
+     * @param pbkdf2Iteracoes Iterações do PBKDF2
+     * @return DelegatingPasswordEncoder para hash de senhas
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.seguranca.senha.algoritmo:bcrypt}") String algoritmo,
+            @Value("${app.seguranca.senha.bcrypt-forca:10}") int bcryptForca,
+            @Value("${app.seguranca.senha.pbkdf2-iteracoes:310000}") int pbkdf2Iteracoes
+    ) {
+        return CodificadorSenhas.criar(algoritmo, bcryptForca, pbkdf2Iteracoes);
     }
     
 
@@ -69,26 +80,36 @@ public class SecurityConfig {
          * - Form Login desabilitado (API REST)
          * - Frame Options desabilitado (permite H2 Console)
          * 
-         * Rotas públicas (permitAll):
+         * Rotas públicas (permitAll), definidas em RotasPublicas (o mesmo matcher é usado
+         * pelo JwtAuthenticationFilter para não processar token nessas rotas):
+         * - /js/**, /css/**, /images/**, /favicon.ico (recursos estáticos)
          * - /auth/** (endpoints de autenticação)
          * - /h2-console/** (console do banco H2)
          * - /home, /logout, / (páginas públicas)
+         * - /actuator/health/**, /actuator/info (health check do Railway)
+         * 
+         * /actuator/prometheus também é liberado para o coletor que envia o token de app.metricas.token-coleta.
          * 
          * Rotas protegidas (authenticated):
          * - /admin/** (requer autenticação, autorização via @PreAuthorize nos controllers)
          * - /professor/** (requer autenticação)
          * - /aluno/** (requer autenticação)
+         * - /actuator/** (métricas e Prometheus; somente ADMIN)
          * - Qualquer outra rota (requer autenticação)
          * 
          * Filtros:
          * - JwtAuthenticationFilter executado antes de UsernamePasswordAuthenticationFilter
          * 
          * @param http HttpSecurity para configuração
+         * @param tokenColetaMetricas Token do coletor do Prometheus (vazio desabilita)
          * @return SecurityFilterChain configurada
          * @throws Exception em caso de erro na configuração
          */
         @Bean
-        public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        public SecurityFilterChain filterChain(
+                HttpSecurity http,
+                @Value("${app.metricas.token-coleta:}") String tokenColetaMetricas
+        ) throws Exception {
 
             http
                 .csrf(csrf -> csrf.disable())
@@ -98,24 +119,16 @@ public class SecurityConfig {
                 .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable()))
 
                 .authorizeHttpRequests(auth -> auth
-                    // Permitir acesso a recursos estáticos
-                    .requestMatchers("/js/**").permitAll()
-                    .requestMatchers("/css/**").permitAll()
-                    .requestMatchers("/images/**").permitAll()
-                    .requestMatchers("/favicon.ico").permitAll()
-                    
-                    // Endpoints públicos
-                    .requestMatchers("/auth/**").permitAll()
-                    .requestMatchers("/h2-console/**").permitAll()
-                    .requestMatchers("/home").permitAll()
-                    .requestMatchers("/logout").permitAll()
-                    .requestMatchers("/").permitAll()
+                    // Recursos estáticos e endpoints públicos
+                    .requestMatchers(RotasPublicas.MATCHER).permitAll()
+                    .requestMatchers(new TokenColetaMetricas(tokenColetaMetricas)).permitAll()
                     
                     // Endpoints protegidos - requerem autenticação
                     .requestMatchers("/admin/**").authenticated()
                     .requestMatchers("/professor/**").authenticated()
                     .requestMatchers("/aluno/**").authenticated()
                     .requestMatchers("/gestor/**").authenticated()
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                     .anyRequest().authenticated()
                 );
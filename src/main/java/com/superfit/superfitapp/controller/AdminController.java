@@ -1,7 +1,11 @@
 package com.superfit.superfitapp.controller;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
 
@@ -13,7 +17,10 @@ import com.superfit.superfitapp.dto.admin.ProfessorUpdateDTO;
 import com.superfit.superfitapp.dto.admin.AlunoCreateDTO;
 import com.superfit.superfitapp.dto.admin.AlunoResponseDTO;
 import com.superfit.superfitapp.dto.admin.AlunoUpdateDTO;
+import com.superfit.superfitapp.dto.admin.ImportacaoAlunosDTO;
 import com.superfit.superfitapp.service.AdminService;
+import com.superfit.superfitapp.service.ImportacaoAlunoService;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -26,9 +33,11 @@ import java.util.List;
 public class AdminController {
 
     private final AdminService adminService;
+    private final ImportacaoAlunoService importacaoAlunoService;
 
-    public AdminController(AdminService adminService) {
+    public AdminController(AdminService adminService, ImportacaoAlunoService importacaoAlunoService) {
         this.adminService = adminService;
+        this.importacaoAlunoService = importacaoAlunoService;
     }
 
     // ===============================
@@ -127,6 +136,41 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Importa alunos em lote a partir de um CSV com cabeçalho
+     * (nome, email, telefone, dataNascimento, password).
+     * O arquivo é lido em streaming; linhas inválidas ou com email já cadastrado
+     * não interrompem a importação e voltam na lista de erros.
+     * 
+     * @param csv Corpo da requisição (text/csv)
+     * @return ResponseEntity com totais e erros por linha
+     */
+    @PostMapping(value = "/alunos/importacao", consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportacaoAlunosDTO> importarAlunosCsv(InputStream csv) {
+        try {
+            return ResponseEntity.ok(importacaoAlunoService.importarCsv(csv));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Importa alunos em lote a partir de um array JSON no formato do cadastro individual.
+     * 
+     * @param json Corpo da requisição (application/json)
+     * @return ResponseEntity com totais e erros por item
+     */
+    @PostMapping(value = "/alunos/importacao", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportacaoAlunosDTO> importarAlunosJson(InputStream json) {
+        try {
+            return ResponseEntity.ok(importacaoAlunoService.importarJson(json));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
     /**
      * Lista todos os alunos cadastrados.
      * 
@@ -6,12 +6,14 @@ import com.superfit.superfitapp.dto.aluno.AlunoUpdateDTO;
 import com.superfit.superfitapp.dto.treino.TreinoResponseDTO;
 import com.superfit.superfitapp.service.AlunoService;
 import com.superfit.superfitapp.service.TreinoService;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Controller REST para gerenciamento de Alunos.
@@ -26,6 +28,9 @@ import java.util.List;
 @RequestMapping("/api/alunos")
 public class AlunoController {
 
+    private static final Sort ORDENACAO_PADRAO = Sort.by("id");
+    private static final Set<String> CAMPOS_ORDENAVEIS = Set.of("id", "nome", "email");
+
     private final AlunoService alunoService;
     private final TreinoService treinoService;
 
@@ -62,12 +67,26 @@ public class AlunoController {
      * - ADMIN/GESTOR: retorna todos os alunos
      * - PROFESSOR: retorna apenas seus alunos (filtro aplicado no service)
      * 
-     * @return ResponseEntity com lista de alunos
+     * Paginação: ?pagina=&tamanho=&ordenar=campo,asc|desc ou, por cursor, ?aposId=&tamanho=
+     * (ver {@link Paginacao}). Sem parâmetros retorna a primeira página.
+     * Campos ordenáveis: id, nome, email.
+     * 
+     * @return ResponseEntity com a página de alunos
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','GESTOR','PROFESSOR')")
-    public ResponseEntity<List<AlunoResponseDTO>> listar() {
-        return ResponseEntity.ok(alunoService.listar());
+    public ResponseEntity<List<AlunoResponseDTO>> listar(
+            @RequestParam(required = false) Integer pagina,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(required = false) String ordenar,
+            @RequestParam(required = false) Long aposId
+    ) {
+        if (aposId != null) {
+            int limite = Paginacao.tamanho(tamanho);
+            return Paginacao.respostaCursor(alunoService.listarAposId(aposId, limite), limite, AlunoResponseDTO::getId);
+        }
+        return Paginacao.resposta(alunoService.listar(
+                Paginacao.pageable(pagina, tamanho, ordenar, ORDENACAO_PADRAO, CAMPOS_ORDENAVEIS)));
     }
 
     /**
@@ -3,15 +3,19 @@ package com.superfit.superfitapp.controller;
 import com.superfit.superfitapp.dto.LoginRequest;
 import com.superfit.superfitapp.dto.LoginResponse;
 import com.superfit.superfitapp.service.AuthService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.web.bind.annotation.*;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Controller REST para autenticação de usuários.
@@ -21,6 +25,8 @@ import java.util.Objects;
 @RequestMapping("/auth")
 public class AuthController {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
     @Autowired
     private AuthService authService;
 
@@ -36,6 +42,9 @@ public class AuthController {
      * 3. Adiciona o cookie ao response header
      * 4. Retorna o token no corpo da resposta
      * 
+     * Se o pool de hash de senhas estiver saturado, responde 503 com Retry-After
+     * em vez de enfileirar mais logins.
+     * 
      * Configurações do cookie:
      * - httpOnly: true (não acessível via JavaScript)
      * - secure: configurável via application.properties (true em produção HTTPS)
@@ -49,12 +58,19 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request, HttpServletResponse response) {
 
-        String token = Objects.requireNonNull(
-            authService.login(request),
-            "Token não pode ser nulo"
-        );
+        String token;
+        try {
+            token = Objects.requireNonNull(
+                authService.login(request),
+                "Token não pode ser nulo"
+            );
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
 
-        System.out.println("🔐 [Auth] Login bem-sucedido | Cookie Secure: " + cookieSecure);
+        log.debug("Login bem-sucedido | cookieSecure={}", cookieSecure);
 
         // Criar um cookie seguro com o token JWT
         ResponseCookie cookie = ResponseCookie
@@ -5,18 +5,23 @@ import com.superfit.superfitapp.dto.despesa.DespesaResponseDTO;
 import com.superfit.superfitapp.dto.despesa.DespesaUpdateDTO;
 import com.superfit.superfitapp.model.CategoriaDespesa;
 import com.superfit.superfitapp.service.DespesaService;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/despesas")
 public class DespesaController {
 
+    private static final Sort ORDENACAO_PADRAO = Sort.by("id");
+    private static final Set<String> CAMPOS_ORDENAVEIS = Set.of("id", "dataDespesa", "valor", "descricao", "categoria");
+
     private final DespesaService despesaService;
 
     public DespesaController(DespesaService despesaService) {
@@ -38,14 +43,27 @@ public class DespesaController {
     }
 
     /**
-     * Listar todas as despesas
+     * Listar despesas
      * Acesso: ADMIN / GESTOR
-        * Retorna a coleção completa de despesas em DTO.
+        * Retorna uma página de despesas em DTO.
+     * Paginação: ?pagina=&tamanho=&ordenar=campo,asc|desc ou, por cursor, ?aposId=&tamanho=
+     * (ver {@link Paginacao}). Sem parâmetros retorna a primeira página.
+     * Campos ordenáveis: id, dataDespesa, valor, descricao, categoria.
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','GESTOR')")
-    public ResponseEntity<List<DespesaResponseDTO>> listar() {
-        return ResponseEntity.ok(despesaService.listar());
+    public ResponseEntity<List<DespesaResponseDTO>> listar(
+            @RequestParam(required = false) Integer pagina,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(required = false) String ordenar,
+            @RequestParam(required = false) Long aposId
+    ) {
+        if (aposId != null) {
+            int limite = Paginacao.tamanho(tamanho);
+            return Paginacao.respostaCursor(despesaService.listarAposId(aposId, limite), limite, DespesaResponseDTO::getId);
+        }
+        return Paginacao.resposta(despesaService.listar(
+                Paginacao.pageable(pagina, tamanho, ordenar, ORDENACAO_PADRAO, CAMPOS_ORDENAVEIS)));
     }
 
     /**
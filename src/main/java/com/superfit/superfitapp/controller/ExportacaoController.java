@@ -0,0 +1,115 @@
+package com.superfit.superfitapp.controller;
+
+import com.superfit.superfitapp.service.ExportacaoService;
+import com.superfit.superfitapp.service.FormatoExportacao;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.function.BiConsumer;
+
+/**
+ * Controller REST das exportações (download de CSV/XLSX).
+ * Acesso restrito: apenas ADMIN ou GESTOR.
+ * 
+ * A resposta é um StreamingResponseBody: o arquivo é escrito direto no corpo da resposta,
+ * em uma thread assíncrona, à medida que as linhas são lidas do banco. O formato é escolhido
+ * por ?formato=csv|xlsx (padrão csv).
+ */
+@RestController
+@RequestMapping("/api/exportacoes")
+public class ExportacaoController {
+
+    private final ExportacaoService exportacaoService;
+
+    public ExportacaoController(ExportacaoService exportacaoService) {
+        this.exportacaoService = exportacaoService;
+    }
+
+    /**
+     * Exporta todas as mensalidades.
+     * 
+     * @param formato csv ou xlsx
+     * @return Arquivo mensalidades-AAAA-MM-DD.(csv|xlsx); 400 para formato inválido
+     */
+    @GetMapping("/mensalidades")
+    @PreAuthorize("hasAnyRole('ADMIN','GESTOR')")
+    public ResponseEntity<StreamingResponseBody> exportarMensalidades(
+            @RequestParam(defaultValue = "csv") String formato
+    ) {
+        return arquivo("mensalidades", formato, exportacaoService::exportarMensalidades);
+    }
+
+    /**
+     * Exporta todas as despesas.
+     * 
+     * @param formato csv ou xlsx
+     * @return Arquivo despesas-AAAA-MM-DD.(csv|xlsx); 400 para formato inválido
+     */
+    @GetMapping("/despesas")
+    @PreAuthorize("hasAnyRole('ADMIN','GESTOR')")
+    public ResponseEntity<StreamingResponseBody> exportarDespesas(
+            @RequestParam(defaultValue = "csv") String formato
+    ) {
+        return arquivo("despesas", formato, exportacaoService::exportarDespesas);
+    }
+
+    /**
+     * Exporta o relatório de inadimplência (uma linha por aluno).
+     * 
+     * @param formato csv ou xlsx
+     * @return Arquivo inadimplencia-AAAA-MM-DD.(csv|xlsx); 400 para formato inválido
+     */
+    @GetMapping("/relatorios/inadimplencia")
+    @PreAuthorize("hasAnyRole('ADMIN','GESTOR')")
+    public ResponseEntity<StreamingResponseBody> exportarInadimplencia(
+            @RequestParam(defaultValue = "csv") String formato
+    ) {
+        return arquivo("inadimplencia", formato, exportacaoService::exportarInadimplencia);
+    }
+
+    /**
+     * Exporta o relatório de alunos ativos.
+     * 
+     * @param formato csv ou xlsx
+     * @return Arquivo alunos-ativos-AAAA-MM-DD.(csv|xlsx); 400 para formato inválido
+     */
+    @GetMapping("/relatorios/alunos-ativos")
+    @PreAuthorize("hasAnyRole('ADMIN','GESTOR')")
+    public ResponseEntity<StreamingResponseBody> exportarAlunosAtivos(
+            @RequestParam(defaultValue = "csv") String formato
+    ) {
+        return arquivo("alunos-ativos", formato, exportacaoService::exportarAlunosAtivos);
+    }
+
+    private ResponseEntity<StreamingResponseBody> arquivo(
+            String nome, String formato, BiConsumer<FormatoExportacao, OutputStream> exportacao
+    ) {
+        FormatoExportacao formatoExportacao;
+        try {
+            formatoExportacao = FormatoExportacao.de(formato);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        String nomeArquivo = nome + "-" + LocalDate.now() + "." + formatoExportacao.getExtensao();
+        StreamingResponseBody corpo = saida -> exportacao.accept(formatoExportacao, saida);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(nomeArquivo).build().toString())
+                .contentType(MediaType.parseMediaType(formatoExportacao.getContentType()))
+                .body(corpo);
+    }
+}
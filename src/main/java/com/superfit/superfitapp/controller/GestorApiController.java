@@ -0,0 +1,36 @@
+package com.superfit.superfitapp.controller;
+
+import com.superfit.superfitapp.dto.gestor.DashboardGestorDTO;
+import com.superfit.superfitapp.service.DashboardGestorService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller REST do painel do GESTOR.
+ */
+@RestController
+@RequestMapping("/api/gestor")
+public class GestorApiController {
+
+    private final DashboardGestorService dashboardGestorService;
+
+    public GestorApiController(DashboardGestorService dashboardGestorService) {
+        this.dashboardGestorService = dashboardGestorService;
+    }
+
+    /**
+     * Resumo da página inicial do gestor em uma única requisição
+     * Acesso: ADMIN / GESTOR
+     *
+     * Totais de alunos, professores e mensalidades em aberto, receita do mês,
+     * alunos recentes e mensalidades com vencimento mais antigo.
+     */
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasAnyRole('ADMIN','GESTOR')")
+    public ResponseEntity<DashboardGestorDTO> dashboard() {
+        return ResponseEntity.ok(dashboardGestorService.obterDashboard());
+    }
+}
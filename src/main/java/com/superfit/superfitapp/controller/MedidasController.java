@@ -5,12 +5,14 @@ import com.superfit.superfitapp.dto.medidas.MedidasCreateDTO;
 import com.superfit.superfitapp.dto.medidas.MedidasResponseDTO;
 import com.superfit.superfitapp.dto.medidas.MedidasUpdateDTO;
 import com.superfit.superfitapp.service.MedidasService;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Controller REST para gerenciamento de Medidas corporais dos alunos.
@@ -24,6 +26,9 @@ import java.util.List;
 @RequestMapping("/api/medidas")
 public class MedidasController {
 
+    private static final Sort ORDENACAO_PADRAO = Sort.by(Sort.Direction.DESC, "data", "id");
+    private static final Set<String> CAMPOS_ORDENAVEIS = Set.of("id", "data");
+
     private final MedidasService medidasService;
 
     public MedidasController(MedidasService medidasService) {
@@ -55,37 +60,68 @@ public class MedidasController {
      * - PROFESSOR: retorna medidas de todos os seus alunos
      * - ALUNO: retorna apenas suas próprias medidas
      * 
-     * @return ResponseEntity com lista de medidas
+     * Paginação: ?pagina=&tamanho=&ordenar=campo,asc|desc ou, por cursor, ?aposId=&tamanho=
+     * (ver {@link Paginacao}). Sem parâmetros retorna a primeira página.
+     * Ordenação padrão: data decrescente. Campos ordenáveis: id, data.
+     * 
+     * @return ResponseEntity com a página de medidas
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('PROFESSOR', 'ALUNO')")
-    public ResponseEntity<List<MedidasResponseDTO>> listar() {
-        return ResponseEntity.ok(medidasService.listarTodas());
+    public ResponseEntity<List<MedidasResponseDTO>> listar(
+            @RequestParam(required = false) Integer pagina,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(required = false) String ordenar,
+            @RequestParam(required = false) Long aposId
+    ) {
+        return listarPaginado(pagina, tamanho, ordenar, aposId);
     }
 
     /**
      * Lista medidas recentes registradas pelo professor.
      * Acesso restrito: apenas PROFESSOR.
+     * Primeira página ordenada por data decrescente (mesmos parâmetros de paginação de GET /api/medidas).
      * 
      * @return ResponseEntity com lista de medidas recentes
      */
     @GetMapping("/professor/recentes")
     @PreAuthorize("hasRole('PROFESSOR')")
-    public ResponseEntity<List<MedidasResponseDTO>> listarRecentesProfessor() {
-        return ResponseEntity.ok(medidasService.listarTodas());
+    public ResponseEntity<List<MedidasResponseDTO>> listarRecentesProfessor(
+            @RequestParam(required = false) Integer pagina,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(required = false) String ordenar,
+            @RequestParam(required = false) Long aposId
+    ) {
+        return listarPaginado(pagina, tamanho, ordenar, aposId);
     }
 
     /**
-     * Lista o histórico completo de medidas do aluno autenticado.
+     * Lista o histórico de medidas do aluno autenticado.
      * Acesso restrito: apenas ALUNO.
-     * Retorna todas as medidas do próprio aluno ordenadas por data (mais recente primeiro).
+     * Retorna as medidas do próprio aluno ordenadas por data (mais recente primeiro), paginadas
+     * como GET /api/medidas; {@code limite} é aceito como sinônimo de {@code tamanho}.
      * 
      * @return ResponseEntity com lista de medidas do aluno autenticado
      */
     @GetMapping("/meu-historico")
     @PreAuthorize("hasRole('ALUNO')")
-    public ResponseEntity<List<MedidasResponseDTO>> buscarMeuHistorico() {
-        return ResponseEntity.ok(medidasService.listarTodas());
+    public ResponseEntity<List<MedidasResponseDTO>> buscarMeuHistorico(
+            @RequestParam(required = false) Integer pagina,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(required = false) String ordenar,
+            @RequestParam(required = false) Long aposId,
+            @RequestParam(required = false) Integer limite
+    ) {
+        return listarPaginado(pagina, tamanho != null ? tamanho : limite, ordenar, aposId);
+    }
+
+    private ResponseEntity<List<MedidasResponseDTO>> listarPaginado(Integer pagina, Integer tamanho, String ordenar, Long aposId) {
+        if (aposId != null) {
+            int limite = Paginacao.tamanho(tamanho);
+            return Paginacao.respostaCursor(medidasService.listarTodasAposId(aposId, limite), limite, MedidasResponseDTO::getId);
+        }
+        return Paginacao.resposta(medidasService.listarTodas(
+                Paginacao.pageable(pagina, tamanho, ordenar, ORDENACAO_PADRAO, CAMPOS_ORDENAVEIS)));
     }
 
     /**
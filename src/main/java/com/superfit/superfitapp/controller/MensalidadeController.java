@@ -1,16 +1,26 @@
 package com.superfit.superfitapp.controller;
 
+import com.superfit.superfitapp.dto.mensalidade.CobrancaMensalDTO;
 import com.superfit.superfitapp.dto.mensalidade.MensalidadeCreateDTO;
 import com.superfit.superfitapp.dto.mensalidade.MensalidadeResponseDTO;
 import com.superfit.superfitapp.dto.mensalidade.MensalidadeUpdateDTO;
+import com.superfit.superfitapp.dto.mensalidade.VarreduraAtrasosDTO;
 import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.service.CobrancaMensalService;
+import com.superfit.superfitapp.service.InadimplenciaService;
 import com.superfit.superfitapp.service.MensalidadeService;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.Set;
 
 /**
  * Controller REST para gerenciamento de Mensalidades dos alunos.
@@ -24,10 +34,18 @@ import java.util.List;
 @RequestMapping("/api/mensalidades")
 public class MensalidadeController {
 
+    private static final Sort ORDENACAO_PADRAO = Sort.by("id");
+    private static final Set<String> CAMPOS_ORDENAVEIS = Set.of("id", "dataVencimento", "dataPagamento", "valor", "status");
+
     private final MensalidadeService mensalidadeService;
+    private final CobrancaMensalService cobrancaMensalService;
+    private final InadimplenciaService inadimplenciaService;
 
-    public MensalidadeController(MensalidadeService mensalidadeService) {
+    public MensalidadeController(MensalidadeService mensalidadeService, CobrancaMensalService cobrancaMensalService,
+                                 InadimplenciaService inadimplenciaService) {
         this.mensalidadeService = mensalidadeService;
+        this.cobrancaMensalService = cobrancaMensalService;
+        this.inadimplenciaService = inadimplenciaService;
     }
 
     /**
@@ -48,15 +66,102 @@ public class MensalidadeController {
     }
 
     /**
-     * Lista todas as mensalidades cadastradas no sistema.
+     * Gera as mensalidades do mês para todos os alunos ativos (cobrança mensal).
+     * Acesso restrito: apenas ADMIN ou GESTOR.
+     * Idempotente: alunos que já têm mensalidade no mês de referência são ignorados.
+     * 
+     * @param mes Mês de referência (1 a 12)
+     * @param ano Ano de referência
+     * @param valor Valor de cada mensalidade
+     * @param diaVencimento Dia do vencimento (padrão 10)
+     * @return ResponseEntity com o resultado; 400 para parâmetros inválidos, 409 se já houver cobrança em andamento
+     */
+    @PostMapping("/cobranca")
+    @PreAuthorize("hasAnyRole('ADMIN','GESTOR')")
+    public ResponseEntity<CobrancaMensalDTO> gerarCobranca(
+            @RequestParam int mes,
+            @RequestParam int ano,
+            @RequestParam Double valor,
+            @RequestParam(defaultValue = "10") int diaVencimento
+    ) {
+        try {
+            return ResponseEntity.ok(cobrancaMensalService.gerar(mes, ano, valor, diaVencimento));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Progresso da cobrança em andamento ou resultado da última execução.
+     * Acesso restrito: apenas ADMIN ou GESTOR.
+     * 
+     * @return ResponseEntity com o progresso ou 204 se nenhuma cobrança foi executada
+     */
+    @GetMapping("/cobranca")
+    @PreAuthorize("hasAnyRole('ADMIN','GESTOR')")
+    public ResponseEntity<CobrancaMensalDTO> progressoCobranca() {
+        return cobrancaMensalService.ultimaExecucao()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Marca como ATRASADA as mensalidades pendentes vencidas e atualiza o resumo de inadimplência.
      * Acesso restrito: apenas ADMIN ou GESTOR.
+     * A mesma varredura roda diariamente (app.inadimplencia.cron).
      * 
-     * @return ResponseEntity com lista de todas as mensalidades
+     * @return ResponseEntity com o resultado; 409 se já houver varredura em andamento
+     */
+    @PostMapping("/atrasos")
+    @PreAuthorize("hasAnyRole('ADMIN','GESTOR')")
+    public ResponseEntity<VarreduraAtrasosDTO> atualizarAtrasos() {
+        try {
+            return ResponseEntity.ok(inadimplenciaService.atualizarAtrasos(LocalDate.now()));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Resultado da última varredura de atrasos.
+     * Acesso restrito: apenas ADMIN ou GESTOR.
+     * 
+     * @return ResponseEntity com o resultado ou 204 se nenhuma varredura foi executada
+     */
+    @GetMapping("/atrasos")
+    @PreAuthorize("hasAnyRole('ADMIN','GESTOR')")
+    public ResponseEntity<VarreduraAtrasosDTO> ultimaVarreduraAtrasos() {
+        return inadimplenciaService.ultimaExecucao()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Lista as mensalidades cadastradas no sistema.
+     * Acesso restrito: apenas ADMIN ou GESTOR.
+     * 
+     * Paginação: ?pagina=&tamanho=&ordenar=campo,asc|desc ou, por cursor, ?aposId=&tamanho=
+     * (ver {@link Paginacao}). Sem parâmetros retorna a primeira página.
+     * Campos ordenáveis: id, dataVencimento, dataPagamento, valor, status.
+     * 
+     * @return ResponseEntity com a página de mensalidades
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','GESTOR')")
-    public ResponseEntity<List<MensalidadeResponseDTO>> listar() {
-        return ResponseEntity.ok(mensalidadeService.listar());
+    public ResponseEntity<List<MensalidadeResponseDTO>> listar(
+            @RequestParam(required = false) Integer pagina,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(required = false) String ordenar,
+            @RequestParam(required = false) Long aposId
+    ) {
+        if (aposId != null) {
+            int limite = Paginacao.tamanho(tamanho);
+            return Paginacao.respostaCursor(mensalidadeService.listarAposId(aposId, limite), limite, MensalidadeResponseDTO::getId);
+        }
+        return Paginacao.resposta(mensalidadeService.listar(
+                Paginacao.pageable(pagina, tamanho, ordenar, ORDENACAO_PADRAO, CAMPOS_ORDENAVEIS)));
     }
 
     /**
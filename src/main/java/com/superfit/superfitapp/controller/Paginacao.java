@@ -0,0 +1,125 @@
+package com.superfit.superfitapp.controller;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Parâmetros e cabeçalhos de paginação compartilhados pelos endpoints de listagem.
+ *
+ * Dois modos, sempre com corpo em lista JSON (compatível com os clientes existentes):
+ * - Página: ?pagina=0&tamanho=50&ordenar=nome,desc
+ *   Cabeçalhos: X-Total-Count e Link (first, prev, next, last)
+ * - Cursor (keyset): ?aposId=0&tamanho=50, ordenado por ID
+ *   Cabeçalhos: X-Proximo-Cursor e Link (next) enquanto houver itens
+ *
+ * Sem parâmetros, retorna a primeira página com o tamanho padrão.
+ */
+final class Paginacao {
+
+    static final int TAMANHO_PADRAO = 50;
+    static final int TAMANHO_MAXIMO = 500;
+
+    private Paginacao() {
+    }
+
+    /**
+     * Normaliza o tamanho de página solicitado para o intervalo [1, TAMANHO_MAXIMO].
+     */
+    static int tamanho(Integer tamanho) {
+        if (tamanho == null) {
+            return TAMANHO_PADRAO;
+        }
+        return Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO));
+    }
+
+    /**
+     * Monta o Pageable a partir dos parâmetros da requisição.
+     * A ordenação aceita apenas campos da lista permitida e é sempre desempatada por ID,
+     * para que a mesma página retorne sempre os mesmos registros.
+     *
+     * @param pagina Número da página (0 = primeira)
+     * @param tamanho Tamanho da página
+     * @param ordenar Campo e direção no formato "campo" ou "campo,asc|desc"
+     * @param padrao Ordenação usada quando {@code ordenar} não é informado
+     * @param camposPermitidos Campos aceitos em {@code ordenar}
+     * @throws ResponseStatusException 400 se o campo de ordenação não for permitido
+     */
+    static Pageable pageable(Integer pagina, Integer tamanho, String ordenar, Sort padrao, Set<String> camposPermitidos) {
+        Sort sort = padrao;
+        if (ordenar != null && !ordenar.isBlank()) {
+            String[] partes = ordenar.split(",");
+            String campo = partes[0].trim();
+            if (!camposPermitidos.contains(campo)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Campo de ordenação inválido: " + campo + ". Permitidos: " + camposPermitidos);
+            }
+            boolean desc = partes.length > 1 && "desc".equalsIgnoreCase(partes[1].trim());
+            sort = Sort.by(desc ? Sort.Direction.DESC : Sort.Direction.ASC, campo);
+        }
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by("id"));
+        }
+        return PageRequest.of(pagina != null ? Math.max(pagina, 0) : 0, tamanho(tamanho), sort);
+    }
+
+    /**
+     * Resposta de uma página: corpo com os itens e cabeçalhos X-Total-Count e Link.
+     */
+    static <T> ResponseEntity<List<T>> resposta(Page<T> page) {
+        List<String> links = new ArrayList<>();
+        int ultima = Math.max(page.getTotalPages() - 1, 0);
+        links.add(link(linkPagina(0), "first"));
+        if (page.hasPrevious()) {
+            links.add(link(linkPagina(page.getNumber() - 1), "prev"));
+        }
+        if (page.hasNext()) {
+            links.add(link(linkPagina(page.getNumber() + 1), "next"));
+        }
+        links.add(link(linkPagina(ultima), "last"));
+
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(page.getTotalElements()))
+                .header("Link", String.join(", ", links))
+                .body(page.getContent());
+    }
+
+    /**
+     * Resposta por cursor: quando a lista veio cheia, informa o próximo cursor
+     * (último ID retornado) em X-Proximo-Cursor e no Link rel="next".
+     */
+    static <T> ResponseEntity<List<T>> respostaCursor(List<T> itens, int tamanho, Function<T, Long> id) {
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (!itens.isEmpty() && itens.size() >= tamanho) {
+            Long proximo = id.apply(itens.get(itens.size() - 1));
+            String url = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("aposId", proximo)
+                    .replaceQueryParam("tamanho", tamanho)
+                    .replaceQueryParam("pagina")
+                    .toUriString();
+            resposta.header("X-Proximo-Cursor", String.valueOf(proximo))
+                    .header("Link", link(url, "next"));
+        }
+        return resposta.body(itens);
+    }
+
+    private static String linkPagina(int pagina) {
+        return ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("pagina", pagina)
+                .toUriString();
+    }
+
+    private static String link(String url, String rel) {
+        return "<" + url + ">; rel=\"" + rel + "\"";
+    }
+}
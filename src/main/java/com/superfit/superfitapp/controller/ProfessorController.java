@@ -4,12 +4,14 @@ import com.superfit.superfitapp.dto.professor.ProfessorCreateDTO;
 import com.superfit.superfitapp.dto.professor.ProfessorResponseDTO;
 import com.superfit.superfitapp.dto.professor.ProfessorUpdateDTO;
 import com.superfit.superfitapp.service.ProfessorService;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Controller REST para gerenciamento de Professores.
@@ -23,6 +25,9 @@ import java.util.List;
 @RequestMapping("/api/professores")
 public class ProfessorController {
 
+    private static final Sort ORDENACAO_PADRAO = Sort.by("id");
+    private static final Set<String> CAMPOS_ORDENAVEIS = Set.of("id", "nome", "email");
+
     private final ProfessorService professorService;
 
     public ProfessorController(ProfessorService professorService) {
@@ -46,15 +51,29 @@ public class ProfessorController {
     }
 
     /**
-     * Lista todos os professores cadastrados.
+     * Lista os professores cadastrados.
      * Acesso restrito: apenas ADMIN ou GESTOR.
      * 
-     * @return ResponseEntity com lista de todos os professores
+     * Paginação: ?pagina=&tamanho=&ordenar=campo,asc|desc ou, por cursor, ?aposId=&tamanho=
+     * (ver {@link Paginacao}). Sem parâmetros retorna a primeira página.
+     * Campos ordenáveis: id, nome, email.
+     * 
+     * @return ResponseEntity com a página de professores
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','GESTOR')")
-    public ResponseEntity<List<ProfessorResponseDTO>> listarTodos() {
-        return ResponseEntity.ok(professorService.listarTodos());
+    public ResponseEntity<List<ProfessorResponseDTO>> listarTodos(
+            @RequestParam(required = false) Integer pagina,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(required = false) String ordenar,
+            @RequestParam(required = false) Long aposId
+    ) {
+        if (aposId != null) {
+            int limite = Paginacao.tamanho(tamanho);
+            return Paginacao.respostaCursor(professorService.listarTodosAposId(aposId, limite), limite, ProfessorResponseDTO::getId);
+        }
+        return Paginacao.resposta(professorService.listarTodos(
+                Paginacao.pageable(pagina, tamanho, ordenar, ORDENACAO_PADRAO, CAMPOS_ORDENAVEIS)));
     }
 
     /**
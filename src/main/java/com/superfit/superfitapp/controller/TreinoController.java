@@ -4,6 +4,8 @@ import com.superfit.superfitapp.dto.treino.TreinoCreateDTO;
 import com.superfit.superfitapp.dto.treino.TreinoResponseDTO;
 import com.superfit.superfitapp.dto.treino.TreinoUpdateDTO;
 import com.superfit.superfitapp.service.TreinoService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,6 +25,8 @@ import java.util.List;
 @RequestMapping("/api/treinos")
 public class TreinoController {
 
+    private static final Logger log = LoggerFactory.getLogger(TreinoController.class);
+
     private final TreinoService treinoService;
 
     public TreinoController(TreinoService treinoService) {
@@ -43,17 +47,16 @@ public class TreinoController {
             @RequestBody TreinoCreateDTO dto
     ) {
         try {
-            System.out.println("📥 Recebendo treino: " + dto.getNome());
-            System.out.println("   Tipo: " + dto.getTipo());
-            System.out.println("   Data Início: " + dto.getDataInicio());
-            System.out.println("   Aluno ID: " + dto.getAlunoId());
-            System.out.println("   Exercícios: " + (dto.getExercicios() != null ? dto.getExercicios().size() : 0));
+            if (log.isDebugEnabled()) {
+                log.debug("Recebendo treino | nome={} tipo={} dataInicio={} alunoId={} exercicios={}",
+                        dto.getNome(), dto.getTipo(), dto.getDataInicio(), dto.getAlunoId(),
+                        dto.getExercicios() != null ? dto.getExercicios().size() : 0);
+            }
             
             TreinoResponseDTO response = treinoService.criar(dto);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (Exception e) {
-            System.err.println("❌ Erro ao criar treino: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("Erro ao criar treino: {}", e.getMessage(), e);
             throw e;
         }
     }
@@ -0,0 +1,7 @@
+package com.superfit.superfitapp.dto.admin;
+
+public record ErroImportacaoDTO(
+        long linha,
+        String email,
+        String mensagem
+) {}
@@ -0,0 +1,9 @@
+package com.superfit.superfitapp.dto.admin;
+
+import java.util.List;
+
+public record ImportacaoAlunosDTO(
+        long totalLinhas,
+        long importados,
+        List<ErroImportacaoDTO> erros
+) {}
@@ -0,0 +1,16 @@
+package com.superfit.superfitapp.dto.gestor;
+
+import com.superfit.superfitapp.model.StatusMensalidade;
+
+/**
+ * Aluno cadastrado recentemente, com a situação das mensalidades:
+ * ATRASADA se houver alguma atrasada, PENDENTE se houver alguma pendente e PAGA caso contrário.
+ * Preenchido diretamente pela query (SELECT new ...).
+ */
+public record AlunoRecenteDTO(
+        Long id,
+        String nome,
+        String email,
+        Boolean ativo,
+        StatusMensalidade statusMensalidade
+) {}
@@ -0,0 +1,21 @@
+package com.superfit.superfitapp.dto.gestor;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Resumo exibido na página inicial do gestor (/api/gestor/dashboard).
+ * mensalidadesPendentes e valorEmAberto consideram as mensalidades PENDENTE e ATRASADA;
+ * receitaMes é a receita do livro-razão no mês corrente (mes).
+ */
+public record DashboardGestorDTO(
+        YearMonth mes,
+        long totalAlunos,
+        long totalProfessores,
+        long mensalidadesPendentes,
+        long mensalidadesAtrasadas,
+        double valorEmAberto,
+        double receitaMes,
+        List<AlunoRecenteDTO> alunosRecentes,
+        List<MensalidadeEmAbertoDTO> mensalidadesEmAberto
+) {}
@@ -0,0 +1,17 @@
+package com.superfit.superfitapp.dto.gestor;
+
+import com.superfit.superfitapp.model.StatusMensalidade;
+
+import java.time.LocalDate;
+
+/**
+ * Mensalidade PENDENTE ou ATRASADA, com o nome do aluno.
+ * Preenchida diretamente pela query (SELECT new ...).
+ */
+public record MensalidadeEmAbertoDTO(
+        Long id,
+        String alunoNome,
+        Double valor,
+        LocalDate dataVencimento,
+        StatusMensalidade status
+) {}
@@ -0,0 +1,19 @@
+package com.superfit.superfitapp.dto.mensalidade;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progresso/resultado de uma execução da cobrança mensal.
+ * Enquanto emAndamento for true, criadas e lotes refletem o último lote gravado.
+ */
+public record CobrancaMensalDTO(
+        String mesReferencia,
+        Integer anoReferencia,
+        long alunosAtivos,
+        long criadas,
+        long jaExistentes,
+        int lotes,
+        boolean emAndamento,
+        LocalDateTime iniciadaEm,
+        LocalDateTime concluidaEm
+) {}
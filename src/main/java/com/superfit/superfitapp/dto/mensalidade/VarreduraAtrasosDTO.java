@@ -0,0 +1,17 @@
+package com.superfit.superfitapp.dto.mensalidade;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Resultado de uma execução da varredura de atrasos.
+ * dataCorte é o primeiro dia não considerado vencido (mensalidades com vencimento anterior viram ATRASADA).
+ */
+public record VarreduraAtrasosDTO(
+        LocalDate dataCorte,
+        long mensalidadesAtrasadas,
+        long alunosAtualizados,
+        int lotes,
+        LocalDateTime iniciadaEm,
+        LocalDateTime concluidaEm
+) {}
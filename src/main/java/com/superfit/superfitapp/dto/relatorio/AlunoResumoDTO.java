@@ -0,0 +1,36 @@
+package com.superfit.superfitapp.dto.relatorio;
+
+/**
+ * Projeção leve de aluno usada em relatórios (apenas dados de contato).
+ * Preenchida diretamente pela query, sem carregar a entidade Aluno nem seus relacionamentos.
+ */
+public class AlunoResumoDTO {
+
+    private final Long id;
+    private final String nome;
+    private final String email;
+    private final String telefone;
+
+    public AlunoResumoDTO(Long id, String nome, String email, String telefone) {
+        this.id = id;
+        this.nome = nome;
+        this.email = email;
+        this.telefone = telefone;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getTelefone() {
+        return telefone;
+    }
+}
@@ -0,0 +1,36 @@
+package com.superfit.superfitapp.dto.relatorio;
+
+/**
+ * Projeção com a quantidade de alunos de cada professor.
+ * Professores sem alunos aparecem com quantidade zero (LEFT JOIN).
+ */
+public class AlunosPorProfessorDTO {
+
+    private final Long professorId;
+    private final String professorNome;
+    private final String professorEmail;
+    private final Long quantidadeAlunos;
+
+    public AlunosPorProfessorDTO(Long professorId, String professorNome, String professorEmail, Long quantidadeAlunos) {
+        this.professorId = professorId;
+        this.professorNome = professorNome;
+        this.professorEmail = professorEmail;
+        this.quantidadeAlunos = quantidadeAlunos;
+    }
+
+    public Long getProfessorId() {
+        return professorId;
+    }
+
+    public String getProfessorNome() {
+        return professorNome;
+    }
+
+    public String getProfessorEmail() {
+        return professorEmail;
+    }
+
+    public Long getQuantidadeAlunos() {
+        return quantidadeAlunos;
+    }
+}
@@ -0,0 +1,42 @@
+package com.superfit.superfitapp.dto.relatorio;
+
+/**
+ * Despesas agregadas por ano/mês da despesa (total, pagas e pendentes).
+ * Usada para reconstruir o livro-razão mensal a partir das despesas.
+ */
+public class DespesaMensalDTO {
+
+    private final Integer ano;
+    private final Integer mes;
+    private final Double total;
+    private final Double pagas;
+    private final Double pendentes;
+
+    public DespesaMensalDTO(Integer ano, Integer mes, Double total, Double pagas, Double pendentes) {
+        this.ano = ano;
+        this.mes = mes;
+        this.total = total;
+        this.pagas = pagas;
+        this.pendentes = pendentes;
+    }
+
+    public Integer getAno() {
+        return ano;
+    }
+
+    public Integer getMes() {
+        return mes;
+    }
+
+    public Double getTotal() {
+        return total;
+    }
+
+    public Double getPagas() {
+        return pagas;
+    }
+
+    public Double getPendentes() {
+        return pendentes;
+    }
+}
@@ -0,0 +1,57 @@
+package com.superfit.superfitapp.dto.relatorio;
+
+import java.time.LocalDate;
+
+/**
+ * Linha do relatório de inadimplência: resumo de um aluno com os dados de contato.
+ * Preenchida pela query sobre inadimplencia_aluno, sem carregar mensalidades.
+ */
+public class InadimplenciaAlunoDTO {
+
+    private final Long alunoId;
+    private final String alunoNome;
+    private final String alunoEmail;
+    private final String alunoCelular;
+    private final Integer quantidadeMensalidades;
+    private final Double totalDevido;
+    private final LocalDate vencimentoMaisAntigo;
+
+    public InadimplenciaAlunoDTO(Long alunoId, String alunoNome, String alunoEmail, String alunoCelular,
+                                 Integer quantidadeMensalidades, Double totalDevido, LocalDate vencimentoMaisAntigo) {
+        this.alunoId = alunoId;
+        this.alunoNome = alunoNome;
+        this.alunoEmail = alunoEmail;
+        this.alunoCelular = alunoCelular;
+        this.quantidadeMensalidades = quantidadeMensalidades;
+        this.totalDevido = totalDevido;
+        this.vencimentoMaisAntigo = vencimentoMaisAntigo;
+    }
+
+    public Long getAlunoId() {
+        return alunoId;
+    }
+
+    public String getAlunoNome() {
+        return alunoNome;
+    }
+
+    public String getAlunoEmail() {
+        return alunoEmail;
+    }
+
+    public String getAlunoCelular() {
+        return alunoCelular;
+    }
+
+    public Integer getQuantidadeMensalidades() {
+        return quantidadeMensalidades;
+    }
+
+    public Double getTotalDevido() {
+        return totalDevido;
+    }
+
+    public LocalDate getVencimentoMaisAntigo() {
+        return vencimentoMaisAntigo;
+    }
+}
@@ -0,0 +1,30 @@
+package com.superfit.superfitapp.dto.relatorio;
+
+/**
+ * Receita (mensalidades pagas) agregada por ano/mês de pagamento.
+ * Usada para reconstruir o livro-razão mensal a partir das mensalidades.
+ */
+public class ReceitaMensalDTO {
+
+    private final Integer ano;
+    private final Integer mes;
+    private final Double total;
+
+    public ReceitaMensalDTO(Integer ano, Integer mes, Double total) {
+        this.ano = ano;
+        this.mes = mes;
+        this.total = total;
+    }
+
+    public Integer getAno() {
+        return ano;
+    }
+
+    public Integer getMes() {
+        return mes;
+    }
+
+    public Double getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,30 @@
+package com.superfit.superfitapp.dto.relatorio;
+
+/**
+ * Totais consolidados de inadimplência (quantidade de mensalidades, alunos distintos e valor devido).
+ * Calculados em uma única query agregada.
+ */
+public class ResumoInadimplenciaDTO {
+
+    private final Long quantidadeMensalidades;
+    private final Long quantidadeAlunos;
+    private final Double total;
+
+    public ResumoInadimplenciaDTO(Long quantidadeMensalidades, Long quantidadeAlunos, Double total) {
+        this.quantidadeMensalidades = quantidadeMensalidades;
+        this.quantidadeAlunos = quantidadeAlunos;
+        this.total = total;
+    }
+
+    public Long getQuantidadeMensalidades() {
+        return quantidadeMensalidades;
+    }
+
+    public Long getQuantidadeAlunos() {
+        return quantidadeAlunos;
+    }
+
+    public Double getTotal() {
+        return total;
+    }
+}
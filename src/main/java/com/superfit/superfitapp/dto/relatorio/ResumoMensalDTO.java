@@ -0,0 +1,57 @@
+package com.superfit.superfitapp.dto.relatorio;
+
+import java.time.YearMonth;
+
+/**
+ * Totais financeiros consolidados de um mês, lidos do livro-razão mensal.
+ */
+public class ResumoMensalDTO {
+
+    private final Integer ano;
+    private final Integer mes;
+    private final Double receitas;
+    private final Double despesasTotal;
+    private final Double despesasPagas;
+    private final Double despesasPendentes;
+
+    public ResumoMensalDTO(Integer ano, Integer mes, Double receitas, Double despesasTotal,
+                           Double despesasPagas, Double despesasPendentes) {
+        this.ano = ano;
+        this.mes = mes;
+        this.receitas = receitas;
+        this.despesasTotal = despesasTotal;
+        this.despesasPagas = despesasPagas;
+        this.despesasPendentes = despesasPendentes;
+    }
+
+    /**
+     * Resumo zerado para meses sem movimento.
+     */
+    public static ResumoMensalDTO vazio(YearMonth mes) {
+        return new ResumoMensalDTO(mes.getYear(), mes.getMonthValue(), 0.0, 0.0, 0.0, 0.0);
+    }
+
+    public Integer getAno() {
+        return ano;
+    }
+
+    public Integer getMes() {
+        return mes;
+    }
+
+    public Double getReceitas() {
+        return receitas;
+    }
+
+    public Double getDespesasTotal() {
+        return despesasTotal;
+    }
+
+    public Double getDespesasPagas() {
+        return despesasPagas;
+    }
+
+    public Double getDespesasPendentes() {
+        return despesasPendentes;
+    }
+}
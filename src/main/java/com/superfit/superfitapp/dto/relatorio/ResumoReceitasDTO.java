@@ -0,0 +1,23 @@
+package com.superfit.superfitapp.dto.relatorio;
+
+/**
+ * Soma e quantidade de mensalidades pagas em um período, calculadas em uma única consulta.
+ */
+public class ResumoReceitasDTO {
+
+    private final Long quantidadePagamentos;
+    private final Double total;
+
+    public ResumoReceitasDTO(Long quantidadePagamentos, Double total) {
+        this.quantidadePagamentos = quantidadePagamentos;
+        this.total = total;
+    }
+
+    public Long getQuantidadePagamentos() {
+        return quantidadePagamentos;
+    }
+
+    public Double getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,30 @@
+package com.superfit.superfitapp.dto.relatorio;
+
+/**
+ * Projeção agregada de despesas agrupadas pela situação de pagamento (paga / pendente).
+ * Preenchida diretamente pela query (SELECT new ...), sem carregar entidades.
+ */
+public class TotalPorSituacaoDespesaDTO {
+
+    private final Boolean paga;
+    private final Long quantidade;
+    private final Double total;
+
+    public TotalPorSituacaoDespesaDTO(Boolean paga, Long quantidade, Double total) {
+        this.paga = paga;
+        this.quantidade = quantidade;
+        this.total = total;
+    }
+
+    public Boolean getPaga() {
+        return paga;
+    }
+
+    public Long getQuantidade() {
+        return quantidade;
+    }
+
+    public Double getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,32 @@
+package com.superfit.superfitapp.dto.relatorio;
+
+import com.superfit.superfitapp.model.StatusMensalidade;
+
+/**
+ * Projeção agregada de mensalidades agrupadas por status.
+ * Preenchida diretamente pela query (SELECT new ...), sem carregar entidades.
+ */
+public class TotalPorStatusDTO {
+
+    private final StatusMensalidade status;
+    private final Long quantidade;
+    private final Double total;
+
+    public TotalPorStatusDTO(StatusMensalidade status, Long quantidade, Double total) {
+        this.status = status;
+        this.quantidade = quantidade;
+        this.total = total;
+    }
+
+    public StatusMensalidade getStatus() {
+        return status;
+    }
+
+    public Long getQuantidade() {
+        return quantidade;
+    }
+
+    public Double getTotal() {
+        return total;
+    }
+}
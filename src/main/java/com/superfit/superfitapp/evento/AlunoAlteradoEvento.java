@@ -0,0 +1,9 @@
+package com.superfit.superfitapp.evento;
+
+/**
+ * Publicado quando alunos são cadastrados, alterados ou removidos.
+ *
+ * @param alunoId Aluno alterado, ou null quando a alteração atinge vários alunos (importação em lote)
+ */
+public record AlunoAlteradoEvento(Long alunoId) {
+}
@@ -0,0 +1,12 @@
+package com.superfit.superfitapp.evento;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Publicado quando uma despesa é criada, alterada ou removida.
+ *
+ * @param datasDespesa Datas da despesa antes e depois da alteração (mês em que ela é contabilizada)
+ */
+public record DespesaAlteradaEvento(Set<LocalDate> datasDespesa) {
+}
@@ -0,0 +1,19 @@
+package com.superfit.superfitapp.evento;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Publicado quando mensalidades são criadas, alteradas ou removidas.
+ *
+ * @param alunoId Aluno das mensalidades alteradas, ou null quando a alteração atinge vários alunos
+ *                (cobrança mensal, varredura de atrasos)
+ * @param datasPagamento Datas de pagamento contabilizadas antes e depois da alteração
+ *                       (vazio quando nenhuma receita mudou)
+ */
+public record MensalidadeAlteradaEvento(Long alunoId, Set<LocalDate> datasPagamento) {
+
+    public static MensalidadeAlteradaEvento emLote() {
+        return new MensalidadeAlteradaEvento(null, Set.of());
+    }
+}
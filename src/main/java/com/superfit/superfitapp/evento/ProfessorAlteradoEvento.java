@@ -0,0 +1,9 @@
+package com.superfit.superfitapp.evento;
+
+/**
+ * Publicado quando um professor é cadastrado, alterado ou removido.
+ *
+ * @param professorId Professor alterado
+ */
+public record ProfessorAlteradoEvento(Long professorId) {
+}
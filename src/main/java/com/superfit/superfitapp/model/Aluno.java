@@ -3,11 +3,21 @@ package com.superfit.superfitapp.model;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "alunos")
+@Table(
+        name = "alunos",
+        indexes = {
+                @Index(name = "idx_alunos_professor", columnList = "professor_id"),
+                @Index(name = "idx_alunos_ativo", columnList = "ativo")
+        }
+)
 public class Aluno {
 
+    /**
+     * ID por sequência (blocos de 50) para permitir INSERT em lote na importação de alunos
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alunos_seq")
+    @SequenceGenerator(name = "alunos_seq", sequenceName = "alunos_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -4,7 +4,14 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "despesas")
+@Table(
+        name = "despesas",
+        indexes = {
+                @Index(name = "idx_despesas_data", columnList = "data_despesa"),
+                @Index(name = "idx_despesas_paga_data", columnList = "paga, data_despesa"),
+                @Index(name = "idx_despesas_categoria_data", columnList = "categoria, data_despesa")
+        }
+)
 public class Despesa {
 
     @Id
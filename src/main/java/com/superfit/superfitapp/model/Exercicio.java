@@ -3,7 +3,10 @@ package com.superfit.superfitapp.model;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "exercicios")
+@Table(
+        name = "exercicios",
+        indexes = @Index(name = "idx_exercicios_treino", columnList = "treino_id")
+)
 public class Exercicio {
 
     @Id
@@ -0,0 +1,78 @@
+package com.superfit.superfitapp.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Resumo de inadimplência de um aluno (uma linha por aluno com mensalidades ATRASADA).
+ * Recalculado por aluno, em SQL, pela varredura de atrasos e pelas alterações de mensalidades,
+ * para que os relatórios de inadimplência sejam uma leitura desta tabela.
+ */
+@Entity
+@Table(name = "inadimplencia_aluno")
+public class InadimplenciaAluno {
+
+    @Id
+    @Column(name = "aluno_id")
+    private Long alunoId;
+
+    @Column(nullable = false)
+    private Integer quantidade;
+
+    @Column(name = "total_devido", nullable = false)
+    private Double totalDevido;
+
+    @Column(name = "vencimento_mais_antigo", nullable = false)
+    private LocalDate vencimentoMaisAntigo;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
+    /* ===== Constructors ===== */
+
+    public InadimplenciaAluno() {}
+
+    /* ===== Getters & Setters ===== */
+
+    public Long getAlunoId() {
+        return alunoId;
+    }
+
+    public void setAlunoId(Long alunoId) {
+        this.alunoId = alunoId;
+    }
+
+    public Integer getQuantidade() {
+        return quantidade;
+    }
+
+    public void setQuantidade(Integer quantidade) {
+        this.quantidade = quantidade;
+    }
+
+    public Double getTotalDevido() {
+        return totalDevido;
+    }
+
+    public void setTotalDevido(Double totalDevido) {
+        this.totalDevido = totalDevido;
+    }
+
+    public LocalDate getVencimentoMaisAntigo() {
+        return vencimentoMaisAntigo;
+    }
+
+    public void setVencimentoMaisAntigo(LocalDate vencimentoMaisAntigo) {
+        this.vencimentoMaisAntigo = vencimentoMaisAntigo;
+    }
+
+    public LocalDateTime getAtualizadoEm() {
+        return atualizadoEm;
+    }
+
+    public void setAtualizadoEm(LocalDateTime atualizadoEm) {
+        this.atualizadoEm = atualizadoEm;
+    }
+}
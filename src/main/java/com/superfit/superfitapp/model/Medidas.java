@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "medidas")
+@Table(
+        name = "medidas",
+        indexes = @Index(name = "idx_medidas_aluno_data", columnList = "aluno_id, data")
+)
 public class Medidas {
 
     @Id
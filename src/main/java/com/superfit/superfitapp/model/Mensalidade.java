@@ -2,13 +2,39 @@ package com.superfit.superfitapp.model;
 
 import jakarta.persistence.*;
 import java.time.LocalDate;
+import java.util.List;
 
 @Entity
-@Table(name = "mensalidades")
+@Table(
+        name = "mensalidades",
+        indexes = {
+                @Index(name = "idx_mensalidades_aluno_status", columnList = "aluno_id, status"),
+                @Index(name = "idx_mensalidades_aluno_vencimento", columnList = "aluno_id, data_vencimento"),
+                @Index(name = "idx_mensalidades_status_data_pagamento", columnList = "status, data_pagamento"),
+                @Index(name = "idx_mensalidades_vencimento", columnList = "data_vencimento"),
+                @Index(name = "idx_mensalidades_referencia", columnList = "ano_referencia, mes_referencia")
+        },
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_mensalidades_aluno_referencia",
+                columnNames = {"aluno_id", "mes_referencia", "ano_referencia"}
+        )
+)
 public class Mensalidade {
 
+    /**
+     * Nomes usados em mesReferencia (mesmos valores do formulário de mensalidades).
+     */
+    private static final List<String> MESES = List.of(
+            "Janeiro", "Fevereiro", "Março", "Abril", "Maio", "Junho",
+            "Julho", "Agosto", "Setembro", "Outubro", "Novembro", "Dezembro"
+    );
+
+    /**
+     * ID por sequência (blocos de 50) para permitir INSERT em lote na cobrança mensal
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mensalidades_seq")
+    @SequenceGenerator(name = "mensalidades_seq", sequenceName = "mensalidades_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -40,6 +66,14 @@ public class Mensalidade {
     @Column(name = "observacoes")
     private String observacoes;
 
+    /**
+     * @param mes Mês de 1 a 12
+     * @return Nome gravado em mesReferencia (ex: 3 = "Março")
+     */
+    public static String nomeDoMes(int mes) {
+        return MESES.get(mes - 1);
+    }
+
     /* ===== Constructors ===== */
 
     public Mensalidade() {
@@ -0,0 +1,105 @@
+package com.superfit.superfitapp.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Livro-razão mensal com os totais financeiros já consolidados (uma linha por ano/mês).
+ * Mantido de forma incremental pelos serviços de mensalidades e despesas, dentro da mesma
+ * transação da alteração, para que os relatórios mensais sejam uma simples leitura por chave.
+ */
+@Entity
+@Table(
+        name = "resumo_financeiro_mensal",
+        uniqueConstraints = @UniqueConstraint(name = "uk_resumo_financeiro_ano_mes", columnNames = {"ano", "mes"})
+)
+public class ResumoFinanceiroMensal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Integer ano;
+
+    @Column(nullable = false)
+    private Integer mes;
+
+    @Column(nullable = false)
+    private Double receitas = 0.0;
+
+    @Column(name = "despesas_total", nullable = false)
+    private Double despesasTotal = 0.0;
+
+    @Column(name = "despesas_pagas", nullable = false)
+    private Double despesasPagas = 0.0;
+
+    @Column(name = "despesas_pendentes", nullable = false)
+    private Double despesasPendentes = 0.0;
+
+    /* ===== Constructors ===== */
+
+    public ResumoFinanceiroMensal() {}
+
+    public ResumoFinanceiroMensal(Integer ano, Integer mes) {
+        this.ano = ano;
+        this.mes = mes;
+    }
+
+    /* ===== Getters & Setters ===== */
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getAno() {
+        return ano;
+    }
+
+    public void setAno(Integer ano) {
+        this.ano = ano;
+    }
+
+    public Integer getMes() {
+        return mes;
+    }
+
+    public void setMes(Integer mes) {
+        this.mes = mes;
+    }
+
+    public Double getReceitas() {
+        return receitas;
+    }
+
+    public void setReceitas(Double receitas) {
+        this.receitas = receitas;
+    }
+
+    public Double getDespesasTotal() {
+        return despesasTotal;
+    }
+
+    public void setDespesasTotal(Double despesasTotal) {
+        this.despesasTotal = despesasTotal;
+    }
+
+    public Double getDespesasPagas() {
+        return despesasPagas;
+    }
+
+    public void setDespesasPagas(Double despesasPagas) {
+        this.despesasPagas = despesasPagas;
+    }
+
+    public Double getDespesasPendentes() {
+        return despesasPendentes;
+    }
+
+    public void setDespesasPendentes(Double despesasPendentes) {
+        this.despesasPendentes = despesasPendentes;
+    }
+}
@@ -1,8 +1,16 @@
 package com.superfit.superfitapp.model;
 
+import java.util.Set;
+
 public enum StatusMensalidade {
     PAGA("Paga"),
-    PENDENTE("Pendente");
+    PENDENTE("Pendente"),
+    ATRASADA("Atrasada");
+
+    /**
+     * Status de mensalidades ainda não pagas (a vencer ou vencidas).
+     */
+    public static final Set<StatusMensalidade> EM_ABERTO = Set.of(PENDENTE, ATRASADA);
 
     private final String descricao;
 
@@ -6,7 +6,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "treinos")
+@Table(
+        name = "treinos",
+        indexes = {
+                @Index(name = "idx_treinos_professor", columnList = "professor_id"),
+                @Index(name = "idx_treinos_aluno", columnList = "aluno_id")
+        }
+)
 public class Treino {
 
     @Id
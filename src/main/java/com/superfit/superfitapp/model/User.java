@@ -6,8 +6,12 @@ import jakarta.persistence.*;
 @Table(name = "users")
 public class User {
 
+    /**
+     * ID por sequência (blocos de 50) para permitir INSERT em lote na importação de alunos
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
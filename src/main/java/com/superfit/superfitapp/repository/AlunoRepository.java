@@ -1,10 +1,25 @@
 package com.superfit.superfitapp.repository;
 
+import com.superfit.superfitapp.dto.aluno.AlunoResponseDTO;
+import com.superfit.superfitapp.dto.gestor.AlunoRecenteDTO;
+import com.superfit.superfitapp.dto.relatorio.AlunoResumoDTO;
+import com.superfit.superfitapp.dto.relatorio.AlunosPorProfessorDTO;
 import com.superfit.superfitapp.model.Aluno;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório JPA para a entidade Aluno.
@@ -13,24 +28,107 @@ import java.util.Optional;
  * Queries customizadas:
  * - findByEmail: Busca aluno por email
  * - existsByEmail: Verifica existência por email
+ * - buscarEmailsEmUso: Dentre os emails informados, os que já existem em users ou alunos
+ *   (validação da importação em lote com uma única consulta por lote)
+ * - listarIdsAtivosSemMensalidade: IDs (keyset, a partir de aposId) dos alunos ativos ainda sem
+ *   mensalidade no mês de referência; usada pela cobrança mensal
  * - existsByIdAndUserEmail: Valida se aluno pertence ao usuário autenticado
  * - existsByIdAndProfessorUserEmail: Valida se aluno pertence ao professor autenticado
  * - findByAtivo: Filtra alunos por status ativo/inativo
  * - findByNomeContainingIgnoreCase: Busca alunos por parte do nome (case-insensitive)
+ * - contarAlunosPorProfessor: Quantidade de alunos de cada professor em uma única query (GROUP BY professor_id),
+ *   incluindo professores sem alunos
+ * - findAlunosSemMensalidadeComStatus: Anti-join (NOT EXISTS) que lista alunos sem nenhuma mensalidade
+ *   nos status informados, retornando apenas os dados de contato; aceita paginação
+ * - streamAlunosSemMensalidadeComStatus: Mesmo anti-join em Stream (fetch size de 500 linhas), para exportação
+ * - listarRecentes: Últimos alunos cadastrados (maior ID primeiro) com a situação das mensalidades calculada
+ *   por EXISTS (índice aluno_id + status); usada no painel do gestor
+ *
+ * Projeções para leitura (AlunoResponseDTO via constructor expression, sem entidades gerenciadas):
+ * - listarDTO: Página de alunos com ordenação do Pageable
+ * - listarDTOAposId: Página por cursor (keyset) a partir do último ID recebido
+ * - buscarDTOPorId / buscarDTOPorEmail: Aluno por ID ou pelo email de cadastro
+ *
+ * findByProfessorId, cujas entidades são convertidas em DTO, carrega user e professor na mesma
+ * consulta via @EntityGraph, evitando uma query extra por aluno.
  */
 public interface AlunoRepository extends JpaRepository<Aluno, Long> {
 
+    String SELECT_DTO = "SELECT new com.superfit.superfitapp.dto.aluno.AlunoResponseDTO(" +
+                        "a.id, a.nome, COALESCE(u.email, a.email), a.telefone, a.ativo, p.id, p.nome) " +
+                        "FROM Aluno a LEFT JOIN a.user u LEFT JOIN a.professor p ";
+
     Optional<Aluno> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails " +
+           "UNION SELECT a.email FROM Aluno a WHERE a.email IN :emails")
+    List<String> buscarEmailsEmUso(@Param("emails") Collection<String> emails);
+
     boolean existsByIdAndUserEmail(Long id, String email);
 
     boolean existsByIdAndProfessorUserEmail(Long id, String email);
 
     List<Aluno> findByAtivo(Boolean ativo);
 
+    long countByAtivo(Boolean ativo);
+
+    @Query("SELECT a.id FROM Aluno a WHERE a.ativo = true AND a.id > :aposId AND NOT EXISTS (" +
+           "SELECT 1 FROM Mensalidade m WHERE m.aluno = a " +
+           "AND m.mesReferencia = :mesReferencia AND m.anoReferencia = :anoReferencia)")
+    List<Long> listarIdsAtivosSemMensalidade(
+            @Param("aposId") Long aposId,
+            @Param("mesReferencia") String mesReferencia,
+            @Param("anoReferencia") Integer anoReferencia,
+            Pageable pageable
+    );
+
     List<Aluno> findByNomeContainingIgnoreCase(String nome);
 
+    @EntityGraph(attributePaths = {"user", "professor"})
     List<Aluno> findByProfessorId(Long professorId);
+
+    @Query("SELECT new com.superfit.superfitapp.dto.relatorio.AlunosPorProfessorDTO(p.id, p.nome, p.email, COUNT(a.id)) " +
+           "FROM Professor p LEFT JOIN Aluno a ON a.professor = p " +
+           "GROUP BY p.id, p.nome, p.email ORDER BY p.nome")
+    List<AlunosPorProfessorDTO> contarAlunosPorProfessor();
+
+    @Query(value = "SELECT new com.superfit.superfitapp.dto.relatorio.AlunoResumoDTO(a.id, a.nome, a.email, a.telefone) " +
+                   "FROM Aluno a WHERE NOT EXISTS (" +
+                   "SELECT 1 FROM Mensalidade m WHERE m.aluno = a AND m.status IN :status) " +
+                   "ORDER BY a.nome, a.id",
+           countQuery = "SELECT COUNT(a) FROM Aluno a WHERE NOT EXISTS (" +
+                        "SELECT 1 FROM Mensalidade m WHERE m.aluno = a AND m.status IN :status)")
+    Page<AlunoResumoDTO> findAlunosSemMensalidadeComStatus(@Param("status") Collection<StatusMensalidade> status, Pageable pageable);
+
+    @Query("SELECT new com.superfit.superfitapp.dto.relatorio.AlunoResumoDTO(a.id, a.nome, a.email, a.telefone) " +
+           "FROM Aluno a WHERE NOT EXISTS (" +
+           "SELECT 1 FROM Mensalidade m WHERE m.aluno = a AND m.status IN :status) " +
+           "ORDER BY a.nome, a.id")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<AlunoResumoDTO> streamAlunosSemMensalidadeComStatus(@Param("status") Collection<StatusMensalidade> status);
+
+    @Query("SELECT new com.superfit.superfitapp.dto.gestor.AlunoRecenteDTO(a.id, a.nome, COALESCE(u.email, a.email), a.ativo, " +
+           "CASE WHEN EXISTS (SELECT 1 FROM Mensalidade m WHERE m.aluno = a " +
+           "AND m.status = com.superfit.superfitapp.model.StatusMensalidade.ATRASADA) " +
+           "THEN com.superfit.superfitapp.model.StatusMensalidade.ATRASADA " +
+           "WHEN EXISTS (SELECT 1 FROM Mensalidade m WHERE m.aluno = a " +
+           "AND m.status = com.superfit.superfitapp.model.StatusMensalidade.PENDENTE) " +
+           "THEN com.superfit.superfitapp.model.StatusMensalidade.PENDENTE " +
+           "ELSE com.superfit.superfitapp.model.StatusMensalidade.PAGA END) " +
+           "FROM Aluno a LEFT JOIN a.user u ORDER BY a.id DESC")
+    List<AlunoRecenteDTO> listarRecentes(Pageable pageable);
+
+    @Query(value = SELECT_DTO, countQuery = "SELECT COUNT(a) FROM Aluno a")
+    Page<AlunoResponseDTO> listarDTO(Pageable pageable);
+
+    @Query(SELECT_DTO + "WHERE a.id > :aposId")
+    List<AlunoResponseDTO> listarDTOAposId(@Param("aposId") Long aposId, Pageable pageable);
+
+    @Query(SELECT_DTO + "WHERE a.id = :id")
+    Optional<AlunoResponseDTO> buscarDTOPorId(@Param("id") Long id);
+
+    @Query(SELECT_DTO + "WHERE a.email = :email")
+    Optional<AlunoResponseDTO> buscarDTOPorEmail(@Param("email") String email);
 }
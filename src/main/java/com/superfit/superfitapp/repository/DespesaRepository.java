@@ -1,16 +1,40 @@
 package com.superfit.superfitapp.repository;
 
+import com.superfit.superfitapp.dto.despesa.DespesaResponseDTO;
+import com.superfit.superfitapp.dto.relatorio.DespesaMensalDTO;
+import com.superfit.superfitapp.dto.relatorio.TotalPorSituacaoDespesaDTO;
 import com.superfit.superfitapp.model.Despesa;
 import com.superfit.superfitapp.model.CategoriaDespesa;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Repositório JPA para a entidade Despesa.
+ *
+ * Consultas de leitura (listarDTO, listarDTOAposId, buscarDTOPorId, listarDTOPorPeriodo, listarDTOPorSituacao,
+ * listarDTOPorCategoria) projetam direto em DespesaResponseDTO via constructor expression: selecionam só as colunas
+ * do DTO e não colocam entidades no contexto de persistência.
+ *
+ * streamDTO devolve todas as despesas em Stream (cursor com fetch size de 500 linhas), para exportação;
+ * deve ser consumido dentro de uma transação e fechado ao final.
+ */
 public interface DespesaRepository extends JpaRepository<Despesa, Long> {
 
+    String SELECT_DTO = "SELECT new com.superfit.superfitapp.dto.despesa.DespesaResponseDTO(" +
+                        "d.id, d.descricao, d.valor, d.categoria, d.dataDespesa, d.dataPagamento, d.paga, d.observacoes, d.dataCriacao) " +
+                        "FROM Despesa d ";
+
     List<Despesa> findByDataDespesaBetween(LocalDate inicio, LocalDate fim);
 
     List<Despesa> findByCategoria(CategoriaDespesa categoria);
@@ -36,4 +60,35 @@ public interface DespesaRepository extends JpaRepository<Despesa, Long> {
                                             @Param("fim") LocalDate fim);
 
     long countByPaga(Boolean paga);
+
+    @Query("SELECT new com.superfit.superfitapp.dto.relatorio.TotalPorSituacaoDespesaDTO(d.paga, COUNT(d), COALESCE(SUM(d.valor), 0.0)) " +
+           "FROM Despesa d GROUP BY d.paga")
+    List<TotalPorSituacaoDespesaDTO> totalizarPorSituacao();
+
+    @Query("SELECT new com.superfit.superfitapp.dto.relatorio.DespesaMensalDTO(YEAR(d.dataDespesa), MONTH(d.dataDespesa), SUM(d.valor), " +
+           "SUM(CASE WHEN d.paga = true THEN d.valor ELSE 0.0 END), SUM(CASE WHEN d.paga = false THEN d.valor ELSE 0.0 END)) " +
+           "FROM Despesa d GROUP BY YEAR(d.dataDespesa), MONTH(d.dataDespesa)")
+    List<DespesaMensalDTO> totalizarDespesasPorMes();
+
+    @Query(value = SELECT_DTO, countQuery = "SELECT COUNT(d) FROM Despesa d")
+    Page<DespesaResponseDTO> listarDTO(Pageable pageable);
+
+    @Query(SELECT_DTO + "WHERE d.id > :aposId")
+    List<DespesaResponseDTO> listarDTOAposId(@Param("aposId") Long aposId, Pageable pageable);
+
+    @Query(SELECT_DTO + "WHERE d.id = :id")
+    Optional<DespesaResponseDTO> buscarDTOPorId(@Param("id") Long id);
+
+    @Query(SELECT_DTO + "WHERE d.dataDespesa BETWEEN :inicio AND :fim ORDER BY d.dataDespesa DESC, d.id")
+    List<DespesaResponseDTO> listarDTOPorPeriodo(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
+
+    @Query(SELECT_DTO + "WHERE d.paga = :paga ORDER BY d.dataDespesa, d.id")
+    List<DespesaResponseDTO> listarDTOPorSituacao(@Param("paga") Boolean paga);
+
+    @Query(SELECT_DTO + "WHERE d.categoria = :categoria ORDER BY d.dataDespesa DESC, d.id")
+    List<DespesaResponseDTO> listarDTOPorCategoria(@Param("categoria") CategoriaDespesa categoria);
+
+    @Query(SELECT_DTO + "ORDER BY d.id")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<DespesaResponseDTO> streamDTO();
 }
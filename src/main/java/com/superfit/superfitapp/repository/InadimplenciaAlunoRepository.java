@@ -0,0 +1,73 @@
+package com.superfit.superfitapp.repository;
+
+import com.superfit.superfitapp.dto.relatorio.InadimplenciaAlunoDTO;
+import com.superfit.superfitapp.dto.relatorio.ResumoInadimplenciaDTO;
+import com.superfit.superfitapp.model.InadimplenciaAluno;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repositório JPA para o resumo de inadimplência por aluno.
+ * 
+ * Queries customizadas:
+ * - resumir: Totais do relatório de inadimplência (mensalidades, alunos e valor devido) somando o resumo
+ * - listarDTO: Resumos com os dados de contato do aluno, do vencimento mais antigo para o mais recente
+ * - streamDTO: Mesma consulta em Stream (fetch size de 500 linhas), para exportação
+ * - buscarResumoPorAluno: Totais de um aluno (leitura por chave)
+ * - bloquearAlunos: Lock (SELECT ... FOR UPDATE, em ordem de ID) das linhas dos alunos em alunos, que
+ *   serializa recálculos simultâneos do mesmo aluno (ex: lote da varredura e pagamento manual)
+ * - removerPorAlunos / inserirPorAlunos: Recálculo de um conjunto de alunos; a inserção agrega as
+ *   mensalidades ATRASADA no próprio banco (INSERT ... SELECT ... GROUP BY aluno_id)
+ * 
+ * A remoção envia antes as alterações pendentes do contexto de persistência (flushAutomatically),
+ * para que o INSERT ... SELECT nativo enxergue o status atualizado das mensalidades.
+ */
+public interface InadimplenciaAlunoRepository extends JpaRepository<InadimplenciaAluno, Long> {
+
+    String SELECT_DTO = "SELECT new com.superfit.superfitapp.dto.relatorio.InadimplenciaAlunoDTO(" +
+                        "a.id, a.nome, a.email, a.telefone, i.quantidade, i.totalDevido, i.vencimentoMaisAntigo) " +
+                        "FROM InadimplenciaAluno i JOIN Aluno a ON a.id = i.alunoId " +
+                        "ORDER BY i.vencimentoMaisAntigo, a.id";
+
+    @Query("SELECT new com.superfit.superfitapp.dto.relatorio.ResumoInadimplenciaDTO(" +
+           "COALESCE(SUM(i.quantidade), 0L), COUNT(i), COALESCE(SUM(i.totalDevido), 0.0)) " +
+           "FROM InadimplenciaAluno i")
+    ResumoInadimplenciaDTO resumir();
+
+    @Query(SELECT_DTO)
+    List<InadimplenciaAlunoDTO> listarDTO();
+
+    @Query(SELECT_DTO)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<InadimplenciaAlunoDTO> streamDTO();
+
+    @Query("SELECT new com.superfit.superfitapp.dto.relatorio.ResumoInadimplenciaDTO(" +
+           "CAST(i.quantidade AS Long), 1L, i.totalDevido) " +
+           "FROM InadimplenciaAluno i WHERE i.alunoId = :alunoId")
+    Optional<ResumoInadimplenciaDTO> buscarResumoPorAluno(@Param("alunoId") Long alunoId);
+
+    @Query(value = "SELECT id FROM alunos WHERE id IN (:alunoIds) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> bloquearAlunos(@Param("alunoIds") Collection<Long> alunoIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM InadimplenciaAluno i WHERE i.alunoId IN :alunoIds")
+    int removerPorAlunos(@Param("alunoIds") Collection<Long> alunoIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO inadimplencia_aluno (aluno_id, quantidade, total_devido, vencimento_mais_antigo, atualizado_em) " +
+                   "SELECT aluno_id, COUNT(*), SUM(valor), MIN(data_vencimento), :agora FROM mensalidades " +
+                   "WHERE status = 'ATRASADA' AND aluno_id IN (:alunoIds) GROUP BY aluno_id",
+           nativeQuery = true)
+    int inserirPorAlunos(@Param("alunoIds") Collection<Long> alunoIds, @Param("agora") LocalDateTime agora);
+}
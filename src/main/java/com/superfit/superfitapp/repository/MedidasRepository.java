@@ -1,31 +1,61 @@
 package com.superfit.superfitapp.repository;
 
+import com.superfit.superfitapp.dto.medidas.MedidasResponseDTO;
 import com.superfit.superfitapp.model.Medidas;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositório JPA para a entidade Medidas.
  * Fornece operações CRUD e queries customizadas com ordenação e filtros.
  * 
  * Queries customizadas:
- * - findByAlunoIdOrderByDataDesc: Lista medidas de um aluno ordenadas por data (mais recente primeiro)
  * - findByAlunoIdOrderByDataAsc: Lista medidas de um aluno ordenadas por data (mais antiga primeiro) - usado em histórico de evolução
- * - findByProfessorEmail: JPQL query que busca medidas de todos os alunos de um professor específico
  * - existsByIdAndAlunoUserEmail: Valida se medida pertence ao aluno autenticado
  * - existsByIdAndAlunoProfessorUserEmail: Valida se medida é de um aluno do professor autenticado
+ *
+ * Projeções para leitura (MedidasResponseDTO via constructor expression, sem entidades gerenciadas):
+ * - listarDTOPorProfessorEmail: Página com as medidas de todos os alunos de um professor
+ * - listarDTOPorAlunoEmail: Página com as medidas do aluno autenticado
+ * - listarDTOPorProfessorEmailAposId / listarDTOPorAlunoEmailAposId: Mesmas consultas por cursor (keyset)
+ * - listarDTOPorAluno: Medidas de um aluno, mais recente primeiro
+ * - buscarDTOPorId: Medida por ID
  */
 public interface MedidasRepository extends JpaRepository<Medidas, Long> {
 
-    List<Medidas> findByAlunoIdOrderByDataDesc(Long alunoId);
+    String SELECT_DTO = "SELECT new com.superfit.superfitapp.dto.medidas.MedidasResponseDTO(" +
+                        "m.id, m.data, m.peso, m.imc, m.peito, m.cintura, m.quadril, a.id, a.nome) " +
+                        "FROM Medidas m JOIN m.aluno a ";
+
+    String DO_PROFESSOR = "JOIN a.professor p JOIN p.user pu WHERE pu.email = :email ";
 
     List<Medidas> findByAlunoIdOrderByDataAsc(Long alunoId);
 
-    @Query("SELECT m FROM Medidas m WHERE m.aluno.professor.user.email = :email ORDER BY m.data DESC")
-    List<Medidas> findByProfessorEmail(@Param("email") String email);
+    @Query(value = SELECT_DTO + DO_PROFESSOR,
+           countQuery = "SELECT COUNT(m) FROM Medidas m JOIN m.aluno a " + DO_PROFESSOR)
+    Page<MedidasResponseDTO> listarDTOPorProfessorEmail(@Param("email") String email, Pageable pageable);
+
+    @Query(SELECT_DTO + DO_PROFESSOR + "AND m.id > :aposId")
+    List<MedidasResponseDTO> listarDTOPorProfessorEmailAposId(@Param("email") String email, @Param("aposId") Long aposId, Pageable pageable);
+
+    @Query(value = SELECT_DTO + "WHERE a.email = :email",
+           countQuery = "SELECT COUNT(m) FROM Medidas m JOIN m.aluno a WHERE a.email = :email")
+    Page<MedidasResponseDTO> listarDTOPorAlunoEmail(@Param("email") String email, Pageable pageable);
+
+    @Query(SELECT_DTO + "WHERE a.email = :email AND m.id > :aposId")
+    List<MedidasResponseDTO> listarDTOPorAlunoEmailAposId(@Param("email") String email, @Param("aposId") Long aposId, Pageable pageable);
+
+    @Query(SELECT_DTO + "WHERE a.id = :alunoId ORDER BY m.data DESC, m.id DESC")
+    List<MedidasResponseDTO> listarDTOPorAluno(@Param("alunoId") Long alunoId);
+
+    @Query(SELECT_DTO + "WHERE m.id = :id")
+    Optional<MedidasResponseDTO> buscarDTOPorId(@Param("id") Long id);
 
     boolean existsByIdAndAlunoUserEmail(Long id, String email);
 
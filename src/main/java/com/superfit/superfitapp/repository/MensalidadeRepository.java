@@ -1,12 +1,27 @@
 package com.superfit.superfitapp.repository;
 
+import com.superfit.superfitapp.dto.gestor.MensalidadeEmAbertoDTO;
+import com.superfit.superfitapp.dto.mensalidade.MensalidadeResponseDTO;
+import com.superfit.superfitapp.dto.relatorio.ReceitaMensalDTO;
+import com.superfit.superfitapp.dto.relatorio.ResumoReceitasDTO;
+import com.superfit.superfitapp.dto.relatorio.TotalPorStatusDTO;
 import com.superfit.superfitapp.model.Mensalidade;
 import com.superfit.superfitapp.model.StatusMensalidade;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório JPA para a entidade Mensalidade.
@@ -15,23 +30,45 @@ import java.util.Optional;
  * Queries customizadas:
  * - findByAlunoId: Lista mensalidades de um aluno
  * - findByAlunoIdAndStatus: Filtra mensalidades de um aluno por status (PENDENTE, PAGA, ATRASADA)
- * - findByAlunoIdOrderByDataVencimentoDesc: Lista mensalidades de um aluno ordenadas por vencimento (mais recente primeiro)
- * - findByStatus: Busca mensalidades por status (ex: listar todas pendentes)
  * - findByDataVencimentoBefore: Busca mensalidades vencidas antes de uma data (para detectar atrasos)
  * - findByMesReferenciaAndAnoReferencia: Busca mensalidades de um mês/ano específico
  * - findByAlunoIdAndMesReferenciaAndAnoReferencia: Busca mensalidade específica de um aluno em um mês/ano (evita duplicação)
  * - countByAlunoIdAndStatus: Conta mensalidades de um aluno com determinado status (usado em relatórios)
+ * - countByAlunoIdAndStatusIn: Conta mensalidades de um aluno em qualquer dos status informados (ex: em aberto)
+ *
+ * Projeções para leitura (MensalidadeResponseDTO via constructor expression, sem entidades gerenciadas):
+ * - listarDTO: Página de mensalidades com ordenação do Pageable
+ * - listarDTOAposId: Página por cursor (keyset) a partir do último ID recebido
+ * - buscarDTOPorId, listarDTOPorAluno, listarDTOPorAlunoEStatus, listarDTOPorStatusEm
+ * - streamDTO: Todas as mensalidades em Stream (cursor com fetch size de 500 linhas), para exportação; deve ser
+ *   consumido dentro de uma transação e fechado ao final
+ *
+ * Varredura de atrasos (InadimplenciaService):
+ * - listarIdsVencidosAposId: IDs por cursor das mensalidades no status informado vencidas antes da data de corte
+ * - marcarComoAtrasadas: UPDATE em lote para ATRASADA (só as que ainda estão PENDENTE); limpa o contexto
+ *   de persistência para não deixar entidades com o status antigo
+ * - listarAlunoIdsPorIds: Alunos distintos de um lote de mensalidades
+ *
+ * Queries agregadas (relatórios):
+ * - totalizarPorStatus: Quantidade e soma de valores agrupadas por status, em uma única consulta
+ * - resumirReceitasPorPeriodo: Soma e quantidade de pagamentos entre duas datas (índice status + data_pagamento)
+ * - totalizarReceitasPorMes: Soma das mensalidades pagas agrupada por ano/mês de pagamento (reconstrução do livro-razão)
+ *
+ * Painel do gestor:
+ * - listarEmAberto: Mensalidades nos status informados com o nome do aluno, vencimento mais antigo primeiro
+ *   (índice status + data_vencimento); o Pageable limita a quantidade
  */
 public interface MensalidadeRepository extends JpaRepository<Mensalidade, Long> {
 
+    String SELECT_DTO = "SELECT new com.superfit.superfitapp.dto.mensalidade.MensalidadeResponseDTO(" +
+                        "m.id, a.id, a.nome, m.valor, m.status, m.dataVencimento, m.dataPagamento, " +
+                        "m.mesReferencia, m.anoReferencia, m.dataCriacao, m.observacoes) " +
+                        "FROM Mensalidade m JOIN m.aluno a ";
+
     List<Mensalidade> findByAlunoId(Long alunoId);
 
     List<Mensalidade> findByAlunoIdAndStatus(Long alunoId, StatusMensalidade status);
 
-    List<Mensalidade> findByAlunoIdOrderByDataVencimentoDesc(Long alunoId);
-
-    List<Mensalidade> findByStatus(StatusMensalidade status);
-
     List<Mensalidade> findByDataVencimentoBefore(LocalDate data);
 
     List<Mensalidade> findByMesReferenciaAndAnoReferencia(String mesReferencia, Integer anoReferencia);
@@ -39,4 +76,58 @@ public interface MensalidadeRepository extends JpaRepository<Mensalidade, Long>
     Optional<Mensalidade> findByAlunoIdAndMesReferenciaAndAnoReferencia(Long alunoId, String mesReferencia, Integer anoReferencia);
 
     long countByAlunoIdAndStatus(Long alunoId, StatusMensalidade status);
+
+    long countByAlunoIdAndStatusIn(Long alunoId, Collection<StatusMensalidade> status);
+
+    @Query("SELECT m.id FROM Mensalidade m WHERE m.status = :status AND m.dataVencimento < :dataCorte AND m.id > :aposId")
+    List<Long> listarIdsVencidosAposId(@Param("status") StatusMensalidade status, @Param("dataCorte") LocalDate dataCorte,
+                                       @Param("aposId") Long aposId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Mensalidade m SET m.status = com.superfit.superfitapp.model.StatusMensalidade.ATRASADA " +
+           "WHERE m.id IN :ids AND m.status = com.superfit.superfitapp.model.StatusMensalidade.PENDENTE")
+    int marcarComoAtrasadas(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT m.aluno.id FROM Mensalidade m WHERE m.id IN :ids")
+    List<Long> listarAlunoIdsPorIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.superfit.superfitapp.dto.relatorio.TotalPorStatusDTO(m.status, COUNT(m), COALESCE(SUM(m.valor), 0.0)) " +
+           "FROM Mensalidade m GROUP BY m.status")
+    List<TotalPorStatusDTO> totalizarPorStatus();
+
+    @Query("SELECT new com.superfit.superfitapp.dto.relatorio.ResumoReceitasDTO(COUNT(m), COALESCE(SUM(m.valor), 0.0)) " +
+           "FROM Mensalidade m WHERE m.status = com.superfit.superfitapp.model.StatusMensalidade.PAGA " +
+           "AND m.dataPagamento BETWEEN :inicio AND :fim")
+    ResumoReceitasDTO resumirReceitasPorPeriodo(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
+
+    @Query("SELECT new com.superfit.superfitapp.dto.relatorio.ReceitaMensalDTO(YEAR(m.dataPagamento), MONTH(m.dataPagamento), SUM(m.valor)) " +
+           "FROM Mensalidade m WHERE m.status = com.superfit.superfitapp.model.StatusMensalidade.PAGA AND m.dataPagamento IS NOT NULL " +
+           "GROUP BY YEAR(m.dataPagamento), MONTH(m.dataPagamento)")
+    List<ReceitaMensalDTO> totalizarReceitasPorMes();
+
+    @Query("SELECT new com.superfit.superfitapp.dto.gestor.MensalidadeEmAbertoDTO(m.id, a.nome, m.valor, m.dataVencimento, m.status) " +
+           "FROM Mensalidade m JOIN m.aluno a WHERE m.status IN :status ORDER BY m.dataVencimento, m.id")
+    List<MensalidadeEmAbertoDTO> listarEmAberto(@Param("status") Collection<StatusMensalidade> status, Pageable pageable);
+
+    @Query(value = SELECT_DTO, countQuery = "SELECT COUNT(m) FROM Mensalidade m")
+    Page<MensalidadeResponseDTO> listarDTO(Pageable pageable);
+
+    @Query(SELECT_DTO + "WHERE m.id > :aposId")
+    List<MensalidadeResponseDTO> listarDTOAposId(@Param("aposId") Long aposId, Pageable pageable);
+
+    @Query(SELECT_DTO + "WHERE m.id = :id")
+    Optional<MensalidadeResponseDTO> buscarDTOPorId(@Param("id") Long id);
+
+    @Query(SELECT_DTO + "WHERE a.id = :alunoId ORDER BY m.dataVencimento DESC, m.id")
+    List<MensalidadeResponseDTO> listarDTOPorAluno(@Param("alunoId") Long alunoId);
+
+    @Query(SELECT_DTO + "WHERE a.id = :alunoId AND m.status = :status ORDER BY m.dataVencimento DESC, m.id")
+    List<MensalidadeResponseDTO> listarDTOPorAlunoEStatus(@Param("alunoId") Long alunoId, @Param("status") StatusMensalidade status);
+
+    @Query(SELECT_DTO + "ORDER BY m.id")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<MensalidadeResponseDTO> streamDTO();
+
+    @Query(SELECT_DTO + "WHERE m.status IN :status ORDER BY m.dataVencimento, m.id")
+    List<MensalidadeResponseDTO> listarDTOPorStatusEm(@Param("status") Collection<StatusMensalidade> status);
 }
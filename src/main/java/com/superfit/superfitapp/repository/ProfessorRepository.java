@@ -1,8 +1,12 @@
 package com.superfit.superfitapp.repository;
 
 import com.superfit.superfitapp.model.Professor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,6 +17,10 @@ import java.util.Optional;
  * - findByEmail: Busca professor por email
  * - existsByEmail: Verifica existência por email
  * - existsByIdAndUserEmail: Valida se professor pertence ao usuário autenticado (usado em @PreAuthorize)
+ * - findByIdGreaterThan: Página por cursor (keyset) a partir do último ID recebido
+ *
+ * As listagens (findAll paginado e findByIdGreaterThan) carregam o user vinculado via @EntityGraph,
+ * usado para o email no DTO de resposta.
  */
 public interface ProfessorRepository extends JpaRepository<Professor, Long> {
 
@@ -22,4 +30,10 @@ public interface ProfessorRepository extends JpaRepository<Professor, Long> {
 
     boolean existsByIdAndUserEmail(Long id, String email);
 
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Page<Professor> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    List<Professor> findByIdGreaterThan(Long id, Pageable pageable);
 }
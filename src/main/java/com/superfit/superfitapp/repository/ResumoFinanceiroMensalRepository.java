@@ -0,0 +1,54 @@
+package com.superfit.superfitapp.repository;
+
+import com.superfit.superfitapp.dto.relatorio.ResumoMensalDTO;
+import com.superfit.superfitapp.model.ResumoFinanceiroMensal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório JPA para o livro-razão financeiro mensal.
+ * 
+ * Queries customizadas:
+ * - buscarResumo: Leitura por chave do resumo de um mês (relatório financeiro), como projeção
+ *   para não reaproveitar uma entidade já carregada e desatualizada pelos incrementos nativos
+ * - listarResumosNoPeriodo: Resumos de um intervalo de meses em uma única consulta (relatório comparativo)
+ * - somarReceita: Incremento atômico da receita de um mês (UPDATE ... SET receitas = receitas + :valor)
+ * - somarDespesa: Incremento atômico dos totais de despesas de um mês
+ * 
+ * Os métodos de soma retornam o número de linhas afetadas; 0 indica que o mês ainda não existe.
+ * São SQL nativo porque o Hibernate gera um CAST inválido no H2 para parâmetro em expressão aritmética.
+ */
+public interface ResumoFinanceiroMensalRepository extends JpaRepository<ResumoFinanceiroMensal, Long> {
+
+    @Query("SELECT new com.superfit.superfitapp.dto.relatorio.ResumoMensalDTO(r.ano, r.mes, r.receitas, " +
+           "r.despesasTotal, r.despesasPagas, r.despesasPendentes) " +
+           "FROM ResumoFinanceiroMensal r WHERE r.ano = :ano AND r.mes = :mes")
+    Optional<ResumoMensalDTO> buscarResumo(@Param("ano") Integer ano, @Param("mes") Integer mes);
+
+    @Query("SELECT new com.superfit.superfitapp.dto.relatorio.ResumoMensalDTO(r.ano, r.mes, r.receitas, " +
+           "r.despesasTotal, r.despesasPagas, r.despesasPendentes) " +
+           "FROM ResumoFinanceiroMensal r " +
+           "WHERE (r.ano > :anoInicio OR (r.ano = :anoInicio AND r.mes >= :mesInicio)) " +
+           "AND (r.ano < :anoFim OR (r.ano = :anoFim AND r.mes <= :mesFim)) " +
+           "ORDER BY r.ano, r.mes")
+    List<ResumoMensalDTO> listarResumosNoPeriodo(@Param("anoInicio") Integer anoInicio, @Param("mesInicio") Integer mesInicio,
+                                                 @Param("anoFim") Integer anoFim, @Param("mesFim") Integer mesFim);
+
+    @Modifying
+    @Query(value = "UPDATE resumo_financeiro_mensal SET receitas = receitas + :valor WHERE ano = :ano AND mes = :mes",
+           nativeQuery = true)
+    int somarReceita(@Param("ano") Integer ano, @Param("mes") Integer mes, @Param("valor") Double valor);
+
+    @Modifying
+    @Query(value = "UPDATE resumo_financeiro_mensal SET despesas_total = despesas_total + :total, " +
+                   "despesas_pagas = despesas_pagas + :pagas, despesas_pendentes = despesas_pendentes + :pendentes " +
+                   "WHERE ano = :ano AND mes = :mes",
+           nativeQuery = true)
+    int somarDespesa(@Param("ano") Integer ano, @Param("mes") Integer mes, @Param("total") Double total,
+                     @Param("pagas") Double pagas, @Param("pendentes") Double pendentes);
+}
@@ -1,6 +1,7 @@
 package com.superfit.superfitapp.repository;
 
 import com.superfit.superfitapp.model.Treino;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -14,11 +15,16 @@ import java.util.List;
  * - findByAlunoId: Lista treinos atribuídos a um aluno específico
  * - existsByIdAndProfessorUserEmail: Valida se treino pertence ao professor autenticado
  * - existsByIdAndAlunoUserEmail: Valida se treino está atribuído ao aluno autenticado
+ *
+ * findByProfessorId e findByAlunoId carregam professor, aluno e exercícios via @EntityGraph:
+ * a listagem inteira é servida por uma única consulta, independente da quantidade de treinos.
  */
 public interface TreinoRepository extends JpaRepository<Treino, Long> {
 
+    @EntityGraph(attributePaths = {"professor", "aluno", "exercicios"})
     List<Treino> findByProfessorId(Long professorId);
 
+    @EntityGraph(attributePaths = {"professor", "aluno", "exercicios"})
     List<Treino> findByAlunoId(Long alunoId);
 
     boolean existsByIdAndProfessorUserEmail(Long id, String email);
@@ -3,6 +3,9 @@ package com.superfit.superfitapp.repository;
 import com.superfit.superfitapp.model.User;
 import com.superfit.superfitapp.model.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +18,7 @@ import java.util.Optional;
  * - findByEmail: Busca usuário por email (usado em autenticação e UserDetailsService)
  * - existsByEmail: Verifica existência por email (evita duplicação no cadastro)
  * - findByRole: Lista usuários por role (ADMIN, GESTOR, PROFESSOR, ALUNO)
+ * - atualizarSenha: Regrava o hash da senha (rehash no login) com um único UPDATE
  */
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -23,4 +27,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     List<User> findByRole(Role role);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :senha WHERE u.email = :email")
+    int atualizarSenha(@Param("email") String email, @Param("senha") String senha);
 }
@@ -0,0 +1,56 @@
+package com.superfit.superfitapp.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * Fábrica do PasswordEncoder da aplicação.
+ *
+ * Os hashes são gravados com prefixo do algoritmo ({bcrypt}..., {pbkdf2}...), o que permite
+ * trocar o algoritmo ou o custo sem invalidar as senhas já cadastradas:
+ * - Novos hashes usam o algoritmo/custo configurado
+ * - Hashes antigos (inclusive os sem prefixo, gravados pelo BCryptPasswordEncoder puro) continuam válidos
+ * - upgradeEncoding indica quando um hash está desatualizado; o DaoAuthenticationProvider
+ *   regrava o hash no login bem-sucedido via UserDetailsServiceImpl.updatePassword
+ *
+ * Argon2 não é oferecido porque o Argon2PasswordEncoder depende do BouncyCastle,
+ * que não faz parte das dependências do projeto.
+ */
+public final class CodificadorSenhas {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private CodificadorSenhas() {
+    }
+
+    /**
+     * Cria o DelegatingPasswordEncoder com o algoritmo e o custo informados.
+     *
+     * @param algoritmo Algoritmo dos novos hashes ("bcrypt" ou "pbkdf2")
+     * @param bcryptForca Custo do BCrypt (log2 das rodadas, 4 a 31)
+     * @param pbkdf2Iteracoes Número de iterações do PBKDF2-HMAC-SHA256
+     * @return PasswordEncoder que grava no algoritmo configurado e aceita todos os suportados
+     * @throws IllegalArgumentException se o algoritmo não for suportado
+     */
+    public static PasswordEncoder criar(String algoritmo, int bcryptForca, int pbkdf2Iteracoes) {
+        if (!BCRYPT.equals(algoritmo) && !PBKDF2.equals(algoritmo)) {
+            throw new IllegalArgumentException("Algoritmo de senha não suportado: " + algoritmo);
+        }
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptForca);
+        Pbkdf2PasswordEncoder pbkdf2 = new Pbkdf2PasswordEncoder(
+                "", 16, pbkdf2Iteracoes, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+                algoritmo, Map.of(BCRYPT, bcrypt, PBKDF2, pbkdf2));
+
+        // Hashes legados sem prefixo foram gerados pelo BCryptPasswordEncoder padrão
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+}
@@ -0,0 +1,197 @@
+package com.superfit.superfitapp.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Pool dedicado e limitado para as operações de hash de senha (login).
+ *
+ * BCrypt/PBKDF2 consomem dezenas de milissegundos de CPU por chamada; sem limite,
+ * uma rajada de logins ocupa todas as threads do Tomcat e atrasa as demais requisições.
+ *
+ * Lógica:
+ * - Número fixo de threads (padrão: número de processadores) e fila de tamanho fixo
+ * - Fila cheia: a tarefa é recusada na hora com RejectedExecutionException
+ * - Tarefa que não termina dentro do timeout é cancelada e também gera RejectedExecutionException
+ * - O MDC da requisição (requestId, usuario, role) é repassado para a thread do pool
+ * - Hash em lote (importação de alunos): fatias pequenas de itens, com no máximo (threads - 1) fatias em
+ *   execução; a próxima fatia só é enviada quando a mais antiga termina, então sempre sobra uma thread
+ *   para os logins e os que estiverem na fila são atendidos entre uma fatia e outra
+ * - Threads de plataforma mesmo com spring.threads.virtual.enabled: o hash é uso de CPU, e as threads
+ *   virtuais não aumentariam a vazão, apenas removeriam o limite de logins simultâneos
+ *
+ * Métricas (MeterBinder): executor.* com name=hash-senha (threads ativas, fila, tarefas concluídas)
+ * e superfit.hash-senha.recusadas (pool saturado ou timeout).
+ */
+@Component
+public class ExecutorHashSenhas implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutorHashSenhas.class);
+
+    /** Itens por tarefa no hash em lote: cada fatia ocupa uma thread por poucas centenas de milissegundos. */
+    static final int TAMANHO_FATIA_LOTE = 4;
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final AtomicInteger recusadas = new AtomicInteger();
+
+    public ExecutorHashSenhas(
+            @Value("${app.seguranca.senha.executor.threads:0}") int threads,
+            @Value("${app.seguranca.senha.executor.fila:64}") int fila,
+            @Value("${app.seguranca.senha.executor.timeout-ms:10000}") long timeoutMs
+    ) {
+        int tamanho = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequencia = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                tamanho, tamanho, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila),
+                tarefa -> {
+                    Thread thread = new Thread(tarefa, "hash-senha-" + sequencia.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Executa a tarefa no pool e aguarda o resultado.
+     * Exceções de runtime lançadas pela tarefa (ex: BadCredentialsException) são repassadas sem alteração.
+     *
+     * @param tarefa Operação que envolve hash de senha
+     * @return Resultado da tarefa
+     * @throws RejectedExecutionException se o pool estiver saturado ou o timeout for atingido
+     */
+    public <T> T executar(Supplier<T> tarefa) {
+        return aguardar(submeter(tarefa::get), timeoutMs);
+    }
+
+    /**
+     * Aplica a função a todos os itens no pool e aguarda os resultados, na ordem dos itens.
+     * Os itens são enviados em fatias de TAMANHO_FATIA_LOTE, sem nunca ocupar todas as threads do pool;
+     * o timeout vale por fatia.
+     *
+     * @param itens Itens a processar (ex: senhas de um lote da importação)
+     * @param funcao Operação que envolve hash de senha
+     * @return Resultados na mesma ordem dos itens
+     * @throws RejectedExecutionException se o pool estiver saturado ou o timeout for atingido
+     */
+    public <E, T> List<T> executarTodos(List<E> itens, Function<E, T> funcao) {
+        if (itens.isEmpty()) {
+            return List.of();
+        }
+        int emParalelo = Math.max(1, executor.getMaximumPoolSize() - 1);
+
+        Deque<Future<List<T>>> emExecucao = new ArrayDeque<>(emParalelo);
+        List<T> resultados = new ArrayList<>(itens.size());
+        try {
+            for (int inicio = 0; inicio < itens.size(); inicio += TAMANHO_FATIA_LOTE) {
+                if (emExecucao.size() == emParalelo) {
+                    resultados.addAll(aguardar(emExecucao.removeFirst(), timeoutMs));
+                }
+                List<E> fatia = itens.subList(inicio, Math.min(inicio + TAMANHO_FATIA_LOTE, itens.size()));
+                emExecucao.addLast(submeter(() -> fatia.stream().map(funcao).toList()));
+            }
+            while (!emExecucao.isEmpty()) {
+                resultados.addAll(aguardar(emExecucao.removeFirst(), timeoutMs));
+            }
+            return resultados;
+        } finally {
+            // Em caso de falha, libera as threads das fatias restantes
+            emExecucao.forEach(futuro -> futuro.cancel(true));
+        }
+    }
+
+    private <T> Future<T> submeter(Callable<T> tarefa) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        try {
+            return executor.submit(() -> {
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                try {
+                    return tarefa.call();
+                } finally {
+                    MDC.clear();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            recusadas.incrementAndGet();
+            log.warn("Pool de hash de senha saturado | fila={}", executor.getQueue().size());
+            throw e;
+        }
+    }
+
+    private <T> T aguardar(Future<T> futuro, long timeout) {
+        try {
+            return futuro.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException("Falha no hash de senha", e.getCause());
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            recusadas.incrementAndGet();
+            log.warn("Timeout no hash de senha | timeoutMs={}", timeout);
+            throw new RejectedExecutionException("Timeout aguardando o hash de senha");
+        } catch (InterruptedException e) {
+            futuro.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrompido aguardando o hash de senha");
+        }
+    }
+
+    /**
+     * @return Número de tarefas aguardando na fila
+     */
+    public int tarefasNaFila() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return Número de threads do pool executando hash no momento
+     */
+    public int threadsAtivas() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, "hash-senha", Tags.empty()).bindTo(registry);
+        registry.more().counter("superfit.hash-senha.recusadas", Tags.empty(), recusadas);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+}
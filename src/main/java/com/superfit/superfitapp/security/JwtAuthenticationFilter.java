@@ -4,7 +4,11 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -13,6 +17,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.lang.NonNull;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import java.io.IOException;
 
 /**
@@ -21,37 +27,39 @@ import java.io.IOException;
  * 
  * Lógica de execução:
  * 1. Extrai token do header Authorization (Bearer) ou do cookie "jwtToken"
- * 2. Valida o token usando JwtService
- * 3. Extrai email e role do token
- * 4. Cria um UsernamePasswordAuthenticationToken com as authorities
- * 5. Define o token no SecurityContextHolder para uso nos controllers
+ * 2. Valida o token e extrai email e role com uma única chamada a JwtService.validar
+ *    (assinatura verificada uma vez por token; chamadas seguintes vêm do cache)
+ * 3. Cria um UsernamePasswordAuthenticationToken com as authorities
+ * 4. Define o token no SecurityContextHolder para uso nos controllers
  * 
- * Rotas que pulam o filtro (shouldNotFilter):
- * - /auth/* (endpoints de autenticação)
- * - /h2-console (banco de dados H2)
- * - /, /home (páginas públicas)
+ * Logs: cada requisição autenticada registra email/role no MDC (usuario, role). Os logs por requisição
+ * são DEBUG e amostrados pela propriedade app.logging.auth.amostragem (0.0 a 1.0), para não pesar
+ * quando o nível DEBUG estiver ligado sob carga.
+ * 
+ * Rotas que pulam o filtro (shouldNotFilter): todas as rotas públicas de RotasPublicas
+ * (recursos estáticos, /auth/**, /h2-console/**, /, /home, /logout), as mesmas liberadas no SecurityConfig.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
     @Autowired
     private JwtService jwtService;
 
+    @Value("${app.logging.auth.amostragem:1.0}")
+    private double amostragemLogs;
+
     /**
      * Define quais requisições devem pular este filtro.
-     * Rotas públicas e de autenticação não precisam de validação JWT.
+     * Rotas públicas e recursos estáticos não precisam de validação JWT.
      * 
      * @param request Requisição HTTP
      * @return true para pular o filtro, false para executar
      */
     @Override
     protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
-        String path = request.getServletPath();
-        // Skip JWT filter for auth endpoints and public endpoints
-        return path.startsWith("/auth/")
-            || path.startsWith("/h2-console")
-            || path.equals("/")
-            || path.equals("/home");
+        return RotasPublicas.MATCHER.matches(request);
     }
 
     /**
@@ -60,8 +68,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * Fluxo de execução:
      * 1. Tenta extrair token do header Authorization (formato: "Bearer <token>")
      * 2. Se não encontrar, tenta extrair do cookie "jwtToken"
-     * 3. Valida o token usando JwtService.isTokenValid()
-     * 4. Extrai email (subject) e role (claim) do token
+     * 3. Valida o token e extrai email (subject) e role (claim) via JwtService.validar()
+     * 4. Token inválido ou expirado: segue sem autenticar
      * 5. Verifica se já existe autenticação no SecurityContext
      * 6. Cria SimpleGrantedAuthority com a role
      * 7. Cria UsernamePasswordAuthenticationToken e define no SecurityContext
@@ -104,13 +112,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         }
 
-        System.out.println("🔐 [JWT Filter] Path: " + request.getServletPath() + " | Token source: " + tokenSource);
+        boolean registrarLog = log.isDebugEnabled() && amostrar();
 
-        if (token != null && !token.isEmpty() && jwtService.isTokenValid(token)) {
-            String email = jwtService.extractEmail(token);
-            String role = jwtService.extractRole(token);
+        Optional<JwtService.DadosToken> dadosToken = jwtService.validar(token);
 
-            System.out.println("✅ [JWT Filter] Token válido | Email: " + email + " | Role: " + role);
+        if (dadosToken.isPresent()) {
+            String email = dadosToken.get().email();
+            String role = dadosToken.get().role();
+
+            MDC.put(RequestIdFilter.MDC_USUARIO, email);
+            MDC.put(RequestIdFilter.MDC_ROLE, role);
 
             if (email != null && role != null &&
                 SecurityContextHolder.getContext().getAuthentication() == null) {
@@ -130,17 +141,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 );
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                System.out.println("✅ [JWT Filter] Autenticação configurada com sucesso | Authority: " + role);
+                if (registrarLog) {
+                    log.debug("Autenticado via {} | path={}", tokenSource, request.getServletPath());
+                }
             }
-        } else if (token != null) {
-            System.out.println("❌ [JWT Filter] Token inválido ou expirado");
+        } else if (token != null && registrarLog) {
+            log.debug("Token inválido ou expirado via {} | path={}", tokenSource, request.getServletPath());
         }
     } catch (Exception e) {
-        System.err.println("❌ [JWT Filter] Erro ao processar JWT: " + e.getMessage());
-        e.printStackTrace();
+        log.warn("Erro ao processar JWT: {}", e.getMessage(), e);
     }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Decide se esta requisição entra na amostra de logs de autenticação.
+     */
+    private boolean amostrar() {
+        return amostragemLogs >= 1.0 || ThreadLocalRandom.current().nextDouble() < amostragemLogs;
+    }
+
 }
@@ -1,13 +1,31 @@
 package com.superfit.superfitapp.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import com.superfit.superfitapp.model.Role;
 
@@ -19,21 +37,52 @@ import com.superfit.superfitapp.model.Role;
  * - Algoritmo: HS256 (HMAC com SHA-256)
  * - Expiração: 24 horas
  * - Claims armazenadas: email (subject) e role
+ * 
+ * Desempenho:
+ * - A chave HMAC e o parser são criados uma única vez (ambos imutáveis e thread-safe)
+ * - validar() verifica a assinatura uma vez e guarda email/role em cache, chaveado pelo SHA-256 do token
+ *   (o token em si não fica em memória). Cada entrada expira junto com o token; o cache é limitado a
+ *   CACHE_TAMANHO_MAXIMO entradas e registra acertos/falhas (estatisticasCache)
+ * - Tokens inválidos não entram no cache
+ * 
+ * Métricas (MeterBinder): superfit.jwt.validacao com tag resultado (cache, verificado, invalido) e as
+ * estatísticas do cache de tokens (cache.* com cache=jwt.tokens-validados).
  */
 @Service
-public class JwtService {
+public class JwtService implements MeterBinder {
 
     private static final String SECRET_KEY = "superfitapp-secret-key-super-segura-2026";
     private static final long EXPIRATION_TIME = 1000 * 60 * 60 * 24; // 24h
+    private static final long CACHE_TAMANHO_MAXIMO = 10_000;
+
+    private final Key signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    private final Cache<String, DadosToken> tokensValidados = Caffeine.newBuilder()
+            .maximumSize(CACHE_TAMANHO_MAXIMO)
+            .expireAfter(new ExpiraComToken())
+            .recordStats()
+            .build();
+
+    private volatile ValidacoesMedidas validacoes;
+
+    /**
+     * Dados extraídos de um token já validado.
+     * 
+     * @param email Email do usuário (subject)
+     * @param role Nome da role (claim "role")
+     * @param expiraEm Instante de expiração do token
+     */
+    public record DadosToken(String email, String role, Instant expiraEm) {
+    }
 
     /**
      * Obtém a chave de assinatura HMAC a partir da SECRET_KEY.
-     * Converte a string secret em bytes e gera uma Key adequada para HS256.
+     * A chave é criada uma única vez na construção do serviço.
      * 
      * @return Chave de assinatura para JWT
      */
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        return signingKey;
     }
 
     /**
@@ -60,15 +109,69 @@ public class JwtService {
                 .compact();
     }
 
+    /**
+     * Valida o token e retorna seus dados, verificando a assinatura no máximo uma vez por token.
+     * 
+     * Lógica:
+     * - Consulta o cache pelo hash do token; se presente e não expirado, retorna sem verificar a assinatura
+     * - Caso contrário, parseia o token (assinatura e expiração) e guarda email/role no cache
+     * - Token expirado, com assinatura inválida ou malformado retorna vazio (e não é guardado)
+     * 
+     * @param token Token JWT
+     * @return Dados do token, ou vazio se inválido
+     */
+    public Optional<DadosToken> validar(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long inicio = System.nanoTime();
+        String chave = hash(token);
+        DadosToken dados = tokensValidados.getIfPresent(chave);
+        if (dados != null && dados.expiraEm().isAfter(Instant.now())) {
+            medir(ResultadoValidacao.CACHE, inicio);
+            return Optional.of(dados);
+        }
+
+        Optional<DadosToken> verificado = verificar(token);
+        if (verificado.isPresent()) {
+            tokensValidados.put(chave, verificado.get());
+            medir(ResultadoValidacao.VERIFICADO, inicio);
+        } else {
+            medir(ResultadoValidacao.INVALIDO, inicio);
+        }
+        return verificado;
+    }
+
+    /**
+     * Verifica assinatura e expiração do token, sem consultar nem alimentar o cache.
+     * 
+     * @param token Token JWT
+     * @return Dados do token, ou vazio se inválido
+     */
+    Optional<DadosToken> verificar(String token) {
+        try {
+            Claims claims = getClaims(token);
+            return Optional.of(new DadosToken(
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : Instant.now().plusMillis(EXPIRATION_TIME)
+            ));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Extrai a role armazenada no token.
      * Lê o claim "role" do payload do JWT.
      * 
      * @param token Token JWT válido
      * @return Nome da role como String
+     * @throws JwtException se o token for inválido
      */
     public String extractRole(String token) {
-        return getClaims(token).get("role", String.class);
+        return validarOuFalhar(token).role();
     }
 
     /**
@@ -77,28 +180,73 @@ public class JwtService {
      * 
      * @param token Token JWT válido
      * @return Email do usuário
+     * @throws JwtException se o token for inválido
      */
     public String extractEmail(String token) {
-        return getClaims(token).getSubject();
+        return validarOuFalhar(token).email();
     }
 
     /**
      * Valida se um token é válido.
-     * Tenta parsear o token e verificar assinatura e expiração.
      * Retorna false se o token estiver expirado, com assinatura inválida ou malformado.
      * 
      * @param token Token JWT a ser validado
      * @return true se o token é válido, false caso contrário
      */
     public boolean isTokenValid(String token) {
-        try {
-            getClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+        return validar(token).isPresent();
+    }
+
+    /**
+     * Estatísticas do cache de tokens validados (acertos, falhas, remoções).
+     * 
+     * @return Snapshot das estatísticas do cache
+     */
+    public CacheStats estatisticasCache() {
+        return tokensValidados.stats();
+    }
+
+    /**
+     * Quantidade aproximada de tokens no cache.
+     */
+    public long tamanhoCache() {
+        return tokensValidados.estimatedSize();
+    }
+
+    /**
+     * Registra o cache de tokens e os timers de validação no registry do Micrometer.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, tokensValidados, "jwt.tokens-validados");
+        validacoes = new ValidacoesMedidas(
+                timerValidacao(registry, ResultadoValidacao.CACHE),
+                timerValidacao(registry, ResultadoValidacao.VERIFICADO),
+                timerValidacao(registry, ResultadoValidacao.INVALIDO)
+        );
+    }
+
+    private static Timer timerValidacao(MeterRegistry registry, ResultadoValidacao resultado) {
+        return Timer.builder("superfit.jwt.validacao")
+                .description("Tempo de validação de tokens JWT")
+                .tag("resultado", resultado.name().toLowerCase(Locale.ROOT))
+                .register(registry);
+    }
+
+    /**
+     * Registra o tempo de uma validação; sem registry (ex: instância criada em teste) não faz nada.
+     */
+    private void medir(ResultadoValidacao resultado, long inicio) {
+        ValidacoesMedidas medidas = validacoes;
+        if (medidas != null) {
+            medidas.timer(resultado).record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
         }
     }
 
+    private DadosToken validarOuFalhar(String token) {
+        return validar(token).orElseThrow(() -> new JwtException("Token inválido ou expirado"));
+    }
+
     /**
      * Parseia o token e retorna os claims (dados do payload).
      * Verifica a assinatura usando a chave secreta.
@@ -109,10 +257,53 @@ public class JwtService {
      * @throws io.jsonwebtoken.JwtException se o token for inválido
      */
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * SHA-256 do token em Base64, usado como chave do cache.
+     */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private enum ResultadoValidacao { CACHE, VERIFICADO, INVALIDO }
+
+    private record ValidacoesMedidas(Timer cache, Timer verificado, Timer invalido) {
+
+        Timer timer(ResultadoValidacao resultado) {
+            return switch (resultado) {
+                case CACHE -> cache;
+                case VERIFICADO -> verificado;
+                case INVALIDO -> invalido;
+            };
+        }
+    }
+
+    /**
+     * Política de expiração do cache: cada entrada vive até a expiração do próprio token.
+     */
+    private static final class ExpiraComToken implements Expiry<String, DadosToken> {
+
+        @Override
+        public long expireAfterCreate(String chave, DadosToken dados, long tempoAtual) {
+            long restanteMillis = dados.expiraEm().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(restanteMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String chave, DadosToken dados, long tempoAtual, long duracaoAtual) {
+            return expireAfterCreate(chave, dados, tempoAtual);
+        }
+
+        @Override
+        public long expireAfterRead(String chave, DadosToken dados, long tempoAtual, long duracaoAtual) {
+            return duracaoAtual;
+        }
     }
 }
@@ -0,0 +1,60 @@
+package com.superfit.superfitapp.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Identifica cada requisição para correlacionar os logs.
+ * Roda antes da cadeia do Spring Security (HIGHEST_PRECEDENCE).
+ *
+ * Lógica:
+ * - Reaproveita o header X-Request-Id recebido (ex: do proxy) ou gera um novo
+ * - Coloca o ID no MDC (chave "requestId") e o devolve no header X-Request-Id da resposta
+ * - JwtAuthenticationFilter complementa o MDC com "usuario" e "role" após autenticar
+ * - Ao final da requisição remove todas essas chaves, já que a thread volta para o pool
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_USUARIO = "usuario";
+    public static final String MDC_ROLE = "role";
+
+    private static final int TAMANHO_MAXIMO_ID = 64;
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String requestId = request.getHeader(HEADER);
+        if (requestId == null || requestId.isBlank() || requestId.length() > TAMANHO_MAXIMO_ID) {
+            requestId = UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+        }
+
+        MDC.put(MDC_REQUEST_ID, requestId);
+        response.setHeader(HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_USUARIO);
+            MDC.remove(MDC_ROLE);
+        }
+    }
+}
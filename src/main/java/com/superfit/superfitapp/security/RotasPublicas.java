@@ -0,0 +1,53 @@
+package com.superfit.superfitapp.security;
+
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Rotas públicas da aplicação: única fonte usada pelo SecurityConfig (permitAll)
+ * e pelo JwtAuthenticationFilter (não processa JWT nessas rotas).
+ *
+ * Os matchers são compilados uma vez na carga da classe; recursos estáticos
+ * (/css, /js, /images) não passam por extração nem verificação de token.
+ */
+public final class RotasPublicas {
+
+    /**
+     * Recursos estáticos servidos de /static.
+     */
+    private static final String[] RECURSOS_ESTATICOS = {
+            "/js/**",
+            "/css/**",
+            "/images/**",
+            "/favicon.ico"
+    };
+
+    /**
+     * Páginas e endpoints públicos (login, console H2, home, logout e health check).
+     */
+    private static final String[] PAGINAS_PUBLICAS = {
+            "/auth/**",
+            "/h2-console/**",
+            "/home",
+            "/logout",
+            "/",
+            "/actuator/health/**",
+            "/actuator/info"
+    };
+
+    /**
+     * Matcher de todas as rotas públicas (recursos estáticos + páginas públicas).
+     */
+    public static final RequestMatcher MATCHER = new OrRequestMatcher(
+            Stream.concat(Arrays.stream(RECURSOS_ESTATICOS), Arrays.stream(PAGINAS_PUBLICAS))
+                    .<RequestMatcher>map(AntPathRequestMatcher::antMatcher)
+                    .toList()
+    );
+
+    private RotasPublicas() {
+    }
+}
@@ -0,0 +1,39 @@
+package com.superfit.superfitapp.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Libera a coleta do Prometheus (/actuator/prometheus) para quem envia o token de coleta
+ * configurado em app.metricas.token-coleta (header "Authorization: Bearer &lt;token&gt;").
+ *
+ * O coletor não tem usuário nem JWT; sem token configurado nada é liberado e o endpoint
+ * continua exigindo ADMIN. A comparação é feita em tempo constante.
+ */
+public class TokenColetaMetricas implements RequestMatcher {
+
+    private static final RequestMatcher PROMETHEUS = AntPathRequestMatcher.antMatcher("/actuator/prometheus");
+    private static final String PREFIXO = "Bearer ";
+
+    private final byte[] token;
+
+    public TokenColetaMetricas(String token) {
+        this.token = token != null && !token.isBlank() ? token.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        if (token == null || !PROMETHEUS.matches(request)) {
+            return false;
+        }
+        String header = request.getHeader("Authorization");
+        if (header == null || !header.startsWith(PREFIXO)) {
+            return false;
+        }
+        return MessageDigest.isEqual(token, header.substring(PREFIXO.length()).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,11 +2,15 @@ package com.superfit.superfitapp.security;
 
 import com.superfit.superfitapp.model.User;
 import com.superfit.superfitapp.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -16,9 +20,15 @@ import java.util.List;
  * 
  * Utilizado pelo AuthenticationManager durante o processo de login
  * para validar credenciais e carregar authorities (roles).
+ * 
+ * Também implementa UserDetailsPasswordService: após um login bem-sucedido com hash
+ * desatualizado (algoritmo ou custo diferente do configurado), o DaoAuthenticationProvider
+ * chama updatePassword com o novo hash.
  */
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserDetailsServiceImpl.class);
 
     private final UserRepository userRepository;
 
@@ -55,4 +65,22 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 List.of(new SimpleGrantedAuthority(user.getRole().name()))
         );
     }
+
+    /**
+     * Regrava o hash da senha do usuário (rehash transparente no login).
+     * 
+     * @param user Usuário autenticado
+     * @param newPassword Novo hash, já codificado pelo PasswordEncoder
+     * @return UserDetails com o hash atualizado
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.atualizarSenha(user.getUsername(), newPassword);
+        log.info("Hash de senha atualizado | usuario={}", user.getUsername());
+
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.superfit.superfitapp.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import com.superfit.superfitapp.repository.UserRepository;
 import com.superfit.superfitapp.repository.ProfessorRepository;
@@ -15,6 +16,8 @@ import com.superfit.superfitapp.dto.admin.ProfessorUpdateDTO;
 import com.superfit.superfitapp.dto.admin.AlunoCreateDTO;
 import com.superfit.superfitapp.dto.admin.AlunoResponseDTO;
 import com.superfit.superfitapp.dto.admin.AlunoUpdateDTO;
+import com.superfit.superfitapp.evento.AlunoAlteradoEvento;
+import com.superfit.superfitapp.evento.ProfessorAlteradoEvento;
 import com.superfit.superfitapp.model.User;
 import com.superfit.superfitapp.model.Role;
 import com.superfit.superfitapp.model.Professor;
@@ -29,17 +32,20 @@ public class AdminServiceImpl implements AdminService {
     private final ProfessorRepository professorRepository;
     private final AlunoRepository alunoRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AdminServiceImpl(
             UserRepository userRepository,
             ProfessorRepository professorRepository,
             AlunoRepository alunoRepository,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.userRepository = userRepository;
         this.professorRepository = professorRepository;
         this.alunoRepository = alunoRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     // ===============================
@@ -151,6 +157,7 @@ public class AdminServiceImpl implements AdminService {
         );
         prof.setUser(usuarioSalvo);
         Professor salvo = professorRepository.save(prof);
+        eventPublisher.publishEvent(new ProfessorAlteradoEvento(salvo.getId()));
 
         return new ProfessorResponseDTO(
                 salvo.getId(),
@@ -176,6 +183,7 @@ public class AdminServiceImpl implements AdminService {
                         userRepository.delete(professorUser);
         }
                 professorRepository.delete(Objects.requireNonNull(professor, "professor"));
+                eventPublisher.publishEvent(new ProfessorAlteradoEvento(professorId));
     }
 
     @Override
@@ -217,6 +225,7 @@ public class AdminServiceImpl implements AdminService {
                 Professor atualizado = professorRepository.save(
                         Objects.requireNonNull(professor, "professor")
                 );
+        eventPublisher.publishEvent(new ProfessorAlteradoEvento(atualizado.getId()));
 
         return new ProfessorResponseDTO(
                 atualizado.getId(),
@@ -269,6 +278,7 @@ public class AdminServiceImpl implements AdminService {
         );
         aln.setUser(usuarioSalvo);
         Aluno salvo = alunoRepository.save(aln);
+        eventPublisher.publishEvent(new AlunoAlteradoEvento(salvo.getId()));
 
         return new AlunoResponseDTO(
                 salvo.getId(),
@@ -295,6 +305,7 @@ public class AdminServiceImpl implements AdminService {
                         userRepository.delete(alunoUser);
         }
                 alunoRepository.delete(Objects.requireNonNull(aluno, "aluno"));
+                eventPublisher.publishEvent(new AlunoAlteradoEvento(alunoId));
     }
 
     @Override
@@ -336,6 +347,7 @@ public class AdminServiceImpl implements AdminService {
                 Aluno atualizado = alunoRepository.save(
                         Objects.requireNonNull(aluno, "aluno")
                 );
+        eventPublisher.publishEvent(new AlunoAlteradoEvento(atualizado.getId()));
 
         return new AlunoResponseDTO(
                 atualizado.getId(),
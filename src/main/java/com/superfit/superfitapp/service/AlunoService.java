@@ -4,6 +4,9 @@ import com.superfit.superfitapp.dto.aluno.AlunoCreateDTO;
 import com.superfit.superfitapp.dto.aluno.AlunoResponseDTO;
 import com.superfit.superfitapp.dto.aluno.AlunoUpdateDTO;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 /**
@@ -38,11 +41,21 @@ public interface AlunoService {
     AlunoResponseDTO criar(AlunoCreateDTO dto);
 
     /**
-     * Lista todos os alunos cadastrados no sistema.
+     * Lista uma página dos alunos cadastrados no sistema.
+     * 
+     * @param pageable Página, tamanho e ordenação
+     * @return Página de DTOs com os dados dos alunos
+     */
+    Page<AlunoResponseDTO> listar(Pageable pageable);
+
+    /**
+     * Lista alunos por cursor (keyset): os próximos {@code tamanho} alunos com ID maior que {@code aposId}.
      * 
-     * @return Lista de DTOs com os dados de todos os alunos
+     * @param aposId Último ID recebido (0 para começar do início)
+     * @param tamanho Quantidade máxima de alunos
+     * @return Lista de DTOs ordenada por ID
      */
-    List<AlunoResponseDTO> listar();
+    List<AlunoResponseDTO> listarAposId(Long aposId, int tamanho);
 
     /**
      * Busca um aluno específico por seu ID.
@@ -3,6 +3,7 @@ package com.superfit.superfitapp.service;
 import com.superfit.superfitapp.dto.aluno.AlunoCreateDTO;
 import com.superfit.superfitapp.dto.aluno.AlunoResponseDTO;
 import com.superfit.superfitapp.dto.aluno.AlunoUpdateDTO;
+import com.superfit.superfitapp.evento.AlunoAlteradoEvento;
 import com.superfit.superfitapp.model.Aluno;
 import com.superfit.superfitapp.model.Professor;
 import com.superfit.superfitapp.model.Role;
@@ -10,13 +11,18 @@ import com.superfit.superfitapp.model.User;
 import com.superfit.superfitapp.repository.AlunoRepository;
 import com.superfit.superfitapp.repository.ProfessorRepository;
 import com.superfit.superfitapp.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Implementação do serviço de gerenciamento de Alunos.
@@ -29,12 +35,14 @@ public class AlunoServiceImpl implements AlunoService {
     private final ProfessorRepository professorRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AlunoServiceImpl(AlunoRepository alunoRepository, ProfessorRepository professorRepository, UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AlunoServiceImpl(AlunoRepository alunoRepository, ProfessorRepository professorRepository, UserRepository userRepository, PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher) {
         this.alunoRepository = alunoRepository;
         this.professorRepository = professorRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     /* =======================
@@ -109,21 +117,35 @@ public class AlunoServiceImpl implements AlunoService {
         aluno.setUser(user);
 
         aluno = alunoRepository.save(aluno);
+        eventPublisher.publishEvent(new AlunoAlteradoEvento(aluno.getId()));
         return toResponseDTO(aluno);
     }
 
     /**
-     * Lista todos os alunos cadastrados.
-     * Utiliza stream para converter cada entidade em DTO.
+     * Lista uma página dos alunos cadastrados.
+     * A ordenação vem do Pageable montado no controller (sempre desempatada por ID).
      * 
-     * @return Lista de DTOs com todos os alunos
+     * @param pageable Página, tamanho e ordenação
+     * @return Página de DTOs com os alunos
      */
     @Override
-    public List<AlunoResponseDTO> listar() {
-        return alunoRepository.findAll()
-                .stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<AlunoResponseDTO> listar(Pageable pageable) {
+        return alunoRepository.listarDTO(pageable);
+    }
+
+    /**
+     * Lista alunos por cursor: busca por ID maior que o último recebido, sem OFFSET,
+     * de modo que o custo de cada página não cresce com a posição na lista.
+     * 
+     * @param aposId Último ID recebido
+     * @param tamanho Quantidade máxima de alunos
+     * @return Lista de DTOs ordenada por ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AlunoResponseDTO> listarAposId(Long aposId, int tamanho) {
+        return alunoRepository.listarDTOAposId(aposId, PageRequest.of(0, tamanho, Sort.by("id")));
     }
 
     /**
@@ -135,13 +157,10 @@ public class AlunoServiceImpl implements AlunoService {
      * @throws RuntimeException se o aluno não for encontrado
      */
     @Override
+    @Transactional(readOnly = true)
     public AlunoResponseDTO buscarPorId(Long id) {
-        Aluno aluno = alunoRepository.findById(
-                Objects.requireNonNull(id, "id")
-            )
+        return alunoRepository.buscarDTOPorId(Objects.requireNonNull(id, "id"))
                 .orElseThrow(() -> new RuntimeException("Aluno não encontrado"));
-
-        return toResponseDTO(aluno);
     }
 
     /**
@@ -152,15 +171,14 @@ public class AlunoServiceImpl implements AlunoService {
      * @throws RuntimeException se o aluno não for encontrado
      */
     @Override
+    @Transactional(readOnly = true)
     public AlunoResponseDTO buscarMeuPerfil() {
         String email = SecurityContextHolder.getContext()
                 .getAuthentication()
                 .getName();
 
-        Aluno aluno = alunoRepository.findByEmail(email)
+        return alunoRepository.buscarDTOPorEmail(email)
                 .orElseThrow(() -> new RuntimeException("Aluno não encontrado"));
-
-        return toResponseDTO(aluno);
     }
 
     /**
@@ -193,6 +211,7 @@ public class AlunoServiceImpl implements AlunoService {
         }
 
         aluno = alunoRepository.save(aluno);
+        eventPublisher.publishEvent(new AlunoAlteradoEvento(aluno.getId()));
         return toResponseDTO(aluno);
     }
 
@@ -205,6 +224,7 @@ public class AlunoServiceImpl implements AlunoService {
     @Override
     public void remover(Long id) {
         alunoRepository.deleteById(Objects.requireNonNull(id, "id"));
+        eventPublisher.publishEvent(new AlunoAlteradoEvento(id));
     }
 
     /* =======================
@@ -2,7 +2,10 @@ package com.superfit.superfitapp.service;
 
 import com.superfit.superfitapp.dto.LoginRequest;
 import com.superfit.superfitapp.model.Role;
+import com.superfit.superfitapp.security.ExecutorHashSenhas;
 import com.superfit.superfitapp.security.JwtService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -17,32 +20,41 @@ import org.springframework.stereotype.Service;
 @Service
 public class AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
     @Autowired
     private AuthenticationManager authenticationManager;
 
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private ExecutorHashSenhas executorHashSenhas;
+
     /**
      * Autentica um usuário e gera um token JWT.
      * 
      * Lógica:
-     * 1. Autentica o usuário usando AuthenticationManager com email e senha
+     * 1. Autentica o usuário usando AuthenticationManager com email e senha,
+     *    no pool dedicado de hash (ExecutorHashSenhas) para não ocupar as threads HTTP
      * 2. Extrai o email e a primeira role (authority) da autenticação
      * 3. Converte a role para o enum Role
-     * 4. Registra o login no console (email, role, hora)
+     * 4. Registra o login no log (email, role)
      * 5. Gera e retorna um token JWT usando JwtService
      * 
      * @param request DTO contendo email e password
      * @return Token JWT válido para autenticação
      * @throws RuntimeException se o usuário não possuir role definida
+     * @throws java.util.concurrent.RejectedExecutionException se o pool de hash estiver saturado
      */
     public String login(LoginRequest request) {
 
-    Authentication authentication = authenticationManager.authenticate(
-        new UsernamePasswordAuthenticationToken(
-            request.getEmail(),
-            request.getPassword()
+    Authentication authentication = executorHashSenhas.executar(() ->
+        authenticationManager.authenticate(
+            new UsernamePasswordAuthenticationToken(
+                request.getEmail(),
+                request.getPassword()
+            )
         )
     );
 
@@ -56,12 +68,7 @@ public class AuthService {
 
     Role role = Role.valueOf(roleStr);
     
-    // Log de login no terminal
-    System.out.println("✅ LOGIN REALIZADO");
-    System.out.println("   Usuário: " + email);
-    System.out.println("   Role: " + role);
-    System.out.println("   Hora: " + java.time.LocalDateTime.now());
-    System.out.println("-----------------------------------");
+    log.info("Login realizado | usuario={} role={}", email, role);
     
     return jwtService.generateToken(email, role);
 }
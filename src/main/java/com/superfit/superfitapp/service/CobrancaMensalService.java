@@ -0,0 +1,32 @@
+package com.superfit.superfitapp.service;
+
+import com.superfit.superfitapp.dto.mensalidade.CobrancaMensalDTO;
+
+import java.util.Optional;
+
+/**
+ * Interface de serviço da cobrança mensal: gera as mensalidades do mês para todos os alunos ativos.
+ */
+public interface CobrancaMensalService {
+
+    /**
+     * Gera uma mensalidade PENDENTE para cada aluno ativo que ainda não tem mensalidade no mês.
+     * Idempotente: reexecutar o mesmo mês cria apenas as mensalidades que faltam.
+     * 
+     * @param mes Mês de referência (1 a 12)
+     * @param ano Ano de referência
+     * @param valor Valor de cada mensalidade
+     * @param diaVencimento Dia do vencimento no mês de referência (limitado ao último dia do mês)
+     * @return Resultado da execução
+     * @throws IllegalArgumentException se mês, valor ou dia de vencimento forem inválidos
+     * @throws IllegalStateException se outra cobrança estiver em andamento
+     */
+    CobrancaMensalDTO gerar(int mes, int ano, Double valor, int diaVencimento);
+
+    /**
+     * Progresso da cobrança em andamento ou resultado da última execução.
+     * 
+     * @return Optional vazio se nenhuma cobrança foi executada desde o início da aplicação
+     */
+    Optional<CobrancaMensalDTO> ultimaExecucao();
+}
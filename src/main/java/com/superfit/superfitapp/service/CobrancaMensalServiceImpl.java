@@ -0,0 +1,233 @@
+package com.superfit.superfitapp.service;
+
+import com.superfit.superfitapp.dto.mensalidade.CobrancaMensalDTO;
+import com.superfit.superfitapp.evento.MensalidadeAlteradaEvento;
+import com.superfit.superfitapp.model.Mensalidade;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.repository.AlunoRepository;
+import com.superfit.superfitapp.repository.MensalidadeRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implementação da cobrança mensal.
+ *
+ * Lógica:
+ * 1. Percorre por cursor (ID) os alunos ativos sem mensalidade no mês de referência,
+ *    em lotes de app.cobranca.tamanho-lote
+ * 2. Cada lote é gravado em uma transação própria; com IDs por sequência e
+ *    hibernate.jdbc.batch_size os INSERTs vão ao banco em lotes JDBC
+ * 3. A constraint uk_mensalidades_aluno_referencia garante a idempotência: se uma mensalidade
+ *    for criada em paralelo (ex: cadastro manual), o lote é refeito sem o aluno já cobrado
+ * 4. O progresso é publicado a cada lote (ultimaExecucao) e registrado no log; cada lote gravado
+ *    publica um MensalidadeAlteradaEvento (invalidação dos relatórios em cache após o commit)
+ *
+ * Execução manual via POST /api/mensalidades/cobranca ou agendada por app.cobranca.cron
+ * (desabilitada por padrão), que cobra o mês corrente com app.cobranca.valor.
+ */
+@Service
+public class CobrancaMensalServiceImpl implements CobrancaMensalService {
+
+    private static final Logger log = LoggerFactory.getLogger(CobrancaMensalServiceImpl.class);
+
+    private static final int TENTATIVAS_POR_LOTE = 3;
+
+    private final AlunoRepository alunoRepository;
+    private final MensalidadeRepository mensalidadeRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean emExecucao = new AtomicBoolean(false);
+    private final AtomicReference<CobrancaMensalDTO> ultimaExecucao = new AtomicReference<>();
+
+    @Value("${app.cobranca.tamanho-lote:1000}")
+    private int tamanhoLote;
+
+    @Value("${app.cobranca.valor:0}")
+    private double valorAgendado;
+
+    @Value("${app.cobranca.dia-vencimento:10}")
+    private int diaVencimentoAgendado;
+
+    public CobrancaMensalServiceImpl(
+            AlunoRepository alunoRepository,
+            MensalidadeRepository mensalidadeRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.alunoRepository = alunoRepository;
+        this.mensalidadeRepository = mensalidadeRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public CobrancaMensalDTO gerar(int mes, int ano, Double valor, int diaVencimento) {
+        if (mes < 1 || mes > 12) {
+            throw new IllegalArgumentException("Mês de referência inválido: " + mes);
+        }
+        if (valor == null || valor <= 0) {
+            throw new IllegalArgumentException("Valor da mensalidade deve ser maior que zero");
+        }
+        if (diaVencimento < 1 || diaVencimento > 31) {
+            throw new IllegalArgumentException("Dia de vencimento inválido: " + diaVencimento);
+        }
+        if (!emExecucao.compareAndSet(false, true)) {
+            throw new IllegalStateException("Já existe uma cobrança em andamento");
+        }
+
+        try {
+            return executar(mes, ano, valor, diaVencimento);
+        } finally {
+            emExecucao.set(false);
+        }
+    }
+
+    @Override
+    public Optional<CobrancaMensalDTO> ultimaExecucao() {
+        return Optional.ofNullable(ultimaExecucao.get());
+    }
+
+    /**
+     * Cobrança agendada do mês corrente.
+     * Não faz nada se app.cobranca.valor não estiver configurado.
+     */
+    @Scheduled(cron = "${app.cobranca.cron:-}")
+    public void gerarCobrancaDoMes() {
+        if (valorAgendado <= 0) {
+            log.warn("Cobrança agendada ignorada: app.cobranca.valor não configurado");
+            return;
+        }
+
+        YearMonth atual = YearMonth.now();
+        try {
+            gerar(atual.getMonthValue(), atual.getYear(), valorAgendado, diaVencimentoAgendado);
+        } catch (IllegalStateException e) {
+            log.warn("Cobrança agendada ignorada: {}", e.getMessage());
+        }
+    }
+
+    private CobrancaMensalDTO executar(int mes, int ano, Double valor, int diaVencimento) {
+        String mesReferencia = Mensalidade.nomeDoMes(mes);
+        YearMonth referencia = YearMonth.of(ano, mes);
+        LocalDate vencimento = referencia.atDay(Math.min(diaVencimento, referencia.lengthOfMonth()));
+
+        LocalDateTime inicio = LocalDateTime.now();
+        long alunosAtivos = alunoRepository.countByAtivo(true);
+        long criadas = 0;
+        int lotes = 0;
+        long aposId = 0L;
+
+        log.info("Cobrança iniciada | referencia={}/{} alunosAtivos={}", mesReferencia, ano, alunosAtivos);
+        publicar(mesReferencia, ano, alunosAtivos, criadas, lotes, true, inicio);
+
+        while (true) {
+            ResultadoLote lote = gravarLoteComNovaTentativa(aposId, mesReferencia, ano, valor, vencimento);
+            if (lote.ultimoId() == null) {
+                break;
+            }
+
+            aposId = lote.ultimoId();
+            criadas += lote.criadas();
+            lotes++;
+
+            log.info("Cobrança {}/{} | lote={} criadas={} alunosAtivos={}", mesReferencia, ano, lotes, criadas, alunosAtivos);
+            publicar(mesReferencia, ano, alunosAtivos, criadas, lotes, true, inicio);
+        }
+
+        CobrancaMensalDTO resultado = publicar(mesReferencia, ano, alunosAtivos, criadas, lotes, false, inicio);
+        log.info("Cobrança concluída | referencia={}/{} criadas={} jaExistentes={}",
+                mesReferencia, ano, criadas, resultado.jaExistentes());
+        return resultado;
+    }
+
+    private ResultadoLote gravarLoteComNovaTentativa(
+            long aposId, String mesReferencia, int ano, Double valor, LocalDate vencimento
+    ) {
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return transactionTemplate.execute(status -> gravarLote(aposId, mesReferencia, ano, valor, vencimento));
+            } catch (DataIntegrityViolationException e) {
+                if (tentativa >= TENTATIVAS_POR_LOTE) {
+                    throw e;
+                }
+                log.warn("Mensalidade criada em paralelo durante a cobrança; refazendo o lote | aposId={}", aposId);
+            }
+        }
+    }
+
+    /**
+     * Cria as mensalidades do próximo lote de alunos.
+     * Os alunos são referenciados por proxy (getReferenceById), sem SELECT por aluno.
+     * O flush passa pelo repositório para que a violação da constraint chegue traduzida
+     * (DataIntegrityViolationException) e o lote seja refeito.
+     */
+    private ResultadoLote gravarLote(long aposId, String mesReferencia, int ano, Double valor, LocalDate vencimento) {
+        List<Long> ids = alunoRepository.listarIdsAtivosSemMensalidade(
+                aposId, mesReferencia, ano, PageRequest.of(0, tamanhoLote, Sort.by("id")));
+        if (ids.isEmpty()) {
+            return new ResultadoLote(null, 0);
+        }
+
+        List<Mensalidade> mensalidades = new ArrayList<>(ids.size());
+        for (Long alunoId : ids) {
+            mensalidades.add(new Mensalidade(
+                    alunoRepository.getReferenceById(alunoId),
+                    valor,
+                    StatusMensalidade.PENDENTE,
+                    vencimento,
+                    mesReferencia,
+                    ano
+            ));
+        }
+        mensalidadeRepository.saveAll(mensalidades);
+
+        mensalidadeRepository.flush();
+        entityManager.clear();
+        eventPublisher.publishEvent(MensalidadeAlteradaEvento.emLote());
+        return new ResultadoLote(ids.get(ids.size() - 1), ids.size());
+    }
+
+    private CobrancaMensalDTO publicar(
+            String mesReferencia, int ano, long alunosAtivos, long criadas, int lotes,
+            boolean emAndamento, LocalDateTime inicio
+    ) {
+        CobrancaMensalDTO progresso = new CobrancaMensalDTO(
+                mesReferencia,
+                ano,
+                alunosAtivos,
+                criadas,
+                emAndamento ? 0 : Math.max(0, alunosAtivos - criadas),
+                lotes,
+                emAndamento,
+                inicio,
+                emAndamento ? null : LocalDateTime.now()
+        );
+        ultimaExecucao.set(progresso);
+        return progresso;
+    }
+
+    private record ResultadoLote(Long ultimoId, int criadas) {}
+}
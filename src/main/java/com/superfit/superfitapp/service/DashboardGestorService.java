@@ -0,0 +1,17 @@
+package com.superfit.superfitapp.service;
+
+import com.superfit.superfitapp.dto.gestor.DashboardGestorDTO;
+
+/**
+ * Interface de serviço do painel do gestor (/api/gestor/dashboard).
+ */
+public interface DashboardGestorService {
+
+    /**
+     * Totais de alunos, professores e mensalidades em aberto, receita do mês corrente
+     * e as listas curtas de alunos recentes e mensalidades em aberto.
+     *
+     * @return Resumo do painel
+     */
+    DashboardGestorDTO obterDashboard();
+}
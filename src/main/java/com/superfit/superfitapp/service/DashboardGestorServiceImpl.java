@@ -0,0 +1,117 @@
+package com.superfit.superfitapp.service;
+
+import com.superfit.superfitapp.config.CacheConfig;
+import com.superfit.superfitapp.dto.gestor.AlunoRecenteDTO;
+import com.superfit.superfitapp.dto.gestor.DashboardGestorDTO;
+import com.superfit.superfitapp.dto.gestor.MensalidadeEmAbertoDTO;
+import com.superfit.superfitapp.dto.relatorio.ResumoMensalDTO;
+import com.superfit.superfitapp.dto.relatorio.TotalPorStatusDTO;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.repository.AlunoRepository;
+import com.superfit.superfitapp.repository.MensalidadeRepository;
+import com.superfit.superfitapp.repository.ProfessorRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Implementação do painel do gestor.
+ *
+ * Lógica:
+ * - Seis consultas independentes (contagens, totais por status, receita do livro-razão e as duas listas)
+ *   executadas ao mesmo tempo no applicationTaskExecutor, cada uma com a sua conexão e transação
+ * - Sem @Transactional aqui: a thread da requisição não segura uma conexão enquanto espera as consultas
+ * - Resultado em cache de TTL curto (CacheConfig.DASHBOARD_GESTOR); sync evita que acessos simultâneos
+ *   com o cache vazio repitam as consultas
+ */
+@Service
+public class DashboardGestorServiceImpl implements DashboardGestorService {
+
+    /**
+     * Itens das listas de alunos recentes e mensalidades em aberto.
+     */
+    static final int ITENS_POR_LISTA = 5;
+
+    private final AlunoRepository alunoRepository;
+    private final ProfessorRepository professorRepository;
+    private final MensalidadeRepository mensalidadeRepository;
+    private final ResumoFinanceiroService resumoFinanceiroService;
+    private final AsyncTaskExecutor executor;
+
+    public DashboardGestorServiceImpl(AlunoRepository alunoRepository, ProfessorRepository professorRepository,
+                                      MensalidadeRepository mensalidadeRepository,
+                                      ResumoFinanceiroService resumoFinanceiroService,
+                                      @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor) {
+        this.alunoRepository = alunoRepository;
+        this.professorRepository = professorRepository;
+        this.mensalidadeRepository = mensalidadeRepository;
+        this.resumoFinanceiroService = resumoFinanceiroService;
+        this.executor = executor;
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD_GESTOR, sync = true)
+    public DashboardGestorDTO obterDashboard() {
+        YearMonth mes = YearMonth.now();
+        PageRequest lista = PageRequest.of(0, ITENS_POR_LISTA);
+
+        CompletableFuture<Long> alunos = consultar(alunoRepository::count);
+        CompletableFuture<Long> professores = consultar(professorRepository::count);
+        CompletableFuture<List<TotalPorStatusDTO>> totais = consultar(mensalidadeRepository::totalizarPorStatus);
+        CompletableFuture<ResumoMensalDTO> resumo = consultar(() -> resumoFinanceiroService.obterResumo(mes));
+        CompletableFuture<List<AlunoRecenteDTO>> recentes = consultar(() -> alunoRepository.listarRecentes(lista));
+        CompletableFuture<List<MensalidadeEmAbertoDTO>> emAberto =
+                consultar(() -> mensalidadeRepository.listarEmAberto(StatusMensalidade.EM_ABERTO, lista));
+
+        long pendentes = 0;
+        long atrasadas = 0;
+        double valorEmAberto = 0.0;
+        for (TotalPorStatusDTO total : aguardar(totais)) {
+            if (total.getStatus() == StatusMensalidade.ATRASADA) {
+                atrasadas = total.getQuantidade();
+            }
+            if (StatusMensalidade.EM_ABERTO.contains(total.getStatus())) {
+                pendentes += total.getQuantidade();
+                valorEmAberto += total.getTotal();
+            }
+        }
+
+        return new DashboardGestorDTO(
+                mes,
+                aguardar(alunos),
+                aguardar(professores),
+                pendentes,
+                atrasadas,
+                valorEmAberto,
+                aguardar(resumo).getReceitas(),
+                aguardar(recentes),
+                aguardar(emAberto)
+        );
+    }
+
+    private <T> CompletableFuture<T> consultar(Supplier<T> consulta) {
+        return CompletableFuture.supplyAsync(consulta, executor);
+    }
+
+    /**
+     * Resultado da consulta; uma exceção de runtime da consulta é repassada sem alteração.
+     */
+    private static <T> T aguardar(CompletableFuture<T> consulta) {
+        try {
+            return consulta.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+}
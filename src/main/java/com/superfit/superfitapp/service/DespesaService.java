@@ -4,6 +4,8 @@ import com.superfit.superfitapp.dto.despesa.DespesaCreateDTO;
 import com.superfit.superfitapp.dto.despesa.DespesaResponseDTO;
 import com.superfit.superfitapp.dto.despesa.DespesaUpdateDTO;
 import com.superfit.superfitapp.model.CategoriaDespesa;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.time.YearMonth;
 import java.util.List;
@@ -18,9 +20,14 @@ public interface DespesaService {
     DespesaResponseDTO criar(DespesaCreateDTO dto);
 
     /**
-     * Lista todas as despesas cadastradas.
+     * Lista uma página das despesas cadastradas.
      */
-    List<DespesaResponseDTO> listar();
+    Page<DespesaResponseDTO> listar(Pageable pageable);
+
+    /**
+     * Lista despesas por cursor (keyset): as próximas {@code tamanho} com ID maior que {@code aposId}.
+     */
+    List<DespesaResponseDTO> listarAposId(Long aposId, int tamanho);
 
     /**
      * Busca uma despesa pelo ID; lança exceção se não existir.
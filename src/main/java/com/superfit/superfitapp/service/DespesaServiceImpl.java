@@ -3,21 +3,28 @@ package com.superfit.superfitapp.service;
 import com.superfit.superfitapp.dto.despesa.DespesaCreateDTO;
 import com.superfit.superfitapp.dto.despesa.DespesaResponseDTO;
 import com.superfit.superfitapp.dto.despesa.DespesaUpdateDTO;
+import com.superfit.superfitapp.dto.relatorio.ResumoMensalDTO;
+import com.superfit.superfitapp.evento.DespesaAlteradaEvento;
 import com.superfit.superfitapp.model.CategoriaDespesa;
 import com.superfit.superfitapp.model.Despesa;
-import com.superfit.superfitapp.model.StatusMensalidade;
 import com.superfit.superfitapp.repository.DespesaRepository;
-import com.superfit.superfitapp.repository.MensalidadeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 public class DespesaServiceImpl implements DespesaService {
@@ -26,13 +33,17 @@ public class DespesaServiceImpl implements DespesaService {
     private DespesaRepository despesaRepository;
 
     @Autowired
-    private MensalidadeRepository mensalidadeRepository;
+    private ResumoFinanceiroService resumoFinanceiroService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     /**
      * Cria e persiste uma despesa com base nos dados do DTO.
      * Campos opcionais são tratados com valores padrão quando necessário.
      */
     @Override
+    @Transactional
     public DespesaResponseDTO criar(DespesaCreateDTO dto) {
         Despesa despesa = new Despesa();
         despesa.setDescricao(dto.getDescricao());
@@ -45,35 +56,44 @@ public class DespesaServiceImpl implements DespesaService {
         despesa.setDataCriacao(LocalDate.now());
 
         Despesa salva = despesaRepository.save(despesa);
+        contabilizarDespesa(salva, 1);
+        publicarAlteracao(salva, null);
         return toDTO(salva);
     }
 
     /**
-     * Retorna todas as despesas mapeadas para DTO.
+     * Retorna uma página de despesas, projetada direto em DTO (sem carregar entidades).
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DespesaResponseDTO> listar(Pageable pageable) {
+        return despesaRepository.listarDTO(pageable);
+    }
+
+    /**
+     * Retorna despesas por cursor (ID maior que o último recebido), sem OFFSET.
      */
     @Override
-    public List<DespesaResponseDTO> listar() {
-        return despesaRepository.findAll().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<DespesaResponseDTO> listarAposId(Long aposId, int tamanho) {
+        return despesaRepository.listarDTOAposId(aposId, PageRequest.of(0, tamanho, Sort.by("id")));
     }
 
     /**
      * Busca despesa por ID com validação de existência.
      */
     @Override
+    @Transactional(readOnly = true)
     public DespesaResponseDTO buscarPorId(Long id) {
-        Optional<Despesa> despesa = despesaRepository.findById(id);
-        if (despesa.isEmpty()) {
-            throw new IllegalArgumentException("Despesa não encontrada com ID: " + id);
-        }
-        return toDTO(despesa.get());
+        return despesaRepository.buscarDTOPorId(id)
+                .orElseThrow(() -> new IllegalArgumentException("Despesa não encontrada com ID: " + id));
     }
 
     /**
      * Atualiza somente campos presentes no DTO para evitar sobrescrever valores.
      */
     @Override
+    @Transactional
     public DespesaResponseDTO atualizar(Long id, DespesaUpdateDTO dto) {
         Optional<Despesa> despesa = despesaRepository.findById(id);
         if (despesa.isEmpty()) {
@@ -81,6 +101,8 @@ public class DespesaServiceImpl implements DespesaService {
         }
 
         Despesa d = despesa.get();
+        LocalDate dataAnterior = d.getDataDespesa();
+        contabilizarDespesa(d, -1);
         if (dto.getDescricao() != null) {
             d.setDescricao(dto.getDescricao());
         }
@@ -104,46 +126,49 @@ public class DespesaServiceImpl implements DespesaService {
         }
 
         Despesa atualizada = despesaRepository.save(d);
+        contabilizarDespesa(atualizada, 1);
+        publicarAlteracao(atualizada, dataAnterior);
         return toDTO(atualizada);
     }
 
     /**
-     * Remove a despesa, validando previamente a existência.
+     * Remove a despesa, validando previamente a existência e estornando-a do livro-razão.
      */
     @Override
+    @Transactional
     public void remover(Long id) {
-        if (!despesaRepository.existsById(id)) {
-            throw new IllegalArgumentException("Despesa não encontrada com ID: " + id);
-        }
-        despesaRepository.deleteById(id);
+        Despesa despesa = despesaRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Despesa não encontrada com ID: " + id));
+        contabilizarDespesa(despesa, -1);
+        despesaRepository.delete(despesa);
+        publicarAlteracao(despesa, null);
     }
 
     /**
      * Lista despesas por período, ordenando por data de despesa.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<DespesaResponseDTO> listarPorPeriodo(String inicio, String fim) {
         LocalDate dataInicio = LocalDate.parse(inicio);
         LocalDate dataFim = LocalDate.parse(fim);
-        return despesaRepository.findByDataDespesaBetweenOrderByDataDespesaDesc(dataInicio, dataFim).stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return despesaRepository.listarDTOPorPeriodo(dataInicio, dataFim);
     }
 
     /**
      * Lista despesas pendentes (paga = false).
      */
     @Override
+    @Transactional(readOnly = true)
     public List<DespesaResponseDTO> listarPendentes() {
-        return despesaRepository.findByPaga(false).stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return despesaRepository.listarDTOPorSituacao(false);
     }
 
     /**
      * Marca uma despesa como paga e registra a data atual.
      */
     @Override
+    @Transactional
     public void marcarComoPaga(Long id) {
         Optional<Despesa> despesa = despesaRepository.findById(id);
         if (despesa.isEmpty()) {
@@ -151,9 +176,13 @@ public class DespesaServiceImpl implements DespesaService {
         }
 
         Despesa d = despesa.get();
+        LocalDate dataAnterior = d.getDataDespesa();
+        contabilizarDespesa(d, -1);
         d.setPaga(true);
         d.setDataPagamento(LocalDate.now());
         despesaRepository.save(d);
+        contabilizarDespesa(d, 1);
+        publicarAlteracao(d, dataAnterior);
     }
 
     /**
@@ -188,24 +217,15 @@ public class DespesaServiceImpl implements DespesaService {
 
     /**
      * Gera o relatório mensal consolidando receitas e despesas do mês.
-     * Receita vem de mensalidades pagas; lucro considera apenas despesas pagas.
+     * Os totais vêm do livro-razão mensal (leitura por chave); lucro considera apenas despesas pagas.
      */
     @Override
+    @Transactional(readOnly = true)
     public Map<String, Object> obterRelatorioMensalCompleto(YearMonth mes) {
-        LocalDate primeirodia = mes.atDay(1);
-        LocalDate ultimoDia = mes.atEndOfMonth();
+        ResumoMensalDTO resumo = resumoFinanceiroService.obterResumo(mes);
 
-        // Receitas: mensalidades pagas dentro do mês.
-        Double receitas = mensalidadeRepository.findByStatus(StatusMensalidade.PAGA).stream()
-                .filter(m -> !m.getDataPagamento().isBefore(primeirodia) && 
-                            !m.getDataPagamento().isAfter(ultimoDia))
-                .mapToDouble(m -> m.getValor())
-                .sum();
-
-        // Despesas: total, pagas e pendentes para o mês.
-        Double despesas = despesaRepository.somarDespesasPorPeriodo(primeirodia, ultimoDia);
-        Double despesasPagas = despesaRepository.somarDespesasPagasPorPeriodo(primeirodia, ultimoDia);
-        Double despesasPendentes = despesaRepository.somarDespesasPendentesPorPeriodo(primeirodia, ultimoDia);
+        Double receitas = resumo.getReceitas();
+        Double despesasPagas = resumo.getDespesasPagas();
 
         // Lucro: receitas menos despesas pagas.
         Double lucro = receitas - despesasPagas;
@@ -213,9 +233,9 @@ public class DespesaServiceImpl implements DespesaService {
         Map<String, Object> relatorio = new HashMap<>();
         relatorio.put("mes", mes.toString());
         relatorio.put("receitas", receitas);
-        relatorio.put("despesasTotal", despesas);
+        relatorio.put("despesasTotal", resumo.getDespesasTotal());
         relatorio.put("despesasPagas", despesasPagas);
-        relatorio.put("despesasPendentes", despesasPendentes);
+        relatorio.put("despesasPendentes", resumo.getDespesasPendentes());
         relatorio.put("lucro", lucro);
         relatorio.put("margem", receitas > 0 ? (lucro / receitas) * 100 : 0);
 
@@ -226,10 +246,32 @@ public class DespesaServiceImpl implements DespesaService {
      * Lista despesas filtradas por categoria específica.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<DespesaResponseDTO> listarPorCategoria(CategoriaDespesa categoria) {
-        return despesaRepository.findByCategoria(categoria).stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return despesaRepository.listarDTOPorCategoria(categoria);
+    }
+
+    /**
+     * Lança a despesa no livro-razão mensal (sinal 1) ou estorna seu estado anterior (sinal -1).
+     */
+    private void contabilizarDespesa(Despesa despesa, int sinal) {
+        if (despesa.getValor() != null) {
+            resumoFinanceiroService.registrarDespesa(despesa.getDataDespesa(), sinal * despesa.getValor(), despesa.getPaga());
+        }
+    }
+
+    /**
+     * Publica a alteração para invalidar os relatórios em cache dos meses da despesa (antes e depois).
+     */
+    private void publicarAlteracao(Despesa despesa, LocalDate dataAnterior) {
+        Set<LocalDate> datas = new HashSet<>();
+        if (dataAnterior != null) {
+            datas.add(dataAnterior);
+        }
+        if (despesa.getDataDespesa() != null) {
+            datas.add(despesa.getDataDespesa());
+        }
+        eventPublisher.publishEvent(new DespesaAlteradaEvento(datas));
     }
 
     /**
@@ -0,0 +1,43 @@
+package com.superfit.superfitapp.service;
+
+import java.io.OutputStream;
+
+/**
+ * Interface de serviço das exportações em CSV/XLSX.
+ * As linhas são lidas do banco em Stream e escritas direto no OutputStream,
+ * sem montar a lista completa em memória.
+ */
+public interface ExportacaoService {
+
+    /**
+     * Exporta todas as mensalidades, ordenadas por ID.
+     * 
+     * @param formato CSV ou XLSX
+     * @param saida Stream de saída (não é fechado)
+     */
+    void exportarMensalidades(FormatoExportacao formato, OutputStream saida);
+
+    /**
+     * Exporta todas as despesas, ordenadas por ID.
+     * 
+     * @param formato CSV ou XLSX
+     * @param saida Stream de saída (não é fechado)
+     */
+    void exportarDespesas(FormatoExportacao formato, OutputStream saida);
+
+    /**
+     * Exporta o relatório de inadimplência (uma linha por aluno com mensalidades atrasadas).
+     * 
+     * @param formato CSV ou XLSX
+     * @param saida Stream de saída (não é fechado)
+     */
+    void exportarInadimplencia(FormatoExportacao formato, OutputStream saida);
+
+    /**
+     * Exporta o relatório de alunos ativos (sem mensalidades pendentes ou atrasadas).
+     * 
+     * @param formato CSV ou XLSX
+     * @param saida Stream de saída (não é fechado)
+     */
+    void exportarAlunosAtivos(FormatoExportacao formato, OutputStream saida);
+}
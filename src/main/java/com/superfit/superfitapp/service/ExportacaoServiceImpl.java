@@ -0,0 +1,128 @@
+package com.superfit.superfitapp.service;
+
+import com.superfit.superfitapp.dto.despesa.DespesaResponseDTO;
+import com.superfit.superfitapp.dto.mensalidade.MensalidadeResponseDTO;
+import com.superfit.superfitapp.dto.relatorio.AlunoResumoDTO;
+import com.superfit.superfitapp.dto.relatorio.InadimplenciaAlunoDTO;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.repository.AlunoRepository;
+import com.superfit.superfitapp.repository.DespesaRepository;
+import com.superfit.superfitapp.repository.InadimplenciaAlunoRepository;
+import com.superfit.superfitapp.repository.MensalidadeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementação das exportações.
+ *
+ * Lógica:
+ * 1. A consulta é aberta como Stream (cursor forward-only, fetch size de 500 linhas) projetando
+ *    direto no DTO, então nenhuma entidade se acumula no contexto de persistência
+ * 2. Cada linha lida é escrita na planilha (CSV ou XLSX via SXSSF) e descartada
+ * 3. A transação (somente leitura) fica aberta enquanto o Stream é consumido e o Stream é
+ *    fechado ao final, liberando o cursor
+ *
+ * O consumo de memória é constante em relação ao número de linhas exportadas.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportacaoServiceImpl implements ExportacaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportacaoServiceImpl.class);
+
+    private final MensalidadeRepository mensalidadeRepository;
+    private final DespesaRepository despesaRepository;
+    private final AlunoRepository alunoRepository;
+    private final InadimplenciaAlunoRepository inadimplenciaRepository;
+
+    public ExportacaoServiceImpl(
+            MensalidadeRepository mensalidadeRepository,
+            DespesaRepository despesaRepository,
+            AlunoRepository alunoRepository,
+            InadimplenciaAlunoRepository inadimplenciaRepository
+    ) {
+        this.mensalidadeRepository = mensalidadeRepository;
+        this.despesaRepository = despesaRepository;
+        this.alunoRepository = alunoRepository;
+        this.inadimplenciaRepository = inadimplenciaRepository;
+    }
+
+    @Override
+    public void exportarMensalidades(FormatoExportacao formato, OutputStream saida) {
+        exportar("mensalidades", formato, saida, mensalidadeRepository.streamDTO(),
+                new Object[]{"id", "alunoId", "alunoNome", "valor", "status", "dataVencimento", "dataPagamento",
+                        "mesReferencia", "anoReferencia", "dataCriacao", "observacoes"},
+                (MensalidadeResponseDTO m) -> new Object[]{
+                        m.getId(), m.getAlunoId(), m.getAlunoNome(), m.getValor(), m.getStatus(),
+                        m.getDataVencimento(), m.getDataPagamento(), m.getMesReferencia(), m.getAnoReferencia(),
+                        m.getDataCriacao(), m.getObservacoes()
+                });
+    }
+
+    @Override
+    public void exportarDespesas(FormatoExportacao formato, OutputStream saida) {
+        exportar("despesas", formato, saida, despesaRepository.streamDTO(),
+                new Object[]{"id", "descricao", "valor", "categoria", "dataDespesa", "dataPagamento", "paga",
+                        "observacoes", "dataCriacao"},
+                (DespesaResponseDTO d) -> new Object[]{
+                        d.getId(), d.getDescricao(), d.getValor(), d.getCategoria(), d.getDataDespesa(),
+                        d.getDataPagamento(), d.getPaga(), d.getObservacoes(), d.getDataCriacao()
+                });
+    }
+
+    @Override
+    public void exportarInadimplencia(FormatoExportacao formato, OutputStream saida) {
+        LocalDate hoje = LocalDate.now();
+        exportar("inadimplencia", formato, saida, inadimplenciaRepository.streamDTO(),
+                new Object[]{"alunoId", "alunoNome", "alunoEmail", "alunoCelular", "quantidadeMensalidades",
+                        "totalDevido", "vencimentoMaisAntigo", "diasAtraso"},
+                (InadimplenciaAlunoDTO i) -> new Object[]{
+                        i.getAlunoId(), i.getAlunoNome(), i.getAlunoEmail(), i.getAlunoCelular(),
+                        i.getQuantidadeMensalidades(), i.getTotalDevido(), i.getVencimentoMaisAntigo(),
+                        ChronoUnit.DAYS.between(i.getVencimentoMaisAntigo(), hoje)
+                });
+    }
+
+    @Override
+    public void exportarAlunosAtivos(FormatoExportacao formato, OutputStream saida) {
+        exportar("alunos-ativos", formato, saida,
+                alunoRepository.streamAlunosSemMensalidadeComStatus(StatusMensalidade.EM_ABERTO),
+                new Object[]{"id", "nome", "email", "telefone"},
+                (AlunoResumoDTO a) -> new Object[]{a.getId(), a.getNome(), a.getEmail(), a.getTelefone()});
+    }
+
+    /**
+     * Escreve o cabeçalho e uma linha por item do Stream, fechando o Stream ao final.
+     */
+    private <T> void exportar(String nome, FormatoExportacao formato, OutputStream saida, Stream<T> linhas,
+                              Object[] cabecalho, Linha<T> conversor) {
+        long total = 0;
+        try (linhas; PlanilhaExportacao planilha = PlanilhaExportacao.abrir(formato, saida)) {
+            planilha.linha(cabecalho);
+            Iterator<T> iterator = linhas.iterator();
+            while (iterator.hasNext()) {
+                planilha.linha(conversor.valores(iterator.next()));
+                total++;
+            }
+        } catch (IOException e) {
+            // Normalmente o cliente interrompeu o download
+            throw new UncheckedIOException("Falha ao escrever a exportação de " + nome, e);
+        }
+        log.info("Exportação concluída | tipo={} formato={} linhas={}", nome, formato, total);
+    }
+
+    @FunctionalInterface
+    private interface Linha<T> {
+        Object[] valores(T item);
+    }
+}
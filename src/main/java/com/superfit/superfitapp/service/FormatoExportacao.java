@@ -0,0 +1,40 @@
+package com.superfit.superfitapp.service;
+
+import java.util.Locale;
+
+/**
+ * Formatos aceitos pelas exportações (/api/exportacoes/*).
+ */
+public enum FormatoExportacao {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extensao;
+
+    FormatoExportacao(String contentType, String extensao) {
+        this.contentType = contentType;
+        this.extensao = extensao;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    /**
+     * Converte o parâmetro da requisição (csv/xlsx, sem diferenciar maiúsculas).
+     *
+     * @throws IllegalArgumentException se o formato não for suportado
+     */
+    public static FormatoExportacao de(String formato) {
+        try {
+            return valueOf(formato.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Formato de exportação inválido: " + formato + " (use csv ou xlsx)");
+        }
+    }
+}
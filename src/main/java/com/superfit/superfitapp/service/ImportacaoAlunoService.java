@@ -0,0 +1,29 @@
+package com.superfit.superfitapp.service;
+
+import com.superfit.superfitapp.dto.admin.ImportacaoAlunosDTO;
+
+import java.io.InputStream;
+
+/**
+ * Interface de serviço para a importação de alunos em lote.
+ * Cada linha válida gera um User (ROLE_ALUNO) e um Aluno vinculado, como em AdminService.cadastrarAluno.
+ */
+public interface ImportacaoAlunoService {
+
+    /**
+     * Importa alunos de um CSV com cabeçalho (nome, email, telefone, dataNascimento, password).
+     * 
+     * @param csv Conteúdo do arquivo, lido em streaming
+     * @return Totais e erros por linha
+     * @throws IllegalArgumentException se o arquivo estiver vazio ou sem colunas obrigatórias
+     */
+    ImportacaoAlunosDTO importarCsv(InputStream csv);
+
+    /**
+     * Importa alunos de um array JSON de AlunoCreateDTO.
+     * 
+     * @param json Conteúdo do array, lido em streaming
+     * @return Totais e erros por item (linha = posição no array, a partir de 1)
+     */
+    ImportacaoAlunosDTO importarJson(InputStream json);
+}
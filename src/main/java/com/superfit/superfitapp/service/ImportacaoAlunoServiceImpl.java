@@ -0,0 +1,339 @@
+package com.superfit.superfitapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.superfit.superfitapp.dto.admin.AlunoCreateDTO;
+import com.superfit.superfitapp.dto.admin.ErroImportacaoDTO;
+import com.superfit.superfitapp.dto.admin.ImportacaoAlunosDTO;
+import com.superfit.superfitapp.evento.AlunoAlteradoEvento;
+import com.superfit.superfitapp.model.Aluno;
+import com.superfit.superfitapp.model.Role;
+import com.superfit.superfitapp.model.User;
+import com.superfit.superfitapp.repository.AlunoRepository;
+import com.superfit.superfitapp.repository.UserRepository;
+import com.superfit.superfitapp.security.ExecutorHashSenhas;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação da importação de alunos em lote.
+ *
+ * Lógica (por lote de TAMANHO_LOTE linhas):
+ * 1. Valida cada linha com as mesmas regras do AlunoCreateDTO e descarta emails repetidos no arquivo
+ * 2. Consulta de uma vez quais emails do lote já existem (AlunoRepository.buscarEmailsEmUso)
+ * 3. Calcula os hashes das senhas em paralelo no pool limitado de hash (ExecutorHashSenhas),
+ *    o mesmo dos logins, em fatias pequenas que deixam uma thread livre para eles; com o pool
+ *    saturado, as linhas do lote voltam como erro
+ * 4. Grava users e alunos em uma transação por lote; com IDs por sequência e
+ *    hibernate.jdbc.batch_size, os INSERTs vão ao banco em lotes JDBC; cada lote gravado publica
+ *    um AlunoAlteradoEvento (relatórios em cache)
+ *
+ * A entrada é lida em streaming e só um lote fica em memória. Linhas com erro não
+ * interrompem a importação: são devolvidas com número da linha, email e mensagem.
+ */
+@Service
+public class ImportacaoAlunoServiceImpl implements ImportacaoAlunoService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportacaoAlunoServiceImpl.class);
+
+    static final int TAMANHO_LOTE = 500;
+
+    private static final List<String> COLUNAS_OBRIGATORIAS = List.of("nome", "email", "telefone", "password");
+
+    private final AlunoRepository alunoRepository;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorHashSenhas executorHashSenhas;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ImportacaoAlunoServiceImpl(
+            AlunoRepository alunoRepository,
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            ExecutorHashSenhas executorHashSenhas,
+            Validator validator,
+            ObjectMapper objectMapper,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.alunoRepository = alunoRepository;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.executorHashSenhas = executorHashSenhas;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Importa alunos de um CSV.
+     * O separador (vírgula ou ponto e vírgula) é detectado pelo cabeçalho; a coluna "senha"
+     * é aceita como sinônimo de "password" e campos podem vir entre aspas.
+     */
+    @Override
+    public ImportacaoAlunosDTO importarCsv(InputStream csv) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String cabecalho = reader.readLine();
+            if (cabecalho == null || cabecalho.isBlank()) {
+                throw new IllegalArgumentException("Arquivo CSV vazio");
+            }
+            if (cabecalho.startsWith("\uFEFF")) {
+                cabecalho = cabecalho.substring(1);
+            }
+
+            char separador = cabecalho.indexOf(';') >= 0 ? ';' : ',';
+            Map<String, Integer> colunas = mapearColunas(separarCampos(cabecalho, separador));
+
+            Importacao importacao = new Importacao();
+            long numeroLinha = 1;
+            String linha;
+            while ((linha = reader.readLine()) != null) {
+                numeroLinha++;
+                if (linha.isBlank()) {
+                    continue;
+                }
+                List<String> campos = separarCampos(linha, separador);
+                importacao.adicionar(numeroLinha, new AlunoCreateDTO(
+                        campo(campos, colunas, "nome"),
+                        campo(campos, colunas, "email"),
+                        campo(campos, colunas, "telefone"),
+                        campo(campos, colunas, "datanascimento"),
+                        campo(campos, colunas, "password")
+                ));
+            }
+            return importacao.concluir();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Falha ao ler o arquivo CSV", e);
+        }
+    }
+
+    /**
+     * Importa alunos de um array JSON.
+     * Os itens são lidos um a um (MappingIterator). Um erro de sintaxe encerra a leitura:
+     * é registrado na posição em que ocorreu e os itens válidos anteriores são gravados.
+     */
+    @Override
+    public ImportacaoAlunosDTO importarJson(InputStream json) {
+        Importacao importacao = new Importacao();
+        long posicao = 0;
+        try (MappingIterator<AlunoCreateDTO> itens = objectMapper.readerFor(AlunoCreateDTO.class).readValues(json)) {
+            while (itens.hasNextValue()) {
+                posicao++;
+                importacao.adicionar(posicao, itens.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            importacao.registrarErro(posicao + 1, null, "JSON inválido: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Falha ao ler o JSON", e);
+        }
+        return importacao.concluir();
+    }
+
+    /**
+     * Estado de uma importação: lote pendente, emails já vistos no arquivo e totais.
+     */
+    private class Importacao {
+
+        private final List<LinhaImportacao> lote = new ArrayList<>(TAMANHO_LOTE);
+        private final Set<String> emailsDoArquivo = new HashSet<>();
+        private final List<ErroImportacaoDTO> erros = new ArrayList<>();
+        private long totalLinhas;
+        private long importados;
+
+        void adicionar(long numeroLinha, AlunoCreateDTO dto) {
+            totalLinhas++;
+            if (dto == null) {
+                erros.add(new ErroImportacaoDTO(numeroLinha, null, "Item vazio"));
+                return;
+            }
+
+            Set<ConstraintViolation<AlunoCreateDTO>> violacoes = validator.validate(dto);
+            if (!violacoes.isEmpty()) {
+                erros.add(new ErroImportacaoDTO(numeroLinha, dto.email(), violacoes.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "))));
+                return;
+            }
+            if (!emailsDoArquivo.add(dto.email())) {
+                erros.add(new ErroImportacaoDTO(numeroLinha, dto.email(), "Email repetido no arquivo"));
+                return;
+            }
+
+            lote.add(new LinhaImportacao(numeroLinha, dto));
+            if (lote.size() >= TAMANHO_LOTE) {
+                gravarLote();
+            }
+        }
+
+        void registrarErro(long numeroLinha, String email, String mensagem) {
+            erros.add(new ErroImportacaoDTO(numeroLinha, email, mensagem));
+        }
+
+        ImportacaoAlunosDTO concluir() {
+            gravarLote();
+            log.info("Importação de alunos concluída | linhas={} importados={} erros={}",
+                    totalLinhas, importados, erros.size());
+            return new ImportacaoAlunosDTO(totalLinhas, importados, List.copyOf(erros));
+        }
+
+        private void gravarLote() {
+            if (lote.isEmpty()) {
+                return;
+            }
+
+            Set<String> emailsEmUso = new HashSet<>(alunoRepository.buscarEmailsEmUso(
+                    lote.stream().map(linha -> linha.dto().email()).toList()));
+
+            List<LinhaImportacao> novas = new ArrayList<>(lote.size());
+            for (LinhaImportacao linha : lote) {
+                if (emailsEmUso.contains(linha.dto().email())) {
+                    erros.add(new ErroImportacaoDTO(linha.numero(), linha.dto().email(), "Email já cadastrado"));
+                } else {
+                    novas.add(linha);
+                }
+            }
+            lote.clear();
+
+            // Hash é a etapa mais cara; roda em paralelo fora da transação
+            List<String> hashes;
+            try {
+                hashes = executorHashSenhas.executarTodos(novas,
+                        linha -> passwordEncoder.encode(linha.dto().password()));
+            } catch (RejectedExecutionException e) {
+                log.warn("Pool de hash de senha indisponível na importação de alunos | linhas={}", novas.size());
+                for (LinhaImportacao linha : novas) {
+                    erros.add(new ErroImportacaoDTO(linha.numero(), linha.dto().email(),
+                            "Servidor ocupado calculando senhas; importe a linha novamente"));
+                }
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> persistir(novas, hashes));
+                importados += novas.size();
+            } catch (DataAccessException e) {
+                log.warn("Falha ao gravar lote da importação de alunos | linhas={}", novas.size(), e);
+                for (LinhaImportacao linha : novas) {
+                    erros.add(new ErroImportacaoDTO(linha.numero(), linha.dto().email(),
+                            "Falha ao gravar o lote: " + e.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+    }
+
+    private void persistir(List<LinhaImportacao> linhas, List<String> hashes) {
+        List<User> users = new ArrayList<>(linhas.size());
+        List<Aluno> alunos = new ArrayList<>(linhas.size());
+
+        for (int i = 0; i < linhas.size(); i++) {
+            AlunoCreateDTO dto = linhas.get(i).dto();
+
+            User user = new User(dto.email(), hashes.get(i), Role.ROLE_ALUNO);
+            Aluno aluno = new Aluno(dto.nome(), dto.email(), dto.telefone(), dto.dataNascimento());
+            aluno.setUser(user);
+
+            users.add(user);
+            alunos.add(aluno);
+        }
+
+        userRepository.saveAll(users);
+        alunoRepository.saveAll(alunos);
+
+        // Envia os INSERTs do lote e libera as entidades do contexto de persistência
+        entityManager.flush();
+        entityManager.clear();
+        eventPublisher.publishEvent(new AlunoAlteradoEvento(null));
+    }
+
+    private static Map<String, Integer> mapearColunas(List<String> cabecalho) {
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < cabecalho.size(); i++) {
+            String nome = cabecalho.get(i).toLowerCase(Locale.ROOT).replace("_", "");
+            colunas.putIfAbsent("senha".equals(nome) ? "password" : nome, i);
+        }
+
+        for (String obrigatoria : COLUNAS_OBRIGATORIAS) {
+            if (!colunas.containsKey(obrigatoria)) {
+                throw new IllegalArgumentException("Coluna obrigatória ausente no CSV: " + obrigatoria);
+            }
+        }
+        return colunas;
+    }
+
+    private static String campo(List<String> campos, Map<String, Integer> colunas, String coluna) {
+        Integer indice = colunas.get(coluna);
+        if (indice == null || indice >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(indice);
+        return valor.isEmpty() ? null : valor;
+    }
+
+    /**
+     * Separa uma linha CSV, respeitando campos entre aspas (com "" como aspas escapadas).
+     * Os valores são devolvidos sem espaços nas extremidades.
+     */
+    static List<String> separarCampos(String linha, char separador) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreAspas = false;
+                } else {
+                    atual.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == separador) {
+                campos.add(atual.toString().trim());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        campos.add(atual.toString().trim());
+        return campos;
+    }
+
+    private record LinhaImportacao(long numero, AlunoCreateDTO dto) {}
+}
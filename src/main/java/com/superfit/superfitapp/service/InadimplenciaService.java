@@ -0,0 +1,39 @@
+package com.superfit.superfitapp.service;
+
+import com.superfit.superfitapp.dto.mensalidade.VarreduraAtrasosDTO;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Interface de serviço da inadimplência: marca mensalidades vencidas como ATRASADA
+ * e mantém o resumo de inadimplência por aluno (inadimplencia_aluno).
+ */
+public interface InadimplenciaService {
+
+    /**
+     * Marca como ATRASADA as mensalidades PENDENTE com vencimento anterior à data de corte
+     * e recalcula o resumo dos alunos afetados.
+     * 
+     * @param dataCorte Data de referência (normalmente hoje)
+     * @return Resultado da execução
+     * @throws IllegalStateException se outra varredura estiver em andamento
+     */
+    VarreduraAtrasosDTO atualizarAtrasos(LocalDate dataCorte);
+
+    /**
+     * Resultado da última varredura.
+     * 
+     * @return Optional vazio se nenhuma varredura foi executada desde o início da aplicação
+     */
+    Optional<VarreduraAtrasosDTO> ultimaExecucao();
+
+    /**
+     * Recalcula o resumo de inadimplência dos alunos informados a partir das mensalidades ATRASADA.
+     * Deve ser chamado dentro da transação da alteração que o originou.
+     * 
+     * @param alunoIds IDs dos alunos
+     */
+    void recalcularAlunos(Collection<Long> alunoIds);
+}
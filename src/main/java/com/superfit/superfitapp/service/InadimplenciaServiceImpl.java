@@ -0,0 +1,166 @@
+package com.superfit.superfitapp.service;
+
+import com.superfit.superfitapp.dto.mensalidade.VarreduraAtrasosDTO;
+import com.superfit.superfitapp.evento.MensalidadeAlteradaEvento;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.repository.InadimplenciaAlunoRepository;
+import com.superfit.superfitapp.repository.MensalidadeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implementação da detecção de atrasos e do resumo de inadimplência.
+ *
+ * Lógica da varredura:
+ * 1. Percorre por cursor (ID) as mensalidades PENDENTE vencidas antes da data de corte,
+ *    em lotes de app.inadimplencia.tamanho-lote
+ * 2. Cada lote é uma transação: um UPDATE em lote para ATRASADA (só as que continuam PENDENTE,
+ *    caso alguma tenha sido paga no meio tempo) e o recálculo do resumo dos alunos do lote
+ * 3. O recálculo apaga as linhas dos alunos e as reinsere agregando as mensalidades ATRASADA
+ *    no banco (INSERT ... SELECT ... GROUP BY), sem carregar entidades. Antes, as linhas dos alunos
+ *    são travadas (SELECT ... FOR UPDATE): duas transações recalculando o mesmo aluno sem resumo
+ *    apagariam nada e as duas inseririam, e a segunda violaria a chave aluno_id
+ * 4. Lotes com mensalidades marcadas publicam um MensalidadeAlteradaEvento (relatórios em cache)
+ *
+ * As alterações manuais de mensalidades (pagamento, edição, remoção) recalculam o aluno
+ * na mesma transação, pelo MensalidadeServiceImpl.
+ *
+ * Execução agendada por app.inadimplencia.cron (diária por padrão) ou manual via
+ * POST /api/mensalidades/atrasos.
+ */
+@Service
+public class InadimplenciaServiceImpl implements InadimplenciaService {
+
+    private static final Logger log = LoggerFactory.getLogger(InadimplenciaServiceImpl.class);
+
+    private final MensalidadeRepository mensalidadeRepository;
+    private final InadimplenciaAlunoRepository inadimplenciaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean emExecucao = new AtomicBoolean(false);
+    private final AtomicReference<VarreduraAtrasosDTO> ultimaExecucao = new AtomicReference<>();
+
+    @Value("${app.inadimplencia.tamanho-lote:1000}")
+    private int tamanhoLote;
+
+    public InadimplenciaServiceImpl(
+            MensalidadeRepository mensalidadeRepository,
+            InadimplenciaAlunoRepository inadimplenciaRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.mensalidadeRepository = mensalidadeRepository;
+        this.inadimplenciaRepository = inadimplenciaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public VarreduraAtrasosDTO atualizarAtrasos(LocalDate dataCorte) {
+        if (!emExecucao.compareAndSet(false, true)) {
+            throw new IllegalStateException("Já existe uma varredura de atrasos em andamento");
+        }
+
+        try {
+            return executar(dataCorte);
+        } finally {
+            emExecucao.set(false);
+        }
+    }
+
+    @Override
+    public Optional<VarreduraAtrasosDTO> ultimaExecucao() {
+        return Optional.ofNullable(ultimaExecucao.get());
+    }
+
+    /**
+     * Varredura agendada com a data de hoje como corte.
+     */
+    @Scheduled(cron = "${app.inadimplencia.cron:0 5 0 * * *}")
+    public void atualizarAtrasosDoDia() {
+        try {
+            atualizarAtrasos(LocalDate.now());
+        } catch (IllegalStateException e) {
+            log.warn("Varredura de atrasos agendada ignorada: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recalcularAlunos(Collection<Long> alunoIds) {
+        if (alunoIds.isEmpty()) {
+            return;
+        }
+        inadimplenciaRepository.bloquearAlunos(alunoIds);
+        inadimplenciaRepository.removerPorAlunos(alunoIds);
+        inadimplenciaRepository.inserirPorAlunos(alunoIds, LocalDateTime.now());
+    }
+
+    private VarreduraAtrasosDTO executar(LocalDate dataCorte) {
+        LocalDateTime inicio = LocalDateTime.now();
+        long atrasadas = 0;
+        long alunos = 0;
+        int lotes = 0;
+        long aposId = 0L;
+
+        log.info("Varredura de atrasos iniciada | dataCorte={}", dataCorte);
+
+        while (true) {
+            long cursor = aposId;
+            ResultadoLote lote = transactionTemplate.execute(status -> processarLote(dataCorte, cursor));
+            if (lote.ultimoId() == null) {
+                break;
+            }
+
+            aposId = lote.ultimoId();
+            atrasadas += lote.atrasadas();
+            alunos += lote.alunos();
+            lotes++;
+        }
+
+        VarreduraAtrasosDTO resultado = new VarreduraAtrasosDTO(
+                dataCorte, atrasadas, alunos, lotes, inicio, LocalDateTime.now());
+        ultimaExecucao.set(resultado);
+        log.info("Varredura de atrasos concluída | dataCorte={} atrasadas={} alunos={} lotes={}",
+                dataCorte, atrasadas, alunos, lotes);
+        return resultado;
+    }
+
+    private ResultadoLote processarLote(LocalDate dataCorte, long aposId) {
+        List<Long> ids = mensalidadeRepository.listarIdsVencidosAposId(
+                StatusMensalidade.PENDENTE, dataCorte, aposId, PageRequest.of(0, tamanhoLote, Sort.by("id")));
+        if (ids.isEmpty()) {
+            return new ResultadoLote(null, 0, 0);
+        }
+
+        int atrasadas = mensalidadeRepository.marcarComoAtrasadas(ids);
+        List<Long> alunoIds = mensalidadeRepository.listarAlunoIdsPorIds(ids);
+        recalcularAlunos(alunoIds);
+        if (atrasadas > 0) {
+            eventPublisher.publishEvent(MensalidadeAlteradaEvento.emLote());
+        }
+
+        return new ResultadoLote(ids.get(ids.size() - 1), atrasadas, alunoIds.size());
+    }
+
+    private record ResultadoLote(Long ultimoId, int atrasadas, int alunos) {}
+}
@@ -5,6 +5,9 @@ import com.superfit.superfitapp.dto.medidas.MedidasCreateDTO;
 import com.superfit.superfitapp.dto.medidas.MedidasResponseDTO;
 import com.superfit.superfitapp.dto.medidas.MedidasUpdateDTO;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 /**
@@ -44,9 +47,19 @@ public interface MedidasService {
      * Professor: retorna medidas de todos os seus alunos.
      * Aluno: retorna apenas suas próprias medidas.
      * 
-     * @return Lista de DTOs com as medidas
+     * @param pageable Página, tamanho e ordenação
+     * @return Página de DTOs com as medidas
+     */
+    Page<MedidasResponseDTO> listarTodas(Pageable pageable);
+
+    /**
+     * Mesma regra de {@link #listarTodas(Pageable)}, por cursor (keyset) a partir do último ID recebido.
+     * 
+     * @param aposId Último ID recebido (0 para começar do início)
+     * @param tamanho Quantidade máxima de medidas
+     * @return Lista de DTOs ordenada por ID
      */
-    List<MedidasResponseDTO> listarTodas();
+    List<MedidasResponseDTO> listarTodasAposId(Long aposId, int tamanho);
 
     /**
      * Lista todas as medidas de um aluno específico em ordem decrescente de data.
@@ -10,6 +10,10 @@ import com.superfit.superfitapp.model.Professor;
 import com.superfit.superfitapp.repository.AlunoRepository;
 import com.superfit.superfitapp.repository.MedidasRepository;
 import com.superfit.superfitapp.repository.ProfessorRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -114,37 +118,47 @@ public class MedidasServiceImpl implements MedidasService {
     /**
      * Lista medidas de acordo com o tipo de usuário autenticado.
      * Professor: retorna medidas de todos os alunos sob sua supervisão.
-     * Aluno: retorna apenas suas próprias medidas em ordem decrescente de data.
+     * Aluno: retorna apenas suas próprias medidas.
+     * A ordenação vem do Pageable (o controller usa data decrescente como padrão).
      * 
-     * @return Lista de DTOs com as medidas do usuário
+     * @param pageable Página, tamanho e ordenação
+     * @return Página de DTOs com as medidas do usuário
      */
     @Override
-    public List<MedidasResponseDTO> listarTodas() {
+    @Transactional(readOnly = true)
+    public Page<MedidasResponseDTO> listarTodas(Pageable pageable) {
         String email = SecurityContextHolder.getContext()
                 .getAuthentication()
                 .getName();
 
-        // Buscar professor pelo email
-        Professor professor = professorRepository.findByEmail(email).orElse(null);
-
-        if (professor != null) {
+        if (professorRepository.existsByEmail(email)) {
             // Se for professor, retorna medidas de todos os seus alunos
-            return medidasRepository.findByProfessorEmail(email)
-                    .stream()
-                    .map(this::toResponseDTO)
-                    .collect(Collectors.toList());
+            return medidasRepository.listarDTOPorProfessorEmail(email, pageable);
         }
 
-        // Se for aluno, retorna apenas suas medidas
-        Aluno aluno = alunoRepository.findByEmail(email).orElse(null);
-        if (aluno != null) {
-            return medidasRepository.findByAlunoIdOrderByDataDesc(aluno.getId())
-                    .stream()
-                    .map(this::toResponseDTO)
-                    .collect(Collectors.toList());
-        }
+        // Se for aluno, retorna apenas suas medidas (vazio para qualquer outro usuário)
+        return medidasRepository.listarDTOPorAlunoEmail(email, pageable);
+    }
+
+    /**
+     * Mesma regra de listarTodas, por cursor (ID maior que o último recebido), sem OFFSET.
+     * 
+     * @param aposId Último ID recebido
+     * @param tamanho Quantidade máxima de medidas
+     * @return Lista de DTOs ordenada por ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MedidasResponseDTO> listarTodasAposId(Long aposId, int tamanho) {
+        String email = SecurityContextHolder.getContext()
+                .getAuthentication()
+                .getName();
+        Pageable limite = PageRequest.of(0, tamanho, Sort.by("id"));
 
-        return List.of();
+        if (professorRepository.existsByEmail(email)) {
+            return medidasRepository.listarDTOPorProfessorEmailAposId(email, aposId, limite);
+        }
+        return medidasRepository.listarDTOPorAlunoEmailAposId(email, aposId, limite);
     }
 
     /**
@@ -155,13 +169,9 @@ public class MedidasServiceImpl implements MedidasService {
      * @return Lista de DTOs com as medidas do aluno
      */
     @Override
+    @Transactional(readOnly = true)
     public List<MedidasResponseDTO> listarPorAluno(Long alunoId) {
-        return medidasRepository.findByAlunoIdOrderByDataDesc(
-                Objects.requireNonNull(alunoId, "alunoId")
-        )
-                .stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return medidasRepository.listarDTOPorAluno(Objects.requireNonNull(alunoId, "alunoId"));
     }
 
     /**
@@ -229,12 +239,10 @@ public class MedidasServiceImpl implements MedidasService {
      * @throws RuntimeException se a medida não for encontrada
      */
     @Override
+    @Transactional(readOnly = true)
     public MedidasResponseDTO buscarPorId(Long id) {
-        Medidas medidas = medidasRepository.findById(
-                Objects.requireNonNull(id, "id")
-        ).orElseThrow(() -> new RuntimeException("Medidas não encontradas"));
-
-        return toResponseDTO(medidas);
+        return medidasRepository.buscarDTOPorId(Objects.requireNonNull(id, "id"))
+                .orElseThrow(() -> new RuntimeException("Medidas não encontradas"));
     }
 
     /**
@@ -5,6 +5,9 @@ import com.superfit.superfitapp.dto.mensalidade.MensalidadeResponseDTO;
 import com.superfit.superfitapp.dto.mensalidade.MensalidadeUpdateDTO;
 import com.superfit.superfitapp.model.StatusMensalidade;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 /**
@@ -19,16 +22,26 @@ public interface MensalidadeService {
      * 
      * @param dto Dados da mensalidade (alunoId, valor, status, dataVencimento, mês, ano, observações)
      * @return DTO com os dados da mensalidade criada
-     * @throws IllegalArgumentException se o aluno não for encontrado
+     * @throws IllegalArgumentException se o aluno não for encontrado ou já tiver mensalidade no mês de referência
      */
     MensalidadeResponseDTO criar(MensalidadeCreateDTO dto);
 
     /**
-     * Lista todas as mensalidades cadastradas.
+     * Lista uma página das mensalidades cadastradas.
+     * 
+     * @param pageable Página, tamanho e ordenação
+     * @return Página de DTOs com as mensalidades
+     */
+    Page<MensalidadeResponseDTO> listar(Pageable pageable);
+
+    /**
+     * Lista mensalidades por cursor (keyset): as próximas {@code tamanho} com ID maior que {@code aposId}.
      * 
-     * @return Lista de DTOs com todas as mensalidades
+     * @param aposId Último ID recebido (0 para começar do início)
+     * @param tamanho Quantidade máxima de mensalidades
+     * @return Lista de DTOs ordenada por ID
      */
-    List<MensalidadeResponseDTO> listar();
+    List<MensalidadeResponseDTO> listarAposId(Long aposId, int tamanho);
 
     /**
      * Lista todas as mensalidades de um aluno específico.
@@ -77,9 +90,9 @@ public interface MensalidadeService {
     void remover(Long id);
 
     /**
-     * Lista todas as mensalidades com status PENDENTE.
+     * Lista todas as mensalidades em aberto (PENDENTE ou ATRASADA).
      * 
-     * @return Lista de DTOs com mensalidades pendentes
+     * @return Lista de DTOs com mensalidades em aberto
      */
     List<MensalidadeResponseDTO> listarPendentes();
 
@@ -93,10 +106,10 @@ public interface MensalidadeService {
     void marcarComoPaga(Long id);
 
     /**
-     * Conta quantas mensalidades pendentes um aluno possui.
+     * Conta quantas mensalidades em aberto um aluno possui.
      * 
      * @param alunoId ID do aluno
-     * @return Número de mensalidades com status PENDENTE
+     * @return Número de mensalidades com status PENDENTE ou ATRASADA
      */
     long countPendentesPorAluno(Long alunoId);
 }
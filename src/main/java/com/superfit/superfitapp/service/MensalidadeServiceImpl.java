@@ -3,18 +3,26 @@ package com.superfit.superfitapp.service;
 import com.superfit.superfitapp.dto.mensalidade.MensalidadeCreateDTO;
 import com.superfit.superfitapp.dto.mensalidade.MensalidadeResponseDTO;
 import com.superfit.superfitapp.dto.mensalidade.MensalidadeUpdateDTO;
+import com.superfit.superfitapp.evento.MensalidadeAlteradaEvento;
 import com.superfit.superfitapp.model.Aluno;
 import com.superfit.superfitapp.model.Mensalidade;
 import com.superfit.superfitapp.model.StatusMensalidade;
 import com.superfit.superfitapp.repository.AlunoRepository;
 import com.superfit.superfitapp.repository.MensalidadeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * Implementação do serviço de gerenciamento de Mensalidades.
@@ -29,20 +37,35 @@ public class MensalidadeServiceImpl implements MensalidadeService {
     @Autowired
     private AlunoRepository alunoRepository;
 
+    @Autowired
+    private ResumoFinanceiroService resumoFinanceiroService;
+
+    @Autowired
+    private InadimplenciaService inadimplenciaService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Cria uma nova mensalidade para um aluno.
      * Busca o aluno por ID, define os dados da mensalidade e a data de criação como LocalDate.now().
      * 
      * @param dto Dados da mensalidade (alunoId, valor, status, dataVencimento, mêsReferencia, anoReferencia, observações)
      * @return DTO com a mensalidade criada
-     * @throws IllegalArgumentException se o aluno não for encontrado
+     * @throws IllegalArgumentException se o aluno não for encontrado ou já tiver mensalidade no mês de referência
      */
     @Override
+    @Transactional
     public MensalidadeResponseDTO criar(MensalidadeCreateDTO dto) {
         Optional<Aluno> aluno = alunoRepository.findById(dto.getAlunoId());
         if (aluno.isEmpty()) {
             throw new IllegalArgumentException("Aluno não encontrado com ID: " + dto.getAlunoId());
         }
+        if (mensalidadeRepository.findByAlunoIdAndMesReferenciaAndAnoReferencia(
+                dto.getAlunoId(), dto.getMesReferencia(), dto.getAnoReferencia()).isPresent()) {
+            throw new IllegalArgumentException("Aluno já possui mensalidade em "
+                    + dto.getMesReferencia() + "/" + dto.getAnoReferencia());
+        }
 
         Mensalidade mensalidade = new Mensalidade();
         mensalidade.setAluno(aluno.get());
@@ -55,20 +78,35 @@ public class MensalidadeServiceImpl implements MensalidadeService {
         mensalidade.setDataCriacao(LocalDate.now());
 
         Mensalidade salva = mensalidadeRepository.save(mensalidade);
+        contabilizarReceita(salva, 1);
+        atualizarInadimplencia(salva, null);
+        publicarAlteracao(salva, null);
         return toDTO(salva);
     }
 
     /**
-     * Lista todas as mensalidades cadastradas no sistema.
-     * Utiliza stream para converter cada entidade em DTO.
+     * Lista uma página das mensalidades cadastradas.
+     * 
+     * @param pageable Página, tamanho e ordenação
+     * @return Página de DTOs com as mensalidades
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<MensalidadeResponseDTO> listar(Pageable pageable) {
+        return mensalidadeRepository.listarDTO(pageable);
+    }
+
+    /**
+     * Lista mensalidades por cursor (ID maior que o último recebido), sem OFFSET.
      * 
-     * @return Lista de DTOs com todas as mensalidades
+     * @param aposId Último ID recebido
+     * @param tamanho Quantidade máxima de mensalidades
+     * @return Lista de DTOs ordenada por ID
      */
     @Override
-    public List<MensalidadeResponseDTO> listar() {
-        return mensalidadeRepository.findAll().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<MensalidadeResponseDTO> listarAposId(Long aposId, int tamanho) {
+        return mensalidadeRepository.listarDTOAposId(aposId, PageRequest.of(0, tamanho, Sort.by("id")));
     }
 
     /**
@@ -79,10 +117,9 @@ public class MensalidadeServiceImpl implements MensalidadeService {
      * @return Lista de DTOs com as mensalidades do aluno
      */
     @Override
+    @Transactional(readOnly = true)
     public List<MensalidadeResponseDTO> listarPorAluno(Long alunoId) {
-        return mensalidadeRepository.findByAlunoIdOrderByDataVencimentoDesc(alunoId).stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return mensalidadeRepository.listarDTOPorAluno(alunoId);
     }
 
     /**
@@ -93,10 +130,9 @@ public class MensalidadeServiceImpl implements MensalidadeService {
      * @return Lista de DTOs com as mensalidades que atendem aos critérios
      */
     @Override
+    @Transactional(readOnly = true)
     public List<MensalidadeResponseDTO> listarPorAlunoEStatus(Long alunoId, StatusMensalidade status) {
-        return mensalidadeRepository.findByAlunoIdAndStatus(alunoId, status).stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return mensalidadeRepository.listarDTOPorAlunoEStatus(alunoId, status);
     }
 
     /**
@@ -107,12 +143,10 @@ public class MensalidadeServiceImpl implements MensalidadeService {
      * @throws IllegalArgumentException se a mensalidade não for encontrada
      */
     @Override
+    @Transactional(readOnly = true)
     public MensalidadeResponseDTO buscarPorId(Long id) {
-        Optional<Mensalidade> mensalidade = mensalidadeRepository.findById(id);
-        if (mensalidade.isEmpty()) {
-            throw new IllegalArgumentException("Mensalidade não encontrada com ID: " + id);
-        }
-        return toDTO(mensalidade.get());
+        return mensalidadeRepository.buscarDTOPorId(id)
+                .orElseThrow(() -> new IllegalArgumentException("Mensalidade não encontrada com ID: " + id));
     }
 
     /**
@@ -126,6 +160,7 @@ public class MensalidadeServiceImpl implements MensalidadeService {
      * @throws IllegalArgumentException se a mensalidade não for encontrada
      */
     @Override
+    @Transactional
     public MensalidadeResponseDTO atualizar(Long id, MensalidadeUpdateDTO dto) {
         Optional<Mensalidade> mensalidade = mensalidadeRepository.findById(id);
         if (mensalidade.isEmpty()) {
@@ -133,6 +168,9 @@ public class MensalidadeServiceImpl implements MensalidadeService {
         }
 
         Mensalidade m = mensalidade.get();
+        StatusMensalidade statusAnterior = m.getStatus();
+        LocalDate receitaAnterior = dataReceita(m);
+        contabilizarReceita(m, -1);
         if (dto.getValor() != null) {
             m.setValor(dto.getValor());
         }
@@ -153,34 +191,39 @@ public class MensalidadeServiceImpl implements MensalidadeService {
         }
 
         Mensalidade atualizada = mensalidadeRepository.save(m);
+        contabilizarReceita(atualizada, 1);
+        atualizarInadimplencia(atualizada, statusAnterior);
+        publicarAlteracao(atualizada, receitaAnterior);
         return toDTO(atualizada);
     }
 
     /**
      * Remove uma mensalidade do sistema.
-     * Verifica existência antes de deletar.
+     * Verifica existência antes de deletar e estorna a receita no livro-razão mensal.
      * 
      * @param id ID da mensalidade a ser removida
      * @throws IllegalArgumentException se a mensalidade não for encontrada
      */
     @Override
+    @Transactional
     public void remover(Long id) {
-        if (!mensalidadeRepository.existsById(id)) {
-            throw new IllegalArgumentException("Mensalidade não encontrada com ID: " + id);
-        }
-        mensalidadeRepository.deleteById(id);
+        Mensalidade mensalidade = mensalidadeRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Mensalidade não encontrada com ID: " + id));
+        contabilizarReceita(mensalidade, -1);
+        mensalidadeRepository.delete(mensalidade);
+        atualizarInadimplencia(mensalidade, null);
+        publicarAlteracao(mensalidade, null);
     }
 
     /**
-     * Lista todas as mensalidades com status PENDENTE.
+     * Lista todas as mensalidades em aberto (PENDENTE ou ATRASADA).
      * 
-     * @return Lista de DTOs com mensalidades pendentes de todos os alunos
+     * @return Lista de DTOs com mensalidades em aberto de todos os alunos
      */
     @Override
+    @Transactional(readOnly = true)
     public List<MensalidadeResponseDTO> listarPendentes() {
-        return mensalidadeRepository.findByStatus(StatusMensalidade.PENDENTE).stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return mensalidadeRepository.listarDTOPorStatusEm(StatusMensalidade.EM_ABERTO);
     }
 
     /**
@@ -191,6 +234,7 @@ public class MensalidadeServiceImpl implements MensalidadeService {
      * @throws IllegalArgumentException se a mensalidade não for encontrada
      */
     @Override
+    @Transactional
     public void marcarComoPaga(Long id) {
         Optional<Mensalidade> mensalidade = mensalidadeRepository.findById(id);
         if (mensalidade.isEmpty()) {
@@ -198,20 +242,88 @@ public class MensalidadeServiceImpl implements MensalidadeService {
         }
 
         Mensalidade m = mensalidade.get();
+        StatusMensalidade statusAnterior = m.getStatus();
+        LocalDate receitaAnterior = dataReceita(m);
+        contabilizarReceita(m, -1);
         m.setStatus(StatusMensalidade.PAGA);
         m.setDataPagamento(LocalDate.now());
         mensalidadeRepository.save(m);
+        contabilizarReceita(m, 1);
+        atualizarInadimplencia(m, statusAnterior);
+        publicarAlteracao(m, receitaAnterior);
     }
 
     /**
-     * Conta o número de mensalidades pendentes de um aluno.
+     * Conta o número de mensalidades em aberto de um aluno.
      * 
      * @param alunoId ID do aluno
-     * @return Número de mensalidades com status PENDENTE
+     * @return Número de mensalidades com status PENDENTE ou ATRASADA
      */
     @Override
     public long countPendentesPorAluno(Long alunoId) {
-        return mensalidadeRepository.countByAlunoIdAndStatus(alunoId, StatusMensalidade.PENDENTE);
+        return mensalidadeRepository.countByAlunoIdAndStatusIn(alunoId, StatusMensalidade.EM_ABERTO);
+    }
+
+    /**
+     * Recalcula o resumo de inadimplência do aluno quando a mensalidade está ou estava ATRASADA.
+     * Mensalidades PENDENTE só entram no resumo pela varredura de atrasos.
+     * 
+     * @param mensalidade Mensalidade no estado atual
+     * @param statusAnterior Status antes da alteração (null na criação e na remoção)
+     */
+    private void atualizarInadimplencia(Mensalidade mensalidade, StatusMensalidade statusAnterior) {
+        if (mensalidade.getStatus() == StatusMensalidade.ATRASADA || statusAnterior == StatusMensalidade.ATRASADA) {
+            inadimplenciaService.recalcularAlunos(List.of(mensalidade.getAluno().getId()));
+        }
+    }
+
+    /**
+     * Lança a contribuição da mensalidade no livro-razão mensal (sinal 1) ou a estorna (sinal -1).
+     * Só mensalidades PAGA com data de pagamento contam como receita, no mês do pagamento.
+     * 
+     * @param mensalidade Mensalidade no estado a contabilizar
+     * @param sinal 1 para lançar, -1 para estornar
+     */
+    private void contabilizarReceita(Mensalidade mensalidade, int sinal) {
+        LocalDate dataReceita = dataReceita(mensalidade);
+        if (dataReceita != null) {
+            resumoFinanceiroService.registrarReceita(dataReceita, sinal * mensalidade.getValor());
+        }
+    }
+
+    /**
+     * Data em que a mensalidade conta como receita: a data de pagamento, se estiver PAGA com valor;
+     * null caso contrário.
+     * 
+     * @param mensalidade Mensalidade no estado a verificar
+     * @return Data de pagamento contabilizada ou null
+     */
+    private LocalDate dataReceita(Mensalidade mensalidade) {
+        if (mensalidade.getStatus() == StatusMensalidade.PAGA
+                && mensalidade.getDataPagamento() != null
+                && mensalidade.getValor() != null) {
+            return mensalidade.getDataPagamento();
+        }
+        return null;
+    }
+
+    /**
+     * Publica a alteração para invalidar os relatórios em cache (tratada após o commit).
+     * Leva as datas de receita antes e depois da alteração, de modo que só os meses/períodos afetados são recalculados.
+     * 
+     * @param mensalidade Mensalidade no estado atual
+     * @param receitaAnterior Data de receita antes da alteração (null na criação e na remoção)
+     */
+    private void publicarAlteracao(Mensalidade mensalidade, LocalDate receitaAnterior) {
+        Set<LocalDate> datas = new HashSet<>();
+        if (receitaAnterior != null) {
+            datas.add(receitaAnterior);
+        }
+        LocalDate receitaAtual = dataReceita(mensalidade);
+        if (receitaAtual != null) {
+            datas.add(receitaAtual);
+        }
+        eventPublisher.publishEvent(new MensalidadeAlteradaEvento(mensalidade.getAluno().getId(), datas));
     }
 
     /**
@@ -221,7 +333,7 @@ public class MensalidadeServiceImpl implements MensalidadeService {
      * @param mensalidade Entidade Mensalidade a ser convertida
      * @return DTO com mensalidade e dados do aluno
      */
-    private MensalidadeResponseDTO toDTO(Mensalidade mensalidade) {
+    static MensalidadeResponseDTO toDTO(Mensalidade mensalidade) {
         return new MensalidadeResponseDTO(
                 mensalidade.getId(),
                 mensalidade.getAluno().getId(),
@@ -0,0 +1,83 @@
+package com.superfit.superfitapp.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV separado por ponto e vírgula (padrão do Excel em pt-BR), em UTF-8 com BOM
+ * para que os acentos abram corretamente. Mesmo formato aceito pela importação de alunos.
+ *
+ * Textos iniciados por =, +, -, @, tab ou CR recebem um apóstrofo na frente, para que o Excel
+ * não os interprete como fórmula (CSV injection, ex: nome de aluno "=HYPERLINK(...)").
+ * Números não passam por essa proteção, inclusive os negativos; decimais saem com vírgula
+ * (ex: 95,5), que é como o Excel em pt-BR os reconhece como número.
+ */
+class PlanilhaCsv implements PlanilhaExportacao {
+
+    private static final char SEPARADOR = ';';
+
+    private final Writer writer;
+
+    PlanilhaCsv(OutputStream saida) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        try {
+            writer.write('\uFEFF');
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao iniciar a exportação CSV", e);
+        }
+    }
+
+    @Override
+    public void linha(Object... valores) throws IOException {
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARADOR);
+            }
+            if (valores[i] instanceof Number numero) {
+                writer.write(formatarNumero(numero));
+            } else if (valores[i] != null) {
+                writer.write(escapar(valores[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Inteiros sem alteração; decimais sem notação científica e com vírgula como separador decimal.
+     */
+    static String formatarNumero(Number numero) {
+        if (numero instanceof Double || numero instanceof Float || numero instanceof BigDecimal) {
+            double valor = numero.doubleValue();
+            if (Double.isFinite(valor)) {
+                BigDecimal decimal = numero instanceof BigDecimal bd ? bd : BigDecimal.valueOf(valor);
+                return decimal.stripTrailingZeros().toPlainString().replace('.', ',');
+            }
+        }
+        return numero.toString();
+    }
+
+    /**
+     * Neutraliza textos que o Excel leria como fórmula e coloca entre aspas (com "" para aspas
+     * internas) campos com separador, aspas ou quebra de linha.
+     */
+    static String escapar(String valor) {
+        if (!valor.isEmpty() && "=+-@\t\r".indexOf(valor.charAt(0)) >= 0) {
+            valor = "'" + valor;
+        }
+        if (valor.indexOf(SEPARADOR) < 0 && valor.indexOf('"') < 0
+                && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
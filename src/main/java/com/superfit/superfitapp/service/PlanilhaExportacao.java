@@ -0,0 +1,25 @@
+package com.superfit.superfitapp.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Escrita linha a linha de uma exportação, direto no OutputStream da resposta.
+ * close() conclui o arquivo mas não fecha o stream recebido.
+ */
+interface PlanilhaExportacao extends Closeable {
+
+    /**
+     * Escreve uma linha. Valores nulos viram células vazias; números e datas
+     * mantêm o tipo no XLSX.
+     */
+    void linha(Object... valores) throws IOException;
+
+    static PlanilhaExportacao abrir(FormatoExportacao formato, OutputStream saida) {
+        return switch (formato) {
+            case CSV -> new PlanilhaCsv(saida);
+            case XLSX -> new PlanilhaXlsx(saida);
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.superfit.superfitapp.service;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * XLSX gerado com SXSSF: só JANELA_LINHAS linhas ficam em memória, as anteriores vão para
+ * um arquivo temporário compactado, de modo que o heap não cresce com o tamanho da exportação.
+ */
+class PlanilhaXlsx implements PlanilhaExportacao {
+
+    private static final int JANELA_LINHAS = 100;
+
+    private final OutputStream saida;
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private final CellStyle estiloData;
+    private int proximaLinha;
+
+    PlanilhaXlsx(OutputStream saida) {
+        this.saida = saida;
+        this.workbook = new SXSSFWorkbook(JANELA_LINHAS);
+        this.workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet("Dados");
+        this.estiloData = workbook.createCellStyle();
+        this.estiloData.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd/mm/yyyy"));
+    }
+
+    @Override
+    public void linha(Object... valores) {
+        Row row = sheet.createRow(proximaLinha++);
+        for (int i = 0; i < valores.length; i++) {
+            Object valor = valores[i];
+            if (valor == null) {
+                continue;
+            }
+            Cell cell = row.createCell(i);
+            if (valor instanceof Number numero) {
+                cell.setCellValue(numero.doubleValue());
+            } else if (valor instanceof LocalDate data) {
+                cell.setCellValue(data);
+                cell.setCellStyle(estiloData);
+            } else if (valor instanceof Boolean booleano) {
+                cell.setCellValue(booleano);
+            } else {
+                cell.setCellValue(valor.toString());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(saida);
+            saida.flush();
+        } finally {
+            workbook.close();
+        }
+    }
+}
@@ -4,6 +4,9 @@ import com.superfit.superfitapp.dto.professor.ProfessorCreateDTO;
 import com.superfit.superfitapp.dto.professor.ProfessorResponseDTO;
 import com.superfit.superfitapp.dto.professor.ProfessorUpdateDTO;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 /**
@@ -29,11 +32,21 @@ public interface ProfessorService {
 	ProfessorResponseDTO criar(ProfessorCreateDTO dto);
 
 	/**
-	 * Lista todos os professores cadastrados.
+	 * Lista uma página dos professores cadastrados.
+	 * 
+	 * @param pageable Página, tamanho e ordenação
+	 * @return Página de DTOs com os dados dos professores
+	 */
+	Page<ProfessorResponseDTO> listarTodos(Pageable pageable);
+
+	/**
+	 * Lista professores por cursor (keyset): os próximos {@code tamanho} com ID maior que {@code aposId}.
 	 * 
-	 * @return Lista de DTOs com os dados de todos os professores
+	 * @param aposId Último ID recebido (0 para começar do início)
+	 * @param tamanho Quantidade máxima de professores
+	 * @return Lista de DTOs ordenada por ID
 	 */
-	List<ProfessorResponseDTO> listarTodos();
+	List<ProfessorResponseDTO> listarTodosAposId(Long aposId, int tamanho);
 
 	/**
 	 * Busca um professor específico por ID.
@@ -4,6 +4,7 @@ import com.superfit.superfitapp.dto.professor.ProfessorCreateDTO;
 import com.superfit.superfitapp.dto.professor.ProfessorResponseDTO;
 import com.superfit.superfitapp.dto.professor.ProfessorUpdateDTO;
 import com.superfit.superfitapp.dto.aluno.AlunoResponseDTO;
+import com.superfit.superfitapp.evento.ProfessorAlteradoEvento;
 import com.superfit.superfitapp.model.Professor;
 import com.superfit.superfitapp.model.Aluno;
 import com.superfit.superfitapp.model.Role;
@@ -11,6 +12,11 @@ import com.superfit.superfitapp.model.User;
 import com.superfit.superfitapp.repository.ProfessorRepository;
 import com.superfit.superfitapp.repository.AlunoRepository;
 import com.superfit.superfitapp.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -30,12 +36,14 @@ public class ProfessorServiceImpl implements ProfessorService {
     private final UserRepository userRepository;
     private final AlunoRepository alunoRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProfessorServiceImpl(ProfessorRepository professorRepository, UserRepository userRepository, AlunoRepository alunoRepository, PasswordEncoder passwordEncoder) {
+    public ProfessorServiceImpl(ProfessorRepository professorRepository, UserRepository userRepository, AlunoRepository alunoRepository, PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher) {
         this.professorRepository = professorRepository;
         this.userRepository = userRepository;
         this.alunoRepository = alunoRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     /* =======================
@@ -87,18 +95,31 @@ public class ProfessorServiceImpl implements ProfessorService {
         professor.setUser(user);
 
         professor = professorRepository.save(professor);
+        eventPublisher.publishEvent(new ProfessorAlteradoEvento(professor.getId()));
         return toResponseDTO(professor);
     }
 
     /**
-     * Lista todos os professores cadastrados.
-     * Utiliza stream para converter cada entidade em DTO.
+     * Lista uma página dos professores cadastrados.
      * 
-     * @return Lista de DTOs com todos os professores
+     * @param pageable Página, tamanho e ordenação
+     * @return Página de DTOs com os professores
      */
     @Override
-    public List<ProfessorResponseDTO> listarTodos() {
-        return professorRepository.findAll()
+    public Page<ProfessorResponseDTO> listarTodos(Pageable pageable) {
+        return professorRepository.findAll(pageable).map(this::toResponseDTO);
+    }
+
+    /**
+     * Lista professores por cursor (ID maior que o último recebido), sem OFFSET.
+     * 
+     * @param aposId Último ID recebido
+     * @param tamanho Quantidade máxima de professores
+     * @return Lista de DTOs ordenada por ID
+     */
+    @Override
+    public List<ProfessorResponseDTO> listarTodosAposId(Long aposId, int tamanho) {
+        return professorRepository.findByIdGreaterThan(aposId, PageRequest.of(0, tamanho, Sort.by("id")))
                 .stream()
                 .map(this::toResponseDTO)
                 .collect(Collectors.toList());
@@ -152,6 +173,7 @@ public class ProfessorServiceImpl implements ProfessorService {
         }
 
         professor = professorRepository.save(professor);
+        eventPublisher.publishEvent(new ProfessorAlteradoEvento(professor.getId()));
         return toResponseDTO(professor);
     }
 
@@ -168,6 +190,7 @@ public class ProfessorServiceImpl implements ProfessorService {
             throw new RuntimeException("Professor não encontrado");
         }
         professorRepository.deleteById(Objects.requireNonNull(id, "id"));
+        eventPublisher.publishEvent(new ProfessorAlteradoEvento(id));
     }
 
     /**
@@ -0,0 +1,162 @@
+package com.superfit.superfitapp.service;
+
+import com.superfit.superfitapp.config.CacheConfig;
+import com.superfit.superfitapp.evento.AlunoAlteradoEvento;
+import com.superfit.superfitapp.evento.DespesaAlteradaEvento;
+import com.superfit.superfitapp.evento.MensalidadeAlteradaEvento;
+import com.superfit.superfitapp.evento.ProfessorAlteradoEvento;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Invalida os relatórios em cache a partir dos eventos de domínio publicados pelos serviços.
+ *
+ * Os eventos são tratados após o commit (AFTER_COMMIT): uma alteração desfeita não remove nada e
+ * um relatório lido durante a transação não volta ao cache com dados anteriores a ela. Eventos
+ * publicados fora de transação são tratados na hora (fallbackExecution).
+ *
+ * Relatórios por mês ou período só perdem as entradas que contêm as datas alteradas:
+ * - financeiro: entradas dos meses alterados
+ * - comparativo: séries cuja leitura do livro-razão (série + doze meses anteriores) inclui um mês alterado
+ * - receitas: períodos que contêm uma data de pagamento alterada
+ * Os relatórios gerais (totais, listas de alunos e professores) e o painel do gestor são limpos por inteiro.
+ */
+@Component
+public class RelatorioCacheInvalidador {
+
+    private final CacheManager cacheManager;
+
+    public RelatorioCacheInvalidador(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void mensalidadeAlterada(MensalidadeAlteradaEvento evento) {
+        limpar(CacheConfig.RELATORIO_RECEITA_MENSAL);
+        limpar(CacheConfig.RELATORIO_INADIMPLENCIA);
+        limpar(CacheConfig.RELATORIO_ALUNOS_ATIVOS);
+        limpar(CacheConfig.DASHBOARD_GESTOR);
+        removerAluno(evento.alunoId());
+
+        if (!evento.datasPagamento().isEmpty()) {
+            removerMeses(meses(evento.datasPagamento()));
+            removerSe(CacheConfig.RELATORIO_RECEITAS, chave -> periodoContem(chave, evento.datasPagamento()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void despesaAlterada(DespesaAlteradaEvento evento) {
+        limpar(CacheConfig.RELATORIO_DESPESAS_MENSAIS);
+        removerMeses(meses(evento.datasDespesa()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alunoAlterado(AlunoAlteradoEvento evento) {
+        limpar(CacheConfig.RELATORIO_INADIMPLENCIA);
+        limpar(CacheConfig.RELATORIO_ALUNOS_ATIVOS);
+        limpar(CacheConfig.RELATORIO_PROFESSORES);
+        limpar(CacheConfig.DASHBOARD_GESTOR);
+        removerAluno(evento.alunoId());
+    }
+
+    /**
+     * Professores removidos levam seus alunos junto (cascade), por isso as listas de alunos também são limpas.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void professorAlterado(ProfessorAlteradoEvento evento) {
+        limpar(CacheConfig.RELATORIO_PROFESSORES);
+        limpar(CacheConfig.RELATORIO_INADIMPLENCIA);
+        limpar(CacheConfig.RELATORIO_ALUNOS_ATIVOS);
+        limpar(CacheConfig.RELATORIO_INADIMPLENCIA_ALUNO);
+        limpar(CacheConfig.DASHBOARD_GESTOR);
+    }
+
+    /**
+     * Remove o relatório de inadimplência do aluno; sem aluno definido (alteração em lote), limpa todos.
+     */
+    private void removerAluno(Long alunoId) {
+        if (alunoId == null) {
+            limpar(CacheConfig.RELATORIO_INADIMPLENCIA_ALUNO);
+            return;
+        }
+        Cache cache = cacheManager.getCache(CacheConfig.RELATORIO_INADIMPLENCIA_ALUNO);
+        if (cache != null) {
+            cache.evict(alunoId);
+        }
+    }
+
+    /**
+     * Remove os relatórios financeiros dos meses e as séries comparativas que os incluem.
+     */
+    private void removerMeses(Set<YearMonth> meses) {
+        if (meses.isEmpty()) {
+            return;
+        }
+        Cache financeiro = cacheManager.getCache(CacheConfig.RELATORIO_FINANCEIRO);
+        if (financeiro != null) {
+            meses.forEach(financeiro::evict);
+        }
+        removerSe(CacheConfig.RELATORIO_COMPARATIVO, chave -> serieContem(chave, meses));
+    }
+
+    /**
+     * Remove as entradas cuja chave atende ao critério. Só o cache Caffeine permite percorrer as chaves;
+     * em outro provedor o cache inteiro é limpo.
+     */
+    private void removerSe(String nome, Predicate<Object> criterio) {
+        Cache cache = cacheManager.getCache(nome);
+        if (cache == null) {
+            return;
+        }
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            caffeine.asMap().keySet().removeIf(criterio);
+        } else {
+            cache.clear();
+        }
+    }
+
+    private void limpar(String nome) {
+        Cache cache = cacheManager.getCache(nome);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private static Set<YearMonth> meses(Set<LocalDate> datas) {
+        return datas.stream().map(YearMonth::from).collect(Collectors.toSet());
+    }
+
+    /**
+     * Chave do comparativo: [mes, meses] (ver RelatorioServiceImpl.relatorioComparativo).
+     */
+    private static boolean serieContem(Object chave, Set<YearMonth> meses) {
+        if (!(chave instanceof List<?> partes) || partes.size() != 2) {
+            return true;
+        }
+        YearMonth fim = (YearMonth) partes.get(0);
+        YearMonth inicio = RelatorioServiceImpl.inicioLeituraComparativo(fim, (Integer) partes.get(1));
+        return meses.stream().anyMatch(mes -> !mes.isBefore(inicio) && !mes.isAfter(fim));
+    }
+
+    /**
+     * Chave das receitas: [inicio, fim] em ISO (ver RelatorioServiceImpl.relatorioReceitas).
+     */
+    private static boolean periodoContem(Object chave, Set<LocalDate> datas) {
+        if (!(chave instanceof List<?> partes) || partes.size() != 2) {
+            return true;
+        }
+        LocalDate inicio = LocalDate.parse((String) partes.get(0));
+        LocalDate fim = LocalDate.parse((String) partes.get(1));
+        return datas.stream().anyMatch(data -> !data.isBefore(inicio) && !data.isAfter(fim));
+    }
+}
@@ -0,0 +1,92 @@
+package com.superfit.superfitapp.service;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+/**
+ * Interface de serviço para os relatórios gerenciais (/api/relatorios/*).
+ * Os totais são calculados no banco com queries agregadas, sem carregar entidades em memória.
+ */
+public interface RelatorioService {
+
+    /**
+     * Relatório financeiro consolidado de um mês (receitas, despesas, lucro e margem).
+     *
+     * @param mes Mês de referência
+     * @return Mapa com os totais do mês
+     */
+    Map<String, Object> relatorioFinanceiroMensal(YearMonth mes);
+
+    /**
+     * Relatório de inadimplência (mensalidades ATRASADA) com totais e o resumo de cada aluno.
+     *
+     * @return Mapa com totais e lista de alunos inadimplentes
+     */
+    Map<String, Object> relatorioInadimplencia();
+
+    /**
+     * Relatório de inadimplência de um aluno específico.
+     *
+     * @param alunoId ID do aluno
+     * @return Mapa com total devido e lista de mensalidades atrasadas do aluno
+     */
+    Map<String, Object> relatorioInadimplenciaAluno(Long alunoId);
+
+    /**
+     * Relatório de receitas (mensalidades pagas) em um período.
+     *
+     * @param inicio Data inicial no formato YYYY-MM-DD
+     * @param fim Data final no formato YYYY-MM-DD
+     * @return Mapa com total, quantidade de pagamentos e ticket médio
+     */
+    Map<String, Object> relatorioReceitas(String inicio, String fim);
+
+    /**
+     * Relatório comparativo de receitas vs despesas: série mensal terminando no mês de referência,
+     * com receitas, despesas, lucro e margem do mês anterior e do mesmo mês do ano anterior e as variações
+     * sobre cada um deles.
+     *
+     * @param mes Mês de referência (último ponto da série)
+     * @param meses Quantidade de meses da série (padrão 12)
+     * @return Mapa com os totais do mês de referência e a série comparativa
+     */
+    Map<String, Object> relatorioComparativo(YearMonth mes, Integer meses);
+
+    /**
+     * Relatório de alunos sem mensalidades em aberto (pendentes ou atrasadas).
+     * Sem paginação retorna a lista completa; com pagina/tamanho retorna apenas a página pedida.
+     *
+     * @param pagina Índice da página (a partir de 0) ou null para a lista completa
+     * @param tamanho Quantidade de alunos por página (usado apenas quando pagina é informada)
+     * @return Mapa com totais e lista de alunos ativos
+     */
+    Map<String, Object> relatorioAlunosAtivos(Integer pagina, Integer tamanho);
+
+    /**
+     * Relatório de professores com a quantidade de alunos de cada um.
+     *
+     * @return Mapa com totais e estatísticas por professor
+     */
+    Map<String, Object> relatorioProfessores();
+
+    /**
+     * Resumo geral de mensalidades (quantidades e receitas realizada, pendente e prevista).
+     *
+     * @return Mapa com os totais de mensalidades
+     */
+    Map<String, Object> receitaMensal();
+
+    /**
+     * Resumo geral de despesas (quantidades e valores pagos, pendentes e previstos).
+     *
+     * @return Mapa com os totais de despesas
+     */
+    Map<String, Object> despesasMensais();
+
+    /**
+     * Recalcula o livro-razão financeiro mensal a partir de mensalidades e despesas.
+     *
+     * @return Mapa com a quantidade de meses reconstruídos
+     */
+    Map<String, Object> reconstruirResumoFinanceiro();
+}
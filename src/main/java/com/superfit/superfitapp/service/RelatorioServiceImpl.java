@@ -0,0 +1,449 @@
+package com.superfit.superfitapp.service;
+
+import com.superfit.superfitapp.config.CacheConfig;
+import com.superfit.superfitapp.dto.relatorio.AlunoResumoDTO;
+import com.superfit.superfitapp.dto.relatorio.ResumoInadimplenciaDTO;
+import com.superfit.superfitapp.dto.relatorio.ResumoMensalDTO;
+import com.superfit.superfitapp.dto.relatorio.ResumoReceitasDTO;
+import com.superfit.superfitapp.dto.relatorio.TotalPorSituacaoDespesaDTO;
+import com.superfit.superfitapp.dto.relatorio.TotalPorStatusDTO;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.repository.AlunoRepository;
+import com.superfit.superfitapp.repository.DespesaRepository;
+import com.superfit.superfitapp.repository.InadimplenciaAlunoRepository;
+import com.superfit.superfitapp.repository.MensalidadeRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação do serviço de relatórios gerenciais.
+ * Contagens e somas são delegadas ao banco (COUNT/SUM agrupados) e retornadas como projeções tipadas,
+ * de modo que o custo de cada relatório não cresce com o número de linhas carregadas em memória.
+ *
+ * Os relatórios ficam em cache (CacheConfig) e são invalidados pelo RelatorioCacheInvalidador
+ * quando mensalidades, despesas, alunos ou professores são alterados.
+ */
+@Service
+@Transactional(readOnly = true)
+public class RelatorioServiceImpl implements RelatorioService {
+
+    private static final int TAMANHO_PADRAO_PAGINA = 50;
+    private static final int TAMANHO_MAXIMO_PAGINA = 500;
+    private static final int MESES_PADRAO_COMPARATIVO = 12;
+    private static final int MESES_MAXIMO_COMPARATIVO = 60;
+    private static final List<String> METRICAS_COMPARATIVO = List.of("receitas", "despesasTotal", "lucro", "margem");
+
+    private final DespesaService despesaService;
+    private final MensalidadeRepository mensalidadeRepository;
+    private final AlunoRepository alunoRepository;
+    private final DespesaRepository despesaRepository;
+    private final ResumoFinanceiroService resumoFinanceiroService;
+    private final InadimplenciaAlunoRepository inadimplenciaRepository;
+
+    public RelatorioServiceImpl(DespesaService despesaService, MensalidadeRepository mensalidadeRepository,
+                                AlunoRepository alunoRepository, DespesaRepository despesaRepository,
+                                ResumoFinanceiroService resumoFinanceiroService,
+                                InadimplenciaAlunoRepository inadimplenciaRepository) {
+        this.despesaService = despesaService;
+        this.mensalidadeRepository = mensalidadeRepository;
+        this.alunoRepository = alunoRepository;
+        this.despesaRepository = despesaRepository;
+        this.resumoFinanceiroService = resumoFinanceiroService;
+        this.inadimplenciaRepository = inadimplenciaRepository;
+    }
+
+    /**
+     * Usa o serviço de despesas para consolidar receitas, despesas e lucro do mês.
+     */
+    @Override
+    @Cacheable(CacheConfig.RELATORIO_FINANCEIRO)
+    public Map<String, Object> relatorioFinanceiroMensal(YearMonth mes) {
+        return despesaService.obterRelatorioMensalCompleto(mes);
+    }
+
+    /**
+     * Lê o resumo de inadimplência por aluno (inadimplencia_aluno), mantido pela varredura de atrasos:
+     * os totais somam o resumo e a lista traz uma linha por aluno, sem percorrer as mensalidades.
+     */
+    @Override
+    @Cacheable(CacheConfig.RELATORIO_INADIMPLENCIA)
+    public Map<String, Object> relatorioInadimplencia() {
+        Map<String, Object> relatorio = new HashMap<>();
+
+        ResumoInadimplenciaDTO resumo = inadimplenciaRepository.resumir();
+        LocalDate hoje = LocalDate.now();
+
+        List<Map<String, Object>> alunos = inadimplenciaRepository.listarDTO().stream()
+                .map(i -> {
+                    Map<String, Object> map = new HashMap<>();
+                    map.put("alunoId", i.getAlunoId());
+                    map.put("alunoNome", i.getAlunoNome());
+                    map.put("alunoEmail", i.getAlunoEmail());
+                    map.put("alunoCelular", i.getAlunoCelular());
+                    map.put("quantidadeMensalidades", i.getQuantidadeMensalidades());
+                    map.put("totalDevido", i.getTotalDevido());
+                    map.put("vencimentoMaisAntigo", i.getVencimentoMaisAntigo());
+                    // Atraso da mensalidade vencida há mais tempo.
+                    map.put("diasAtraso", ChronoUnit.DAYS.between(i.getVencimentoMaisAntigo(), hoje));
+                    return map;
+                })
+                .collect(Collectors.toList());
+
+        relatorio.put("quantidadeMensalidades", resumo.getQuantidadeMensalidades());
+        relatorio.put("quantidadeAlunos", resumo.getQuantidadeAlunos());
+        relatorio.put("totalInadimplencia", resumo.getTotal());
+        relatorio.put("alunos", alunos);
+
+        return relatorio;
+    }
+
+    /**
+     * Totais lidos por chave do resumo do aluno; o detalhe lista as mensalidades ATRASADA
+     * do aluno (índice aluno_id + status).
+     */
+    @Override
+    @Cacheable(CacheConfig.RELATORIO_INADIMPLENCIA_ALUNO)
+    public Map<String, Object> relatorioInadimplenciaAluno(Long alunoId) {
+        Map<String, Object> relatorio = new HashMap<>();
+
+        ResumoInadimplenciaDTO resumo = inadimplenciaRepository.buscarResumoPorAluno(alunoId)
+                .orElseGet(() -> new ResumoInadimplenciaDTO(0L, 0L, 0.0));
+        LocalDate hoje = LocalDate.now();
+
+        List<Map<String, Object>> mensalidadesAtrasadas = mensalidadeRepository
+                .findByAlunoIdAndStatus(alunoId, StatusMensalidade.ATRASADA)
+                .stream()
+                .map(m -> {
+                    Map<String, Object> map = new HashMap<>();
+                    map.put("id", m.getId());
+                    map.put("valor", m.getValor());
+                    map.put("mesReferencia", m.getMesReferencia());
+                    map.put("anoReferencia", m.getAnoReferencia());
+                    map.put("dataVencimento", m.getDataVencimento());
+                    // Dias de atraso calculados para cada mensalidade.
+                    map.put("diasAtraso", ChronoUnit.DAYS.between(m.getDataVencimento(), hoje));
+                    return map;
+                })
+                .collect(Collectors.toList());
+
+        relatorio.put("alunoId", alunoId);
+        relatorio.put("quantidadeMensalidades", resumo.getQuantidadeMensalidades());
+        relatorio.put("totalDevido", resumo.getTotal());
+        relatorio.put("mensalidades", mensalidadesAtrasadas);
+
+        return relatorio;
+    }
+
+    /**
+     * Soma e conta as mensalidades pagas no intervalo em uma única consulta agregada,
+     * resolvida pelo índice (status, data_pagamento); calcula o ticket médio a partir dela.
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.RELATORIO_RECEITAS, key = "{#inicio, #fim}")
+    public Map<String, Object> relatorioReceitas(String inicio, String fim) {
+        Map<String, Object> relatorio = new HashMap<>();
+
+        LocalDate dataInicio = LocalDate.parse(inicio);
+        LocalDate dataFim = LocalDate.parse(fim);
+
+        ResumoReceitasDTO resumo = mensalidadeRepository.resumirReceitasPorPeriodo(dataInicio, dataFim);
+        Double receitas = resumo.getTotal();
+        long quantidadePagamentos = resumo.getQuantidadePagamentos();
+
+        relatorio.put("periodo", inicio + " a " + fim);
+        relatorio.put("totalReceitas", receitas);
+        relatorio.put("quantidadePagamentos", quantidadePagamentos);
+        relatorio.put("ticketMedio", quantidadePagamentos > 0 ? receitas / quantidadePagamentos : 0);
+
+        return relatorio;
+    }
+
+    /**
+     * Lê do livro-razão mensal, em uma única consulta por intervalo, os meses da série e os
+     * doze meses anteriores a ela (base da comparação ano a ano). Meses sem movimento entram zerados.
+     * Cada ponto traz, para receitas, despesasTotal, lucro e margem, o valor do mês anterior e do mesmo
+     * mês do ano anterior com as variações (ex: receitasMesAnterior, variacaoReceitasMensal,
+     * receitasAnoAnterior, variacaoReceitasAnual); a variação da margem é em pontos percentuais.
+     * As chaves do mês de referência continuam no nível raiz, como no relatório financeiro.
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.RELATORIO_COMPARATIVO, key = "{#mes, #meses}")
+    public Map<String, Object> relatorioComparativo(YearMonth mes, Integer meses) {
+        int quantidadeMeses = quantidadeMesesComparativo(meses);
+        YearMonth inicioSerie = mes.minusMonths(quantidadeMeses - 1);
+
+        Map<YearMonth, ResumoMensalDTO> resumos = new HashMap<>();
+        for (ResumoMensalDTO resumo : resumoFinanceiroService.listarResumos(inicioLeituraComparativo(mes, meses), mes)) {
+            resumos.put(YearMonth.of(resumo.getAno(), resumo.getMes()), resumo);
+        }
+
+        List<Map<String, Object>> serie = new ArrayList<>();
+        for (YearMonth atual = inicioSerie; !atual.isAfter(mes); atual = atual.plusMonths(1)) {
+            ResumoMensalDTO resumo = resumos.getOrDefault(atual, ResumoMensalDTO.vazio(atual));
+            ResumoMensalDTO anterior = resumos.getOrDefault(atual.minusMonths(1), ResumoMensalDTO.vazio(atual.minusMonths(1)));
+            ResumoMensalDTO anoAnterior = resumos.getOrDefault(atual.minusYears(1), ResumoMensalDTO.vazio(atual.minusYears(1)));
+
+            Map<String, Object> ponto = totaisDoMes(atual, resumo);
+            compararCom(ponto, totaisDoMes(atual.minusMonths(1), anterior), "MesAnterior", "Mensal");
+            compararCom(ponto, totaisDoMes(atual.minusYears(1), anoAnterior), "AnoAnterior", "Anual");
+            serie.add(ponto);
+        }
+
+        Map<String, Object> relatorio = new HashMap<>(serie.get(serie.size() - 1));
+        relatorio.put("meses", quantidadeMeses);
+        relatorio.put("serie", serie);
+        return relatorio;
+    }
+
+    /**
+     * Alunos ativos obtidos por anti-join (NOT EXISTS mensalidade em aberto) em uma única query,
+     * já projetados nos campos exibidos. O custo não depende mais de uma consulta por aluno.
+     * Página negativa vira 0 e o tamanho é limitado a [1, TAMANHO_MAXIMO_PAGINA], como nas listagens.
+     */
+    @Override
+    @Cacheable(CacheConfig.RELATORIO_ALUNOS_ATIVOS)
+    public Map<String, Object> relatorioAlunosAtivos(Integer pagina, Integer tamanho) {
+        Map<String, Object> relatorio = new HashMap<>();
+
+        long totalAlunos = alunoRepository.count();
+
+        Pageable pageable = pagina != null
+                ? PageRequest.of(Math.max(pagina, 0),
+                        tamanho != null ? Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO_PAGINA)) : TAMANHO_PADRAO_PAGINA)
+                : Pageable.unpaged();
+
+        // Alunos sem mensalidades pendentes ou atrasadas
+        Page<AlunoResumoDTO> ativos = alunoRepository.findAlunosSemMensalidadeComStatus(StatusMensalidade.EM_ABERTO, pageable);
+
+        List<Map<String, Object>> listaAtivos = ativos.getContent().stream()
+                .map(aluno -> {
+                    Map<String, Object> map = new HashMap<>();
+                    map.put("id", aluno.getId());
+                    map.put("nome", aluno.getNome());
+                    map.put("email", aluno.getEmail());
+                    map.put("telefone", aluno.getTelefone());
+                    return map;
+                })
+                .collect(Collectors.toList());
+
+        long alunosAtivos = ativos.getTotalElements();
+
+        relatorio.put("totalAlunos", totalAlunos);
+        relatorio.put("alunosAtivos", alunosAtivos);
+        relatorio.put("listaAtivos", listaAtivos);
+        relatorio.put("percentualAtivos", totalAlunos > 0 ? (alunosAtivos * 100.0 / totalAlunos) : 0);
+
+        if (pageable.isPaged()) {
+            relatorio.put("pagina", ativos.getNumber());
+            relatorio.put("tamanhoPagina", ativos.getSize());
+            relatorio.put("totalPaginas", ativos.getTotalPages());
+        }
+
+        return relatorio;
+    }
+
+    /**
+     * Quantidade de alunos por professor obtida em uma única query agrupada;
+     * o custo não depende mais de professores × alunos.
+     */
+    @Override
+    @Cacheable(CacheConfig.RELATORIO_PROFESSORES)
+    public Map<String, Object> relatorioProfessores() {
+        Map<String, Object> relatorio = new HashMap<>();
+
+        List<Map<String, Object>> statsProfessores = alunoRepository.contarAlunosPorProfessor().stream()
+                .map(prof -> {
+                    Map<String, Object> stats = new HashMap<>();
+                    stats.put("professorId", prof.getProfessorId());
+                    stats.put("professorNome", prof.getProfessorNome());
+                    stats.put("professorEmail", prof.getProfessorEmail());
+                    stats.put("quantidadeAlunos", prof.getQuantidadeAlunos());
+                    return stats;
+                })
+                .collect(Collectors.toList());
+
+        long totalAlunos = alunoRepository.count();
+        long totalProfessores = statsProfessores.size();
+        double mediaAlunosPorProfessor = totalProfessores > 0 ? (double) totalAlunos / totalProfessores : 0;
+
+        relatorio.put("totalProfessores", totalProfessores);
+        relatorio.put("totalAlunos", totalAlunos);
+        relatorio.put("mediaAlunosPorProfessor", mediaAlunosPorProfessor);
+        relatorio.put("listaProfessores", statsProfessores);
+
+        return relatorio;
+    }
+
+    /**
+     * Quantidades e receitas por status obtidas em uma única query agrupada (GROUP BY status).
+     * Mensalidades ATRASADA entram nos totais pendentes e também são informadas à parte.
+     */
+    @Override
+    @Cacheable(CacheConfig.RELATORIO_RECEITA_MENSAL)
+    public Map<String, Object> receitaMensal() {
+        Map<String, Object> relatorio = new HashMap<>();
+
+        long totalMensalidades = 0;
+        long totalPagas = 0;
+        long totalPendentes = 0;
+        long totalAtrasadas = 0;
+        double receitaRealizada = 0;
+        double receitaPrevista = 0;
+        double receitaPendente = 0;
+
+        for (TotalPorStatusDTO total : mensalidadeRepository.totalizarPorStatus()) {
+            totalMensalidades += total.getQuantidade();
+            receitaPrevista += total.getTotal();
+
+            if (total.getStatus() == StatusMensalidade.PAGA) {
+                totalPagas += total.getQuantidade();
+                receitaRealizada += total.getTotal();
+            } else if (StatusMensalidade.EM_ABERTO.contains(total.getStatus())) {
+                totalPendentes += total.getQuantidade();
+                receitaPendente += total.getTotal();
+                if (total.getStatus() == StatusMensalidade.ATRASADA) {
+                    totalAtrasadas += total.getQuantidade();
+                }
+            }
+        }
+
+        relatorio.put("totalMensalidades", totalMensalidades);
+        relatorio.put("totalPagas", totalPagas);
+        relatorio.put("totalPendentes", totalPendentes);
+        relatorio.put("totalAtrasadas", totalAtrasadas);
+        relatorio.put("receitaRealizada", receitaRealizada);
+        relatorio.put("receitaPrevista", receitaPrevista);
+        relatorio.put("receitaPendente", receitaPendente);
+        relatorio.put("taxaAdimplencia", totalMensalidades > 0 ? (totalPagas * 100.0 / totalMensalidades) : 0);
+
+        return relatorio;
+    }
+
+    /**
+     * Quantidades e valores por situação obtidos em uma única query agrupada (GROUP BY paga).
+     */
+    @Override
+    @Cacheable(CacheConfig.RELATORIO_DESPESAS_MENSAIS)
+    public Map<String, Object> despesasMensais() {
+        Map<String, Object> relatorio = new HashMap<>();
+
+        long totalDespesas = 0;
+        long totalPagas = 0;
+        long totalPendentes = 0;
+        double despesasPagas = 0;
+        double despesasTotal = 0;
+        double despesasPendentes = 0;
+
+        for (TotalPorSituacaoDespesaDTO total : despesaRepository.totalizarPorSituacao()) {
+            totalDespesas += total.getQuantidade();
+            despesasTotal += total.getTotal();
+
+            if (Boolean.TRUE.equals(total.getPaga())) {
+                totalPagas += total.getQuantidade();
+                despesasPagas += total.getTotal();
+            } else if (Boolean.FALSE.equals(total.getPaga())) {
+                totalPendentes += total.getQuantidade();
+                despesasPendentes += total.getTotal();
+            }
+        }
+
+        relatorio.put("totalDespesas", totalDespesas);
+        relatorio.put("totalPagas", totalPagas);
+        relatorio.put("totalPendentes", totalPendentes);
+        relatorio.put("despesasPagas", despesasPagas);
+        relatorio.put("despesasTotal", despesasTotal);
+        relatorio.put("despesasPendentes", despesasPendentes);
+        relatorio.put("taxaPagamento", totalDespesas > 0 ? (totalPagas * 100.0 / totalDespesas) : 0);
+
+        return relatorio;
+    }
+
+    /**
+     * Quantidade de meses da série comparativa (padrão 12, entre 1 e 60).
+     */
+    static int quantidadeMesesComparativo(Integer meses) {
+        return meses != null
+                ? Math.max(1, Math.min(meses, MESES_MAXIMO_COMPARATIVO))
+                : MESES_PADRAO_COMPARATIVO;
+    }
+
+    /**
+     * Primeiro mês lido do livro-razão pelo relatório comparativo: início da série menos doze meses.
+     * Usado também pelo RelatorioCacheInvalidador para saber quais séries um mês alterado afeta.
+     */
+    static YearMonth inicioLeituraComparativo(YearMonth mes, Integer meses) {
+        return mes.minusMonths(quantidadeMesesComparativo(meses) - 1L + 12);
+    }
+
+    /**
+     * Totais de um mês no mesmo formato do relatório financeiro mensal.
+     */
+    private Map<String, Object> totaisDoMes(YearMonth mes, ResumoMensalDTO resumo) {
+        double receitas = resumo.getReceitas();
+        double lucro = receitas - resumo.getDespesasPagas();
+
+        Map<String, Object> totais = new HashMap<>();
+        totais.put("mes", mes.toString());
+        totais.put("receitas", receitas);
+        totais.put("despesasTotal", resumo.getDespesasTotal());
+        totais.put("despesasPagas", resumo.getDespesasPagas());
+        totais.put("despesasPendentes", resumo.getDespesasPendentes());
+        totais.put("lucro", lucro);
+        totais.put("margem", receitas > 0 ? (lucro / receitas) * 100 : 0);
+        return totais;
+    }
+
+    /**
+     * Acrescenta ao ponto da série, para cada métrica comparada, o valor da base (ex: receitasAnoAnterior)
+     * e a variação sobre ela (ex: variacaoReceitasAnual). A margem varia em pontos percentuais.
+     */
+    private void compararCom(Map<String, Object> ponto, Map<String, Object> base, String sufixoBase, String sufixoVariacao) {
+        for (String metrica : METRICAS_COMPARATIVO) {
+            double atual = ((Number) ponto.get(metrica)).doubleValue();
+            double valorBase = ((Number) base.get(metrica)).doubleValue();
+            String chaveVariacao = "variacao" + Character.toUpperCase(metrica.charAt(0)) + metrica.substring(1) + sufixoVariacao;
+
+            Double variacao = "margem".equals(metrica) ? Double.valueOf(atual - valorBase) : variacaoPercentual(atual, valorBase);
+
+            ponto.put(metrica + sufixoBase, valorBase);
+            ponto.put(chaveVariacao, variacao);
+        }
+    }
+
+    /**
+     * Variação percentual entre dois valores; nula quando não há base de comparação.
+     */
+    private Double variacaoPercentual(double atual, double base) {
+        return base != 0 ? ((atual - base) / Math.abs(base)) * 100 : null;
+    }
+
+    /**
+     * Reconstrói o livro-razão mensal (backfill ou correção de divergências).
+     */
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.RELATORIO_FINANCEIRO, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.RELATORIO_COMPARATIVO, allEntries = true)
+    })
+    public Map<String, Object> reconstruirResumoFinanceiro() {
+        Map<String, Object> resultado = new HashMap<>();
+        resultado.put("mesesReconstruidos", resumoFinanceiroService.reconstruir());
+        return resultado;
+    }
+}
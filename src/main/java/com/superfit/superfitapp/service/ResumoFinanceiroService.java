@@ -0,0 +1,48 @@
+package com.superfit.superfitapp.service;
+
+import com.superfit.superfitapp.dto.relatorio.ResumoMensalDTO;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Manutenção do livro-razão financeiro mensal (receitas e despesas consolidadas por mês).
+ * Os métodos de registro devem ser chamados dentro da transação que altera o dinheiro,
+ * com valores negativos para estornar a contribuição anterior de um registro.
+ */
+public interface ResumoFinanceiroService {
+
+    /**
+     * Soma o valor à receita do mês da data de pagamento (valor negativo estorna).
+     */
+    void registrarReceita(LocalDate dataPagamento, double valor);
+
+    /**
+     * Soma o valor às despesas do mês da despesa, separando pagas e pendentes (valor negativo estorna).
+     */
+    void registrarDespesa(LocalDate dataDespesa, double valor, Boolean paga);
+
+    /**
+     * Retorna o resumo consolidado do mês; meses sem movimento retornam valores zerados.
+     */
+    ResumoMensalDTO obterResumo(YearMonth mes);
+
+    /**
+     * Retorna os resumos existentes entre os meses informados (inclusive), em ordem cronológica.
+     * Meses sem movimento não aparecem na lista.
+     */
+    List<ResumoMensalDTO> listarResumos(YearMonth inicio, YearMonth fim);
+
+    /**
+     * Recalcula todo o livro-razão a partir de mensalidades e despesas (backfill/correção).
+     *
+     * @return quantidade de meses gravados
+     */
+    int reconstruir();
+
+    /**
+     * Reconstrói o livro-razão apenas se ele estiver vazio.
+     */
+    void reconstruirSeVazio();
+}
@@ -0,0 +1,173 @@
+package com.superfit.superfitapp.service;
+
+import com.superfit.superfitapp.dto.relatorio.DespesaMensalDTO;
+import com.superfit.superfitapp.dto.relatorio.ReceitaMensalDTO;
+import com.superfit.superfitapp.dto.relatorio.ResumoMensalDTO;
+import com.superfit.superfitapp.model.ResumoFinanceiroMensal;
+import com.superfit.superfitapp.repository.DespesaRepository;
+import com.superfit.superfitapp.repository.MensalidadeRepository;
+import com.superfit.superfitapp.repository.ResumoFinanceiroMensalRepository;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * Implementação do livro-razão financeiro mensal.
+ *
+ * As escritas usam UPDATE com incremento (receitas = receitas + :valor), sem ler a linha antes,
+ * e só inserem o mês quando ele ainda não existe. Participam da transação do chamador
+ * (Propagation.MANDATORY), de modo que o resumo nunca diverge da alteração que o originou.
+ *
+ * Primeira escrita do mês: o INSERT roda em um savepoint, pela mesma conexão JDBC da transação.
+ * Se outra transação criar o mesmo mês em paralelo, a uk_resumo_financeiro_ano_mes recusa o INSERT,
+ * o savepoint é desfeito (no PostgreSQL a transação do chamador continua válida) e o UPDATE com
+ * incremento é refeito. O INSERT não passa pelo Hibernate, que marcaria a transação para rollback.
+ */
+@Service
+public class ResumoFinanceiroServiceImpl implements ResumoFinanceiroService {
+
+    private static final String INSERIR_MES = "INSERT INTO resumo_financeiro_mensal " +
+            "(ano, mes, receitas, despesas_total, despesas_pagas, despesas_pendentes) VALUES (?, ?, ?, ?, ?, ?)";
+
+    /**
+     * SQLState de violação de chave única (H2 e PostgreSQL).
+     */
+    private static final String CHAVE_DUPLICADA = "23505";
+
+    private final ResumoFinanceiroMensalRepository resumoRepository;
+    private final MensalidadeRepository mensalidadeRepository;
+    private final DespesaRepository despesaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ResumoFinanceiroServiceImpl(ResumoFinanceiroMensalRepository resumoRepository,
+                                       MensalidadeRepository mensalidadeRepository,
+                                       DespesaRepository despesaRepository,
+                                       JdbcTemplate jdbcTemplate) {
+        this.resumoRepository = resumoRepository;
+        this.mensalidadeRepository = mensalidadeRepository;
+        this.despesaRepository = despesaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarReceita(LocalDate dataPagamento, double valor) {
+        if (dataPagamento == null || valor == 0) {
+            return;
+        }
+        int ano = dataPagamento.getYear();
+        int mes = dataPagamento.getMonthValue();
+        somarOuInserir(() -> resumoRepository.somarReceita(ano, mes, valor), ano, mes, valor, 0.0, 0.0, 0.0);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarDespesa(LocalDate dataDespesa, double valor, Boolean paga) {
+        if (dataDespesa == null || valor == 0) {
+            return;
+        }
+        // Despesas com "paga" nulo entram só no total, como nas consultas por período.
+        double pagas = Boolean.TRUE.equals(paga) ? valor : 0.0;
+        double pendentes = Boolean.FALSE.equals(paga) ? valor : 0.0;
+        int ano = dataDespesa.getYear();
+        int mes = dataDespesa.getMonthValue();
+        somarOuInserir(() -> resumoRepository.somarDespesa(ano, mes, valor, pagas, pendentes),
+                ano, mes, 0.0, valor, pagas, pendentes);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResumoMensalDTO obterResumo(YearMonth mes) {
+        return resumoRepository.buscarResumo(mes.getYear(), mes.getMonthValue())
+                .orElseGet(() -> ResumoMensalDTO.vazio(mes));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumoMensalDTO> listarResumos(YearMonth inicio, YearMonth fim) {
+        return resumoRepository.listarResumosNoPeriodo(inicio.getYear(), inicio.getMonthValue(),
+                fim.getYear(), fim.getMonthValue());
+    }
+
+    /**
+     * Apaga o livro-razão e o recalcula com duas consultas agrupadas por ano/mês
+     * (uma para mensalidades pagas, outra para despesas).
+     */
+    @Override
+    @Transactional
+    public int reconstruir() {
+        Map<YearMonth, ResumoFinanceiroMensal> resumos = new LinkedHashMap<>();
+
+        for (ReceitaMensalDTO receita : mensalidadeRepository.totalizarReceitasPorMes()) {
+            resumoDoMes(resumos, receita.getAno(), receita.getMes()).setReceitas(receita.getTotal());
+        }
+        for (DespesaMensalDTO despesa : despesaRepository.totalizarDespesasPorMes()) {
+            ResumoFinanceiroMensal resumo = resumoDoMes(resumos, despesa.getAno(), despesa.getMes());
+            resumo.setDespesasTotal(despesa.getTotal());
+            resumo.setDespesasPagas(despesa.getPagas());
+            resumo.setDespesasPendentes(despesa.getPendentes());
+        }
+
+        resumoRepository.deleteAllInBatch();
+        resumoRepository.saveAll(resumos.values());
+        return resumos.size();
+    }
+
+    @Override
+    @Transactional
+    public void reconstruirSeVazio() {
+        if (resumoRepository.count() == 0) {
+            reconstruir();
+        }
+    }
+
+    /**
+     * Incrementa o mês; se ele ainda não existe, insere a primeira linha e, caso o mês tenha sido
+     * criado em paralelo (chave duplicada), refaz o incremento.
+     */
+    private void somarOuInserir(IntSupplier somar, int ano, int mes, double receitas,
+                                double despesasTotal, double despesasPagas, double despesasPendentes) {
+        if (somar.getAsInt() > 0) {
+            return;
+        }
+        Boolean inserido = jdbcTemplate.execute((ConnectionCallback<Boolean>) conexao -> {
+            Savepoint savepoint = conexao.setSavepoint();
+            try (PreparedStatement insert = conexao.prepareStatement(INSERIR_MES)) {
+                insert.setInt(1, ano);
+                insert.setInt(2, mes);
+                insert.setDouble(3, receitas);
+                insert.setDouble(4, despesasTotal);
+                insert.setDouble(5, despesasPagas);
+                insert.setDouble(6, despesasPendentes);
+                insert.executeUpdate();
+            } catch (SQLException e) {
+                conexao.rollback(savepoint);
+                if (CHAVE_DUPLICADA.equals(e.getSQLState())) {
+                    return false;
+                }
+                throw e;
+            }
+            conexao.releaseSavepoint(savepoint);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(inserido)) {
+            somar.getAsInt();
+        }
+    }
+
+    private ResumoFinanceiroMensal resumoDoMes(Map<YearMonth, ResumoFinanceiroMensal> resumos, Integer ano, Integer mes) {
+        return resumos.computeIfAbsent(YearMonth.of(ano, mes), chave -> new ResumoFinanceiroMensal(ano, mes));
+    }
+}
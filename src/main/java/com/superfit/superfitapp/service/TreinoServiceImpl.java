@@ -142,7 +142,7 @@ public class TreinoServiceImpl implements TreinoService {
             // Se for professor, retorna seus treinos
             return treinoRepository.findByProfessorId(professor.getId())
                     .stream()
-                    .map(this::toResponseDTO)
+                    .map(TreinoServiceImpl::toResponseDTO)
                     .collect(Collectors.toList());
         }
 
@@ -151,7 +151,7 @@ public class TreinoServiceImpl implements TreinoService {
         if (aluno != null) {
             return treinoRepository.findByAlunoId(aluno.getId())
                     .stream()
-                    .map(this::toResponseDTO)
+                    .map(TreinoServiceImpl::toResponseDTO)
                     .collect(Collectors.toList());
         }
 
@@ -238,7 +238,7 @@ public class TreinoServiceImpl implements TreinoService {
      * @param treino Entidade Treino a ser convertida
      * @return DTO com treino, exercícios, professor e aluno
      */
-    private TreinoResponseDTO toResponseDTO(Treino treino) {
+    static TreinoResponseDTO toResponseDTO(Treino treino) {
         List<ExercicioDTO> exercicios = treino.getExercicios().stream()
                 .map(e -> new ExercicioDTO(
                         e.getId(),
@@ -0,0 +1,34 @@
+package db.migration;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Criação de sequências para tabelas que já têm dados (usada pelas migrações Java).
+ */
+final class Sequencias {
+
+    /**
+     * Incremento das sequências, igual ao allocationSize das entidades.
+     */
+    static final int INCREMENTO = 50;
+
+    private Sequencias() {
+    }
+
+    /**
+     * O otimizador pooled do Hibernate trata o valor lido como o fim do bloco
+     * (valor - 49 até valor), então a sequência começa em MAX(id) + 50.
+     */
+    static void criar(Statement statement, String tabela, String sequencia) throws Exception {
+        long maiorId;
+        try (ResultSet resultado = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + tabela)) {
+            resultado.next();
+            maiorId = resultado.getLong(1);
+        }
+
+        statement.execute("CREATE SEQUENCE " + sequencia
+                + " START WITH " + (maiorId + INCREMENTO)
+                + " INCREMENT BY " + INCREMENTO);
+    }
+}
@@ -0,0 +1,28 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Statement;
+
+/**
+ * Sequências para os IDs de users e alunos (antes IDENTITY).
+ *
+ * Com IDENTITY o Hibernate precisa executar cada INSERT na hora para obter o ID,
+ * o que impede o batch JDBC; com sequência (incremento 50, igual ao allocationSize
+ * das entidades) os IDs são reservados em blocos e os INSERTs saem em lote.
+ *
+ * Migração em Java porque o valor inicial depende do maior ID já gravado, e
+ * H2 e PostgreSQL não aceitam subconsulta em START WITH.
+ * As colunas continuam GENERATED BY DEFAULT AS IDENTITY, aceitando o ID informado.
+ */
+public class V4__sequencias_users_alunos extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            Sequencias.criar(statement, "users", "users_seq");
+            Sequencias.criar(statement, "alunos", "alunos_seq");
+        }
+    }
+}
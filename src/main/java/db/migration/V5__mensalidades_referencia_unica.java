@@ -0,0 +1,62 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Uma mensalidade por aluno e mês de referência.
+ * Garante a idempotência da cobrança mensal (CobrancaMensalService): reexecutar
+ * o mesmo mês não duplica mensalidades, mesmo com execuções concorrentes.
+ * O índice também atende ao NOT EXISTS que seleciona os alunos ainda não cobrados.
+ *
+ * O esquema anterior permitia duplicatas, que são resolvidas antes da constraint:
+ * - Mensalidades não pagas repetidas são removidas, mantendo a paga do mês ou, sem paga, a de menor ID
+ * - Mais de uma mensalidade PAGA no mesmo mês não é removida (é receita registrada): a migração falha
+ *   listando os IDs, para correção manual antes de reiniciar a aplicação
+ */
+public class V5__mensalidades_referencia_unica extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            statement.executeUpdate(
+                    "DELETE FROM mensalidades WHERE status <> 'PAGA' AND EXISTS (" +
+                    "SELECT 1 FROM mensalidades outra WHERE outra.aluno_id = mensalidades.aluno_id " +
+                    "AND outra.mes_referencia = mensalidades.mes_referencia " +
+                    "AND outra.ano_referencia = mensalidades.ano_referencia " +
+                    "AND (outra.status = 'PAGA' OR outra.id < mensalidades.id))");
+
+            // Restam apenas grupos de mensalidades pagas: IDs agrupados por aluno e referência
+            Map<String, List<Long>> duplicadas = new LinkedHashMap<>();
+            try (ResultSet resultado = statement.executeQuery(
+                    "SELECT id, aluno_id, mes_referencia, ano_referencia FROM mensalidades WHERE EXISTS (" +
+                    "SELECT 1 FROM mensalidades outra WHERE outra.aluno_id = mensalidades.aluno_id " +
+                    "AND outra.mes_referencia = mensalidades.mes_referencia " +
+                    "AND outra.ano_referencia = mensalidades.ano_referencia AND outra.id <> mensalidades.id) " +
+                    "ORDER BY aluno_id, ano_referencia, mes_referencia, id")) {
+                while (resultado.next()) {
+                    String chave = String.format("aluno_id=%d referencia=%s/%d",
+                            resultado.getLong(2), resultado.getString(3), resultado.getInt(4));
+                    duplicadas.computeIfAbsent(chave, c -> new ArrayList<>()).add(resultado.getLong(1));
+                }
+            }
+            if (!duplicadas.isEmpty()) {
+                throw new IllegalStateException("Mensalidades PAGA duplicadas para o mesmo aluno e mês de referência; " +
+                        "remova ou ajuste as repetidas antes de migrar:\n" + duplicadas.entrySet().stream()
+                        .map(grupo -> grupo.getKey() + " ids=" + grupo.getValue())
+                        .collect(Collectors.joining("\n")));
+            }
+
+            statement.execute("ALTER TABLE mensalidades " +
+                    "ADD CONSTRAINT uk_mensalidades_aluno_referencia UNIQUE (aluno_id, mes_referencia, ano_referencia)");
+        }
+    }
+}
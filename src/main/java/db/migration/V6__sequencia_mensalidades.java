@@ -0,0 +1,21 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Statement;
+
+/**
+ * Sequência para os IDs de mensalidades (antes IDENTITY), permitindo que a
+ * cobrança mensal grave as mensalidades em lotes JDBC.
+ * Mesmo esquema de V4__sequencias_users_alunos.
+ */
+public class V6__sequencia_mensalidades extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            Sequencias.criar(statement, "mensalidades", "mensalidades_seq");
+        }
+    }
+}
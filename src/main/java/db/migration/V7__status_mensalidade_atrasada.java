@@ -0,0 +1,41 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Libera o status ATRASADA em mensalidades.
+ *
+ * Bancos criados pelo Hibernate (ddl-auto) têm uma CHECK em mensalidades.status limitada
+ * a PAGA/PENDENTE, com nome gerado (ex: CONSTRAINT_8 no H2, mensalidades_status_check no
+ * PostgreSQL). Migração em Java porque o nome só é conhecido consultando o information_schema;
+ * em bancos criados pelo V1 não há CHECK e nada é feito.
+ */
+public class V7__status_mensalidade_atrasada extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            List<String> constraints = new ArrayList<>();
+            try (ResultSet resultado = statement.executeQuery(
+                    "SELECT tc.constraint_name FROM information_schema.table_constraints tc " +
+                    "JOIN information_schema.check_constraints cc " +
+                    "ON cc.constraint_schema = tc.constraint_schema AND cc.constraint_name = tc.constraint_name " +
+                    "WHERE UPPER(tc.table_name) = 'MENSALIDADES' AND tc.constraint_type = 'CHECK' " +
+                    "AND UPPER(cc.check_clause) LIKE '%PENDENTE%'")) {
+                while (resultado.next()) {
+                    constraints.add(resultado.getString(1));
+                }
+            }
+
+            for (String constraint : constraints) {
+                statement.execute("ALTER TABLE mensalidades DROP CONSTRAINT \"" + constraint + "\"");
+            }
+        }
+    }
+}
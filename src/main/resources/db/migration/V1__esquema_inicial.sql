@@ -0,0 +1,126 @@
+-- ==============================================
+-- Esquema inicial (equivalente ao gerado pelo Hibernate até então)
+-- Bancos já existentes são marcados nesta versão via baseline-on-migrate.
+-- ==============================================
+
+CREATE TABLE users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email       VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    role        VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE professores (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome        VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    telefone    VARCHAR(255) NOT NULL,
+    crefi       VARCHAR(255),
+    user_id     BIGINT,
+    CONSTRAINT pk_professores PRIMARY KEY (id),
+    CONSTRAINT uk_professores_email UNIQUE (email),
+    CONSTRAINT uk_professores_user UNIQUE (user_id),
+    CONSTRAINT fk_professores_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE gestores (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome         VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    telefone     VARCHAR(255) NOT NULL,
+    departamento VARCHAR(255),
+    bio          VARCHAR(255),
+    ativo        BOOLEAN,
+    user_id      BIGINT,
+    CONSTRAINT pk_gestores PRIMARY KEY (id),
+    CONSTRAINT uk_gestores_email UNIQUE (email),
+    CONSTRAINT uk_gestores_user UNIQUE (user_id),
+    CONSTRAINT fk_gestores_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE alunos (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome            VARCHAR(255) NOT NULL,
+    email           VARCHAR(255) NOT NULL,
+    telefone        VARCHAR(255) NOT NULL,
+    data_nascimento VARCHAR(255),
+    endereco        VARCHAR(255),
+    bio             VARCHAR(255),
+    altura          FLOAT(53),
+    sexo            VARCHAR(255),
+    ativo           BOOLEAN,
+    user_id         BIGINT,
+    professor_id    BIGINT,
+    CONSTRAINT pk_alunos PRIMARY KEY (id),
+    CONSTRAINT uk_alunos_email UNIQUE (email),
+    CONSTRAINT uk_alunos_user UNIQUE (user_id),
+    CONSTRAINT fk_alunos_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_alunos_professor FOREIGN KEY (professor_id) REFERENCES professores (id)
+);
+
+CREATE TABLE treinos (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome         VARCHAR(255) NOT NULL,
+    tipo         VARCHAR(255),
+    data_inicio  DATE,
+    professor_id BIGINT NOT NULL,
+    aluno_id     BIGINT NOT NULL,
+    CONSTRAINT pk_treinos PRIMARY KEY (id),
+    CONSTRAINT fk_treinos_professor FOREIGN KEY (professor_id) REFERENCES professores (id),
+    CONSTRAINT fk_treinos_aluno FOREIGN KEY (aluno_id) REFERENCES alunos (id)
+);
+
+CREATE TABLE exercicios (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome              VARCHAR(255) NOT NULL,
+    repeticoes        VARCHAR(255),
+    carga             VARCHAR(255),
+    grupo_muscular    VARCHAR(255),
+    descanso_indicado VARCHAR(255),
+    treino_id         BIGINT,
+    CONSTRAINT pk_exercicios PRIMARY KEY (id),
+    CONSTRAINT fk_exercicios_treino FOREIGN KEY (treino_id) REFERENCES treinos (id)
+);
+
+CREATE TABLE medidas (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    data     DATE NOT NULL,
+    peso     FLOAT(53) NOT NULL,
+    imc      FLOAT(53),
+    peito    FLOAT(53),
+    cintura  FLOAT(53),
+    quadril  FLOAT(53),
+    aluno_id BIGINT NOT NULL,
+    CONSTRAINT pk_medidas PRIMARY KEY (id),
+    CONSTRAINT fk_medidas_aluno FOREIGN KEY (aluno_id) REFERENCES alunos (id)
+);
+
+CREATE TABLE mensalidades (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    aluno_id        BIGINT NOT NULL,
+    valor           FLOAT(53) NOT NULL,
+    status          VARCHAR(255) NOT NULL,
+    data_vencimento DATE NOT NULL,
+    data_pagamento  DATE,
+    mes_referencia  VARCHAR(255) NOT NULL,
+    ano_referencia  INTEGER NOT NULL,
+    data_criacao    DATE NOT NULL,
+    observacoes     VARCHAR(255),
+    CONSTRAINT pk_mensalidades PRIMARY KEY (id),
+    CONSTRAINT fk_mensalidades_aluno FOREIGN KEY (aluno_id) REFERENCES alunos (id)
+);
+
+CREATE TABLE despesas (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    descricao      VARCHAR(255) NOT NULL,
+    valor          FLOAT(53) NOT NULL,
+    categoria      VARCHAR(255) NOT NULL,
+    data_despesa   DATE NOT NULL,
+    data_pagamento DATE,
+    paga           BOOLEAN,
+    observacoes    VARCHAR(255),
+    data_criacao   DATE NOT NULL,
+    CONSTRAINT pk_despesas PRIMARY KEY (id)
+);
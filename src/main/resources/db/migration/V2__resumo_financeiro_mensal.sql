@@ -0,0 +1,16 @@
+-- ==============================================
+-- Livro-razão financeiro mensal (uma linha por ano/mês)
+-- IF NOT EXISTS: bancos de desenvolvimento podem já ter a tabela criada pelo Hibernate.
+-- ==============================================
+
+CREATE TABLE IF NOT EXISTS resumo_financeiro_mensal (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    ano                INTEGER NOT NULL,
+    mes                INTEGER NOT NULL,
+    receitas           FLOAT(53) NOT NULL,
+    despesas_total     FLOAT(53) NOT NULL,
+    despesas_pagas     FLOAT(53) NOT NULL,
+    despesas_pendentes FLOAT(53) NOT NULL,
+    CONSTRAINT pk_resumo_financeiro_mensal PRIMARY KEY (id),
+    CONSTRAINT uk_resumo_financeiro_ano_mes UNIQUE (ano, mes)
+);
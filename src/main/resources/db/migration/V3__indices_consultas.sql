@@ -0,0 +1,41 @@
+-- ==============================================
+-- Índices alinhados às consultas dos repositórios
+-- Chaves estrangeiras não são indexadas automaticamente no PostgreSQL.
+-- ==============================================
+
+-- mensalidades
+-- findByAlunoIdAndStatus, countByAlunoIdAndStatus, resumirPorAlunoEStatus,
+-- anti-join de alunos ativos (NOT EXISTS ... aluno = a AND status = :status)
+CREATE INDEX IF NOT EXISTS idx_mensalidades_aluno_status ON mensalidades (aluno_id, status);
+-- findByAlunoIdOrderByDataVencimentoDesc
+CREATE INDEX IF NOT EXISTS idx_mensalidades_aluno_vencimento ON mensalidades (aluno_id, data_vencimento);
+-- findByStatus, findByStatusComAluno, totalizarPorStatus, relatório de receitas por período
+CREATE INDEX IF NOT EXISTS idx_mensalidades_status_data_pagamento ON mensalidades (status, data_pagamento);
+-- findByDataVencimentoBefore
+CREATE INDEX IF NOT EXISTS idx_mensalidades_vencimento ON mensalidades (data_vencimento);
+-- findByMesReferenciaAndAnoReferencia
+CREATE INDEX IF NOT EXISTS idx_mensalidades_referencia ON mensalidades (ano_referencia, mes_referencia);
+
+-- despesas
+-- findByDataDespesaBetween, findByDataDespesaBetweenOrderByDataDespesaDesc, somarDespesasPorPeriodo
+CREATE INDEX IF NOT EXISTS idx_despesas_data ON despesas (data_despesa);
+-- somarDespesasPagasPorPeriodo, somarDespesasPendentesPorPeriodo, findByDataDespesaBetweenAndPaga
+-- (igualdade em paga seguida da faixa de datas); também atende findByPaga e countByPaga
+CREATE INDEX IF NOT EXISTS idx_despesas_paga_data ON despesas (paga, data_despesa);
+-- findByCategoria, findByCategoriaPorPeriodo
+CREATE INDEX IF NOT EXISTS idx_despesas_categoria_data ON despesas (categoria, data_despesa);
+
+-- medidas: findByAlunoIdOrderByDataDesc / Asc
+CREATE INDEX IF NOT EXISTS idx_medidas_aluno_data ON medidas (aluno_id, data);
+
+-- treinos: findByProfessorId, findByAlunoId
+CREATE INDEX IF NOT EXISTS idx_treinos_professor ON treinos (professor_id);
+CREATE INDEX IF NOT EXISTS idx_treinos_aluno ON treinos (aluno_id);
+
+-- exercicios: carregamento da coleção Treino.exercicios
+CREATE INDEX IF NOT EXISTS idx_exercicios_treino ON exercicios (treino_id);
+
+-- alunos: findByProfessorId, contarAlunosPorProfessor
+CREATE INDEX IF NOT EXISTS idx_alunos_professor ON alunos (professor_id);
+-- findByAtivo
+CREATE INDEX IF NOT EXISTS idx_alunos_ativo ON alunos (ativo);
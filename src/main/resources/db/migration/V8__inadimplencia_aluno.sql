@@ -0,0 +1,18 @@
+-- ==============================================
+-- Resumo de inadimplência por aluno (uma linha por aluno com mensalidades ATRASADA)
+-- Mantido pela varredura de atrasos e pelas alterações de mensalidades; os relatórios
+-- de inadimplência leem esta tabela em vez de percorrer as mensalidades em aberto.
+-- ==============================================
+
+CREATE TABLE inadimplencia_aluno (
+    aluno_id               BIGINT NOT NULL,
+    quantidade             INTEGER NOT NULL,
+    total_devido           FLOAT(53) NOT NULL,
+    vencimento_mais_antigo DATE NOT NULL,
+    atualizado_em          TIMESTAMP NOT NULL,
+    CONSTRAINT pk_inadimplencia_aluno PRIMARY KEY (aluno_id),
+    CONSTRAINT fk_inadimplencia_aluno_aluno FOREIGN KEY (aluno_id) REFERENCES alunos (id) ON DELETE CASCADE
+);
+
+-- Varredura de atrasos: mensalidades PENDENTE com vencimento anterior à data de corte
+CREATE INDEX idx_mensalidades_status_vencimento ON mensalidades (status, data_vencimento);
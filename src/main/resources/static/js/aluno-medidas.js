@@ -48,11 +48,7 @@ function inicializarSelectors() {
  * Carrega todas as medidas do aluno
  */
 function carregarTodasAsMedidas() {
-    fetch('/api/medidas/meu-historico')
-        .then(response => {
-            if (!response.ok) throw new Error('Erro ao buscar medidas');
-            return response.json();
-        })
+    buscarTodasPaginas('/api/medidas/meu-historico?aposId=0&tamanho=500')
         .then(medidas => {
             todasAsMedidas = medidas || [];
             
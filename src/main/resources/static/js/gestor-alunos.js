@@ -110,12 +110,7 @@ async function carregarProfessores() {
     if (!select) return;
 
     try {
-        const response = await fetch('/api/professores', { credentials: 'include' });
-        if (!response.ok) {
-            throw new Error(`Status ${response.status}`);
-        }
-
-        const professores = await response.json();
+        const professores = await buscarTodasPaginas('/api/professores?aposId=0&tamanho=500', { credentials: 'include' });
         select.innerHTML = '<option value="">Selecione</option>' + professores
             .map(professor => `<option value="${professor.id}">${professor.nome}</option>`)
             .join('');
@@ -133,12 +128,7 @@ async function carregarAlunos() {
     if (!tbody) return;
 
     try {
-        const response = await fetch('/api/alunos', { credentials: 'include' });
-        if (!response.ok) {
-            throw new Error(`Status ${response.status}`);
-        }
-
-        const alunos = await response.json();
+        const alunos = await buscarTodasPaginas('/api/alunos?aposId=0&tamanho=500', { credentials: 'include' });
 
         if (!alunos || alunos.length === 0) {
             tbody.innerHTML = '';
@@ -179,8 +169,7 @@ function editarAluno(id) {
 
     // Carregar professores no dropdown
     const selectProfessor = document.getElementById('editAlunoProfessor');
-    fetch('/api/professores', { credentials: 'include' })
-        .then(response => response.ok ? response.json() : Promise.reject('Erro'))
+    buscarTodasPaginas('/api/professores?aposId=0&tamanho=500', { credentials: 'include' })
         .then(professores => {
             selectProfessor.innerHTML = '<option value="">Selecione</option>' + professores
                 .map(professor => `<option value="${professor.id}">${professor.nome}</option>`)
@@ -142,12 +142,7 @@ async function carregarDespesas() {
     if (!tbody) return;
 
     try {
-        const response = await fetch('/api/despesas', { credentials: 'include' });
-        if (!response.ok) {
-            throw new Error(`Status ${response.status}`);
-        }
-
-        const despesas = await response.json();
+        const despesas = await buscarTodasPaginas('/api/despesas?aposId=0&tamanho=500', { credentials: 'include' });
 
         if (!despesas || despesas.length === 0) {
             tbody.innerHTML = '';
@@ -107,12 +107,7 @@ async function carregarAlunos() {
     if (!select) return;
 
     try {
-        const response = await fetch('/api/alunos', { credentials: 'include' });
-        if (!response.ok) {
-            throw new Error(`Status ${response.status}`);
-        }
-
-        const alunos = await response.json();
+        const alunos = await buscarTodasPaginas('/api/alunos?aposId=0&tamanho=500', { credentials: 'include' });
         select.innerHTML = '<option value="">Selecione um aluno</option>' + alunos
             .map(aluno => `<option value="${aluno.id}">${aluno.nome}</option>`)
             .join('');
@@ -130,12 +125,7 @@ async function carregarMensalidades() {
     if (!tbody) return;
 
     try {
-        const response = await fetch('/api/mensalidades', { credentials: 'include' });
-        if (!response.ok) {
-            throw new Error(`Status ${response.status}`);
-        }
-
-        const mensalidades = await response.json();
+        const mensalidades = await buscarTodasPaginas('/api/mensalidades?aposId=0&tamanho=500', { credentials: 'include' });
 
         if (!mensalidades || mensalidades.length === 0) {
             tbody.innerHTML = '';
@@ -145,8 +135,8 @@ async function carregarMensalidades() {
             if (emptyState) emptyState.style.display = 'none';
             if (tableWrapper) tableWrapper.style.display = 'block';
             tbody.innerHTML = mensalidades.map(m => {
-                const statusClass = m.status === 'PAGA' ? 'success' : 'warning';
-                const statusText = m.status === 'PAGA' ? 'Paga' : 'Pendente';
+                const statusClass = m.status === 'PAGA' ? 'success' : m.status === 'ATRASADA' ? 'danger' : 'warning';
+                const statusText = m.status === 'PAGA' ? 'Paga' : m.status === 'ATRASADA' ? 'Atrasada' : 'Pendente';
                 
                 return `
                 <tr class="table__body-row">
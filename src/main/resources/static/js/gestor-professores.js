@@ -110,12 +110,7 @@ async function carregarProfessores() {
     if (!tbody) return;
 
     try {
-        const response = await fetch('/api/professores', { credentials: 'include' });
-        if (!response.ok) {
-            throw new Error(`Status ${response.status}`);
-        }
-
-        const professores = await response.json();
+        const professores = await buscarTodasPaginas('/api/professores?aposId=0&tamanho=500', { credentials: 'include' });
 
         if (!professores || professores.length === 0) {
             tbody.innerHTML = '';
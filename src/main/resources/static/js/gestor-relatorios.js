@@ -171,26 +171,26 @@ async function carregarInadimplencia() {
                     </div>
                     <div style="padding: 1rem; background: #fff3e0; border-radius: 8px; text-align: center;">
                         <div style="font-size: 2rem; font-weight: 700; color: #e65100;">${data.quantidadeMensalidades}</div>
-                        <div style="font-size: 0.9rem; color: #bf360c;">Mensalidades Pendentes</div>
+                        <div style="font-size: 0.9rem; color: #bf360c;">Mensalidades Atrasadas</div>
                     </div>
                     <div style="padding: 1rem; background: #fce4ec; border-radius: 8px; text-align: center;">
                         <div style="font-size: 2rem; font-weight: 700; color: #ad1457;">R$ ${data.totalInadimplencia.toFixed(2)}</div>
                         <div style="font-size: 0.9rem; color: #880e4f;">Total em Atraso</div>
                     </div>
                 </div>
-                ${data.mensalidades.length > 0 ? `
+                ${data.alunos.length > 0 ? `
                     <details>
                         <summary style="cursor: pointer; font-weight: 600; padding: 0.5rem; background: #f5f5f5; border-radius: 4px;">
-                            Ver detalhes (${data.mensalidades.length} mensalidades)
+                            Ver detalhes (${data.alunos.length} alunos)
                         </summary>
                         <div style="margin-top: 1rem; max-height: 300px; overflow-y: auto;">
-                            ${data.mensalidades.map(m => `
+                            ${data.alunos.map(a => `
                                 <div style="padding: 0.75rem; border-bottom: 1px solid #e0e0e0;">
-                                    <div style="font-weight: 600;">${m.alunoNome}</div>
+                                    <div style="font-weight: 600;">${a.alunoNome}</div>
                                     <div style="font-size: 0.85rem; color: #666;">
-                                        ${m.mesReferencia}/${m.anoReferencia} - R$ ${m.valor.toFixed(2)} - 
-                                        Venc: ${formatarData(m.dataVencimento)} 
-                                        <span style="color: #d32f2f; font-weight: 600;">(${m.diasAtraso} dias de atraso)</span>
+                                        ${a.quantidadeMensalidades} mensalidade(s) - R$ ${a.totalDevido.toFixed(2)} - 
+                                        Venc. mais antigo: ${formatarData(a.vencimentoMaisAntigo)} 
+                                        <span style="color: #d32f2f; font-weight: 600;">(${a.diasAtraso} dias de atraso)</span>
                                     </div>
                                 </div>
                             `).join('')}
@@ -1,9 +1,7 @@
 /* ===== SCRIPT DO GESTOR ===== */
 
 document.addEventListener('DOMContentLoaded', () => {
-    loadEstatisticas();
-    loadAlunosRecentes();
-    loadMensalidadesPendentes();
+    loadDashboard();
     setupChangePassword();
 });
 
@@ -66,145 +64,120 @@ function setupChangePassword() {
 }
 
 /**
- * Carrega estatísticas principais
+ * Carrega o painel (estatísticas, alunos recentes e mensalidades em aberto) em uma única requisição
  */
-function loadEstatisticas() {
-    // Total de alunos
-    fetch('/api/gestor/alunos/total')
-        .then(response => response.ok ? response.json() : Promise.reject('Erro'))
-        .then(data => {
-            document.getElementById('totalAlunos').textContent = data || '0';
-        })
-        .catch(error => {
-            console.error('Erro ao carregar alunos:', error);
-            document.getElementById('totalAlunos').textContent = '0';
-        });
-
-    // Total de professores
-    fetch('/api/gestor/professores/total')
-        .then(response => response.ok ? response.json() : Promise.reject('Erro'))
-        .then(data => {
-            document.getElementById('totalProfessores').textContent = data || '0';
+function loadDashboard() {
+    fetch('/api/gestor/dashboard')
+        .then(response => {
+            if (!response.ok) throw new Error('Erro ao buscar');
+            return response.json();
         })
-        .catch(error => {
-            console.error('Erro ao carregar professores:', error);
-            document.getElementById('totalProfessores').textContent = '0';
-        });
-
-    // Mensalidades pendentes
-    fetch('/api/gestor/mensalidades/pendentes/count')
-        .then(response => response.ok ? response.json() : Promise.reject('Erro'))
-        .then(data => {
-            document.getElementById('mensalidadesPendentes').textContent = data || '0';
+        .then(dashboard => {
+            renderEstatisticas(dashboard);
+            renderAlunosRecentes(dashboard.alunosRecentes);
+            renderMensalidadesEmAberto(dashboard.mensalidadesEmAberto);
         })
         .catch(error => {
-            console.error('Erro ao carregar mensalidades:', error);
-            document.getElementById('mensalidadesPendentes').textContent = '0';
+            console.error('Erro ao carregar painel:', error);
+            renderEstatisticas({});
+            showMessage('alunosMessage', '❌ Erro ao carregar o painel', 'error');
         });
+}
 
-    // Receita do mês
-    fetch('/api/gestor/receita/mes')
-        .then(response => response.ok ? response.json() : Promise.reject('Erro'))
-        .then(data => {
-            document.getElementById('receitaMes').textContent = formatarMoeda(data) || 'R$ 0,00';
-        })
-        .catch(error => {
-            console.error('Erro ao carregar receita:', error);
-            document.getElementById('receitaMes').textContent = 'R$ 0,00';
-        });
+/**
+ * Preenche as estatísticas principais
+ */
+function renderEstatisticas(dashboard) {
+    document.getElementById('totalAlunos').textContent = dashboard.totalAlunos || '0';
+    document.getElementById('totalProfessores').textContent = dashboard.totalProfessores || '0';
+    document.getElementById('mensalidadesPendentes').textContent = dashboard.mensalidadesPendentes || '0';
+    document.getElementById('receitaMes').textContent = formatarMoeda(dashboard.receitaMes);
 }
 
 /**
- * Carrega alunos recentes
+ * Preenche a tabela de alunos recentes
  */
-function loadAlunosRecentes() {
-    fetch('/api/gestor/alunos/recentes')
-        .then(response => {
-            if (!response.ok) throw new Error('Erro ao buscar');
-            return response.json();
-        })
-        .then(alunos => {
-            const tbody = document.getElementById('alunosBody');
-            const emptyState = document.getElementById('emptyState');
-            const table = document.getElementById('alunosTable');
+function renderAlunosRecentes(alunos) {
+    const tbody = document.getElementById('alunosBody');
+    const emptyState = document.getElementById('emptyState');
+    const table = document.getElementById('alunosTable');
+
+    if (!alunos || alunos.length === 0) {
+        tbody.innerHTML = '';
+        emptyState.classList.remove('d-none');
+        table.style.display = 'none';
+        return;
+    }
 
-            if (!alunos || alunos.length === 0) {
-                tbody.innerHTML = '';
-                emptyState.classList.remove('d-none');
-                table.style.display = 'none';
-            } else {
-                emptyState.classList.add('d-none');
-                table.style.display = 'table';
-                tbody.innerHTML = alunos.map(aluno => `
-                    <tr class="table__body-row">
-                        <td class="table__body-cell">${aluno.nome}</td>
-                        <td class="table__body-cell">${aluno.email}</td>
-                        <td class="table__body-cell">
-                            <span class="badge badge--${aluno.ativo ? 'success' : 'danger'}">
-                                ${aluno.ativo ? 'Ativo' : 'Inativo'}
-                            </span>
-                        </td>
-                        <td class="table__body-cell">${aluno.statusMensalidade}</td>
-                        <td class="table__body-cell">
-                            <div class="table__actions">
-                                <a href="/gestor/alunos/${aluno.id}" class="btn btn--info btn--sm">Ver</a>
-                                <button class="btn btn--primary btn--sm" onclick="editarAluno(${aluno.id})">Editar</button>
-                            </div>
-                        </td>
-                    </tr>
-                `).join('');
-            }
-        })
-        .catch(error => {
-            console.error('Erro:', error);
-            showMessage('alunosMessage', '❌ Erro ao carregar alunos', 'error');
-        });
+    emptyState.classList.add('d-none');
+    table.style.display = 'table';
+    tbody.innerHTML = alunos.map(aluno => `
+        <tr class="table__body-row">
+            <td class="table__body-cell">${aluno.nome}</td>
+            <td class="table__body-cell">${aluno.email}</td>
+            <td class="table__body-cell">
+                <span class="badge badge--${aluno.ativo ? 'success' : 'danger'}">
+                    ${aluno.ativo ? 'Ativo' : 'Inativo'}
+                </span>
+            </td>
+            <td class="table__body-cell">${formatarSituacao(aluno.statusMensalidade)}</td>
+            <td class="table__body-cell">
+                <div class="table__actions">
+                    <a href="/gestor/alunos/${aluno.id}" class="btn btn--info btn--sm">Ver</a>
+                    <button class="btn btn--primary btn--sm" onclick="editarAluno(${aluno.id})">Editar</button>
+                </div>
+            </td>
+        </tr>
+    `).join('');
 }
 
 /**
- * Carrega mensalidades pendentes
+ * Preenche a tabela de mensalidades em aberto (vencimento mais antigo primeiro)
  */
-function loadMensalidadesPendentes() {
-    fetch('/api/gestor/mensalidades/pendentes')
-        .then(response => {
-            if (!response.ok) throw new Error('Erro ao buscar');
-            return response.json();
-        })
-        .then(mensalidades => {
-            const tbody = document.getElementById('mensalidadesBody');
-            const emptyState = document.getElementById('emptyMensalidades');
-            const table = document.getElementById('mensalidadesTable');
+function renderMensalidadesEmAberto(mensalidades) {
+    const tbody = document.getElementById('mensalidadesBody');
+    const emptyState = document.getElementById('emptyMensalidades');
+    const table = document.getElementById('mensalidadesTable');
+
+    if (!mensalidades || mensalidades.length === 0) {
+        tbody.innerHTML = '';
+        emptyState.classList.remove('d-none');
+        table.style.display = 'none';
+        return;
+    }
 
-            if (!mensalidades || mensalidades.length === 0) {
-                tbody.innerHTML = '';
-                emptyState.classList.remove('d-none');
-                table.style.display = 'none';
-            } else {
-                emptyState.classList.add('d-none');
-                table.style.display = 'table';
-                tbody.innerHTML = mensalidades.map(m => `
-                    <tr class="table__body-row">
-                        <td class="table__body-cell">${m.alunoNome}</td>
-                        <td class="table__body-cell">${formatarMoeda(m.valor)}</td>
-                        <td class="table__body-cell">${formatarData(m.vencimento)}</td>
-                        <td class="table__body-cell">
-                            <span class="badge badge--${m.atrasada ? 'danger' : 'warning'}">
-                                ${m.atrasada ? 'Atrasada' : 'Pendente'}
-                            </span>
-                        </td>
-                        <td class="table__body-cell">
-                            <div class="table__actions">
-                                <button class="btn btn--success btn--sm" onclick="registrarPagamento(${m.id})">Pagar</button>
-                                <button class="btn btn--info btn--sm" onclick="enviarCobranca(${m.id})">Cobrar</button>
-                            </div>
-                        </td>
-                    </tr>
-                `).join('');
-            }
-        })
-        .catch(error => {
-            console.error('Erro:', error);
-        });
+    emptyState.classList.add('d-none');
+    table.style.display = 'table';
+    tbody.innerHTML = mensalidades.map(m => {
+        const atrasada = m.status === 'ATRASADA';
+        return `
+        <tr class="table__body-row">
+            <td class="table__body-cell">${m.alunoNome}</td>
+            <td class="table__body-cell">${formatarMoeda(m.valor)}</td>
+            <td class="table__body-cell">${formatarData(m.dataVencimento)}</td>
+            <td class="table__body-cell">
+                <span class="badge badge--${atrasada ? 'danger' : 'warning'}">
+                    ${atrasada ? 'Atrasada' : 'Pendente'}
+                </span>
+            </td>
+            <td class="table__body-cell">
+                <div class="table__actions">
+                    <button class="btn btn--success btn--sm" onclick="registrarPagamento(${m.id})">Pagar</button>
+                    <button class="btn btn--info btn--sm" onclick="enviarCobranca(${m.id})">Cobrar</button>
+                </div>
+            </td>
+        </tr>
+    `;
+    }).join('');
+}
+
+/**
+ * Situação das mensalidades do aluno
+ */
+function formatarSituacao(status) {
+    if (status === 'ATRASADA') return 'Atrasada';
+    if (status === 'PENDENTE') return 'Pendente';
+    return 'Em dia';
 }
 
 /**
@@ -218,6 +191,15 @@ function formatarMoeda(valor) {
     }).format(valor);
 }
 
+/**
+ * Formata data ISO (AAAA-MM-DD) como DD/MM/AAAA
+ */
+function formatarData(dataStr) {
+    if (!dataStr) return 'N/A';
+    const [ano, mes, dia] = dataStr.split('-');
+    return `${dia}/${mes}/${ano}`;
+}
+
 /**
  * Edita aluno
  */
@@ -238,8 +220,7 @@ function registrarPagamento(id) {
         .then(response => response.ok ? response.json() : Promise.reject('Erro'))
         .then(() => {
             showMessage('alunosMessage', '✅ Pagamento registrado!', 'success', 2000);
-            loadMensalidadesPendentes();
-            loadEstatisticas();
+            loadDashboard();
         })
         .catch(error => {
             console.error('Erro:', error);
@@ -81,3 +81,28 @@ function closeModal(modalId) {
 function confirmAction(message = 'Tem certeza que deseja realizar esta ação?') {
     return confirm(message);
 }
+
+/**
+ * Busca todos os itens de uma listagem paginada da API,
+ * seguindo o cabeçalho Link rel="next" até a última página.
+ * Use com ?aposId=0&tamanho=... para paginar por cursor (sem OFFSET).
+ */
+async function buscarTodasPaginas(url, options = {}) {
+    const itens = [];
+    let proxima = url;
+
+    while (proxima) {
+        const response = await fetch(proxima, options);
+        if (!response.ok) {
+            throw new Error(`Status ${response.status}`);
+        }
+
+        itens.push(...await response.json());
+
+        const link = response.headers.get('Link') || '';
+        const next = link.match(/<([^>]+)>;\s*rel="next"/);
+        proxima = next ? next[1] : null;
+    }
+
+    return itens;
+}
@@ -0,0 +1,86 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.dto.mensalidade.CobrancaMensalDTO;
+import com.superfit.superfitapp.model.Aluno;
+import com.superfit.superfitapp.repository.AlunoRepository;
+import com.superfit.superfitapp.repository.MensalidadeRepository;
+import com.superfit.superfitapp.service.CobrancaMensalService;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A cobrança grava cada lote em uma transação própria: o teste não é @Transactional e usa um banco
+ * separado, onde a mensalidade concorrente é gravada (commit) por outra transação durante o lote.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:superfitdb-cobranca-concorrencia;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.cobranca.tamanho-lote=10"
+})
+class CobrancaMensalConcorrenciaTest {
+
+    @Autowired
+    private CobrancaMensalService cobrancaMensalService;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private MensalidadeRepository mensalidadeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void loteDeveSerRefeitoQuandoMensalidadeECriadaEmParalelo() {
+        for (int i = 0; i < 5; i++) {
+            alunoRepository.save(new Aluno("Aluno Concorrente " + i, "concorrente" + i + "@exemplo.com", "1175000000" + i));
+        }
+
+        // Na primeira consulta do lote, outra transação cobra o primeiro aluno antes dos INSERTs da cobrança.
+        TransactionTemplate outraTransacao = new TransactionTemplate(transactionManager);
+        outraTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicBoolean concorrenteCriada = new AtomicBoolean(false);
+        MethodInterceptor concorrente = invocacao -> {
+            Object resultado = invocacao.proceed();
+            if (invocacao.getMethod().getName().equals("listarIdsAtivosSemMensalidade")
+                    && resultado instanceof List<?> ids && !ids.isEmpty()
+                    && concorrenteCriada.compareAndSet(false, true)) {
+                outraTransacao.executeWithoutResult(status -> jdbcTemplate.update(
+                        "INSERT INTO mensalidades (aluno_id, valor, status, data_vencimento, mes_referencia, " +
+                        "ano_referencia, data_criacao) VALUES (?, 80, 'PENDENTE', DATE '2032-03-10', 'Março', 2032, " +
+                        "CURRENT_DATE)", ids.get(0)));
+            }
+            return resultado;
+        };
+
+        Advised repositorio = (Advised) alunoRepository;
+        repositorio.addAdvice(0, concorrente);
+        CobrancaMensalDTO resultado;
+        try {
+            resultado = cobrancaMensalService.gerar(3, 2032, 120.0, 10);
+        } finally {
+            repositorio.removeAdvice(concorrente);
+        }
+
+        assertTrue(concorrenteCriada.get());
+        assertEquals(4, resultado.criadas());
+        assertEquals(1, resultado.jaExistentes());
+        assertEquals(5, mensalidadeRepository.findByMesReferenciaAndAnoReferencia("Março", 2032).size());
+    }
+}
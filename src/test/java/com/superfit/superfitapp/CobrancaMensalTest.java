@@ -0,0 +1,132 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.dto.mensalidade.CobrancaMensalDTO;
+import com.superfit.superfitapp.dto.mensalidade.MensalidadeCreateDTO;
+import com.superfit.superfitapp.model.Aluno;
+import com.superfit.superfitapp.model.Mensalidade;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.repository.AlunoRepository;
+import com.superfit.superfitapp.repository.MensalidadeRepository;
+import com.superfit.superfitapp.service.CobrancaMensalService;
+import com.superfit.superfitapp.service.MensalidadeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.cobranca.tamanho-lote=50")
+@AutoConfigureMockMvc
+@Transactional
+class CobrancaMensalTest {
+
+    private static final int ALUNOS = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CobrancaMensalService cobrancaMensalService;
+
+    @Autowired
+    private MensalidadeService mensalidadeService;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private MensalidadeRepository mensalidadeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void cobrancaDeveGerarUmaMensalidadePorAlunoAtivoEmLotesEDeFormaIdempotente() {
+        for (int i = 0; i < ALUNOS; i++) {
+            alunoRepository.save(new Aluno("Aluno Cobrança " + i, "cobranca" + i + "@exemplo.com", "1170000" + i));
+        }
+        Aluno inativo = new Aluno("Aluno Inativo", "cobranca.inativo@exemplo.com", "11700009999");
+        inativo.setAtivo(false);
+        alunoRepository.save(inativo);
+
+        Aluno jaCobrado = alunoRepository.save(new Aluno("Aluno Já Cobrado", "cobranca.ja@exemplo.com", "11700008888"));
+        mensalidadeRepository.save(new Mensalidade(jaCobrado, 90.0, StatusMensalidade.PAGA,
+                LocalDate.of(2030, 7, 5), "Julho", 2030));
+        mensalidadeRepository.flush();
+
+        long ativos = alunoRepository.countByAtivo(true);
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        CobrancaMensalDTO resultado = cobrancaMensalService.gerar(7, 2030, 120.0, 31);
+
+        assertEquals(ativos - 1, resultado.criadas());
+        assertEquals(1, resultado.jaExistentes());
+        assertEquals(3, resultado.lotes());
+        assertEquals(ativos - 1, estatisticas.getEntityInsertCount());
+        long statements = estatisticas.getPrepareStatementCount();
+        assertTrue(statements <= 15, "Cobrança de " + resultado.criadas() + " alunos executou " + statements + " statements");
+
+        List<Mensalidade> julho = mensalidadeRepository.findByMesReferenciaAndAnoReferencia("Julho", 2030);
+        assertEquals(ativos, julho.size());
+        Mensalidade gerada = julho.stream().filter(m -> m.getValor() == 120.0).findFirst().orElseThrow();
+        assertEquals(StatusMensalidade.PENDENTE, gerada.getStatus());
+        assertEquals(LocalDate.of(2030, 7, 31), gerada.getDataVencimento());
+
+        // Segunda execução do mesmo mês não cria nada.
+        CobrancaMensalDTO repetida = cobrancaMensalService.gerar(7, 2030, 120.0, 31);
+        assertEquals(0, repetida.criadas());
+        assertEquals(ativos, repetida.jaExistentes());
+        assertEquals(ativos, mensalidadeRepository.findByMesReferenciaAndAnoReferencia("Julho", 2030).size());
+    }
+
+    @Test
+    void vencimentoDeveSerLimitadoAoUltimoDiaDoMes() {
+        alunoRepository.save(new Aluno("Aluno Fevereiro", "cobranca.fev@exemplo.com", "11700007777"));
+
+        cobrancaMensalService.gerar(2, 2031, 100.0, 31);
+
+        assertTrue(mensalidadeRepository.findByMesReferenciaAndAnoReferencia("Fevereiro", 2031).stream()
+                .allMatch(m -> m.getDataVencimento().equals(LocalDate.of(2031, 2, 28))));
+    }
+
+    @Test
+    void cadastroManualNaoDeveDuplicarMensalidadeDoMes() {
+        Aluno aluno = alunoRepository.save(new Aluno("Aluno Manual", "cobranca.manual@exemplo.com", "11700006666"));
+        MensalidadeCreateDTO dto = new MensalidadeCreateDTO(aluno.getId(), 100.0, StatusMensalidade.PENDENTE,
+                LocalDate.of(2030, 8, 10), "Agosto", 2030);
+        mensalidadeService.criar(dto);
+
+        assertThrows(IllegalArgumentException.class, () -> mensalidadeService.criar(dto));
+    }
+
+    @Test
+    @WithMockUser(roles = "GESTOR")
+    void parametrosInvalidosDevemRetornar400() throws Exception {
+        mockMvc.perform(post("/api/mensalidades/cobranca").param("mes", "13").param("ano", "2030").param("valor", "100"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/mensalidades/cobranca").param("mes", "1").param("ano", "2030").param("valor", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ALUNO")
+    void cobrancaDeveSerRestritaAGestaoEAdmin() throws Exception {
+        mockMvc.perform(post("/api/mensalidades/cobranca").param("mes", "1").param("ano", "2030").param("valor", "100"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,83 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.model.CategoriaDespesa;
+import com.superfit.superfitapp.model.Despesa;
+import com.superfit.superfitapp.model.Role;
+import com.superfit.superfitapp.model.User;
+import com.superfit.superfitapp.repository.DespesaRepository;
+import com.superfit.superfitapp.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:superfitdb-sinteticos;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.dados-sinteticos.professores=3",
+        "app.dados-sinteticos.alunos=25",
+        "app.dados-sinteticos.meses=3",
+        "app.dados-sinteticos.referencia=2025-12",
+        "app.dados-sinteticos.despesas-por-mes=10",
+        "app.dados-sinteticos.tamanho-lote=10"
+})
+@ActiveProfiles("dados-sinteticos")
+class DadosSinteticosTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DespesaRepository despesaRepository;
+
+    @Test
+    void deveGerarBaseComTodasAsEntidades() {
+        assertEquals(3, contar("SELECT COUNT(*) FROM professores"));
+        assertEquals(25, contar("SELECT COUNT(*) FROM alunos"));
+        assertEquals(1, contar("SELECT COUNT(*) FROM gestores"));
+        assertEquals(29, contar("SELECT COUNT(*) FROM users WHERE email LIKE '%@seed.superfit.com'"));
+        assertEquals(25 * 4, contar("SELECT COUNT(*) FROM medidas"));
+        assertEquals(25 * 2, contar("SELECT COUNT(*) FROM treinos"));
+        assertEquals(25 * 2 * 6, contar("SELECT COUNT(*) FROM exercicios"));
+        assertEquals(30, contar("SELECT COUNT(*) FROM despesas"));
+        assertEquals(CategoriaDespesa.values().length, contar("SELECT COUNT(DISTINCT categoria) FROM despesas"));
+
+        long mensalidades = contar("SELECT COUNT(*) FROM mensalidades");
+        assertTrue(mensalidades > 25 && mensalidades <= 25 * 3);
+        // Referência no passado: a varredura marca as pendentes como atrasadas e preenche o resumo
+        assertEquals(0, contar("SELECT COUNT(*) FROM mensalidades WHERE status = 'PENDENTE'"));
+        assertTrue(contar("SELECT COUNT(*) FROM inadimplencia_aluno") > 0);
+        assertEquals(3, contar("SELECT COUNT(*) FROM resumo_financeiro_mensal WHERE ano = 2025 AND mes >= 10"));
+    }
+
+    @Test
+    @Transactional
+    void novosRegistrosDevemUsarIdsAposOsGerados() {
+        long maiorUser = contar("SELECT MAX(id) FROM users");
+        long maiorDespesa = contar("SELECT MAX(id) FROM despesas");
+
+        User user = userRepository.save(new User("novo.sintetico@exemplo.com", "hash", Role.ROLE_ALUNO));
+        Despesa despesa = new Despesa();
+        despesa.setDescricao("Despesa nova");
+        despesa.setValor(10.0);
+        despesa.setCategoria(CategoriaDespesa.OUTROS);
+        despesa.setDataDespesa(LocalDate.of(2025, 12, 20));
+        despesa = despesaRepository.save(despesa);
+
+        assertTrue(user.getId() > maiorUser);
+        assertTrue(despesa.getId() > maiorDespesa);
+    }
+
+    private long contar(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,137 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.dto.gestor.DashboardGestorDTO;
+import com.superfit.superfitapp.evento.MensalidadeAlteradaEvento;
+import com.superfit.superfitapp.model.Aluno;
+import com.superfit.superfitapp.model.Mensalidade;
+import com.superfit.superfitapp.model.Professor;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.repository.AlunoRepository;
+import com.superfit.superfitapp.repository.MensalidadeRepository;
+import com.superfit.superfitapp.repository.ProfessorRepository;
+import com.superfit.superfitapp.service.DashboardGestorService;
+import com.superfit.superfitapp.service.ResumoFinanceiroService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * As consultas do painel rodam em outras threads, com transações próprias: os dados são gravados
+ * (commit) em um banco separado, em vez de um teste @Transactional.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:superfitdb-dashboard;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.cache.type=caffeine",
+        "spring.cache.caffeine.spec=maximumSize=100,recordStats"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DashboardGestorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DashboardGestorService dashboardGestorService;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private ProfessorRepository professorRepository;
+
+    @Autowired
+    private MensalidadeRepository mensalidadeRepository;
+
+    @Autowired
+    private ResumoFinanceiroService resumoFinanceiroService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeAll
+    void criarDados() {
+        professorRepository.save(new Professor("Professor Painel", "prof.painel@exemplo.com", "11900000000"));
+        for (int i = 1; i <= 4; i++) {
+            alunoRepository.save(new Aluno("Aluno Painel " + i, "aluno.painel" + i + "@exemplo.com", "1191111111" + i));
+        }
+
+        LocalDate hoje = LocalDate.now();
+        Aluno atrasado = alunoRepository.save(new Aluno("Aluno Atrasado", "atrasado.painel@exemplo.com", "11922222222"));
+        mensalidadeRepository.save(new Mensalidade(atrasado, 100.0, StatusMensalidade.ATRASADA,
+                LocalDate.of(2025, 1, 10), "Janeiro", 2025));
+
+        Aluno pendente = alunoRepository.save(new Aluno("Aluno Pendente", "pendente.painel@exemplo.com", "11933333333"));
+        mensalidadeRepository.save(new Mensalidade(pendente, 80.0, StatusMensalidade.PENDENTE,
+                hoje.plusDays(10), "Próximo", hoje.getYear()));
+
+        Aluno pago = alunoRepository.save(new Aluno("Aluno Pago", "pago.painel@exemplo.com", "11944444444"));
+        Mensalidade paga = new Mensalidade(pago, 150.0, StatusMensalidade.PAGA, hoje, "Atual", hoje.getYear());
+        paga.setDataPagamento(hoje);
+        mensalidadeRepository.save(paga);
+
+        // Dados gravados direto nos repositórios não passam pelos serviços: reconstrói o livro-razão.
+        resumoFinanceiroService.reconstruir();
+    }
+
+    @Test
+    @WithMockUser(roles = "GESTOR")
+    void dashboardDeveTrazerTotaisEListasEmUmaRequisicao() throws Exception {
+        eventPublisher.publishEvent(MensalidadeAlteradaEvento.emLote());
+
+        mockMvc.perform(get("/api/gestor/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mes").value(YearMonth.now().toString()))
+                .andExpect(jsonPath("$.totalAlunos").value(7))
+                .andExpect(jsonPath("$.totalProfessores").value(1))
+                .andExpect(jsonPath("$.mensalidadesPendentes").value(2))
+                .andExpect(jsonPath("$.mensalidadesAtrasadas").value(1))
+                .andExpect(jsonPath("$.valorEmAberto", closeTo(180.0, 0.001)))
+                .andExpect(jsonPath("$.receitaMes", closeTo(150.0, 0.001)))
+                .andExpect(jsonPath("$.alunosRecentes", hasSize(5)))
+                .andExpect(jsonPath("$.alunosRecentes[0].nome").value("Aluno Pago"))
+                .andExpect(jsonPath("$.alunosRecentes[0].statusMensalidade").value("PAGA"))
+                .andExpect(jsonPath("$.alunosRecentes[1].statusMensalidade").value("PENDENTE"))
+                .andExpect(jsonPath("$.alunosRecentes[2].statusMensalidade").value("ATRASADA"))
+                .andExpect(jsonPath("$.alunosRecentes[3].statusMensalidade").value("PAGA"))
+                .andExpect(jsonPath("$.mensalidadesEmAberto", hasSize(2)))
+                .andExpect(jsonPath("$.mensalidadesEmAberto[0].alunoNome").value("Aluno Atrasado"))
+                .andExpect(jsonPath("$.mensalidadesEmAberto[0].status").value("ATRASADA"))
+                .andExpect(jsonPath("$.mensalidadesEmAberto[1].alunoNome").value("Aluno Pendente"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ALUNO")
+    void dashboardDeveSerRestritoAGestorEAdmin() throws Exception {
+        mockMvc.perform(get("/api/gestor/dashboard"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void dashboardDeveFicarEmCacheAteUmaAlteracao() {
+        eventPublisher.publishEvent(MensalidadeAlteradaEvento.emLote());
+
+        DashboardGestorDTO primeiro = dashboardGestorService.obterDashboard();
+        assertSame(primeiro, dashboardGestorService.obterDashboard());
+
+        eventPublisher.publishEvent(MensalidadeAlteradaEvento.emLote());
+        assertNotSame(primeiro, dashboardGestorService.obterDashboard());
+    }
+}
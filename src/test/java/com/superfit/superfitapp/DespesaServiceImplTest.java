@@ -3,15 +3,20 @@ package com.superfit.superfitapp;
 
 import com.superfit.superfitapp.dto.despesa.DespesaCreateDTO;
 import com.superfit.superfitapp.dto.despesa.DespesaResponseDTO;
+import com.superfit.superfitapp.dto.despesa.DespesaUpdateDTO;
+import com.superfit.superfitapp.dto.relatorio.ResumoMensalDTO;
 import com.superfit.superfitapp.model.CategoriaDespesa;
 import com.superfit.superfitapp.repository.DespesaRepository;
 import com.superfit.superfitapp.service.DespesaService;
+import com.superfit.superfitapp.service.ResumoFinanceiroService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,6 +31,9 @@ class DespesaServiceImplTest {
     @Autowired
     private DespesaRepository despesaRepository;
 
+    @Autowired
+    private ResumoFinanceiroService resumoFinanceiroService;
+
     @Test
     void criarEDepoisListarDespesa() {
         // Arrange: cria um DTO com dados mínimos de uma despesa.
@@ -43,7 +51,7 @@ class DespesaServiceImplTest {
         assertEquals(CategoriaDespesa.ENERGIA, criada.getCategoria());
 
         // Assert: garante que a despesa criada aparece na listagem.
-        List<DespesaResponseDTO> lista = despesaService.listar();
+        List<DespesaResponseDTO> lista = despesaService.listar(PageRequest.of(0, 50)).getContent();
         assertTrue(lista.stream().anyMatch(d -> d.getId().equals(criada.getId())));
     }
 
@@ -65,4 +73,40 @@ class DespesaServiceImplTest {
         assertTrue(despesaRepository.findById(criada.getId()).orElseThrow().getPaga());
         assertNotNull(despesaRepository.findById(criada.getId()).orElseThrow().getDataPagamento());
     }
+
+    @Test
+    void alteracoesDeDespesaDevemAtualizarResumoMensal() {
+        // Arrange: despesa pendente em março/2026.
+        DespesaCreateDTO dto = new DespesaCreateDTO();
+        dto.setDescricao("Manutenção");
+        dto.setValor(400.00);
+        dto.setCategoria(CategoriaDespesa.MANUTENCAO);
+        dto.setDataDespesa(LocalDate.of(2026, 3, 10));
+        dto.setPaga(false);
+        DespesaResponseDTO criada = despesaService.criar(dto);
+
+        ResumoMensalDTO marco = resumoFinanceiroService.obterResumo(YearMonth.of(2026, 3));
+        assertEquals(400.0, marco.getDespesasTotal(), 0.001);
+        assertEquals(400.0, marco.getDespesasPendentes(), 0.001);
+
+        // Act: paga a despesa e depois a move para abril com novo valor.
+        despesaService.marcarComoPaga(criada.getId());
+        DespesaUpdateDTO update = new DespesaUpdateDTO();
+        update.setValor(450.00);
+        update.setDataDespesa(LocalDate.of(2026, 4, 2));
+        despesaService.atualizar(criada.getId(), update);
+
+        // Assert: março é estornado e abril recebe o estado atual.
+        marco = resumoFinanceiroService.obterResumo(YearMonth.of(2026, 3));
+        assertEquals(0.0, marco.getDespesasTotal(), 0.001);
+        assertEquals(0.0, marco.getDespesasPendentes(), 0.001);
+        ResumoMensalDTO abril = resumoFinanceiroService.obterResumo(YearMonth.of(2026, 4));
+        assertEquals(450.0, abril.getDespesasTotal(), 0.001);
+        assertEquals(450.0, abril.getDespesasPagas(), 0.001);
+        assertEquals(0.0, abril.getDespesasPendentes(), 0.001);
+
+        // Remoção estorna o mês por completo.
+        despesaService.remover(criada.getId());
+        assertEquals(0.0, resumoFinanceiroService.obterResumo(YearMonth.of(2026, 4)).getDespesasTotal(), 0.001);
+    }
 }
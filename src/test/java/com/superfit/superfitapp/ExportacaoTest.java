@@ -0,0 +1,177 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.model.Aluno;
+import com.superfit.superfitapp.model.CategoriaDespesa;
+import com.superfit.superfitapp.model.Despesa;
+import com.superfit.superfitapp.model.Mensalidade;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.repository.AlunoRepository;
+import com.superfit.superfitapp.repository.DespesaRepository;
+import com.superfit.superfitapp.repository.MensalidadeRepository;
+import com.superfit.superfitapp.service.ExportacaoService;
+import com.superfit.superfitapp.service.FormatoExportacao;
+import jakarta.persistence.EntityManagerFactory;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ExportacaoTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExportacaoService exportacaoService;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private MensalidadeRepository mensalidadeRepository;
+
+    @Autowired
+    private DespesaRepository despesaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void exportacaoCsvDeveEscreverUmaLinhaPorMensalidadeSemCarregarEntidades() {
+        Aluno aluno = alunoRepository.save(new Aluno("Aluno Exportação", "exportacao@exemplo.com", "11500000001"));
+        Mensalidade comObservacao = new Mensalidade(aluno, 120.0, StatusMensalidade.PAGA,
+                LocalDate.of(2041, 1, 10), "Janeiro", 2041);
+        comObservacao.setDataPagamento(LocalDate.of(2041, 1, 8));
+        comObservacao.setObservacoes("pago; via \"pix\"");
+        mensalidadeRepository.save(comObservacao);
+        mensalidadeRepository.save(new Mensalidade(aluno, 120.0, StatusMensalidade.PENDENTE,
+                LocalDate.of(2041, 2, 10), "Fevereiro", 2041));
+        mensalidadeRepository.flush();
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportacaoService.exportarMensalidades(FormatoExportacao.CSV, saida);
+
+        // Projeção em Stream: uma consulta e nenhuma entidade carregada.
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+        assertEquals(0, estatisticas.getEntityLoadCount());
+
+        String csv = saida.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("\uFEFFid;alunoId;alunoNome;valor;status;"), csv);
+
+        List<String> linhasDoAluno = csv.lines().filter(l -> l.contains("Aluno Exportação")).toList();
+        assertEquals(2, linhasDoAluno.size());
+        assertTrue(linhasDoAluno.get(0).endsWith(";\"pago; via \"\"pix\"\"\""), linhasDoAluno.get(0));
+        assertTrue(linhasDoAluno.get(1).contains(";Aluno Exportação;120;PENDENTE;2041-02-10;;Fevereiro;2041;"),
+                linhasDoAluno.get(1));
+    }
+
+    @Test
+    void exportacaoCsvDeveEscreverDecimaisComVirgula() {
+        Despesa despesa = new Despesa("Conta de água", 1234.56, CategoriaDespesa.AGUA, LocalDate.of(2041, 5, 5));
+        despesaRepository.saveAndFlush(despesa);
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportacaoService.exportarDespesas(FormatoExportacao.CSV, saida);
+
+        String linha = saida.toString(StandardCharsets.UTF_8).lines()
+                .filter(l -> l.contains("Conta de água")).findFirst().orElseThrow();
+        assertTrue(linha.startsWith(despesa.getId() + ";Conta de água;1234,56;AGUA;2041-05-05;"), linha);
+    }
+
+    @Test
+    void exportacaoCsvDeveNeutralizarTextosQueOExcelLeriaComoFormula() {
+        Aluno aluno = alunoRepository.save(new Aluno("=HYPERLINK(\"http://exemplo.com\")",
+                "exportacao.formula@exemplo.com", "11500000002"));
+        Mensalidade mensalidade = new Mensalidade(aluno, 95.5, StatusMensalidade.PENDENTE,
+                LocalDate.of(2041, 4, 10), "Abril", 2041);
+        mensalidade.setObservacoes("@SUM(1+1)");
+        mensalidadeRepository.saveAndFlush(mensalidade);
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportacaoService.exportarMensalidades(FormatoExportacao.CSV, saida);
+
+        String linha = saida.toString(StandardCharsets.UTF_8).lines()
+                .filter(l -> l.contains("exemplo.com\"\"")).findFirst().orElseThrow();
+        assertTrue(linha.contains(";\"'=HYPERLINK(\"\"http://exemplo.com\"\")\";95,5;PENDENTE;"), linha);
+        assertTrue(linha.endsWith(";'@SUM(1+1)"), linha);
+    }
+
+    @Test
+    void exportacaoXlsxDeveManterNumerosEDatasTipados() throws Exception {
+        Despesa despesa = new Despesa("Manutenção esteira", 350.0, CategoriaDespesa.MANUTENCAO, LocalDate.of(2041, 3, 5));
+        despesaRepository.saveAndFlush(despesa);
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportacaoService.exportarDespesas(FormatoExportacao.XLSX, saida);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(saida.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals("descricao", sheet.getRow(0).getCell(1).getStringCellValue());
+
+            Row linha = null;
+            for (Row row : sheet) {
+                if ("Manutenção esteira".equals(row.getCell(1).getStringCellValue())) {
+                    linha = row;
+                }
+            }
+            assertTrue(linha != null, "Despesa não exportada");
+            assertEquals(350.0, linha.getCell(2).getNumericCellValue(), 0.001);
+            assertEquals("MANUTENCAO", linha.getCell(3).getStringCellValue());
+            assertEquals(LocalDate.of(2041, 3, 5), linha.getCell(4).getLocalDateTimeCellValue().toLocalDate());
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "GESTOR")
+    void endpointDeveEnviarArquivoEmStreamingComNomeETipo() throws Exception {
+        MvcResult resultado = mockMvc.perform(get("/api/exportacoes/despesas").param("formato", "xlsx"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString("attachment; filename=\"despesas-")))
+                .andExpect(content().contentType(FormatoExportacao.XLSX.getContentType()));
+
+        mockMvc.perform(get("/api/exportacoes/mensalidades").param("formato", "pdf"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ALUNO")
+    void exportacaoDeveSerRestritaAGestores() throws Exception {
+        mockMvc.perform(get("/api/exportacoes/mensalidades"))
+                .andExpect(status().isForbidden());
+    }
+}
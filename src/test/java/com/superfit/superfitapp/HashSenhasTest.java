@@ -0,0 +1,202 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.dto.LoginRequest;
+import com.superfit.superfitapp.model.Role;
+import com.superfit.superfitapp.model.User;
+import com.superfit.superfitapp.repository.UserRepository;
+import com.superfit.superfitapp.security.CodificadorSenhas;
+import com.superfit.superfitapp.security.ExecutorHashSenhas;
+import com.superfit.superfitapp.service.AuthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class HashSenhasTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void loginComHashLegadoDeveRegravarHashNoFormatoAtual() {
+        String email = "rehash@exemplo.com";
+        String legado = new BCryptPasswordEncoder(4).encode("segredo");
+        User user = userRepository.save(new User(email, legado, Role.ROLE_GESTOR));
+
+        try {
+            authService.login(login(email, "segredo"));
+
+            String atual = userRepository.findByEmail(email).orElseThrow().getPassword();
+            assertTrue(atual.startsWith("{bcrypt}"), "Hash deveria ter sido regravado: " + atual);
+            assertFalse(passwordEncoder.upgradeEncoding(atual));
+
+            // O novo hash continua aceitando a mesma senha e não é regravado de novo.
+            authService.login(login(email, "segredo"));
+            assertEquals(atual, userRepository.findByEmail(email).orElseThrow().getPassword());
+        } finally {
+            userRepository.delete(user);
+        }
+    }
+
+    @Test
+    void senhaErradaNaoDeveRegravarHash() {
+        String email = "rehash.errada@exemplo.com";
+        String legado = new BCryptPasswordEncoder(4).encode("segredo");
+        User user = userRepository.save(new User(email, legado, Role.ROLE_GESTOR));
+
+        try {
+            assertThrows(BadCredentialsException.class, () -> authService.login(login(email, "outra")));
+            assertEquals(legado, userRepository.findByEmail(email).orElseThrow().getPassword());
+        } finally {
+            userRepository.delete(user);
+        }
+    }
+
+    @Test
+    void trocaDeAlgoritmoDeveAceitarHashesAntigosEPedirUpgrade() {
+        PasswordEncoder bcrypt = CodificadorSenhas.criar(CodificadorSenhas.BCRYPT, 4, 1000);
+        PasswordEncoder pbkdf2 = CodificadorSenhas.criar(CodificadorSenhas.PBKDF2, 4, 1000);
+
+        String hashBcrypt = bcrypt.encode("segredo");
+        String hashPbkdf2 = pbkdf2.encode("segredo");
+
+        assertTrue(hashPbkdf2.startsWith("{pbkdf2}"));
+        assertTrue(pbkdf2.matches("segredo", hashBcrypt));
+        assertTrue(bcrypt.matches("segredo", hashPbkdf2));
+        assertTrue(pbkdf2.upgradeEncoding(hashBcrypt));
+        assertFalse(pbkdf2.upgradeEncoding(hashPbkdf2));
+
+        // Aumentar o custo do BCrypt também marca os hashes antigos para regravação.
+        assertTrue(CodificadorSenhas.criar(CodificadorSenhas.BCRYPT, 5, 1000).upgradeEncoding(hashBcrypt));
+        assertThrows(IllegalArgumentException.class, () -> CodificadorSenhas.criar("md5", 10, 1000));
+    }
+
+    @Test
+    void executorSaturadoDeveRecusarNovasTarefas() throws Exception {
+        ExecutorHashSenhas executor = new ExecutorHashSenhas(1, 1, 5000);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch ocupado = new CountDownLatch(1);
+
+        try {
+            CompletableFuture<String> emExecucao = CompletableFuture.supplyAsync(() -> executor.executar(() -> {
+                ocupado.countDown();
+                aguardar(liberar);
+                return "primeira";
+            }));
+            ocupado.await();
+            CompletableFuture<String> naFila = CompletableFuture.supplyAsync(() -> executor.executar(() -> "segunda"));
+            while (executor.tarefasNaFila() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThrows(RejectedExecutionException.class, () -> executor.executar(() -> "terceira"));
+
+            liberar.countDown();
+            assertEquals("primeira", emExecucao.get());
+            assertEquals("segunda", naFila.get());
+        } finally {
+            liberar.countDown();
+            executor.encerrar();
+        }
+    }
+
+    @Test
+    void executorDeveDesistirAposTimeout() {
+        ExecutorHashSenhas executor = new ExecutorHashSenhas(1, 1, 50);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        try {
+            assertThrows(RejectedExecutionException.class, () -> executor.executar(() -> {
+                aguardar(liberar);
+                return "lenta";
+            }));
+        } finally {
+            liberar.countDown();
+            executor.encerrar();
+        }
+    }
+
+    @Test
+    void executarTodosDeveDividirOsItensEmFatiasSemOcuparAFila() {
+        // Fila de 1 posição: 10 itens só cabem porque as fatias são enviadas uma a uma.
+        ExecutorHashSenhas executor = new ExecutorHashSenhas(2, 1, 5000);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        try {
+            List<Integer> dobros = executor.executarTodos(IntStream.rangeClosed(1, 10).boxed().toList(), item -> {
+                threads.add(Thread.currentThread().getName());
+                return item * 2;
+            });
+
+            assertEquals(List.of(2, 4, 6, 8, 10, 12, 14, 16, 18, 20), dobros);
+            assertTrue(threads.stream().allMatch(nome -> nome.startsWith("hash-senha-")), "Threads: " + threads);
+            assertEquals(List.of(), executor.executarTodos(List.of(), item -> item));
+        } finally {
+            executor.encerrar();
+        }
+    }
+
+    @Test
+    void loginDeveSerAtendidoDuranteOHashEmLote() throws Exception {
+        ExecutorHashSenhas executor = new ExecutorHashSenhas(2, 1, 5000);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        try {
+            CompletableFuture<List<Integer>> lote = CompletableFuture.supplyAsync(() -> executor.executarTodos(
+                    IntStream.rangeClosed(1, 20).boxed().toList(), item -> {
+                        aguardar(liberar);
+                        return item;
+                    }));
+            while (executor.threadsAtivas() == 0) {
+                Thread.onSpinWait();
+            }
+
+            // O lote nunca ocupa todas as threads: o login roda na que sobrou, sem esperar o lote.
+            assertEquals("login", executor.executar(() -> "login"));
+            assertFalse(lote.isDone());
+
+            liberar.countDown();
+            assertEquals(20, lote.get().size());
+        } finally {
+            liberar.countDown();
+            executor.encerrar();
+        }
+    }
+
+    private static LoginRequest login(String email, String senha) {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(email);
+        request.setPassword(senha);
+        return request;
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.model.Aluno;
+import com.superfit.superfitapp.model.Role;
+import com.superfit.superfitapp.model.User;
+import com.superfit.superfitapp.repository.AlunoRepository;
+import com.superfit.superfitapp.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ImportacaoAlunosTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importacaoCsvDeveGravarLinhasValidasERelatarErrosPorLinha() throws Exception {
+        userRepository.save(new User("ja.cadastrado@exemplo.com", "x", Role.ROLE_ALUNO));
+
+        String csv = """
+                nome;email;telefone;dataNascimento;senha
+                "Silva; Ana";ana.importada@exemplo.com;11911110001;2000-01-01;segredo1
+                Bruno;bruno.importado@exemplo.com;11911110002;;segredo2
+                Bruno Repetido;bruno.importado@exemplo.com;11911110003;;segredo3
+                Carla;ja.cadastrado@exemplo.com;11911110004;;segredo4
+                Davi;email-invalido;11911110005;;segredo5
+                Eva;eva.importada@exemplo.com;11911110006;;123
+                """;
+
+        mockMvc.perform(post("/admin/alunos/importacao").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalLinhas").value(6))
+                .andExpect(jsonPath("$.importados").value(2))
+                .andExpect(jsonPath("$.erros.length()").value(4))
+                .andExpect(jsonPath("$.erros[?(@.linha == 4)].mensagem").value("Email repetido no arquivo"))
+                .andExpect(jsonPath("$.erros[?(@.linha == 5)].mensagem").value("Email já cadastrado"))
+                .andExpect(jsonPath("$.erros[?(@.linha == 6)].mensagem").value("Email inválido"))
+                .andExpect(jsonPath("$.erros[?(@.linha == 7)].mensagem").value("Senha deve ter no mínimo 6 caracteres"));
+
+        Aluno ana = alunoRepository.findByEmail("ana.importada@exemplo.com").orElseThrow();
+        assertEquals("Silva; Ana", ana.getNome());
+        assertEquals("2000-01-01", ana.getDataNascimento());
+        assertEquals(Role.ROLE_ALUNO, ana.getUser().getRole());
+        assertTrue(passwordEncoder.matches("segredo1", ana.getUser().getPassword()));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importacaoJsonDeveGravarEmLotesJdbc() throws Exception {
+        int quantidade = 120;
+        String json = IntStream.range(0, quantidade)
+                .mapToObj(i -> """
+                        {"nome":"Aluno Lote %d","email":"lote%d@exemplo.com","telefone":"1190000%04d","password":"segredo%d"}"""
+                        .formatted(i, i, i, i))
+                .collect(Collectors.joining(",", "[", "]"));
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        mockMvc.perform(post("/admin/alunos/importacao").contentType(MediaType.APPLICATION_JSON).content(json))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalLinhas").value(quantidade))
+                .andExpect(jsonPath("$.importados").value(quantidade))
+                .andExpect(jsonPath("$.erros.length()").value(0));
+
+        // 2 INSERTs por aluno (user + aluno) agrupados em lotes de 50, mais a validação de emails e as sequências.
+        assertEquals(2L * quantidade, estatisticas.getEntityInsertCount());
+        long statements = estatisticas.getPrepareStatementCount();
+        assertTrue(statements <= 20, "Importação de " + quantidade + " alunos executou " + statements + " statements");
+        assertTrue(alunoRepository.existsByEmail("lote119@exemplo.com"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void csvSemColunaObrigatoriaDeveRetornar400() throws Exception {
+        mockMvc.perform(post("/admin/alunos/importacao").contentType("text/csv").content("nome,email\nAna,ana@exemplo.com\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "GESTOR")
+    void importacaoDeveSerRestritaAoAdmin() throws Exception {
+        mockMvc.perform(post("/admin/alunos/importacao").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isForbidden());
+    }
+}
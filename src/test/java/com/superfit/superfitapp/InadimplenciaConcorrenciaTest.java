@@ -0,0 +1,114 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.dto.relatorio.ResumoInadimplenciaDTO;
+import com.superfit.superfitapp.model.Aluno;
+import com.superfit.superfitapp.model.Mensalidade;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.repository.AlunoRepository;
+import com.superfit.superfitapp.repository.InadimplenciaAlunoRepository;
+import com.superfit.superfitapp.repository.MensalidadeRepository;
+import com.superfit.superfitapp.service.InadimplenciaService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Duas transações recalculam o mesmo aluno ao mesmo tempo (ex: lote da varredura e pagamento manual):
+ * o teste não é @Transactional e usa um banco separado, com cada recálculo em sua própria thread.
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:superfitdb-inadimplencia-concorrencia;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+class InadimplenciaConcorrenciaTest {
+
+    @Autowired
+    private InadimplenciaService inadimplenciaService;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private MensalidadeRepository mensalidadeRepository;
+
+    @Autowired
+    private InadimplenciaAlunoRepository inadimplenciaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void recalculoSimultaneoDoMesmoAlunoSemResumoNaoDeveViolarAChave() throws Exception {
+        Aluno aluno = alunoRepository.save(new Aluno("Aluno Concorrente", "inadimplencia.concorrente@exemplo.com", "11650000001"));
+        mensalidadeRepository.save(new Mensalidade(aluno, 90.0, StatusMensalidade.ATRASADA,
+                LocalDate.of(2042, 1, 10), "Janeiro", 2042));
+        mensalidadeRepository.save(new Mensalidade(aluno, 110.0, StatusMensalidade.ATRASADA,
+                LocalDate.of(2042, 2, 10), "Fevereiro", 2042));
+        List<Long> alunoIds = List.of(aluno.getId());
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+
+        // Primeira transação recalcula e fica aberta até a segunda começar o próprio recálculo.
+        CountDownLatch recalculado = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<Void> primeira = CompletableFuture.runAsync(() -> transacao.executeWithoutResult(status -> {
+            inadimplenciaService.recalcularAlunos(alunoIds);
+            recalculado.countDown();
+            aguardar(liberar);
+        }));
+        assertTrue(recalculado.await(10, TimeUnit.SECONDS));
+
+        AtomicReference<Throwable> erroSegunda = new AtomicReference<>();
+        Thread segunda = new Thread(() -> {
+            try {
+                transacao.executeWithoutResult(status -> inadimplenciaService.recalcularAlunos(alunoIds));
+            } catch (Throwable e) {
+                erroSegunda.set(e);
+            }
+        });
+        segunda.start();
+        aguardarBloqueio(segunda);
+
+        liberar.countDown();
+        primeira.get(10, TimeUnit.SECONDS);
+        segunda.join(10_000);
+
+        assertNull(erroSegunda.get(), () -> "Segundo recálculo falhou: " + erroSegunda.get());
+        ResumoInadimplenciaDTO resumo = inadimplenciaRepository.buscarResumoPorAluno(aluno.getId()).orElseThrow();
+        assertEquals(2L, resumo.getQuantidadeMensalidades());
+        assertEquals(200.0, resumo.getTotal(), 0.001);
+    }
+
+    /**
+     * Espera a thread ficar bloqueada no banco (aguardando o lock da outra transação) ou terminar.
+     */
+    private static void aguardarBloqueio(Thread thread) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < limite) {
+            Thread.State estado = thread.getState();
+            if (estado == Thread.State.TIMED_WAITING || estado == Thread.State.WAITING
+                    || estado == Thread.State.TERMINATED) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
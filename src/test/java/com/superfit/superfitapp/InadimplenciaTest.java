@@ -0,0 +1,144 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.dto.mensalidade.VarreduraAtrasosDTO;
+import com.superfit.superfitapp.model.Aluno;
+import com.superfit.superfitapp.model.InadimplenciaAluno;
+import com.superfit.superfitapp.model.Mensalidade;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.repository.AlunoRepository;
+import com.superfit.superfitapp.repository.InadimplenciaAlunoRepository;
+import com.superfit.superfitapp.repository.MensalidadeRepository;
+import com.superfit.superfitapp.service.InadimplenciaService;
+import com.superfit.superfitapp.service.MensalidadeService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.inadimplencia.tamanho-lote=2")
+@AutoConfigureMockMvc
+@Transactional
+class InadimplenciaTest {
+
+    private static final LocalDate DATA_CORTE = LocalDate.of(2040, 4, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InadimplenciaService inadimplenciaService;
+
+    @Autowired
+    private MensalidadeService mensalidadeService;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private MensalidadeRepository mensalidadeRepository;
+
+    @Autowired
+    private InadimplenciaAlunoRepository inadimplenciaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @WithMockUser(roles = "GESTOR")
+    void varreduraDeveMarcarVencidasEmLotesEManterResumoPorAluno() throws Exception {
+        Aluno devedor = alunoRepository.save(new Aluno("Aluno Devedor", "devedor.atraso@exemplo.com", "11600000001"));
+        Aluno outro = alunoRepository.save(new Aluno("Aluno Outro", "outro.atraso@exemplo.com", "11600000002"));
+
+        salvar(devedor, StatusMensalidade.PENDENTE, LocalDate.of(2040, 1, 10), "Janeiro");
+        salvar(devedor, StatusMensalidade.PENDENTE, LocalDate.of(2040, 2, 10), "Fevereiro");
+        salvar(devedor, StatusMensalidade.PENDENTE, LocalDate.of(2040, 3, 10), "Março");
+        Mensalidade aVencer = salvar(devedor, StatusMensalidade.PENDENTE, LocalDate.of(2040, 4, 10), "Abril");
+        salvar(devedor, StatusMensalidade.PAGA, LocalDate.of(2039, 12, 10), "Dezembro");
+        salvar(outro, StatusMensalidade.PENDENTE, LocalDate.of(2040, 3, 10), "Março");
+        mensalidadeRepository.flush();
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        VarreduraAtrasosDTO resultado = inadimplenciaService.atualizarAtrasos(DATA_CORTE);
+
+        // Tudo em UPDATE/INSERT ... SELECT: nenhuma mensalidade é carregada como entidade.
+        assertEquals(0, estatisticas.getEntityLoadCount());
+        assertTrue(resultado.mensalidadesAtrasadas() >= 4);
+        assertTrue(resultado.lotes() >= 2);
+
+        InadimplenciaAluno resumo = resumo(devedor.getId()).orElseThrow();
+        assertEquals(3, resumo.getQuantidade());
+        assertEquals(300.0, resumo.getTotalDevido(), 0.001);
+        assertEquals(LocalDate.of(2040, 1, 10), resumo.getVencimentoMaisAntigo());
+        assertEquals(1, resumo(outro.getId()).orElseThrow().getQuantidade());
+        assertEquals(StatusMensalidade.PENDENTE, mensalidadeService.buscarPorId(aVencer.getId()).getStatus());
+
+        // Reexecutar não encontra novas mensalidades do aluno nem altera o resumo.
+        inadimplenciaService.atualizarAtrasos(DATA_CORTE);
+        assertEquals(3, resumo(devedor.getId()).orElseThrow().getQuantidade());
+
+        mockMvc.perform(get("/api/relatorios/inadimplencia/aluno/" + devedor.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quantidadeMensalidades").value(3))
+                .andExpect(jsonPath("$.totalDevido", closeTo(300.0, 0.001)))
+                .andExpect(jsonPath("$.mensalidades", hasSize(3)));
+    }
+
+    @Test
+    void pagamentoDeMensalidadeAtrasadaDeveAtualizarResumoDoAluno() {
+        Aluno aluno = alunoRepository.save(new Aluno("Aluno Pagador", "pagador.atraso@exemplo.com", "11600000003"));
+        Mensalidade janeiro = salvar(aluno, StatusMensalidade.PENDENTE, LocalDate.of(2040, 1, 10), "Janeiro");
+        Mensalidade fevereiro = salvar(aluno, StatusMensalidade.PENDENTE, LocalDate.of(2040, 2, 10), "Fevereiro");
+
+        inadimplenciaService.atualizarAtrasos(DATA_CORTE);
+        assertEquals(2, resumo(aluno.getId()).orElseThrow().getQuantidade());
+
+        mensalidadeService.marcarComoPaga(janeiro.getId());
+        InadimplenciaAluno resumo = resumo(aluno.getId()).orElseThrow();
+        assertEquals(1, resumo.getQuantidade());
+        assertEquals(LocalDate.of(2040, 2, 10), resumo.getVencimentoMaisAntigo());
+
+        // Sem mensalidades atrasadas o aluno sai do resumo.
+        mensalidadeService.remover(fevereiro.getId());
+        assertFalse(resumo(aluno.getId()).isPresent());
+    }
+
+    /**
+     * O resumo é recalculado em SQL; limpa o contexto de persistência para reler a linha do banco.
+     */
+    private Optional<InadimplenciaAluno> resumo(Long alunoId) {
+        entityManager.clear();
+        return inadimplenciaRepository.findById(alunoId);
+    }
+
+    private Mensalidade salvar(Aluno aluno, StatusMensalidade status, LocalDate vencimento, String mesReferencia) {
+        Mensalidade mensalidade = new Mensalidade(aluno, 100.0, status, vencimento, mesReferencia, vencimento.getYear());
+        if (status == StatusMensalidade.PAGA) {
+            mensalidade.setDataPagamento(vencimento);
+        }
+        return mensalidadeRepository.save(mensalidade);
+    }
+}
@@ -0,0 +1,51 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.model.Role;
+import com.superfit.superfitapp.security.JwtService;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtServiceTest {
+
+    private final JwtService jwtService = new JwtService();
+
+    @Test
+    void validarDeveVerificarAssinaturaUmaVezEReusarClaimsDoCache() {
+        String token = jwtService.generateToken("gestor@exemplo.com", Role.ROLE_GESTOR);
+
+        Optional<JwtService.DadosToken> primeira = jwtService.validar(token);
+        Optional<JwtService.DadosToken> segunda = jwtService.validar(token);
+
+        assertTrue(primeira.isPresent());
+        assertEquals("gestor@exemplo.com", segunda.orElseThrow().email());
+        assertEquals("ROLE_GESTOR", segunda.orElseThrow().role());
+        assertTrue(segunda.orElseThrow().expiraEm().isAfter(Instant.now()));
+        assertEquals(1, jwtService.estatisticasCache().missCount());
+        assertEquals(1, jwtService.estatisticasCache().hitCount());
+
+        // Os extratores antigos usam o mesmo caminho e também acertam o cache.
+        assertEquals("gestor@exemplo.com", jwtService.extractEmail(token));
+        assertEquals("ROLE_GESTOR", jwtService.extractRole(token));
+        assertEquals(3, jwtService.estatisticasCache().hitCount());
+    }
+
+    @Test
+    void tokenAdulteradoNaoDeveSerAceitoNemGuardadoNoCache() {
+        String token = jwtService.generateToken("aluno@exemplo.com", Role.ROLE_ALUNO);
+        String adulterado = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertFalse(jwtService.validar(adulterado).isPresent());
+        assertFalse(jwtService.isTokenValid("nao-e-um-jwt"));
+        assertFalse(jwtService.isTokenValid(null));
+        assertThrows(JwtException.class, () -> jwtService.extractEmail(adulterado));
+        assertEquals(0, jwtService.tamanhoCache());
+    }
+}
@@ -0,0 +1,198 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.dto.treino.TreinoResponseDTO;
+import com.superfit.superfitapp.model.Aluno;
+import com.superfit.superfitapp.model.Exercicio;
+import com.superfit.superfitapp.model.Medidas;
+import com.superfit.superfitapp.model.Mensalidade;
+import com.superfit.superfitapp.model.Professor;
+import com.superfit.superfitapp.model.Role;
+import com.superfit.superfitapp.model.StatusMensalidade;
+import com.superfit.superfitapp.model.Treino;
+import com.superfit.superfitapp.model.User;
+import com.superfit.superfitapp.repository.AlunoRepository;
+import com.superfit.superfitapp.repository.MedidasRepository;
+import com.superfit.superfitapp.repository.MensalidadeRepository;
+import com.superfit.superfitapp.repository.ProfessorRepository;
+import com.superfit.superfitapp.repository.TreinoRepository;
+import com.superfit.superfitapp.repository.UserRepository;
+import com.superfit.superfitapp.service.AlunoService;
+import com.superfit.superfitapp.service.DespesaService;
+import com.superfit.superfitapp.service.MedidasService;
+import com.superfit.superfitapp.service.MensalidadeService;
+import com.superfit.superfitapp.service.ProfessorService;
+import com.superfit.superfitapp.service.TreinoService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Garante que as listagens convertidas em DTO carregam as associações lazy na própria consulta:
+ * o número de statements não pode crescer com a quantidade de linhas (N+1).
+ */
+@SpringBootTest
+@Transactional
+class ListagensSemNMaisUmTest {
+
+    private static final String EMAIL_PROFESSOR = "prof.listagem@exemplo.com";
+    private static final int ALUNOS = 4;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProfessorRepository professorRepository;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private MensalidadeRepository mensalidadeRepository;
+
+    @Autowired
+    private TreinoRepository treinoRepository;
+
+    @Autowired
+    private MedidasRepository medidasRepository;
+
+    @Autowired
+    private AlunoService alunoService;
+
+    @Autowired
+    private ProfessorService professorService;
+
+    @Autowired
+    private MensalidadeService mensalidadeService;
+
+    @Autowired
+    private TreinoService treinoService;
+
+    @Autowired
+    private MedidasService medidasService;
+
+    @Autowired
+    private DespesaService despesaService;
+
+    @BeforeEach
+    void criarDados() {
+        // Todos os alunos ficam com o professor autenticado nos testes de treinos e medidas;
+        // cada aluno e cada professor tem o próprio user, para que um carregamento lazy custe uma query por linha.
+        Professor professor = salvarProfessor("Professor Listagem", EMAIL_PROFESSOR);
+        for (int i = 1; i < ALUNOS; i++) {
+            salvarProfessor("Professor " + i, "prof.listagem" + i + "@exemplo.com");
+        }
+
+        for (int i = 0; i < ALUNOS; i++) {
+            Aluno aluno = new Aluno("Aluno " + i, "aluno.listagem" + i + "@exemplo.com", "1188888000" + i);
+            aluno.setUser(userRepository.save(new User(aluno.getEmail(), "x", Role.ROLE_ALUNO)));
+            aluno.setProfessor(professor);
+            aluno = alunoRepository.save(aluno);
+
+            Mensalidade mensalidade = new Mensalidade();
+            mensalidade.setAluno(aluno);
+            mensalidade.setValor(100.0);
+            mensalidade.setStatus(StatusMensalidade.PENDENTE);
+            mensalidade.setDataVencimento(LocalDate.of(2026, 4, 10));
+            mensalidade.setMesReferencia("Abril");
+            mensalidade.setAnoReferencia(2026);
+            mensalidade.setDataCriacao(LocalDate.of(2026, 4, 1));
+            mensalidadeRepository.save(mensalidade);
+
+            Treino treino = new Treino("Treino " + i, professor, aluno);
+            treino.addExercicio(new Exercicio("Supino", "3x10", "40kg", "Peito", "60s"));
+            treino.addExercicio(new Exercicio("Agachamento", "3x12", "60kg", "Pernas", "90s"));
+            treinoRepository.save(treino);
+
+            medidasRepository.save(new Medidas(LocalDate.of(2026, 4, 1), 80.0, 100.0, 85.0, 95.0, aluno));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listagensDeAlunosProfessoresEMensalidadesUsamQuantidadeConstanteDeConsultas() {
+        assertConsultasConstantes(() -> alunoService.listar(PageRequest.of(0, 50)).getContent(), 2);
+        assertConsultasConstantes(() -> alunoService.listarAposId(0L, 50), 1);
+        assertConsultasConstantes(() -> professorService.listarTodos(PageRequest.of(0, 50)).getContent(), 2);
+        assertConsultasConstantes(() -> mensalidadeService.listar(PageRequest.of(0, 50)).getContent(), 2);
+        assertConsultasConstantes(() -> mensalidadeService.listarAposId(0L, 50), 1);
+        assertConsultasConstantes(() -> mensalidadeService.listarPendentes(), 1);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL_PROFESSOR, roles = "PROFESSOR")
+    void listagensDoProfessorUsamQuantidadeConstanteDeConsultas() {
+        // 1 consulta para identificar o professor pelo email + 1 (ou 2, com a contagem da página) para a listagem.
+        assertConsultasConstantes(() -> treinoService.listarTodos(), 2);
+        assertConsultasConstantes(() -> medidasService.listarTodas(PageRequest.of(0, 50)).getContent(), 3);
+        assertConsultasConstantes(() -> medidasService.listarTodasAposId(0L, 50), 2);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL_PROFESSOR, roles = "PROFESSOR")
+    void listagemDeTreinosNaoDeveDuplicarTreinosAoTrazerExercicios() {
+        List<TreinoResponseDTO> treinos = treinoService.listarTodos();
+
+        assertEquals(ALUNOS, treinos.size());
+        treinos.forEach(treino -> assertEquals(2, treino.getExercicios().size()));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL_PROFESSOR, roles = "PROFESSOR")
+    void leiturasProjetadasEmDTONaoCarregamEntidades() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        statistics.clear();
+
+        alunoService.listar(PageRequest.of(0, 50));
+        alunoService.listarAposId(0L, 50);
+        mensalidadeService.listar(PageRequest.of(0, 50));
+        mensalidadeService.listarPendentes();
+        despesaService.listar(PageRequest.of(0, 50));
+        despesaService.listarPendentes();
+        medidasService.listarTodas(PageRequest.of(0, 50));
+        medidasService.listarTodasAposId(0L, 50);
+
+        assertEquals(0, statistics.getEntityLoadCount(), "Leituras projetadas não devem hidratar entidades");
+    }
+
+    private void assertConsultasConstantes(Supplier<List<?>> listagem, long maximo) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        statistics.clear();
+
+        List<?> itens = listagem.get();
+
+        long consultas = statistics.getPrepareStatementCount();
+        assertTrue(itens.size() >= ALUNOS, "Listagem deveria conter os registros criados");
+        assertTrue(consultas <= maximo,
+                "Esperado no máximo " + maximo + " consultas para " + itens.size() + " itens, mas foram " + consultas);
+    }
+
+    private Professor salvarProfessor(String nome, String email) {
+        Professor professor = new Professor(nome, email, "11999990000");
+        professor.setUser(userRepository.save(new User(email, "x", Role.ROLE_PROFESSOR)));
+        return professorRepository.save(professor);
+    }
+}
@@ -0,0 +1,82 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.model.Role;
+import com.superfit.superfitapp.security.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=health,metrics,prometheus",
+        "management.metrics.distribution.percentiles-histogram.http.server.requests=true",
+        "management.metrics.distribution.percentiles-histogram.superfit.servico=true",
+        "app.metricas.token-coleta=token-coleta-teste"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricasTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void requisicaoDeveRegistrarTimersDeEndpointServicoRepositorioEJwt() throws Exception {
+        String token = jwtService.generateToken("gestor.metricas@exemplo.com", Role.ROLE_GESTOR);
+
+        mockMvc.perform(get("/api/despesas/pendentes").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertTrue(registry.get("http.server.requests").tag("uri", "/api/despesas/pendentes").timer().count() >= 1);
+        assertTrue(registry.get("superfit.servico")
+                .tag("classe", "DespesaServiceImpl").tag("metodo", "listarPendentes").timer().count() >= 1);
+        assertTrue(registry.get("spring.data.repository.invocations")
+                .tag("repository", "DespesaRepository").tag("method", "listarDTOPorSituacao").timer().count() >= 1);
+        assertTrue(registry.get("superfit.repositorio.linhas")
+                .tag("repositorio", "DespesaRepository").tag("metodo", "listarDTOPorSituacao").summary().count() >= 1);
+        assertTrue(registry.get("superfit.jwt.validacao").tag("resultado", "verificado").timer().count() >= 1);
+
+        assertNotNull(registry.get("hikaricp.connections.active").gauge());
+        assertNotNull(registry.get("cache.gets").tag("cache", "jwt.tokens-validados").functionCounters());
+        assertNotNull(registry.get("executor.queued").tag("name", "hash-senha").gauge());
+    }
+
+    @Test
+    void prometheusDeveExigirTokenDeColetaOuAdmin() throws Exception {
+        String tokenGestor = jwtService.generateToken("gestor.prometheus@exemplo.com", Role.ROLE_GESTOR);
+        String tokenAdmin = jwtService.generateToken("admin.prometheus@exemplo.com", Role.ROLE_ADMIN);
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + tokenGestor))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer outro-token"))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + tokenAdmin))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer token-coleta-teste"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("superfit_servico_seconds_bucket")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")));
+
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
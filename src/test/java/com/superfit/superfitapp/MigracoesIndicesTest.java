@@ -0,0 +1,141 @@
+package com.superfit.superfitapp;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Executa as migrações Flyway no H2 (contexto de teste) e confere, via EXPLAIN,
+ * que as consultas quentes dos repositórios são resolvidas pelos índices criados.
+ */
+@SpringBootTest
+class MigracoesIndicesTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migracoesDevemSerAplicadasAteAUltimaVersao() {
+        List<String> versoes = jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"success\" = TRUE", String.class);
+
+        assertTrue(versoes.containsAll(List.of("1", "2", "3", "4", "5", "6", "7", "8")), "Versões aplicadas: " + versoes);
+    }
+
+    @Test
+    void consultasDeMensalidadesDevemUsarIndices() {
+        assertUsaIndice("SELECT id FROM mensalidades WHERE aluno_id = 1 AND status = 'PENDENTE'",
+                "IDX_MENSALIDADES_ALUNO_STATUS");
+        assertUsaIndice("SELECT COUNT(*), SUM(valor) FROM mensalidades WHERE status = 'PAGA' " +
+                        "AND data_pagamento BETWEEN DATE '2026-01-01' AND DATE '2026-01-31'",
+                "IDX_MENSALIDADES_STATUS_DATA_PAGAMENTO");
+        assertUsaIndice("SELECT id FROM mensalidades WHERE data_vencimento < DATE '2026-01-01'",
+                "IDX_MENSALIDADES_VENCIMENTO");
+        assertUsaIndice("SELECT id FROM mensalidades WHERE mes_referencia = 'Janeiro' AND ano_referencia = 2026",
+                "IDX_MENSALIDADES_REFERENCIA");
+    }
+
+    @Test
+    void consultasDeDespesasDevemUsarIndices() {
+        assertUsaIndice("SELECT SUM(valor) FROM despesas " +
+                        "WHERE data_despesa BETWEEN DATE '2026-01-01' AND DATE '2026-01-31' AND paga = TRUE",
+                "IDX_DESPESAS_PAGA_DATA");
+        assertUsaIndice("SELECT SUM(valor) FROM despesas " +
+                        "WHERE data_despesa BETWEEN DATE '2026-01-01' AND DATE '2026-01-31'",
+                "IDX_DESPESAS_DATA");
+        assertUsaIndice("SELECT id FROM despesas WHERE categoria = 'ENERGIA' " +
+                        "AND data_despesa BETWEEN DATE '2026-01-01' AND DATE '2026-01-31'",
+                "IDX_DESPESAS_CATEGORIA_DATA");
+    }
+
+    @Test
+    void consultasPorAlunoEProfessorDevemUsarIndices() {
+        assertUsaIndice("SELECT id FROM medidas WHERE aluno_id = 1 ORDER BY data DESC", "IDX_MEDIDAS_ALUNO_DATA");
+
+        // Colunas de chave estrangeira: o H2 já indexa FKs por conta própria (o PostgreSQL não),
+        // então aqui basta garantir que não há varredura completa da tabela.
+        assertSemVarreduraCompleta("SELECT id FROM treinos WHERE professor_id = 1");
+        assertSemVarreduraCompleta("SELECT id FROM treinos WHERE aluno_id = 1");
+        assertSemVarreduraCompleta("SELECT id FROM exercicios WHERE treino_id = 1");
+        assertSemVarreduraCompleta("SELECT id FROM alunos WHERE professor_id = 1");
+    }
+
+    @Test
+    void referenciaUnicaDeveRemoverDuplicatasNaoPagas() {
+        DriverManagerDataSource dataSource = bancoNaVersao4("superfitdb-v5-duplicatas");
+        JdbcTemplate banco = new JdbcTemplate(dataSource);
+        inserirMensalidade(banco, 1, 1, "PENDENTE");
+        inserirMensalidade(banco, 2, 1, "PAGA");
+        inserirMensalidade(banco, 3, 2, "PENDENTE");
+        inserirMensalidade(banco, 4, 2, "PENDENTE");
+
+        migrar(dataSource, "latest");
+
+        assertEquals(List.of(2L, 3L), banco.queryForList("SELECT id FROM mensalidades ORDER BY id", Long.class));
+    }
+
+    @Test
+    void referenciaUnicaDeveFalharListandoPagasDuplicadas() {
+        DriverManagerDataSource dataSource = bancoNaVersao4("superfitdb-v5-pagas");
+        JdbcTemplate banco = new JdbcTemplate(dataSource);
+        inserirMensalidade(banco, 1, 1, "PAGA");
+        inserirMensalidade(banco, 2, 1, "PAGA");
+
+        FlywayException erro = assertThrows(FlywayException.class, () -> migrar(dataSource, "latest"));
+
+        // O Flyway encapsula a exceção da migração: a lista de IDs está na causa
+        Throwable causa = erro;
+        while (causa.getCause() != null) {
+            causa = causa.getCause();
+        }
+        assertTrue(causa.getMessage().contains("aluno_id=1 referencia=Janeiro/2026 ids=[1, 2]"), causa.getMessage());
+    }
+
+    /**
+     * Banco H2 separado migrado até a V4 (antes da constraint), com um aluno cadastrado.
+     */
+    private static DriverManagerDataSource bancoNaVersao4(String nome) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + nome + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        migrar(dataSource, "4");
+        new JdbcTemplate(dataSource).update("INSERT INTO alunos (id, nome, email, telefone) " +
+                "VALUES (1, 'Aluno Migração', 'aluno.migracao@exemplo.com', '11999999999')");
+        return dataSource;
+    }
+
+    private static void migrar(DriverManagerDataSource dataSource, String versao) {
+        Flyway.configure().dataSource(dataSource).target(versao).load().migrate();
+    }
+
+    private static void inserirMensalidade(JdbcTemplate banco, long id, int mes, String status) {
+        banco.update("INSERT INTO mensalidades (id, aluno_id, valor, status, data_vencimento, mes_referencia, " +
+                        "ano_referencia, data_criacao) VALUES (?, 1, 100, ?, DATE '2026-01-10', ?, 2026, DATE '2026-01-01')",
+                id, status, mes == 1 ? "Janeiro" : "Fevereiro");
+    }
+
+    private void assertUsaIndice(String sql, String indice) {
+        String plano = explicar(sql);
+        assertTrue(plano.toUpperCase().contains("PUBLIC." + indice + ":"),
+                "Plano não usa " + indice + ":\n" + plano);
+    }
+
+    private void assertSemVarreduraCompleta(String sql) {
+        String plano = explicar(sql);
+        assertTrue(!plano.contains("tableScan"), "Plano faz varredura completa:\n" + plano);
+    }
+
+    private String explicar(String sql) {
+        String plano = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        return plano != null ? plano : "";
+    }
+}
@@ -0,0 +1,94 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.model.CategoriaDespesa;
+import com.superfit.superfitapp.model.Despesa;
+import com.superfit.superfitapp.repository.DespesaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class PaginacaoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DespesaRepository despesaRepository;
+
+    @Test
+    @WithMockUser(roles = "GESTOR")
+    void listagemPaginadaDeveLimitarItensEInformarLinks() throws Exception {
+        salvarDespesas(5);
+        long total = despesaRepository.count();
+
+        mockMvc.perform(get("/api/despesas").param("pagina", "1").param("tamanho", "2")
+                        .param("ordenar", "valor,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().string("X-Total-Count", String.valueOf(total)))
+                .andExpect(header().string("Link", containsString("pagina=0>; rel=\"prev\"")))
+                .andExpect(header().string("Link", containsString("pagina=2>; rel=\"next\"")));
+    }
+
+    @Test
+    @WithMockUser(roles = "GESTOR")
+    void listagemPorCursorDeveSeguirOrdemDeIdEInformarProximoCursor() throws Exception {
+        List<Despesa> despesas = salvarDespesas(3);
+        long antesDoPrimeiro = despesas.get(0).getId() - 1;
+        long segundo = despesas.get(1).getId();
+
+        mockMvc.perform(get("/api/despesas").param("aposId", String.valueOf(antesDoPrimeiro)).param("tamanho", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(despesas.get(0).getId()))
+                .andExpect(jsonPath("$[1].id").value(segundo))
+                .andExpect(header().string("X-Proximo-Cursor", String.valueOf(segundo)))
+                .andExpect(header().string("Link", containsString("aposId=" + segundo)));
+
+        // Última página incompleta: sem próximo cursor.
+        mockMvc.perform(get("/api/despesas").param("aposId", String.valueOf(segundo)).param("tamanho", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().doesNotExist("X-Proximo-Cursor"));
+    }
+
+    @Test
+    @WithMockUser(roles = "GESTOR")
+    void ordenacaoPorCampoNaoPermitidoDeveRetornar400() throws Exception {
+        mockMvc.perform(get("/api/despesas").param("ordenar", "observacao"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Despesa> salvarDespesas(int quantidade) {
+        List<Despesa> despesas = new ArrayList<>();
+        for (int i = 1; i <= quantidade; i++) {
+            Despesa despesa = new Despesa();
+            despesa.setDescricao("Despesa " + i);
+            despesa.setValor(10.0 * i);
+            despesa.setCategoria(CategoriaDespesa.OUTROS);
+            despesa.setDataDespesa(LocalDate.of(2026, 3, i));
+            despesa.setPaga(false);
+            despesa.setDataCriacao(LocalDate.of(2026, 3, 1));
+            despesas.add(despesaRepository.save(despesa));
+        }
+        return despesas;
+    }
+}
@@ -0,0 +1,147 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.config.CacheConfig;
+import com.superfit.superfitapp.dto.despesa.DespesaCreateDTO;
+import com.superfit.superfitapp.dto.despesa.DespesaUpdateDTO;
+import com.superfit.superfitapp.evento.DespesaAlteradaEvento;
+import com.superfit.superfitapp.evento.MensalidadeAlteradaEvento;
+import com.superfit.superfitapp.model.CategoriaDespesa;
+import com.superfit.superfitapp.service.DespesaService;
+import com.superfit.superfitapp.service.RelatorioService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@SpringBootTest(properties = {
+        "spring.cache.type=caffeine",
+        "spring.cache.caffeine.spec=maximumSize=100,recordStats"
+})
+@RecordApplicationEvents
+class RelatorioCacheTest {
+
+    @Autowired
+    private RelatorioService relatorioService;
+
+    @Autowired
+    private DespesaService despesaService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEvents eventos;
+
+    @BeforeEach
+    void limparCaches() {
+        cacheManager.getCacheNames().forEach(nome -> cacheManager.getCache(nome).clear());
+    }
+
+    @Test
+    void relatorioRepetidoDeveVirDoCacheSemConsultas() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> primeiro = relatorioService.receitaMensal();
+        statistics.clear();
+        Map<String, Object> segundo = relatorioService.receitaMensal();
+
+        assertSame(primeiro, segundo);
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void eventoDeveRemoverSomenteRelatoriosDosMesesAfetados() {
+        relatorioService.relatorioFinanceiroMensal(YearMonth.of(2026, 1));
+        relatorioService.relatorioFinanceiroMensal(YearMonth.of(2026, 3));
+        relatorioService.relatorioComparativo(YearMonth.of(2026, 3), 1);
+        relatorioService.relatorioComparativo(YearMonth.of(2024, 12), 1);
+        relatorioService.relatorioReceitas("2026-01-01", "2026-01-31");
+        relatorioService.relatorioReceitas("2026-03-01", "2026-03-31");
+        relatorioService.relatorioInadimplenciaAluno(1L);
+        relatorioService.relatorioInadimplenciaAluno(2L);
+        relatorioService.despesasMensais();
+
+        // Pagamento em janeiro/2026 do aluno 1, publicado dentro de uma transação que é confirmada
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventPublisher.publishEvent(new MensalidadeAlteradaEvento(1L, Set.of(LocalDate.of(2026, 1, 15)))));
+
+        assertNull(cache(CacheConfig.RELATORIO_FINANCEIRO).get(YearMonth.of(2026, 1)));
+        assertNotNull(cache(CacheConfig.RELATORIO_FINANCEIRO).get(YearMonth.of(2026, 3)));
+        // A série de 2026-03 lê a partir de 2025-03 (doze meses antes do início); a de 2024-12 termina antes
+        assertNull(cache(CacheConfig.RELATORIO_COMPARATIVO).get(List.of(YearMonth.of(2026, 3), 1)));
+        assertNotNull(cache(CacheConfig.RELATORIO_COMPARATIVO).get(List.of(YearMonth.of(2024, 12), 1)));
+        assertNull(cache(CacheConfig.RELATORIO_RECEITAS).get(List.of("2026-01-01", "2026-01-31")));
+        assertNotNull(cache(CacheConfig.RELATORIO_RECEITAS).get(List.of("2026-03-01", "2026-03-31")));
+        assertNull(cache(CacheConfig.RELATORIO_INADIMPLENCIA_ALUNO).get(1L));
+        assertNotNull(cache(CacheConfig.RELATORIO_INADIMPLENCIA_ALUNO).get(2L));
+        assertNotNull(cache(CacheConfig.RELATORIO_DESPESAS_MENSAIS).get(SimpleKey.EMPTY));
+    }
+
+    @Test
+    void transacaoDesfeitaNaoDeveInvalidarCache() {
+        Map<String, Object> relatorio = relatorioService.despesasMensais();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new DespesaAlteradaEvento(Set.of(LocalDate.of(2026, 1, 10))));
+            status.setRollbackOnly();
+        });
+
+        assertSame(relatorio, relatorioService.despesasMensais());
+    }
+
+    @Test
+    @Transactional
+    void escritaDeDespesaDevePublicarMesesAntesEDepois() {
+        DespesaCreateDTO nova = new DespesaCreateDTO();
+        nova.setDescricao("Aluguel");
+        nova.setValor(1500.0);
+        nova.setCategoria(CategoriaDespesa.ALUGUEL);
+        nova.setDataDespesa(LocalDate.of(2026, 1, 5));
+        Long id = despesaService.criar(nova).getId();
+
+        DespesaUpdateDTO alteracao = new DespesaUpdateDTO();
+        alteracao.setDataDespesa(LocalDate.of(2026, 2, 5));
+        despesaService.atualizar(id, alteracao);
+
+        List<DespesaAlteradaEvento> publicados = eventos.stream(DespesaAlteradaEvento.class).toList();
+        assertEquals(2, publicados.size());
+        assertEquals(Set.of(LocalDate.of(2026, 1, 5)), publicados.get(0).datasDespesa());
+        assertEquals(Set.of(LocalDate.of(2026, 1, 5), LocalDate.of(2026, 2, 5)), publicados.get(1).datasDespesa());
+    }
+
+    private Cache cache(String nome) {
+        return cacheManager.getCache(nome);
+    }
+}
@@ -4,10 +4,17 @@ import com.superfit.superfitapp.model.Aluno;
 import com.superfit.superfitapp.model.CategoriaDespesa;
 import com.superfit.superfitapp.model.Despesa;
 import com.superfit.superfitapp.model.Mensalidade;
+import com.superfit.superfitapp.model.Professor;
 import com.superfit.superfitapp.model.StatusMensalidade;
 import com.superfit.superfitapp.repository.AlunoRepository;
 import com.superfit.superfitapp.repository.DespesaRepository;
 import com.superfit.superfitapp.repository.MensalidadeRepository;
+import com.superfit.superfitapp.repository.ProfessorRepository;
+import com.superfit.superfitapp.service.InadimplenciaService;
+import com.superfit.superfitapp.service.ResumoFinanceiroService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -20,6 +27,9 @@ import java.time.LocalDate;
 
 import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -41,6 +51,18 @@ class RelatorioControllerTest {
     @Autowired
     private DespesaRepository despesaRepository;
 
+    @Autowired
+    private ProfessorRepository professorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ResumoFinanceiroService resumoFinanceiroService;
+
+    @Autowired
+    private InadimplenciaService inadimplenciaService;
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void relatorioFinanceiroMensalDeveRetornarTotaisCorretos() throws Exception {
@@ -69,6 +91,9 @@ class RelatorioControllerTest {
         despesa.setDataCriacao(LocalDate.of(2026, 2, 1));
         despesaRepository.save(despesa);
 
+        // Dados gravados direto nos repositórios não passam pelos serviços: reconstrói o livro-razão.
+        resumoFinanceiroService.reconstruir();
+
         // Act & Assert: chama o endpoint e valida os totais consolidados.
         mockMvc.perform(get("/api/relatorios/financeiro/2026/2"))
                 .andExpect(status().isOk())
@@ -96,11 +121,215 @@ class RelatorioControllerTest {
         pendente.setDataCriacao(LocalDate.of(2026, 1, 1));
         mensalidadeRepository.save(pendente);
 
+        // A varredura de atrasos marca a mensalidade vencida e alimenta o resumo lido pelo relatório.
+        inadimplenciaService.atualizarAtrasos(LocalDate.of(2026, 2, 1));
+
         // Act & Assert: valida que o relatório retorna pendências e totais.
         mockMvc.perform(get("/api/relatorios/inadimplencia"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.quantidadeMensalidades", greaterThanOrEqualTo(1)))
                 .andExpect(jsonPath("$.totalInadimplencia", greaterThanOrEqualTo(100.0)))
-                .andExpect(jsonPath("$.mensalidades").isArray());
+                .andExpect(jsonPath("$.alunos").isArray());
+    }
+
+    @Test
+    @WithMockUser(roles = "GESTOR")
+    void receitaMensalEDespesasMensaisDevemAgruparPorSituacao() throws Exception {
+        // Arrange: uma mensalidade paga, uma pendente, uma despesa paga e uma pendente.
+        Aluno aluno = alunoRepository.save(new Aluno("Ana Teste", "ana.teste@exemplo.com", "11777777777"));
+
+        Mensalidade paga = new Mensalidade(aluno, 150.00, StatusMensalidade.PAGA,
+                LocalDate.of(2026, 3, 10), "Março", 2026);
+        paga.setDataPagamento(LocalDate.of(2026, 3, 8));
+        mensalidadeRepository.save(paga);
+        mensalidadeRepository.save(new Mensalidade(aluno, 150.00, StatusMensalidade.PENDENTE,
+                LocalDate.of(2026, 4, 10), "Abril", 2026));
+
+        Despesa luz = new Despesa("Energia", 80.00, CategoriaDespesa.ENERGIA, LocalDate.of(2026, 3, 5));
+        luz.setPaga(true);
+        despesaRepository.save(luz);
+        despesaRepository.save(new Despesa("Água", 20.00, CategoriaDespesa.AGUA, LocalDate.of(2026, 3, 6)));
+
+        // Act & Assert: os totais agregados por status/situação chegam ao JSON com as mesmas chaves de antes.
+        mockMvc.perform(get("/api/relatorios/receita-mensal"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalMensalidades").value(2))
+                .andExpect(jsonPath("$.totalPagas").value(1))
+                .andExpect(jsonPath("$.totalPendentes").value(1))
+                .andExpect(jsonPath("$.receitaRealizada", closeTo(150.0, 0.001)))
+                .andExpect(jsonPath("$.receitaPendente", closeTo(150.0, 0.001)))
+                .andExpect(jsonPath("$.receitaPrevista", closeTo(300.0, 0.001)))
+                .andExpect(jsonPath("$.taxaAdimplencia", closeTo(50.0, 0.001)));
+
+        mockMvc.perform(get("/api/relatorios/despesas-mensais"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalDespesas").value(2))
+                .andExpect(jsonPath("$.totalPagas").value(1))
+                .andExpect(jsonPath("$.totalPendentes").value(1))
+                .andExpect(jsonPath("$.despesasPagas", closeTo(80.0, 0.001)))
+                .andExpect(jsonPath("$.despesasPendentes", closeTo(20.0, 0.001)))
+                .andExpect(jsonPath("$.despesasTotal", closeTo(100.0, 0.001)));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void relatorioProfessoresDeveUsarNumeroFixoDeConsultas() throws Exception {
+        // Arrange: vários professores, um deles sem alunos, e alunos distribuídos entre os demais.
+        for (int p = 0; p < 5; p++) {
+            Professor professor = professorRepository.save(
+                    new Professor("Professor " + p, "prof" + p + "@exemplo.com", "1100000000" + p));
+            for (int a = 0; a < p; a++) {
+                Aluno aluno = new Aluno("Aluno " + p + "-" + a, "aluno" + p + "-" + a + "@exemplo.com", "1190000000" + a);
+                aluno.setProfessor(professor);
+                alunoRepository.save(aluno);
+            }
+        }
+        // IDs de alunos vêm de sequência: os INSERTs ficam pendentes até o flush e não entram na contagem.
+        alunoRepository.flush();
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertTrue(estatisticas.isStatisticsEnabled(), "hibernate.generate_statistics deve estar ativo nos testes");
+        estatisticas.clear();
+
+        // Act & Assert: contagens corretas, inclusive professor sem alunos (LEFT JOIN).
+        mockMvc.perform(get("/api/relatorios/professores"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalProfessores").value(5))
+                .andExpect(jsonPath("$.totalAlunos").value(10))
+                .andExpect(jsonPath("$.listaProfessores[?(@.professorNome == 'Professor 0')].quantidadeAlunos", hasItem(0)))
+                .andExpect(jsonPath("$.listaProfessores[?(@.professorNome == 'Professor 4')].quantidadeAlunos", hasItem(4)));
+
+        // O relatório não pode crescer com professores × alunos: uma query agrupada + um count.
+        long consultas = estatisticas.getPrepareStatementCount();
+        assertTrue(consultas <= 2, "Relatório de professores executou " + consultas + " consultas SQL");
+    }
+
+    @Test
+    @WithMockUser(roles = "GESTOR")
+    void relatorioAlunosAtivosDeveExcluirPendentesSemConsultaPorAluno() throws Exception {
+        // Arrange: três alunos em dia (um com mensalidade paga) e um com mensalidade pendente.
+        Aluno emDia = alunoRepository.save(new Aluno("Bruno Em Dia", "bruno@exemplo.com", "11111111111"));
+        alunoRepository.save(new Aluno("Carla Em Dia", "carla@exemplo.com", "11222222222"));
+        alunoRepository.save(new Aluno("Davi Em Dia", "davi@exemplo.com", "11333333333"));
+        Aluno devedor = alunoRepository.save(new Aluno("Eva Devedora", "eva@exemplo.com", "11444444444"));
+
+        Mensalidade paga = new Mensalidade(emDia, 100.00, StatusMensalidade.PAGA, LocalDate.of(2026, 1, 10), "Janeiro", 2026);
+        paga.setDataPagamento(LocalDate.of(2026, 1, 9));
+        mensalidadeRepository.save(paga);
+        mensalidadeRepository.save(new Mensalidade(devedor, 100.00, StatusMensalidade.PENDENTE,
+                LocalDate.of(2026, 1, 10), "Janeiro", 2026));
+        mensalidadeRepository.flush();
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        // Act & Assert: lista completa sem o aluno devedor.
+        mockMvc.perform(get("/api/relatorios/alunos-ativos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalAlunos").value(4))
+                .andExpect(jsonPath("$.alunosAtivos").value(3))
+                .andExpect(jsonPath("$.listaAtivos.length()").value(3))
+                .andExpect(jsonPath("$.listaAtivos[?(@.email == 'eva@exemplo.com')]").isEmpty());
+
+        long consultas = estatisticas.getPrepareStatementCount();
+        assertTrue(consultas <= 2, "Relatório de alunos ativos executou " + consultas + " consultas SQL");
+
+        // Paginado: página com dois alunos, mas o total de ativos continua sendo o geral.
+        mockMvc.perform(get("/api/relatorios/alunos-ativos").param("pagina", "0").param("tamanho", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.alunosAtivos").value(3))
+                .andExpect(jsonPath("$.listaAtivos.length()").value(2))
+                .andExpect(jsonPath("$.totalPaginas").value(2));
+
+        // Parâmetros fora do intervalo são ajustados (primeira página, um aluno), sem erro 500.
+        mockMvc.perform(get("/api/relatorios/alunos-ativos").param("pagina", "-1").param("tamanho", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.listaAtivos.length()").value(1))
+                .andExpect(jsonPath("$.totalPaginas").value(3));
+    }
+
+    @Test
+    @WithMockUser(roles = "GESTOR")
+    void relatorioComparativoDeveRetornarSerieMensalEmUmaConsulta() throws Exception {
+        // Arrange: receitas em mar/2025, fev/2026 e mar/2026; despesa paga em mar/2026.
+        Aluno aluno = alunoRepository.save(new Aluno("Fabio Serie", "fabio@exemplo.com", "11555555555"));
+        salvarMensalidadePaga(aluno, 100.00, LocalDate.of(2025, 3, 5));
+        salvarMensalidadePaga(aluno, 200.00, LocalDate.of(2026, 2, 5));
+        salvarMensalidadePaga(aluno, 300.00, LocalDate.of(2026, 3, 5));
+
+        Despesa despesa = new Despesa("Energia", 120.00, CategoriaDespesa.ENERGIA, LocalDate.of(2026, 3, 8));
+        despesa.setPaga(true);
+        despesa.setDataCriacao(LocalDate.of(2026, 3, 8));
+        despesaRepository.save(despesa);
+        resumoFinanceiroService.reconstruir();
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        // Act & Assert: mês de referência na raiz e série de 3 meses com variações.
+        mockMvc.perform(get("/api/relatorios/comparativo/2026/3").param("meses", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mes").value("2026-03"))
+                .andExpect(jsonPath("$.receitas", closeTo(300.0, 0.001)))
+                .andExpect(jsonPath("$.lucro", closeTo(180.0, 0.001)))
+                .andExpect(jsonPath("$.meses").value(3))
+                .andExpect(jsonPath("$.serie.length()").value(3))
+                .andExpect(jsonPath("$.serie[0].mes").value("2026-01"))
+                .andExpect(jsonPath("$.serie[0].receitas", closeTo(0.0, 0.001)))
+                .andExpect(jsonPath("$.serie[2].variacaoReceitasMensal", closeTo(50.0, 0.001)))
+                .andExpect(jsonPath("$.serie[2].receitasAnoAnterior", closeTo(100.0, 0.001)))
+                .andExpect(jsonPath("$.serie[2].variacaoReceitasAnual", closeTo(200.0, 0.001)))
+                .andExpect(jsonPath("$.serie[2].despesasTotalMesAnterior", closeTo(0.0, 0.001)))
+                .andExpect(jsonPath("$.serie[2].variacaoDespesasTotalMensal").value(nullValue()))
+                .andExpect(jsonPath("$.serie[2].lucroMesAnterior", closeTo(200.0, 0.001)))
+                .andExpect(jsonPath("$.serie[2].variacaoLucroMensal", closeTo(-10.0, 0.001)))
+                .andExpect(jsonPath("$.serie[2].lucroAnoAnterior", closeTo(100.0, 0.001)))
+                .andExpect(jsonPath("$.serie[2].variacaoLucroAnual", closeTo(80.0, 0.001)))
+                .andExpect(jsonPath("$.serie[2].margemAnoAnterior", closeTo(100.0, 0.001)))
+                .andExpect(jsonPath("$.serie[2].variacaoMargemAnual", closeTo(-40.0, 0.001)));
+
+        // Toda a série (e a base do ano anterior) sai de uma única consulta por intervalo.
+        long consultas = estatisticas.getPrepareStatementCount();
+        assertTrue(consultas <= 1, "Relatório comparativo executou " + consultas + " consultas SQL");
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void relatorioReceitasDeveAgregarSomenteOPeriodoNoBanco() throws Exception {
+        // Arrange: pagamentos dentro e fora do período, uma pendente e uma paga sem data de pagamento.
+        // Cada mensalidade tem um mês de referência próprio (uma por aluno e mês).
+        Aluno aluno = alunoRepository.save(new Aluno("Gabi Receita", "gabi@exemplo.com", "11666666666"));
+        salvarMensalidadePaga(aluno, 100.00, LocalDate.of(2026, 5, 1));
+        salvarMensalidadePaga(aluno, 300.00, LocalDate.of(2026, 5, 31), "4");
+        salvarMensalidadePaga(aluno, 999.00, LocalDate.of(2026, 6, 1));
+        mensalidadeRepository.save(new Mensalidade(aluno, 50.00, StatusMensalidade.PENDENTE,
+                LocalDate.of(2026, 5, 10), "Março", 2026));
+        mensalidadeRepository.save(new Mensalidade(aluno, 70.00, StatusMensalidade.PAGA,
+                LocalDate.of(2026, 5, 10), "Fevereiro", 2026));
+        mensalidadeRepository.flush();
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        // Act & Assert: limites inclusivos e sem falha para pagamento sem data.
+        mockMvc.perform(get("/api/relatorios/receitas").param("inicio", "2026-05-01").param("fim", "2026-05-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalReceitas", closeTo(400.0, 0.001)))
+                .andExpect(jsonPath("$.quantidadePagamentos").value(2))
+                .andExpect(jsonPath("$.ticketMedio", closeTo(200.0, 0.001)));
+
+        long consultas = estatisticas.getPrepareStatementCount();
+        assertTrue(consultas <= 1, "Relatório de receitas executou " + consultas + " consultas SQL");
+    }
+
+    private void salvarMensalidadePaga(Aluno aluno, Double valor, LocalDate dataPagamento) {
+        salvarMensalidadePaga(aluno, valor, dataPagamento, String.valueOf(dataPagamento.getMonthValue()));
+    }
+
+    private void salvarMensalidadePaga(Aluno aluno, Double valor, LocalDate dataPagamento, String mesReferencia) {
+        Mensalidade mensalidade = new Mensalidade(aluno, valor, StatusMensalidade.PAGA, dataPagamento,
+                mesReferencia, dataPagamento.getYear());
+        mensalidade.setDataPagamento(dataPagamento);
+        mensalidadeRepository.save(mensalidade);
     }
 }
@@ -0,0 +1,41 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.security.RequestIdFilter;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RequestIdFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(roles = "GESTOR")
+    void deveReaproveitarRequestIdRecebido() throws Exception {
+        mockMvc.perform(get("/api/despesas").header(RequestIdFilter.HEADER, "abc-123"))
+                .andExpect(header().string(RequestIdFilter.HEADER, "abc-123"));
+
+        assertNull(MDC.get(RequestIdFilter.MDC_REQUEST_ID));
+    }
+
+    @Test
+    @WithMockUser(roles = "GESTOR")
+    void deveGerarRequestIdQuandoAusente() throws Exception {
+        mockMvc.perform(get("/api/despesas"))
+                .andExpect(header().string(RequestIdFilter.HEADER, matchesPattern("[0-9a-f]{16}")));
+
+        assertNull(MDC.get(RequestIdFilter.MDC_REQUEST_ID));
+    }
+}
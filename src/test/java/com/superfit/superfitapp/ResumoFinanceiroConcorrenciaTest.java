@@ -0,0 +1,89 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.dto.relatorio.ResumoMensalDTO;
+import com.superfit.superfitapp.repository.ResumoFinanceiroMensalRepository;
+import com.superfit.superfitapp.service.ResumoFinanceiroService;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * O mês concorrente precisa ser gravado (commit) por outra transação enquanto a escrita está em
+ * andamento: o teste não é @Transactional e usa um banco separado.
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:superfitdb-resumo-concorrencia;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+class ResumoFinanceiroConcorrenciaTest {
+
+    @Autowired
+    private ResumoFinanceiroService resumoFinanceiroService;
+
+    @Autowired
+    private ResumoFinanceiroMensalRepository resumoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void primeiraEscritaDoMesEmParaleloDeveSomarNaLinhaCriadaPelaOutraTransacao() {
+        // Depois do UPDATE que não encontrou o mês, outra transação cria o mesmo mês antes do INSERT.
+        TransactionTemplate outraTransacao = new TransactionTemplate(transactionManager);
+        outraTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicBoolean concorrenteCriado = new AtomicBoolean(false);
+        MethodInterceptor concorrente = invocacao -> {
+            Object resultado = invocacao.proceed();
+            if (invocacao.getMethod().getName().startsWith("somar")
+                    && Integer.valueOf(0).equals(resultado)
+                    && concorrenteCriado.compareAndSet(false, true)) {
+                outraTransacao.executeWithoutResult(status -> jdbcTemplate.update(
+                        "INSERT INTO resumo_financeiro_mensal (ano, mes, receitas, despesas_total, despesas_pagas, " +
+                        "despesas_pendentes) VALUES (2033, 4, 100, 40, 40, 0)"));
+            }
+            return resultado;
+        };
+
+        Advised repositorio = (Advised) resumoRepository;
+        repositorio.addAdvice(0, concorrente);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    resumoFinanceiroService.registrarReceita(LocalDate.of(2033, 4, 15), 150.0));
+        } finally {
+            repositorio.removeAdvice(concorrente);
+        }
+
+        ResumoMensalDTO abril = resumoFinanceiroService.obterResumo(YearMonth.of(2033, 4));
+        assertTrue(concorrenteCriado.get());
+        assertEquals(250.0, abril.getReceitas(), 0.001);
+        assertEquals(40.0, abril.getDespesasTotal(), 0.001);
+    }
+
+    @Test
+    void primeiraEscritaDoMesSemConcorrenciaDeveInserirAsDespesas() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            resumoFinanceiroService.registrarDespesa(LocalDate.of(2033, 6, 1), 70.0, false);
+            resumoFinanceiroService.registrarDespesa(LocalDate.of(2033, 6, 2), 30.0, true);
+        });
+
+        ResumoMensalDTO junho = resumoFinanceiroService.obterResumo(YearMonth.of(2033, 6));
+        assertEquals(0.0, junho.getReceitas(), 0.001);
+        assertEquals(100.0, junho.getDespesasTotal(), 0.001);
+        assertEquals(30.0, junho.getDespesasPagas(), 0.001);
+        assertEquals(70.0, junho.getDespesasPendentes(), 0.001);
+    }
+}
@@ -0,0 +1,48 @@
+package com.superfit.superfitapp;
+
+import com.superfit.superfitapp.model.Role;
+import com.superfit.superfitapp.security.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RotasPublicasTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void recursosEstaticosNaoDevemProcessarToken() throws Exception {
+        String token = jwtService.generateToken("gestor.estaticos@exemplo.com", Role.ROLE_GESTOR);
+        long antes = jwtService.estatisticasCache().requestCount();
+
+        mockMvc.perform(get("/images/halter.png").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/js/utils/helpers.js").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertEquals(antes, jwtService.estatisticasCache().requestCount());
+    }
+
+    @Test
+    void rotasProtegidasDevemContinuarValidandoToken() throws Exception {
+        String token = jwtService.generateToken("gestor.protegido@exemplo.com", Role.ROLE_GESTOR);
+        long antes = jwtService.estatisticasCache().requestCount();
+
+        mockMvc.perform(get("/api/despesas").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertEquals(antes + 1, jwtService.estatisticasCache().requestCount());
+    }
+}
@@ -0,0 +1,53 @@
+package com.superfit.superfitapp;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true"
+})
+class ThreadsVirtuaisTest {
+
+    @Autowired
+    private ServletWebServerApplicationContext contexto;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Test
+    void requisicoesDevemUsarThreadsVirtuais() {
+        Connector connector = ((TomcatWebServer) contexto.getWebServer()).getTomcat().getConnector();
+
+        assertInstanceOf(VirtualThreadExecutor.class, connector.getProtocolHandler().getExecutor());
+    }
+
+    @Test
+    void tarefasAssincronasEAgendadasDevemUsarThreadsVirtuais() throws Exception {
+        boolean assincrona = taskExecutor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS);
+
+        CompletableFuture<Boolean> agendada = new CompletableFuture<>();
+        taskScheduler.schedule(() -> agendada.complete(Thread.currentThread().isVirtual()), Instant.now());
+
+        assertTrue(assincrona);
+        assertTrue(agendada.get(5, TimeUnit.SECONDS));
+    }
+}